@@ -6,6 +6,9 @@
  */
 package org.hibernate;
 
+import java.util.List;
+import java.util.stream.Stream;
+
 /**
  * A command-oriented API often used for performing bulk operations against
  * the database. A stateless session has no persistence context, and always
@@ -96,6 +99,69 @@ public interface StatelessSession extends SharedSessionContract {
 	 */
 	void delete(String entityName, Object entity);
 
+	/**
+	 * Insert multiple rows, using JDBC batching where possible. The batch size
+	 * is given by {@link #getJdbcBatchSize()} or by the configuration property
+	 * {@value org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_SIZE}, or,
+	 * when neither is set, by the number of given entities, up to 1000.
+	 *
+	 * @param entities new transient instances
+	 *
+	 * @see #insert(Object)
+	 *
+	 * @since 6.2
+	 */
+	void insertMultiple(List<?> entities);
+
+	/**
+	 * Update multiple rows, using JDBC batching where possible.
+	 *
+	 * @param entities detached entity instances
+	 *
+	 * @see #update(Object)
+	 * @see #insertMultiple(List)
+	 *
+	 * @since 6.2
+	 */
+	void updateMultiple(List<?> entities);
+
+	/**
+	 * Delete multiple rows, using JDBC batching where possible.
+	 *
+	 * @param entities detached entity instances
+	 *
+	 * @see #delete(Object)
+	 * @see #insertMultiple(List)
+	 *
+	 * @since 6.2
+	 */
+	void deleteMultiple(List<?> entities);
+
+	/**
+	 * Insert the rows of the given stream of entities, writing them through the
+	 * bulk-load facility of the database, for example {@code copy ... from stdin}
+	 * on PostgreSQL, where the {@linkplain org.hibernate.dialect.Dialect#openBulkLoadChannel
+	 * dialect provides one}, and otherwise as {@linkplain #insertMultiple(List) batched
+	 * inserts}. The values of the rows are converted as for {@link #insert(Object)}.
+	 * <p>
+	 * The entities are consumed, and their rows written, in chunks of
+	 * {@link #getJdbcBatchSize()} or {@value org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_SIZE}
+	 * entities, or, when neither is set, of 1000 entities.
+	 * Entities with identifiers generated on insert, or with custom insert SQL, are inserted
+	 * individually.
+	 * <p>
+	 * The default implementation {@linkplain #insert(Object) inserts} the entities one by one.
+	 *
+	 * @param entities new transient instances
+	 *
+	 * @see #insert(Object)
+	 *
+	 * @since 6.2
+	 */
+	default void bulkInsert(Stream<?> entities) {
+		entities.forEachOrdered( this::insert );
+	}
+
 	/**
 	 * Retrieve a row.
 	 *
@@ -138,6 +204,19 @@ public interface StatelessSession extends SharedSessionContract {
 	 */
 	<T> T get(Class<T> entityClass, Object id, LockMode lockMode);
 
+	/**
+	 * Retrieve multiple rows, using as few SQL queries as possible.
+	 *
+	 * @param entityClass The class of the entities to retrieve
+	 * @param ids The ids of the entities to retrieve
+	 *
+	 * @return a list of detached entity instances, in the order of the given
+	 *         ids, with {@code null} for each id which does not exist
+	 *
+	 * @since 6.2
+	 */
+	<T> List<T> getMultiple(Class<T> entityClass, List<?> ids);
+
 	/**
 	 * Refresh the entity instance state from the database.
 	 *
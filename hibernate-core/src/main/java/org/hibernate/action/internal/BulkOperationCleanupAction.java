@@ -13,11 +13,13 @@ import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 
 import org.hibernate.HibernateException;
 import org.hibernate.action.spi.AfterTransactionCompletionProcess;
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.action.spi.Executable;
+import org.hibernate.cache.spi.access.CachedDomainDataAccess;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
@@ -25,9 +27,14 @@ import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.spi.EventSource;
+import org.hibernate.metamodel.mapping.NaturalIdMapping;
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.spi.DomainQueryExecutionContext;
+import org.hibernate.query.sqm.internal.DomainParameterXref;
+import org.hibernate.query.sqm.mutation.internal.MatchingIdSelectionHelper;
+import org.hibernate.query.sqm.tree.SqmDeleteOrUpdateStatement;
 import org.hibernate.query.sqm.tree.SqmDmlStatement;
 import org.hibernate.query.sqm.tree.SqmQuery;
 import org.hibernate.query.sqm.tree.SqmStatement;
@@ -53,6 +60,7 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 	private final Set<EntityCleanup> entityCleanups = new HashSet<>();
 	private final Set<CollectionCleanup> collectionCleanups = new HashSet<>();
 	private final Set<NaturalIdCleanup> naturalIdCleanups = new HashSet<>();
+	private final Set<ItemCleanup> itemCleanups = new HashSet<>();
 
 	/**
 	 * Constructs an action to cleanup "affected cache regions" based on the
@@ -76,6 +84,7 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 				}
 			}
 
+			clearNaturalIdResolutionCache( persister );
 			if ( persister.hasNaturalIdentifier() && persister.hasNaturalIdCache() ) {
 				naturalIdCleanups.add(
 						new NaturalIdCleanup( persister.getNaturalIdCacheAccessStrategy(), session )
@@ -124,6 +133,7 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 				if ( entityDescriptor.canWriteToCache() ) {
 					entityCleanups.add( new EntityCleanup( entityDescriptor.getCacheAccessStrategy(), session ) );
 				}
+				clearNaturalIdResolutionCache( entityDescriptor );
 				if ( entityDescriptor.hasNaturalIdentifier() && entityDescriptor.hasNaturalIdCache() ) {
 					naturalIdCleanups.add( new NaturalIdCleanup( entityDescriptor.getNaturalIdCacheAccessStrategy(), session ) );
 				}
@@ -145,6 +155,107 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 		this.affectedTableSpaces = spacesList.toArray( new String[ 0 ] );
 	}
 
+	/**
+	 * Constructs an action to cleanup the cache entries of the entities with the
+	 * given identifiers, and of the collections they own, rather than the whole
+	 * entity and collection regions. The natural id region of the entity, and the
+	 * regions of the collections in which it participates as element or through
+	 * a foreign key which does not target its identifier, are still cleaned up
+	 * as a whole, as are the regions of the other entities mapped to any of the
+	 * tables of the affected entity.
+	 *
+	 * @param session The session to which this request is tied.
+	 * @param affectedQueryable The affected entity persister.
+	 * @param affectedIds The identifiers of the affected entities.
+	 */
+	public BulkOperationCleanupAction(
+			SharedSessionContractImplementor session,
+			EntityPersister affectedQueryable,
+			List<?> affectedIds) {
+		final Set<String> tableSpaces = new LinkedHashSet<>();
+		Collections.addAll( tableSpaces, (String[]) affectedQueryable.getQuerySpaces() );
+		final LinkedHashSet<String> spacesList = new LinkedHashSet<>( tableSpaces );
+
+		if ( affectedQueryable.canWriteToCache() ) {
+			itemCleanups.add(
+					new ItemCleanup(
+							affectedQueryable.getCacheAccessStrategy(),
+							affectedIds,
+							id -> affectedQueryable.getCacheAccessStrategy().generateCacheKey(
+									id,
+									affectedQueryable,
+									session.getFactory(),
+									session.getTenantIdentifier()
+							),
+							session
+					)
+			);
+		}
+
+		final MappingMetamodelImplementor metamodel = session.getFactory().getRuntimeMetamodels().getMappingMetamodel();
+		metamodel.forEachEntityDescriptor( (entityDescriptor) -> {
+			final String[] entitySpaces = (String[]) entityDescriptor.getQuerySpaces();
+			if ( !affectedEntity( tableSpaces, entitySpaces ) ) {
+				return;
+			}
+			Collections.addAll( spacesList, entitySpaces );
+
+			// the entities of the same hierarchy share the cache region of the affected entity, and
+			// their identifiers are the affected ones, any other entity mapped to the same tables
+			// is cleaned up as a whole
+			final boolean sameHierarchy = entityDescriptor.getRootEntityName()
+					.equals( affectedQueryable.getRootEntityName() );
+			if ( !sameHierarchy && entityDescriptor.canWriteToCache() ) {
+				entityCleanups.add( new EntityCleanup( entityDescriptor.getCacheAccessStrategy(), session ) );
+			}
+
+			clearNaturalIdResolutionCache( entityDescriptor );
+			if ( entityDescriptor.hasNaturalIdentifier() && entityDescriptor.hasNaturalIdCache() ) {
+				naturalIdCleanups.add( new NaturalIdCleanup( entityDescriptor.getNaturalIdCacheAccessStrategy(), session ) );
+			}
+
+			final Set<String> roles = metamodel.getCollectionRolesByEntityParticipant( entityDescriptor.getEntityName() );
+			if ( roles != null ) {
+				for ( String role : roles ) {
+					final CollectionPersister collectionPersister = metamodel.getCollectionDescriptor( role );
+					if ( collectionPersister.hasCache() ) {
+						final CollectionDataAccess cacheAccess = collectionPersister.getCacheAccessStrategy();
+						if ( sameHierarchy && isKeyedByAffectedIds( collectionPersister, affectedQueryable ) ) {
+							itemCleanups.add(
+									new ItemCleanup(
+											cacheAccess,
+											affectedIds,
+											id -> cacheAccess.generateCacheKey(
+													id,
+													collectionPersister,
+													session.getFactory(),
+													session.getTenantIdentifier()
+											),
+											session
+									)
+							);
+						}
+						else {
+							collectionCleanups.add( new CollectionCleanup( cacheAccess, session ) );
+						}
+					}
+				}
+			}
+		} );
+
+		this.affectedTableSpaces = spacesList.toArray( new String[ 0 ] );
+	}
+
+	/**
+	 * Whether the collection is owned by the affected entity and keyed by its
+	 * identifier, so that its cache entries can be cleaned up one by one.
+	 */
+	private static boolean isKeyedByAffectedIds(CollectionPersister collectionPersister, EntityPersister affectedQueryable) {
+		return collectionPersister.getCollectionType().useLHSPrimaryKey()
+				&& collectionPersister.getOwnerEntityPersister().getRootEntityName()
+						.equals( affectedQueryable.getRootEntityName() );
+	}
+
 	public static void schedule(SharedSessionContractImplementor session, SqmDmlStatement<?> statement) {
 		final List<EntityPersister> entityPersisters = new ArrayList<>( 1 );
 		final MappingMetamodelImplementor metamodel = session.getFactory().getRuntimeMetamodels().getMappingMetamodel();
@@ -163,18 +274,63 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 		schedule( session, entityPersisters.toArray( new EntityPersister[0] ) );
 	}
 
-	public static void schedule(SharedSessionContractImplementor session, EntityPersister... affectedQueryables) {
-		final BulkOperationCleanupAction action = new BulkOperationCleanupAction( session, affectedQueryables );
-		if ( session.isEventSource() ) {
-			( (EventSource) session ).getActionQueue().addAction( action );
-		}
-		else {
-			action.getAfterTransactionCompletionProcess().doAfterTransactionCompletion( true, session );
+	/**
+	 * Schedules the cleanup for an HQL {@code update} or {@code delete}. Only when
+	 * {@link org.hibernate.boot.spi.SessionFactoryOptions#getBulkCacheInvalidationThreshold()}
+	 * is positive, the target entity is cached and a transaction is in progress, the
+	 * identifiers of the affected rows are selected first, locking these rows until the
+	 * end of the transaction. If there are no more of them than the threshold, only
+	 * their cache entries are cleaned up. When the dialect is not able to lock the rows
+	 * in the select of their identifiers, the whole regions are cleaned up, since the
+	 * rows might otherwise be modified by another transaction in between.
+	 *
+	 * @see #BulkOperationCleanupAction(SharedSessionContractImplementor, EntityPersister, List)
+	 */
+	public static void schedule(
+			DomainQueryExecutionContext executionContext,
+			SqmDeleteOrUpdateStatement<?> statement,
+			DomainParameterXref domainParameterXref) {
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		final SessionFactoryImplementor factory = session.getFactory();
+		final int threshold = factory.getSessionFactoryOptions().getBulkCacheInvalidationThreshold();
+		// the rows are only selected, and locked, when opted in, and for cached entities
+		if ( threshold > 0
+				&& factory.getSessionFactoryOptions().isSecondLevelCacheEnabled()
+				&& statement.getCteStatements().isEmpty()
+				&& session.isTransactionInProgress() ) {
+			final EntityPersister persister = factory.getRuntimeMetamodels().getMappingMetamodel()
+					.getEntityDescriptor( statement.getTarget().getEntityName() );
+			if ( persister.canWriteToCache() ) {
+				final List<Object> rows = MatchingIdSelectionHelper.selectLockedMatchingIds(
+						statement,
+						domainParameterXref,
+						executionContext,
+						threshold + 1
+				);
+				if ( rows != null && rows.size() <= threshold ) {
+					final List<Object> ids = new ArrayList<>( rows.size() );
+					for ( Object row : rows ) {
+						// for deletes, the rows may contain the collection key values after the id
+						ids.add( row instanceof Object[] ? ( (Object[]) row )[0] : row );
+					}
+					schedule( session, new BulkOperationCleanupAction( session, persister, ids ) );
+					return;
+				}
+			}
 		}
+
+		schedule( session, statement );
+	}
+
+	public static void schedule(SharedSessionContractImplementor session, EntityPersister... affectedQueryables) {
+		schedule( session, new BulkOperationCleanupAction( session, affectedQueryables ) );
 	}
 
 	public static void schedule(SharedSessionContractImplementor session, Set<String> affectedQueryables) {
-		final BulkOperationCleanupAction action = new BulkOperationCleanupAction( session, affectedQueryables );
+		schedule( session, new BulkOperationCleanupAction( session, affectedQueryables ) );
+	}
+
+	private static void schedule(SharedSessionContractImplementor session, BulkOperationCleanupAction action) {
 		if ( session.isEventSource() ) {
 			( (EventSource) session ).getActionQueue().addAction( action );
 		}
@@ -184,6 +340,13 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 	}
 
 
+	private static void clearNaturalIdResolutionCache(EntityPersister persister) {
+		final NaturalIdMapping naturalIdMapping = persister.getNaturalIdMapping();
+		if ( naturalIdMapping != null && naturalIdMapping.getResolutionCache() != null ) {
+			naturalIdMapping.getResolutionCache().clear();
+		}
+	}
+
 	/**
 	 * Check whether we should consider an entity as affected by the query.  This
 	 * defines inclusion of the entity in the clean-up.
@@ -239,6 +402,11 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 				cleanup.release();
 			}
 			collectionCleanups.clear();
+
+			for ( ItemCleanup cleanup : itemCleanups ) {
+				cleanup.release( session );
+			}
+			itemCleanups.clear();
 		};
 	}
 
@@ -303,6 +471,33 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 		}
 	}
 
+	private static class ItemCleanup implements Serializable {
+		private final CachedDomainDataAccess cacheAccess;
+		private final Object[] cacheKeys;
+		private final SoftLock[] cacheLocks;
+
+		private ItemCleanup(
+				CachedDomainDataAccess cacheAccess,
+				List<?> ids,
+				Function<Object, Object> cacheKeyGenerator,
+				SharedSessionContractImplementor session) {
+			this.cacheAccess = cacheAccess;
+			this.cacheKeys = new Object[ids.size()];
+			this.cacheLocks = new SoftLock[ids.size()];
+			for ( int i = 0; i < cacheKeys.length; i++ ) {
+				cacheKeys[i] = cacheKeyGenerator.apply( ids.get( i ) );
+				cacheLocks[i] = cacheAccess.lockItem( session, cacheKeys[i], null );
+				cacheAccess.remove( session, cacheKeys[i] );
+			}
+		}
+
+		private void release(SharedSessionContractImplementor session) {
+			for ( int i = 0; i < cacheKeys.length; i++ ) {
+				cacheAccess.unlockItem( session, cacheKeys[i], cacheLocks[i] );
+			}
+		}
+	}
+
 	@Override
 	public void afterDeserialize(SharedSessionContractImplementor session) {
 		// nop
@@ -105,7 +105,7 @@ public abstract class CollectionAction implements Executable, Serializable, Comp
 		return persister.getCollectionSpaces();
 	}
 
-	protected final CollectionPersister getPersister() {
+	public final CollectionPersister getPersister() {
 		return persister;
 	}
 
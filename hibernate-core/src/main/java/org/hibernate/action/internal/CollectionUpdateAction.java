@@ -6,6 +6,9 @@
  */
 package org.hibernate.action.internal;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
 import org.hibernate.collection.spi.PersistentCollection;
@@ -45,6 +48,50 @@ public final class CollectionUpdateAction extends CollectionAction {
 
 	@Override
 	public void execute() throws HibernateException {
+		if ( executeUnlessRowUpdate() ) {
+			deleteRows();
+			updateRows();
+			insertRows();
+		}
+		afterExecution();
+	}
+
+	/**
+	 * Executes the given updates of collections sharing the same persister. The row
+	 * deletions of all the collections are performed first, then their row updates,
+	 * and then their row insertions, so that the statements of each kind are added
+	 * to a single JDBC batch rather than to a new batch for every collection.
+	 *
+	 * @param actions The updates of collections of the same persister
+	 */
+	public static void execute(List<CollectionUpdateAction> actions) throws HibernateException {
+		final List<CollectionUpdateAction> rowUpdates = new ArrayList<>( actions.size() );
+		for ( CollectionUpdateAction action : actions ) {
+			if ( action.executeUnlessRowUpdate() ) {
+				rowUpdates.add( action );
+			}
+		}
+		for ( CollectionUpdateAction action : rowUpdates ) {
+			action.deleteRows();
+		}
+		for ( CollectionUpdateAction action : rowUpdates ) {
+			action.updateRows();
+		}
+		for ( CollectionUpdateAction action : rowUpdates ) {
+			action.insertRows();
+		}
+		for ( CollectionUpdateAction action : actions ) {
+			action.afterExecution();
+		}
+	}
+
+	/**
+	 * Fires the pre-update event and updates the collection, unless its rows
+	 * have to be deleted, updated and inserted one by one.
+	 *
+	 * @return {@code true} if the rows of the collection still have to be updated
+	 */
+	private boolean executeUnlessRowUpdate() throws HibernateException {
 		final Object id = getKey();
 		final SharedSessionContractImplementor session = getSession();
 		final CollectionPersister persister = getPersister();
@@ -79,10 +126,26 @@ public final class CollectionUpdateAction extends CollectionAction {
 			persister.recreate( collection, id, session );
 		}
 		else {
-			persister.deleteRows( collection, id, session );
-			persister.updateRows( collection, id, session );
-			persister.insertRows( collection, id, session );
+			return true;
 		}
+		return false;
+	}
+
+	private void deleteRows() {
+		getPersister().deleteRows( getCollection(), getKey(), getSession() );
+	}
+
+	private void updateRows() {
+		getPersister().updateRows( getCollection(), getKey(), getSession() );
+	}
+
+	private void insertRows() {
+		getPersister().insertRows( getCollection(), getKey(), getSession() );
+	}
+
+	private void afterExecution() {
+		final SharedSessionContractImplementor session = getSession();
+		final PersistentCollection<?> collection = getCollection();
 
 		session.getPersistenceContextInternal().getCollectionEntry( collection ).afterAction( collection );
 		evict();
@@ -90,7 +153,7 @@ public final class CollectionUpdateAction extends CollectionAction {
 
 		final StatisticsImplementor statistics = session.getFactory().getStatistics();
 		if ( statistics.isStatisticsEnabled() ) {
-			statistics.updateCollection( persister.getRole() );
+			statistics.updateCollection( getPersister().getRole() );
 		}
 	}
 	
@@ -81,8 +81,11 @@ import static org.hibernate.cfg.AvailableSettings.ALLOW_UPDATE_OUTSIDE_TRANSACTI
 import static org.hibernate.cfg.AvailableSettings.AUTO_CLOSE_SESSION;
 import static org.hibernate.cfg.AvailableSettings.AUTO_EVICT_COLLECTION_CACHE;
 import static org.hibernate.cfg.AvailableSettings.AUTO_SESSION_EVENTS_LISTENER;
+import static org.hibernate.cfg.AvailableSettings.BAG_DIFF_UPDATES;
 import static org.hibernate.cfg.AvailableSettings.BATCH_FETCH_STYLE;
+import static org.hibernate.cfg.AvailableSettings.BATCH_MULTI_ROW_INSERT;
 import static org.hibernate.cfg.AvailableSettings.BATCH_VERSIONED_DATA;
+import static org.hibernate.cfg.AvailableSettings.BULK_CACHE_INVALIDATION_THRESHOLD;
 import static org.hibernate.cfg.AvailableSettings.CACHE_REGION_PREFIX;
 import static org.hibernate.cfg.AvailableSettings.CALLABLE_NAMED_PARAMS_ENABLED;
 import static org.hibernate.cfg.AvailableSettings.CHECK_NULLABILITY;
@@ -107,12 +110,16 @@ import static org.hibernate.cfg.AvailableSettings.JTA_TRACK_BY_THREAD;
 import static org.hibernate.cfg.AvailableSettings.LOG_SESSION_METRICS;
 import static org.hibernate.cfg.AvailableSettings.MAX_FETCH_DEPTH;
 import static org.hibernate.cfg.AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER;
+import static org.hibernate.cfg.AvailableSettings.NATURAL_ID_RESOLUTION_CACHE_SIZE;
 import static org.hibernate.cfg.AvailableSettings.ORDER_INSERTS;
 import static org.hibernate.cfg.AvailableSettings.ORDER_UPDATES;
 import static org.hibernate.cfg.AvailableSettings.PREFER_USER_TRANSACTION;
 import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_FACTORY;
+import static org.hibernate.cfg.AvailableSettings.QUERY_MULTI_TABLE_MUTATION_INLINE_THRESHOLD;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STARTUP_CHECKING;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STATISTICS_MAX_SIZE;
+import static org.hibernate.cfg.AvailableSettings.QUERY_STREAM_EVICTION_WINDOW;
+import static org.hibernate.cfg.AvailableSettings.SCROLL_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME_IS_JNDI;
 import static org.hibernate.cfg.AvailableSettings.SESSION_SCOPED_INTERCEPTOR;
@@ -195,6 +202,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private NullPrecedence defaultNullPrecedence;
 	private boolean orderUpdatesEnabled;
 	private boolean orderInsertsEnabled;
+	private boolean bagDiffUpdatesEnabled;
 	private boolean postInsertIdentifierDelayed;
 	private boolean collectionsInDefaultFetchGroupEnabled = true;
 
@@ -208,6 +216,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	// Queries
 	private HqlTranslator hqlTranslator;
 	private SqmMultiTableMutationStrategy sqmMultiTableMutationStrategy;
+	private int multiTableMutationInlineThreshold;
 	private SqmMultiTableInsertStrategy sqmMultiTableInsertStrategy;
 	private SqmFunctionRegistry sqmFunctionRegistry;
 	private SqmTranslatorFactory sqmTranslatorFactory;
@@ -229,6 +238,8 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean structuredCacheEntriesEnabled;
 	private boolean directReferenceCacheEntriesEnabled;
 	private boolean autoEvictCollectionCache;
+	private int bulkCacheInvalidationThreshold;
+	private int naturalIdResolutionCacheSize;
 
 	// Schema tooling
 	private SchemaAutoTooling schemaAutoTooling;
@@ -237,7 +248,10 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean getGeneratedKeysEnabled;
 	private int jdbcBatchSize;
 	private boolean jdbcBatchVersionedData;
+	private boolean jdbcBatchMultiRowInsert;
 	private Integer jdbcFetchSize;
+	private int jdbcScrollFetchSize;
+	private int queryStreamEvictionWindow;
 	private boolean scrollableResultSetsEnabled;
 	private boolean commentsEnabled;
 	private PhysicalConnectionHandlingMode connectionHandlingMode;
@@ -373,6 +387,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		this.defaultNullPrecedence = NullPrecedence.parse( defaultNullPrecedence );
 		this.orderUpdatesEnabled = ConfigurationHelper.getBoolean( ORDER_UPDATES, configurationSettings );
 		this.orderInsertsEnabled = ConfigurationHelper.getBoolean( ORDER_INSERTS, configurationSettings );
+		this.bagDiffUpdatesEnabled = ConfigurationHelper.getBoolean( BAG_DIFF_UPDATES, configurationSettings );
 
 		this.callbacksEnabled = ConfigurationHelper.getBoolean( JPA_CALLBACKS_ENABLED, configurationSettings, true );
 
@@ -408,6 +423,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				serviceRegistry,
 				strategySelector
 		);
+		this.multiTableMutationInlineThreshold = ConfigurationHelper.getInt(
+				QUERY_MULTI_TABLE_MUTATION_INLINE_THRESHOLD,
+				configurationSettings,
+				0
+		);
 
 		final String sqmInsertStrategyImplName = ConfigurationHelper.extractValue(
 				AvailableSettings.QUERY_MULTI_TABLE_INSERT_STRATEGY,
@@ -456,6 +476,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 					false
 			);
 			this.autoEvictCollectionCache = cfgService.getSetting( AUTO_EVICT_COLLECTION_CACHE, BOOLEAN, false );
+			this.bulkCacheInvalidationThreshold = ConfigurationHelper.getInt(
+					BULK_CACHE_INVALIDATION_THRESHOLD,
+					configurationSettings,
+					0
+			);
 		}
 		else {
 			this.secondLevelCacheEnabled = false;
@@ -466,7 +491,13 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 			this.structuredCacheEntriesEnabled = false;
 			this.directReferenceCacheEntriesEnabled = false;
 			this.autoEvictCollectionCache = false;
+			this.bulkCacheInvalidationThreshold = 0;
 		}
+		this.naturalIdResolutionCacheSize = ConfigurationHelper.getInt(
+				NATURAL_ID_RESOLUTION_CACHE_SIZE,
+				configurationSettings,
+				0
+		);
 
 		try {
 			this.schemaAutoTooling = SchemaAutoTooling.interpret( (String) configurationSettings.get( AvailableSettings.HBM2DDL_AUTO ) );
@@ -494,6 +525,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		}
 
 		this.jdbcBatchVersionedData = ConfigurationHelper.getBoolean( BATCH_VERSIONED_DATA, configurationSettings, true );
+		this.jdbcBatchMultiRowInsert = ConfigurationHelper.getBoolean( BATCH_MULTI_ROW_INSERT, configurationSettings );
 		this.scrollableResultSetsEnabled = ConfigurationHelper.getBoolean(
 				USE_SCROLLABLE_RESULTSET,
 				configurationSettings,
@@ -505,6 +537,8 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				meta.supportsGetGeneratedKeys()
 		);
 		this.jdbcFetchSize = ConfigurationHelper.getInteger( STATEMENT_FETCH_SIZE, configurationSettings );
+		this.jdbcScrollFetchSize = ConfigurationHelper.getInt( SCROLL_FETCH_SIZE, configurationSettings, 0 );
+		this.queryStreamEvictionWindow = ConfigurationHelper.getInt( QUERY_STREAM_EVICTION_WINDOW, configurationSettings, 0 );
 
 		this.connectionHandlingMode = interpretConnectionHandlingMode( configurationSettings, serviceRegistry );
 		this.connectionProviderDisablesAutoCommit = ConfigurationHelper.getBoolean(
@@ -921,6 +955,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return sqmMultiTableMutationStrategy;
 	}
 
+	@Override
+	public int getMultiTableMutationInlineThreshold() {
+		return multiTableMutationInlineThreshold;
+	}
+
 	@Override
 	public SqmMultiTableInsertStrategy getCustomSqmMultiTableInsertStrategy() {
 		return sqmMultiTableInsertStrategy;
@@ -1006,6 +1045,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return orderInsertsEnabled;
 	}
 
+	@Override
+	public boolean isBagDiffUpdatesEnabled() {
+		return bagDiffUpdatesEnabled;
+	}
+
 	@Override
 	public boolean isMultiTenancyEnabled() {
 		return multiTenancyEnabled;
@@ -1066,6 +1110,16 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return autoEvictCollectionCache;
 	}
 
+	@Override
+	public int getBulkCacheInvalidationThreshold() {
+		return bulkCacheInvalidationThreshold;
+	}
+
+	@Override
+	public int getNaturalIdResolutionCacheSize() {
+		return naturalIdResolutionCacheSize;
+	}
+
 	@Override
 	public SchemaAutoTooling getSchemaAutoTooling() {
 		return schemaAutoTooling;
@@ -1081,6 +1135,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return jdbcBatchVersionedData;
 	}
 
+	@Override
+	public boolean isJdbcBatchMultiRowInsert() {
+		return jdbcBatchMultiRowInsert;
+	}
+
 	@Override
 	public boolean isScrollableResultSetsEnabled() {
 		return scrollableResultSetsEnabled;
@@ -1096,6 +1155,16 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return jdbcFetchSize;
 	}
 
+	@Override
+	public int getJdbcScrollFetchSize() {
+		return jdbcScrollFetchSize;
+	}
+
+	@Override
+	public int getQueryStreamEvictionWindow() {
+		return queryStreamEvictionWindow;
+	}
+
 	@Override
 	public PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode() {
 		return connectionHandlingMode;
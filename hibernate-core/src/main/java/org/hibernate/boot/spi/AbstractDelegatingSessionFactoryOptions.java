@@ -127,6 +127,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.getCustomSqmMultiTableMutationStrategy();
 	}
 
+	@Override
+	public int getMultiTableMutationInlineThreshold() {
+		return delegate.getMultiTableMutationInlineThreshold();
+	}
+
 	@Override
 	public SqmMultiTableInsertStrategy getCustomSqmMultiTableInsertStrategy() {
 		return delegate.getCustomSqmMultiTableInsertStrategy();
@@ -202,6 +207,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isOrderInsertsEnabled();
 	}
 
+	@Override
+	public boolean isBagDiffUpdatesEnabled() {
+		return delegate.isBagDiffUpdatesEnabled();
+	}
+
 	@Override
 	public boolean isMultiTenancyEnabled() {
 		return delegate.isMultiTenancyEnabled();
@@ -272,6 +282,16 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isAutoEvictCollectionCache();
 	}
 
+	@Override
+	public int getBulkCacheInvalidationThreshold() {
+		return delegate.getBulkCacheInvalidationThreshold();
+	}
+
+	@Override
+	public int getNaturalIdResolutionCacheSize() {
+		return delegate.getNaturalIdResolutionCacheSize();
+	}
+
 	@Override
 	public SchemaAutoTooling getSchemaAutoTooling() {
 		return delegate.getSchemaAutoTooling();
@@ -287,6 +307,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isJdbcBatchVersionedData();
 	}
 
+	@Override
+	public boolean isJdbcBatchMultiRowInsert() {
+		return delegate.isJdbcBatchMultiRowInsert();
+	}
+
 	@Override
 	public boolean isScrollableResultSetsEnabled() {
 		return delegate.isScrollableResultSetsEnabled();
@@ -302,6 +327,16 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.getJdbcFetchSize();
 	}
 
+	@Override
+	public int getJdbcScrollFetchSize() {
+		return delegate.getJdbcScrollFetchSize();
+	}
+
+	@Override
+	public int getQueryStreamEvictionWindow() {
+		return delegate.getQueryStreamEvictionWindow();
+	}
+
 	@Override
 	public PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode() {
 		return delegate.getPhysicalConnectionHandlingMode();
@@ -150,6 +150,18 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isOrderInsertsEnabled();
 
+	/**
+	 * Whether the changes to a bag are written as the deletions and insertions of
+	 * the rows of the elements whose number of occurrences changed, when possible.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BAG_DIFF_UPDATES
+	 *
+	 * @since 6.2
+	 */
+	default boolean isBagDiffUpdatesEnabled() {
+		return false;
+	}
+
 	boolean isMultiTenancyEnabled();
 
 	CurrentTenantIdentifierResolver getCurrentTenantIdentifierResolver();
@@ -174,18 +186,78 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isAutoEvictCollectionCache();
 
+	/**
+	 * The maximum number of rows affected by a bulk update or delete for which
+	 * only the cached entries of those rows are invalidated, or {@code 0} if
+	 * bulk operations always invalidate the whole cache regions.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BULK_CACHE_INVALIDATION_THRESHOLD
+	 *
+	 * @since 6.2
+	 */
+	default int getBulkCacheInvalidationThreshold() {
+		return 0;
+	}
+
+	/**
+	 * The maximum number of immutable natural id resolutions kept per entity
+	 * by the {@code SessionFactory}, or {@code 0} if none are kept.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#NATURAL_ID_RESOLUTION_CACHE_SIZE
+	 *
+	 * @since 6.2
+	 */
+	default int getNaturalIdResolutionCacheSize() {
+		return 0;
+	}
+
 	SchemaAutoTooling getSchemaAutoTooling();
 
 	int getJdbcBatchSize();
 
 	boolean isJdbcBatchVersionedData();
 
+	/**
+	 * Should batched inserts be combined into multi-row insert statements?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_MULTI_ROW_INSERT
+	 *
+	 * @since 6.2
+	 */
+	default boolean isJdbcBatchMultiRowInsert() {
+		return false;
+	}
+
 	boolean isScrollableResultSetsEnabled();
 
 	boolean isGetGeneratedKeysEnabled();
 
 	Integer getJdbcFetchSize();
 
+	/**
+	 * The fetch size of scrolled and streamed results, when not specified otherwise,
+	 * or {@code 0} to use the JDBC driver's default.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#SCROLL_FETCH_SIZE
+	 *
+	 * @since 6.2
+	 */
+	default int getJdbcScrollFetchSize() {
+		return 0;
+	}
+
+	/**
+	 * The number of rows after which streamed entities are evicted from the
+	 * persistence context, or {@code 0} if they are never evicted.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_STREAM_EVICTION_WINDOW
+	 *
+	 * @since 6.2
+	 */
+	default int getQueryStreamEvictionWindow() {
+		return 0;
+	}
+
 	PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode();
 
 	default boolean doesConnectionProviderDisableAutoCommit() {
@@ -265,6 +337,19 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 		return Statistics.DEFAULT_QUERY_STATISTICS_MAX_SIZE;
 	}
 
+	/**
+	 * The maximum number of matching rows for which a multi-table mutation query
+	 * restricts its statements on the selected identifiers, instead of using the
+	 * strategy of the dialect, or {@code 0} if the strategy of the dialect is always used.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_MULTI_TABLE_MUTATION_INLINE_THRESHOLD
+	 *
+	 * @since 6.2
+	 */
+	default int getMultiTableMutationInlineThreshold() {
+		return 0;
+	}
+
 	default boolean areJPACallbacksEnabled() {
 		return true;
 	}
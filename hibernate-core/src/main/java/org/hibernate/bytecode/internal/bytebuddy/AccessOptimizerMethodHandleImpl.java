@@ -0,0 +1,232 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.bytecode.internal.bytebuddy;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Locale;
+import java.util.Map;
+
+import org.hibernate.PropertyAccessException;
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
+import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.engine.spi.PersistentAttributeInterceptable;
+import org.hibernate.engine.spi.PersistentAttributeInterceptor;
+import org.hibernate.property.access.internal.PropertyAccessEmbeddedImpl;
+import org.hibernate.property.access.spi.Getter;
+import org.hibernate.property.access.spi.GetterFieldImpl;
+import org.hibernate.property.access.spi.GetterMethodImpl;
+import org.hibernate.property.access.spi.PropertyAccess;
+import org.hibernate.property.access.spi.Setter;
+import org.hibernate.property.access.spi.SetterFieldImpl;
+import org.hibernate.property.access.spi.SetterMethodImpl;
+
+/**
+ * An {@link ReflectionOptimizer.AccessOptimizer} based on {@link MethodHandle}s, used by the
+ * {@link BytecodeProviderImpl} when the generated bulk accessor can't be used because some of
+ * the persistent attributes are accessed through private fields or methods.
+ * <p>
+ * The handles are resolved once, when the optimizer is built, from the members which were made
+ * accessible by the {@link PropertyAccess}, so that getting and setting the state of an instance
+ * doesn't go through the access checks and argument boxing of reflective calls.
+ * <p>
+ * Like the generated bulk accessor, it is only used when the reflection optimizer is enabled, see
+ * {@link org.hibernate.cfg.Environment#useReflectionOptimizer()}. The regular {@link Getter}s
+ * and {@link Setter}s of the {@link PropertyAccess} are not affected.
+ */
+public class AccessOptimizerMethodHandleImpl implements ReflectionOptimizer.AccessOptimizer {
+	private static final MethodType GETTER_TYPE = MethodType.methodType( Object.class, Object.class );
+	private static final MethodType SETTER_TYPE = MethodType.methodType( void.class, Object.class, Object.class );
+
+	private final Class<?> clazz;
+	private final String[] propertyNames;
+	// the handles are null for the virtual embedded property
+	private final MethodHandle[] getters;
+	private final MethodHandle[] setters;
+	private final boolean enhanced;
+
+	private AccessOptimizerMethodHandleImpl(
+			Class<?> clazz,
+			String[] propertyNames,
+			MethodHandle[] getters,
+			MethodHandle[] setters) {
+		this.clazz = clazz;
+		this.propertyNames = propertyNames;
+		this.getters = getters;
+		this.setters = setters;
+		this.enhanced = PersistentAttributeInterceptable.class.isAssignableFrom( clazz );
+	}
+
+	/**
+	 * Resolves the handles for the given ordered property access map.
+	 *
+	 * @throws InvalidPropertyAccessorException if the access to some property can't be optimized
+	 */
+	public static AccessOptimizerMethodHandleImpl create(Class<?> clazz, Map<String, PropertyAccess> propertyAccessMap) {
+		final MethodHandles.Lookup lookup = MethodHandles.lookup();
+		final String[] propertyNames = new String[propertyAccessMap.size()];
+		final MethodHandle[] getters = new MethodHandle[propertyAccessMap.size()];
+		final MethodHandle[] setters = new MethodHandle[propertyAccessMap.size()];
+		int i = 0;
+		for ( Map.Entry<String, PropertyAccess> entry : propertyAccessMap.entrySet() ) {
+			propertyNames[i] = entry.getKey();
+			final PropertyAccess propertyAccess = entry.getValue();
+			if ( !( propertyAccess instanceof PropertyAccessEmbeddedImpl ) ) {
+				try {
+					getters[i] = getterHandle( lookup, clazz, entry.getKey(), propertyAccess.getGetter() );
+					setters[i] = setterHandle( lookup, clazz, entry.getKey(), propertyAccess.getSetter() );
+				}
+				catch (IllegalAccessException e) {
+					throw new InvalidPropertyAccessorException(
+							String.format(
+									Locale.ROOT,
+									"cannot access the accessors of [%s] on type [%s]",
+									entry.getKey(),
+									clazz.getName()
+							)
+					);
+				}
+			}
+			i++;
+		}
+		return new AccessOptimizerMethodHandleImpl( clazz, propertyNames, getters, setters );
+	}
+
+	private static MethodHandle getterHandle(
+			MethodHandles.Lookup lookup,
+			Class<?> clazz,
+			String propertyName,
+			Getter getter) throws IllegalAccessException {
+		if ( getter instanceof GetterMethodImpl ) {
+			return lookup.unreflect( getter.getMethod() ).asType( GETTER_TYPE );
+		}
+		else if ( getter instanceof GetterFieldImpl ) {
+			return lookup.unreflectGetter( (Field) getter.getMember() ).asType( GETTER_TYPE );
+		}
+		else {
+			throw new InvalidPropertyAccessorException(
+					String.format(
+							Locale.ROOT,
+							"cannot find a getter for [%s] on type [%s]",
+							propertyName,
+							clazz.getName()
+					)
+			);
+		}
+	}
+
+	private static MethodHandle setterHandle(
+			MethodHandles.Lookup lookup,
+			Class<?> clazz,
+			String propertyName,
+			Setter setter) throws IllegalAccessException {
+		if ( setter instanceof SetterMethodImpl ) {
+			final Method method = setter.getMethod();
+			return lookup.unreflect( method ).asType( SETTER_TYPE );
+		}
+		else if ( setter instanceof SetterFieldImpl ) {
+			final Field field = ( (SetterFieldImpl) setter ).getField();
+			if ( Modifier.isFinal( field.getModifiers() ) ) {
+				throw new InvalidPropertyAccessorException( "final accessor [" + field.getName() + "]" );
+			}
+			return lookup.unreflectSetter( field ).asType( SETTER_TYPE );
+		}
+		else {
+			throw new InvalidPropertyAccessorException(
+					String.format(
+							Locale.ROOT,
+							"cannot find a setter for [%s] on type [%s]",
+							propertyName,
+							clazz.getName()
+					)
+			);
+		}
+	}
+
+	@Override
+	public String[] getPropertyNames() {
+		return propertyNames.clone();
+	}
+
+	@Override
+	public Object[] getPropertyValues(Object object) {
+		final LazyAttributeLoadingInterceptor lazyInterceptor = lazyAttributeLoadingInterceptor( object );
+		final Object[] values = new Object[getters.length];
+		for ( int i = 0; i < getters.length; i++ ) {
+			final MethodHandle getter = getters[i];
+			if ( getter == null ) {
+				// the embedded property access returns the owner
+				values[i] = object;
+			}
+			else if ( lazyInterceptor != null && !lazyInterceptor.isAttributeLoaded( propertyNames[i] ) ) {
+				values[i] = LazyPropertyInitializer.UNFETCHED_PROPERTY;
+			}
+			else {
+				try {
+					values[i] = (Object) getter.invokeExact( object );
+				}
+				catch (Error e) {
+					throw e;
+				}
+				catch (Throwable t) {
+					throw new PropertyAccessException(
+							t,
+							"Error accessing persistent property through method handle",
+							false,
+							clazz,
+							propertyNames[i]
+					);
+				}
+			}
+		}
+		return values;
+	}
+
+	@Override
+	public void setPropertyValues(Object object, Object[] values) {
+		for ( int i = 0; i < setters.length; i++ ) {
+			final MethodHandle setter = setters[i];
+			final Object value = values[i];
+			// the embedded property access does a no-op, and unfetched lazy attributes are left alone
+			if ( setter != null && !( enhanced && value == LazyPropertyInitializer.UNFETCHED_PROPERTY ) ) {
+				try {
+					setter.invokeExact( object, value );
+				}
+				catch (Error e) {
+					throw e;
+				}
+				catch (Throwable t) {
+					throw new PropertyAccessException(
+							t,
+							value == null
+									? "Null value was assigned to a property of primitive type"
+									: "Could not set value of type [" + value.getClass().getTypeName() + "]",
+							true,
+							clazz,
+							propertyNames[i]
+					);
+				}
+			}
+		}
+	}
+
+	private LazyAttributeLoadingInterceptor lazyAttributeLoadingInterceptor(Object object) {
+		if ( enhanced ) {
+			final PersistentAttributeInterceptor interceptor =
+					( (PersistentAttributeInterceptable) object ).$$_hibernate_getInterceptor();
+			if ( interceptor instanceof LazyAttributeLoadingInterceptor ) {
+				return (LazyAttributeLoadingInterceptor) interceptor;
+			}
+		}
+		return null;
+	}
+}
@@ -17,13 +17,21 @@ import static org.hibernate.internal.CoreLogging.messageLogger;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
 import java.security.AccessController;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
 import java.util.function.Function;
 
 import org.hibernate.HibernateException;
+import org.hibernate.Version;
 import org.hibernate.bytecode.enhance.spi.EnhancerConstants;
 import org.hibernate.bytecode.spi.BasicProxyFactory;
 import org.hibernate.internal.CoreMessageLogger;
@@ -61,6 +69,12 @@ public final class ByteBuddyState {
 
 	private static final boolean DEBUG = false;
 
+	/**
+	 * The name of the constant holding the {@linkplain #prebuiltMarker marker} of a class pre-generated
+	 * at build time.
+	 */
+	public static final String PREBUILT_MARKER_FIELD_NAME = "$$_hibernate_prebuilt_marker";
+
 	private final ByteBuddy byteBuddy;
 
 	private static final ProxyDefinitionHelpers proxyDefinitionHelpers = new ProxyDefinitionHelpers();
@@ -104,7 +118,26 @@ public final class ByteBuddyState {
 	 */
 	public Class<?> loadProxy(Class<?> referenceClass, TypeCache.SimpleKey cacheKey,
 			Function<ByteBuddy, DynamicType.Builder<?>> makeProxyFunction) {
-		return load( referenceClass, proxyCache, cacheKey, makeProxyFunction );
+		return load( referenceClass, proxyCache, cacheKey, null, null, makeProxyFunction );
+	}
+
+	/**
+	 * Load a proxy as generated by the {@link ProxyFactory}, using the class pre-generated at build time
+	 * under the given name if it is available from the class loader of the reference class.
+	 *
+	 * The pre-generated class is only used if its {@linkplain #prebuiltMarker marker} matches the one of
+	 * the reference class and the interfaces, as currently loaded, and is regenerated otherwise.
+	 *
+	 * @param referenceClass The main class to proxy - might be an interface.
+	 * @param cacheKey The cache key.
+	 * @param prebuiltClassName The name of the pre-generated proxy class.
+	 * @param interfaces The interfaces implemented by the proxy.
+	 * @param makeProxyFunction A function building the proxy, if there is no pre-generated class.
+	 * @return The loaded proxy class.
+	 */
+	public Class<?> loadProxy(Class<?> referenceClass, TypeCache.SimpleKey cacheKey, String prebuiltClassName,
+			Class<?>[] interfaces, Function<ByteBuddy, DynamicType.Builder<?>> makeProxyFunction) {
+		return load( referenceClass, proxyCache, cacheKey, prebuiltClassName, interfaces, makeProxyFunction );
 	}
 
 	/**
@@ -117,7 +150,7 @@ public final class ByteBuddyState {
 	 */
 	Class<?> loadBasicProxy(Class<?> referenceClass, TypeCache.SimpleKey cacheKey,
 			Function<ByteBuddy, DynamicType.Builder<?>> makeProxyFunction) {
-		return load( referenceClass, basicProxyCache, cacheKey, makeProxyFunction );
+		return load( referenceClass, basicProxyCache, cacheKey, null, null, makeProxyFunction );
 	}
 
 	/**
@@ -188,11 +221,16 @@ public final class ByteBuddyState {
 	}
 
 	private Class<?> load(Class<?> referenceClass, TypeCache<TypeCache.SimpleKey> cache,
-			TypeCache.SimpleKey cacheKey, Function<ByteBuddy, DynamicType.Builder<?>> makeProxyFunction) {
+			TypeCache.SimpleKey cacheKey, String prebuiltClassName, Class<?>[] interfaces,
+			Function<ByteBuddy, DynamicType.Builder<?>> makeProxyFunction) {
 		return cache.findOrInsert(
 				referenceClass.getClassLoader(),
 				cacheKey,
 				() -> {
+					final Class<?> prebuiltClass = loadPrebuilt( referenceClass, prebuiltClassName, interfaces );
+					if ( prebuiltClass != null ) {
+						return prebuiltClass;
+					}
 					PrivilegedAction<Class<?>> delegateToPrivilegedAction = new PrivilegedAction<Class<?>>() {
 						@Override
 						public Class<?> run() {
@@ -212,6 +250,76 @@ public final class ByteBuddyState {
 		);
 	}
 
+	private static Class<?> loadPrebuilt(Class<?> referenceClass, String prebuiltClassName, Class<?>[] interfaces) {
+		// the pre-generated classes don't have the rewriting required when running with a security manager
+		if ( prebuiltClassName == null || SystemSecurityManager.isSecurityManagerEnabled() ) {
+			return null;
+		}
+		try {
+			final Class<?> prebuiltClass = Class.forName( prebuiltClassName, false, referenceClass.getClassLoader() );
+			if ( prebuiltClass.getSuperclass() != referenceClass ) {
+				LOG.debugf( "Ignoring pre-generated class %s not extending %s", prebuiltClassName, referenceClass.getName() );
+				return null;
+			}
+			// the classes may have changed since the proxy was generated, or the proxy was
+			// generated by another version of Hibernate
+			final List<String> classNames = new ArrayList<>();
+			for ( Class<?> clazz = referenceClass; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass() ) {
+				classNames.add( clazz.getName() );
+			}
+			final List<String> interfaceNames = new ArrayList<>( interfaces.length );
+			for ( Class<?> anInterface : interfaces ) {
+				interfaceNames.add( anInterface.getName() );
+			}
+			final String marker = prebuiltMarker( referenceClass.getClassLoader(), classNames, interfaceNames );
+			if ( marker == null || !marker.equals( prebuiltClass.getField( PREBUILT_MARKER_FIELD_NAME ).get( null ) ) ) {
+				LOG.debugf( "Ignoring pre-generated class %s not matching %s", prebuiltClassName, referenceClass.getName() );
+				return null;
+			}
+			LOG.debugf( "Using pre-generated class %s", prebuiltClassName );
+			return prebuiltClass;
+		}
+		catch (ClassNotFoundException | NoSuchFieldException | IllegalAccessException | LinkageError e) {
+			return null;
+		}
+	}
+
+	/**
+	 * The marker recorded in a class pre-generated at build time, identifying the version of Hibernate
+	 * which generated it, along with the bytecode of the classes and the names of the interfaces it was
+	 * generated from.
+	 *
+	 * @param classLoader The class loader of the classes.
+	 * @param classNames The class extended by the pre-generated class, and its superclasses.
+	 * @param interfaceNames The interfaces implemented by the pre-generated class.
+	 * @return The marker, or {@code null} if the bytecode of one of the classes is not available.
+	 */
+	public static String prebuiltMarker(ClassLoader classLoader, List<String> classNames, List<String> interfaceNames) {
+		final MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance( "SHA-256" );
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new HibernateException( "Unable to compute the marker of a pre-generated class", e );
+		}
+		for ( String className : classNames ) {
+			try ( InputStream bytecode = classLoader.getResourceAsStream( className.replace( '.', '/' ) + ".class" ) ) {
+				if ( bytecode == null ) {
+					return null;
+				}
+				digest.update( className.getBytes( StandardCharsets.UTF_8 ) );
+				digest.update( bytecode.readAllBytes() );
+			}
+			catch (IOException e) {
+				return null;
+			}
+		}
+		for ( String interfaceName : interfaceNames ) {
+			digest.update( interfaceName.getBytes( StandardCharsets.UTF_8 ) );
+		}
+		return Version.getVersionString() + ':' + Base64.getEncoder().encodeToString( digest.digest() );
+	}
+
 	public Unloaded<?> make(Function<ByteBuddy, DynamicType.Builder<?>> makeProxyFunction) {
 		return make( makeProxyFunction.apply( byteBuddy ) );
 	}
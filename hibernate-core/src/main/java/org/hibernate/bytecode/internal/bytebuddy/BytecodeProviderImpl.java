@@ -230,6 +230,26 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		try {
 			findAccessors( clazz, propertyAccessMap, getters, setters );
 		}
+		catch (PrivateAccessorException ex) {
+			// the generated bulk accessor can't reach private members, use method handles instead
+			final ReflectionOptimizer.AccessOptimizer accessOptimizer;
+			try {
+				accessOptimizer = AccessOptimizerMethodHandleImpl.create( clazz, propertyAccessMap );
+			}
+			catch (InvalidPropertyAccessorException e) {
+				LOG.unableToGenerateReflectionOptimizer( clazz.getName(), e );
+				return null;
+			}
+			try {
+				return new ReflectionOptimizerImpl(
+						fastClass != null ? (ReflectionOptimizer.InstantiationOptimizer) fastClass.newInstance() : null,
+						accessOptimizer
+				);
+			}
+			catch (Exception exception) {
+				throw new HibernateException( exception );
+			}
+		}
 		catch (InvalidPropertyAccessorException ex) {
 			LOG.unableToGenerateReflectionOptimizer( clazz.getName(), ex );
 			return null;
@@ -278,6 +278,29 @@ public interface AvailableSettings {
 	 */
 	String STATIC_METAMODEL_POPULATION = "hibernate.jpa.static_metamodel.population";
 
+	/**
+	 * When enabled, the SQL strings and loaders of the entity and collection
+	 * persisters are generated concurrently, using a {@link java.util.concurrent.ForkJoinPool},
+	 * once the mapping model is complete. This reduces the time taken to build
+	 * a {@link org.hibernate.SessionFactory} for large domain models.
+	 * <p>
+	 * Creation of the persisters and of the mapping model itself is always
+	 * sequential, since it involves ordering dependencies between entities.
+	 * <p>
+	 * The state which the built-in persisters initialize lazily, and read from
+	 * each other while their loaders are built, is initialized up front. Custom
+	 * {@link org.hibernate.persister.entity.EntityPersister} or
+	 * {@link org.hibernate.persister.collection.CollectionPersister} implementations
+	 * must not modify shared state, nor the state of other persisters, in
+	 * {@code postInstantiate()} when this setting is enabled.
+	 * <p>
+	 * Defaults to {@code false}.
+	 *
+	 * @since 6.2
+	 */
+	@Incubating
+	String PARALLEL_PERSISTER_INITIALIZATION = "hibernate.metamodel.parallel_initialization";
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// StandardServiceRegistry level settings
@@ -898,6 +921,18 @@ public interface AvailableSettings {
 	 */
 	String HIGHLIGHT_SQL = "hibernate.highlight_sql";
 
+	/**
+	 * When enabled, SQL statements and slow queries are logged by a background thread,
+	 * which formats and writes the statements published to a bounded buffer by the
+	 * threads executing them. When the buffer is full, statements are logged by the
+	 * executing thread.
+	 * <p>
+	 * Disabled by default.
+	 *
+	 * @since 6.2
+	 */
+	String LOG_SQL_ASYNC = "hibernate.log_sql_async";
+
 	/**
 	 * Specifies that comments should be added to the generated SQL.
 	 *
@@ -952,6 +987,21 @@ public interface AvailableSettings {
 	 */
 	String STATEMENT_FETCH_SIZE = "hibernate.jdbc.fetch_size";
 
+	/**
+	 * The fetch size given to the JDBC driver for the results of
+	 * {@link org.hibernate.query.SelectionQuery#scroll()} and
+	 * {@link org.hibernate.query.SelectionQuery#stream()}, when neither the query
+	 * nor {@value #STATEMENT_FETCH_SIZE} specify one. This avoids drivers reading
+	 * the whole result set, or only a handful of rows, at a time.
+	 * <p>
+	 * By default, or if {@code 0}, the JDBC driver's default settings will be used.
+	 *
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#getJdbcScrollFetchSize()
+	 *
+	 * @since 6.2
+	 */
+	String SCROLL_FETCH_SIZE = "hibernate.jdbc.scroll_fetch_size";
+
 	/**
 	 * Specifies the maximum JDBC batch size. A nonzero value enables batch updates.
 	 *
@@ -973,6 +1023,24 @@ public interface AvailableSettings {
 	 */
 	String BATCH_VERSIONED_DATA = "hibernate.jdbc.batch_versioned_data";
 
+	/**
+	 * When enabled, specifies that batched entity inserts should be combined
+	 * into multi-row {@code insert ... values (...), (...)} statements, instead
+	 * of being executed using {@link java.sql.PreparedStatement#addBatch()}.
+	 * <p>
+	 * Only takes effect when {@value #STATEMENT_BATCH_SIZE} is greater than 1, if
+	 * the {@linkplain org.hibernate.dialect.Dialect#supportsMultiRowInsert() dialect}
+	 * supports such statements, and for entities without custom or dynamic insert
+	 * SQL. Entities with {@code IDENTITY} ids are never batched.
+	 * <p>
+	 * Defaults to {@code false}.
+	 *
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#isJdbcBatchMultiRowInsert()
+	 *
+	 * @since 6.2
+	 */
+	String BATCH_MULTI_ROW_INSERT = "hibernate.jdbc.batch_multi_row_insert";
+
 	/**
 	 * Specify a {@linkplain java.util.TimeZone time zone} that should be passed to
 	 * {@link java.sql.PreparedStatement#setTimestamp(int, java.sql.Timestamp, java.util.Calendar)}
@@ -1070,6 +1138,23 @@ public interface AvailableSettings {
 	 */
 	String QUERY_MULTI_TABLE_MUTATION_STRATEGY = "hibernate.query.mutation_strategy";
 
+	/**
+	 * When set to a positive number, a multi-table mutation query first selects
+	 * at most one more than the given number of identifiers of the rows it affects.
+	 * If there are no more of them than the given number, the statements against
+	 * each table are restricted on those identifiers, as done by
+	 * {@link org.hibernate.query.sqm.mutation.internal.inline.InlineMutationStrategy}.
+	 * Otherwise, the strategy of the dialect, based on CTEs or temporary tables, is used.
+	 * <p>
+	 * Not used when a {@linkplain #QUERY_MULTI_TABLE_MUTATION_STRATEGY strategy} is
+	 * specified. By default, the strategy of the dialect is always used.
+	 *
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#getMultiTableMutationInlineThreshold()
+	 *
+	 * @since 6.2
+	 */
+	String QUERY_MULTI_TABLE_MUTATION_INLINE_THRESHOLD = "hibernate.query.mutation_strategy.inline_threshold";
+
 	/**
 	 * Defines the "global" strategy to use for handling HQL and Criteria insert queries.
 	 * Specifies a {@link org.hibernate.query.sqm.mutation.spi.SqmMultiTableInsertStrategy}.
@@ -1087,6 +1172,57 @@ public interface AvailableSettings {
 	 */
 	String QUERY_STARTUP_CHECKING = "hibernate.query.startup_check";
 
+	/**
+	 * When enabled, specifies that all named HQL and native queries be interpreted
+	 * and placed in the {@linkplain org.hibernate.query.spi.QueryInterpretationCache
+	 * query interpretation cache} by a background thread, once the
+	 * {@link org.hibernate.SessionFactory} has started.
+	 * <p>
+	 * By default, the interpretation cache is populated lazily, on first use of a
+	 * given query.
+	 *
+	 * @see #QUERY_WARMUP_FILE
+	 *
+	 * @since 6.2
+	 */
+	String QUERY_STARTUP_WARMUP = "hibernate.query.startup_warmup";
+
+	/**
+	 * Specifies a file used to remember the HQL queries held in the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache query
+	 * interpretation cache} across restarts. The queries are written when the
+	 * {@link org.hibernate.SessionFactory} is closed, and are interpreted again
+	 * by the {@linkplain #QUERY_STARTUP_WARMUP startup warm-up} of the next
+	 * {@code SessionFactory} using the same file.
+	 * <p>
+	 * Has no effect unless {@value #QUERY_STARTUP_WARMUP} is enabled.
+	 *
+	 * @since 6.2
+	 */
+	String QUERY_WARMUP_FILE = "hibernate.query.warmup_file";
+
+	/**
+	 * When set to a positive number, the entities returned by
+	 * {@link org.hibernate.query.SelectionQuery#stream()} are
+	 * {@linkplain org.hibernate.Session#evict(Object) evicted} from the
+	 * persistence context, along with their collections and the entities loaded
+	 * with them, once the stream has moved the given number of rows past them.
+	 * This bounds the size of the persistence context when streaming large results.
+	 * <p>
+	 * Changes made to an entity after it was evicted are not flushed, so this
+	 * mode is meant for read-only processing. The eviction is not cascaded, and
+	 * entities which were already associated with the session before the stream
+	 * loaded them are left alone.
+	 * <p>
+	 * By default, streamed entities stay in the persistence context until the
+	 * session is cleared.
+	 *
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#getQueryStreamEvictionWindow()
+	 *
+	 * @since 6.2
+	 */
+	String QUERY_STREAM_EVICTION_WINDOW = "hibernate.query.stream_eviction_window";
+
 	/**
 	 * Enable ordering of update statements by primary key value.
 	 *
@@ -1101,6 +1237,25 @@ public interface AvailableSettings {
 	 */
 	String ORDER_INSERTS = "hibernate.order_inserts";
 
+	/**
+	 * When enabled, the changes to a bag which isn't a one-to-many association are
+	 * written by deleting the rows of the elements it no longer contains and by
+	 * inserting the rows of the additional occurrences of its elements, rather than
+	 * by deleting and reinserting all its rows.
+	 * <p>
+	 * The rows of a bag are located by the value of their element, so the whole bag
+	 * is still recreated when an element which occurred more than once occurs fewer
+	 * times, or when the element is mapped to a formula or to nullable columns of an
+	 * embeddable.
+	 * <p>
+	 * Disabled by default.
+	 *
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#isBagDiffUpdatesEnabled()
+	 *
+	 * @since 6.2
+	 */
+	String BAG_DIFF_UPDATES = "hibernate.bag_diff_updates";
+
 	/**
 	 * JPA callbacks are enabled by default. Set this to {@code false} to disable them.
 	 * Mostly useful to save a bit of memory when they are not used.
@@ -1342,6 +1497,50 @@ public interface AvailableSettings {
 	 */
 	String AUTO_EVICT_COLLECTION_CACHE = "hibernate.cache.auto_evict_collection_cache";
 
+	/**
+	 * When set to a positive number, an HQL {@code update} or {@code delete}
+	 * first selects the identifiers of the rows it affects and, if there are no
+	 * more of them than the given number, only the second-level cache entries of
+	 * those entities and of the collections they own are invalidated. Otherwise,
+	 * the whole entity and collection regions are invalidated.
+	 * <p>
+	 * The natural id regions of the affected entities, and the regions of the
+	 * collections which merely reference them, are always invalidated as a whole.
+	 * <p>
+	 * The identifiers are selected with a {@code for update} clause, locking the
+	 * affected rows until the end of the transaction, so that no other transaction
+	 * modifies them before the {@code update} or {@code delete} runs. This select
+	 * is only executed for entities stored in the second-level cache, and within
+	 * a transaction.
+	 * <p>
+	 * By default, bulk operations invalidate the whole regions, without
+	 * selecting, nor locking, the affected rows.
+	 *
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#getBulkCacheInvalidationThreshold()
+	 *
+	 * @since 6.2
+	 */
+	String BULK_CACHE_INVALIDATION_THRESHOLD = "hibernate.cache.bulk_invalidation_threshold";
+
+	/**
+	 * When set to a positive number, the resolutions of immutable natural ids to
+	 * identifiers are kept, up to the given number of entries per entity, in an
+	 * in-memory map scoped to the {@code SessionFactory}. The map is looked up
+	 * after the session and before the natural id region of the second-level
+	 * cache, without any serialization of the cached values.
+	 * <p>
+	 * The map only sees the deletions, and the bulk operations, of its own
+	 * {@code SessionFactory}, so it is not appropriate when the natural id of a
+	 * deleted entity might be reused by another application.
+	 * <p>
+	 * By default, no such map is kept.
+	 *
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#getNaturalIdResolutionCacheSize()
+	 *
+	 * @since 6.2
+	 */
+	String NATURAL_ID_RESOLUTION_CACHE_SIZE = "hibernate.cache.natural_id_resolution_cache_size";
+
 	/**
 	 * Enable direct storage of entity references into the second level cache when
 	 * applicable. This is appropriate only for immutable entities.
@@ -1405,6 +1604,42 @@ public interface AvailableSettings {
 	 */
 	String PREFERRED_POOLED_OPTIMIZER = "hibernate.id.optimizer.pooled.preferred";
 
+	/**
+	 * Specifies the fraction, between 0 and 1, of a block of values handed out by the
+	 * {@linkplain org.hibernate.id.enhanced.Optimizer optimizer} of a
+	 * {@link org.hibernate.id.enhanced.SequenceStyleGenerator} after which the next
+	 * value of its sequence or table is fetched in the background, on a connection of
+	 * its own, so that the insert which exhausts the block does not have to wait for it.
+	 * <p>
+	 * May also be specified as a parameter of a generator, overriding the global setting.
+	 * <p>
+	 * By default, the next value is fetched when it is needed.
+	 *
+	 * @see #ID_OPTIMIZER_PREFETCH_SIZE
+	 *
+	 * @since 6.2
+	 */
+	@Incubating
+	String ID_OPTIMIZER_PREFETCH_THRESHOLD = "hibernate.id.optimizer.prefetch_threshold";
+
+	/**
+	 * Specifies the number of values fetched at once when the values of a
+	 * {@link org.hibernate.id.enhanced.SequenceStyleGenerator} are fetched in the
+	 * background. A sequence is only read this way if the dialect
+	 * {@linkplain org.hibernate.dialect.sequence.SequenceSupport#supportsSequenceNextValues()
+	 * supports it}, while a table is simply incremented as many times at once.
+	 * <p>
+	 * May also be specified as a parameter of a generator, overriding the global setting.
+	 * <p>
+	 * The default value is {@code 1}.
+	 *
+	 * @see #ID_OPTIMIZER_PREFETCH_THRESHOLD
+	 *
+	 * @since 6.2
+	 */
+	@Incubating
+	String ID_OPTIMIZER_PREFETCH_SIZE = "hibernate.id.optimizer.prefetch_size";
+
 	/**
 	 * When enabled, specifies that {@linkplain QueryPlan query plans} should be
 	 * {@linkplain org.hibernate.query.spi.QueryPlanCache cached}.
@@ -1423,6 +1658,10 @@ public interface AvailableSettings {
 	 * <p>
 	 * The default maximum is
 	 * {@value org.hibernate.query.spi.QueryEngine#DEFAULT_QUERY_PLAN_MAX_COUNT}.
+	 * <p>
+	 * Strictly speaking, the maximum is a total weight: an entry weighs one unit,
+	 * plus one unit per kilobyte of query string, so that very large queries
+	 * count as several entries.
 	 *
 	 * @see org.hibernate.query.spi.QueryPlanCache
 	 */
@@ -1841,6 +2080,53 @@ public interface AvailableSettings {
 	 */
 	String HBM2DDL_JDBC_METADATA_EXTRACTOR_STRATEGY = "hibernate.hbm2ddl.jdbc_metadata_extraction_strategy";
 
+	/**
+	 * Specifies the number of JDBC connections used in parallel by the schema migrator to
+	 * extract the primary keys, foreign keys and indexes of the existing tables, which are
+	 * otherwise read from the {@link java.sql.DatabaseMetaData} one table at a time. With the
+	 * {@linkplain org.hibernate.tool.schema.JdbcMetadaAccessStrategy#INDIVIDUALLY individually}
+	 * strategy, the schema validator uses them to extract the tables and their columns.
+	 * The connections are obtained like the one of the schema management tool.
+	 * <p>
+	 * The default is {@code 1}, meaning the metadata is extracted sequentially using the
+	 * connection of the schema management tool. The metadata is always extracted sequentially
+	 * when a connection is provided through {@value #JAKARTA_HBM2DDL_CONNECTION}.
+	 *
+	 * @since 6.2
+	 */
+	String HBM2DDL_JDBC_METADATA_EXTRACTION_THREADS = "hibernate.hbm2ddl.jdbc_metadata_extraction_threads";
+
+	/**
+	 * Specifies the name of a table holding a fingerprint of the relational model validated
+	 * by the schema validator. The validation is skipped, without validating any table or
+	 * sequence, when the fingerprint of the model matches the one found in this table. The
+	 * validator only reads the table, which must have a single {@code fingerprint} column,
+	 * unless {@value #HBM2DDL_VALIDATION_FINGERPRINT_RECORD} is enabled.
+	 * <p>
+	 * The recorded fingerprint acts as the version of the database schema: any change
+	 * made to the schema outside of Hibernate must delete the row of this table for the
+	 * next validation to be performed.
+	 * <p>
+	 * By default, no fingerprint is read and the schema is always validated.
+	 *
+	 * @since 6.2
+	 */
+	String HBM2DDL_VALIDATION_FINGERPRINT_TABLE = "hibernate.hbm2ddl.validation_fingerprint_table";
+
+	/**
+	 * When enabled, the schema validator records the fingerprint of the validated model in
+	 * the table specified by {@value #HBM2DDL_VALIDATION_FINGERPRINT_TABLE} once the validation
+	 * succeeded. To do so, the validator creates the table if it does not exist, and replaces
+	 * its content by executing a {@code delete} and an {@code insert} statement.
+	 * <p>
+	 * The default is {@code false}, meaning the validator never writes to the database, and
+	 * the fingerprint must be recorded by another process, for example the one migrating the
+	 * schema.
+	 *
+	 * @since 6.2
+	 */
+	String HBM2DDL_VALIDATION_FINGERPRINT_RECORD = "hibernate.hbm2ddl.validation_fingerprint_record";
+
 	/**
 	 * Identifies the delimiter to use to separate schema management statements in script
 	 * outputs.
@@ -2114,6 +2400,19 @@ public interface AvailableSettings {
 	 */
 	String LOG_SLOW_QUERY = "hibernate.session.events.log.LOG_QUERIES_SLOWER_THAN_MS";
 
+	/**
+	 * Specifies the number of distinct "slow" queries, as defined by {@link #LOG_SLOW_QUERY},
+	 * whose execution count and times are aggregated, keeping the slowest ones, and logged
+	 * when the {@link org.hibernate.engine.jdbc.spi.JdbcServices} are stopped.
+	 * <p>
+	 * A value of {@code 0}, the default, disables the aggregation.
+	 *
+	 * @see org.hibernate.engine.jdbc.spi.SqlStatementLogger#getSlowestQueries()
+	 *
+	 * @since 6.2
+	 */
+	String LOG_SLOWEST_QUERIES = "hibernate.log_slowest_queries";
+
 	/**
 	 * Defines a default {@link org.hibernate.SessionEventListener} to be applied to
 	 * newly-opened {@link org.hibernate.Session}s.
@@ -198,7 +198,7 @@ public class PersistentBag<E> extends AbstractPersistentCollection<E> implements
 		return ( (Collection<?>) snapshot ).isEmpty();
 	}
 
-	private int countOccurrences(Object element, List<Object> list, Type elementType) {
+	private int countOccurrences(Object element, List<?> list, Type elementType) {
 		int result = 0;
 		for ( Object listElement : list ) {
 			if ( elementType.isSame( element, listElement ) ) {
@@ -273,7 +273,38 @@ public class PersistentBag<E> extends AbstractPersistentCollection<E> implements
 
 	@Override
 	public boolean needsRecreate(CollectionPersister persister) {
-		return !persister.isOneToMany();
+		return !persister.isOneToMany()
+				&& !( persister.isBagDiffUpdatePossible() && isDiffUpdatePossible( persister.getElementType() ) );
+	}
+
+	/**
+	 * Whether the rows of the bag can be updated by deleting the rows of the elements
+	 * it no longer contains and inserting the rows of the additional occurrences of its
+	 * elements. The rows are deleted by element value, all the occurrences of an element
+	 * at once, so this is not possible when an element occurring more than once in the
+	 * snapshot now occurs fewer times.
+	 */
+	private boolean isDiffUpdatePossible(Type elementType) {
+		final Map<Integer, List<Object>> hashToInstancesSn = groupByEqualityHash( (List<?>) getSnapshot(), elementType );
+		final Map<Integer, List<Object>> hashToInstancesBag = groupByEqualityHash( bag, elementType );
+		if ( hashToInstancesSn.containsKey( null ) || hashToInstancesBag.containsKey( null ) ) {
+			// null elements have no row
+			return false;
+		}
+		for ( Map.Entry<Integer, List<Object>> hashToInstancesSnEntry : hashToInstancesSn.entrySet() ) {
+			final List<Object> instancesSn = hashToInstancesSnEntry.getValue();
+			if ( instancesSn.size() > 1 ) {
+				final List<Object> instancesBag =
+						hashToInstancesBag.getOrDefault( hashToInstancesSnEntry.getKey(), Collections.emptyList() );
+				for ( Object instance : instancesSn ) {
+					final int occurrences = countOccurrences( instance, instancesSn, elementType );
+					if ( occurrences > 1 && countOccurrences( instance, instancesBag, elementType ) < occurrences ) {
+						return false;
+					}
+				}
+			}
+		}
+		return true;
 	}
 
 	// For a one-to-many, a <bag> is not really a bag;
@@ -301,7 +332,8 @@ public class PersistentBag<E> extends AbstractPersistentCollection<E> implements
 			}
 			else {
 				//search for it
-				//note that this code is incorrect for other than one-to-many
+				//note that this code is incorrect when an element occurring
+				//more than once occurs fewer times (see isDiffUpdatePossible())
 				while ( newiter.hasNext() ) {
 					if ( elementType.isSame( old, newiter.next() ) ) {
 						found = true;
@@ -325,14 +357,40 @@ public class PersistentBag<E> extends AbstractPersistentCollection<E> implements
 		}
 		else {
 			//search for it
-			//note that this code is incorrect for other than one-to-many
-			for ( Object old : sn ) {
-				if ( elemType.isSame( old, entry ) ) {
-					return false;
-				}
+			final int occurrences = countOccurrences( entry, sn, elemType );
+			if ( occurrences == 0 ) {
+				return true;
+			}
+			else if ( countOccurrences( entry, bag, elemType ) <= occurrences ) {
+				return false;
+			}
+			else {
+				//the element occurs more often than in the snapshot
+				return isAdditionalOccurrence( entry, i, occurrences, sn, elemType );
+			}
+		}
+	}
+
+	/**
+	 * Whether the occurrence of the element at the given location is one of the occurrences
+	 * added since the snapshot was taken. The occurrences at an unchanged location are the
+	 * ones which were already there, followed by the first occurrences at another location.
+	 */
+	private boolean isAdditionalOccurrence(Object element, int i, int occurrencesSn, List<?> sn, Type elementType) {
+		int existingOccurrences = occurrencesSn;
+		final int size = Math.min( bag.size(), sn.size() );
+		for ( int j = 0; j < size; j++ ) {
+			if ( elementType.isSame( element, bag.get( j ) ) && elementType.isSame( element, sn.get( j ) ) ) {
+				existingOccurrences--;
+			}
+		}
+		for ( int j = 0; j < i; j++ ) {
+			if ( elementType.isSame( element, bag.get( j ) )
+					&& !( j < sn.size() && elementType.isSame( element, sn.get( j ) ) ) ) {
+				existingOccurrences--;
 			}
-			return true;
 		}
+		return existingOccurrences <= 0;
 	}
 
 	@Override
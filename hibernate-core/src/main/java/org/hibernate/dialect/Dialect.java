@@ -81,6 +81,7 @@ import org.hibernate.dialect.unique.DefaultUniqueDelegate;
 import org.hibernate.dialect.unique.UniqueDelegate;
 import org.hibernate.engine.jdbc.LobCreator;
 import org.hibernate.engine.jdbc.Size;
+import org.hibernate.engine.jdbc.batch.spi.BulkLoadChannel;
 import org.hibernate.engine.jdbc.dialect.spi.DialectResolutionInfo;
 import org.hibernate.engine.jdbc.env.internal.DefaultSchemaNameResolver;
 import org.hibernate.engine.jdbc.env.spi.AnsiSqlKeywords;
@@ -3244,6 +3245,19 @@ public abstract class Dialect implements ConversionContext {
 		return 0;
 	}
 
+	/**
+	 * Return the limit that the underlying database places on the number of
+	 * JDBC parameters of a single statement. If the database defines no such
+	 * limit, simply return zero or less-than-zero.
+	 *
+	 * @return int The limit, or zero-or-less to indicate no limit.
+	 *
+	 * @since 6.2
+	 */
+	public int getParameterCountLimit() {
+		return 0;
+	}
+
 	/**
 	 * HHH-4635
 	 * Oracle expects all Lob values to be last in inserts and updates.
@@ -3621,6 +3635,46 @@ public abstract class Dialect implements ConversionContext {
 		return true;
 	}
 
+	/**
+	 * Does this dialect natively support insert statements with several rows
+	 * in the {@code values} clause, of form
+	 * {@code insert into t (a, b) values (?, ?), (?, ?)}?
+	 * <p>
+	 * Unlike {@link #supportsValuesListForInsert()}, this capability may not
+	 * be emulated, since such statements are written directly by the
+	 * persisters when {@value org.hibernate.cfg.AvailableSettings#BATCH_MULTI_ROW_INSERT}
+	 * is enabled.
+	 *
+	 * @return {@code true} if multi-row inserts are supported
+	 *
+	 * @since 6.2
+	 */
+	public boolean supportsMultiRowInsert() {
+		return false;
+	}
+
+	/**
+	 * Open a channel writing rows into the given table through a bulk-load
+	 * facility of the database, or of its JDBC driver, for example
+	 * {@code copy ... from stdin} on PostgreSQL.
+	 * <p>
+	 * The channel is used by {@link org.hibernate.StatelessSession#bulkInsert}.
+	 * When this method returns {@code null}, the rows are inserted using insert
+	 * statements instead.
+	 *
+	 * @param connection The connection to load the rows through
+	 * @param tableName The qualified and quoted name of the table
+	 * @param columnNames The quoted names of the columns of the rows
+	 *
+	 * @return The channel, or {@code null} if the table cannot be bulk-loaded
+	 *
+	 * @since 6.2
+	 */
+	public BulkLoadChannel openBulkLoadChannel(Connection connection, String tableName, List<String> columnNames)
+			throws SQLException {
+		return null;
+	}
+
 	/**
 	 * Does this dialect support {@code SKIP_LOCKED} timeout.
 	 *
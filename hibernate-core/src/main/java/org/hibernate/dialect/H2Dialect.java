@@ -748,6 +748,11 @@ public class H2Dialect extends Dialect {
 		return getVersion().isSameOrAfter( 1, 4, 196 );
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
 	@Override
 	public boolean supportsFetchClause(FetchClauseType type) {
 		return getVersion().isSameOrAfter( 1, 4, 198 );
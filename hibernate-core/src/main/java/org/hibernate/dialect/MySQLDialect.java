@@ -1252,6 +1252,16 @@ public class MySQLDialect extends Dialect {
 		return getMySQLVersion().isSameOrAfter( 8, 0, 14 );
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
+	@Override
+	public int getParameterCountLimit() {
+		return 65_535;
+	}
+
 	@Override
 	public boolean supportsSkipLocked() {
 		return getMySQLVersion().isSameOrAfter( 8 );
@@ -0,0 +1,246 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.dialect;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.TemporalAccessor;
+import java.util.List;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.jdbc.batch.spi.BulkLoadChannel;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.util.ReflectHelper;
+
+import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE;
+import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+import static java.time.format.DateTimeFormatter.ISO_LOCAL_TIME;
+import static java.time.format.DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+import static java.time.format.DateTimeFormatter.ISO_OFFSET_TIME;
+
+/**
+ * A {@link BulkLoadChannel} streaming the rows to a {@code copy ... from stdin}
+ * command, in text format, through the {@code CopyManager} of the PostgreSQL
+ * JDBC driver, which is accessed reflectively.
+ * <p>
+ * The values are written using their textual representation, which PostgreSQL
+ * accepts as input for the types the values are bound as. Temporal values are
+ * written in ISO 8601 format, timestamps with their offset, so that they do not
+ * depend on the time zone of the database session.
+ *
+ * @see PostgreSQLDialect#openBulkLoadChannel
+ */
+class PostgreSQLCopyChannel implements BulkLoadChannel {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( PostgreSQLCopyChannel.class );
+
+	// flush the rows to the driver every 64 KiB
+	private static final int BUFFER_SIZE = 65_536;
+
+	private static final Class<?> PG_CONNECTION_CLASS;
+	private static final Method GET_COPY_API;
+	private static final Method COPY_IN;
+	private static final Method WRITE_TO_COPY;
+	private static final Method END_COPY;
+	private static final Method CANCEL_COPY;
+
+	static {
+		Class<?> pgConnectionClass = null;
+		Method getCopyApi = null;
+		Method copyIn = null;
+		Method writeToCopy = null;
+		Method endCopy = null;
+		Method cancelCopy = null;
+		try {
+			pgConnectionClass = ReflectHelper.classForName( "org.postgresql.PGConnection", PostgreSQLCopyChannel.class );
+			final Class<?> copyManagerClass = ReflectHelper.classForName(
+					"org.postgresql.copy.CopyManager",
+					PostgreSQLCopyChannel.class
+			);
+			final Class<?> copyInClass = ReflectHelper.classForName(
+					"org.postgresql.copy.CopyIn",
+					PostgreSQLCopyChannel.class
+			);
+			getCopyApi = pgConnectionClass.getMethod( "getCopyAPI" );
+			copyIn = copyManagerClass.getMethod( "copyIn", String.class );
+			writeToCopy = copyInClass.getMethod( "writeToCopy", byte[].class, int.class, int.class );
+			endCopy = copyInClass.getMethod( "endCopy" );
+			cancelCopy = copyInClass.getMethod( "cancelCopy" );
+		}
+		catch (Exception e) {
+			LOG.debug( "PostgreSQL JDBC driver copy API is inaccessible, bulk loads will use insert statements", e );
+			pgConnectionClass = null;
+		}
+		PG_CONNECTION_CLASS = pgConnectionClass;
+		GET_COPY_API = getCopyApi;
+		COPY_IN = copyIn;
+		WRITE_TO_COPY = writeToCopy;
+		END_COPY = endCopy;
+		CANCEL_COPY = cancelCopy;
+	}
+
+	private final Object copyIn;
+	private final StringBuilder buffer = new StringBuilder( BUFFER_SIZE );
+
+	private PostgreSQLCopyChannel(Object copyIn) {
+		this.copyIn = copyIn;
+	}
+
+	/**
+	 * @return The channel, or {@code null} if the connection is not one of the PostgreSQL JDBC driver
+	 */
+	static BulkLoadChannel open(Connection connection, String tableName, List<String> columnNames)
+			throws SQLException {
+		if ( PG_CONNECTION_CLASS == null || !connection.isWrapperFor( PG_CONNECTION_CLASS ) ) {
+			return null;
+		}
+		final String sql = "copy " + tableName + " (" + String.join( ", ", columnNames ) + ") from stdin";
+		final Object copyManager = invoke( GET_COPY_API, connection.unwrap( PG_CONNECTION_CLASS ) );
+		return new PostgreSQLCopyChannel( invoke( COPY_IN, copyManager, sql ) );
+	}
+
+	@Override
+	public void writeRow(Object[] values) throws SQLException {
+		for ( int i = 0; i < values.length; i++ ) {
+			if ( i > 0 ) {
+				buffer.append( '\t' );
+			}
+			appendValue( values[i] );
+		}
+		buffer.append( '\n' );
+		if ( buffer.length() >= BUFFER_SIZE ) {
+			flush();
+		}
+	}
+
+	private void appendValue(Object value) {
+		if ( value == null ) {
+			buffer.append( "\\N" );
+		}
+		else if ( value instanceof Boolean ) {
+			buffer.append( (Boolean) value ? 't' : 'f' );
+		}
+		else if ( value instanceof BigDecimal ) {
+			buffer.append( ( (BigDecimal) value ).toPlainString() );
+		}
+		else if ( value instanceof TemporalAccessor ) {
+			appendTemporal( (TemporalAccessor) value );
+		}
+		else if ( value instanceof byte[] ) {
+			// the bytea hex format, with its backslash escaped
+			buffer.append( "\\\\x" );
+			for ( byte b : (byte[]) value ) {
+				buffer.append( Character.forDigit( ( b >> 4 ) & 0xF, 16 ) )
+						.append( Character.forDigit( b & 0xF, 16 ) );
+			}
+		}
+		else {
+			final String string = value.toString();
+			for ( int i = 0; i < string.length(); i++ ) {
+				final char c = string.charAt( i );
+				switch ( c ) {
+					case '\\':
+						buffer.append( "\\\\" );
+						break;
+					case '\t':
+						buffer.append( "\\t" );
+						break;
+					case '\n':
+						buffer.append( "\\n" );
+						break;
+					case '\r':
+						buffer.append( "\\r" );
+						break;
+					default:
+						buffer.append( c );
+				}
+			}
+		}
+	}
+
+	private void appendTemporal(TemporalAccessor value) {
+		if ( value instanceof OffsetDateTime ) {
+			ISO_OFFSET_DATE_TIME.formatTo( value, buffer );
+		}
+		else if ( value instanceof ZonedDateTime ) {
+			ISO_OFFSET_DATE_TIME.formatTo( ( (ZonedDateTime) value ).toOffsetDateTime(), buffer );
+		}
+		else if ( value instanceof Instant ) {
+			ISO_OFFSET_DATE_TIME.formatTo( ( (Instant) value ).atOffset( ZoneOffset.UTC ), buffer );
+		}
+		else if ( value instanceof LocalDateTime ) {
+			ISO_LOCAL_DATE_TIME.formatTo( value, buffer );
+		}
+		else if ( value instanceof LocalDate ) {
+			ISO_LOCAL_DATE.formatTo( value, buffer );
+		}
+		else if ( value instanceof LocalTime ) {
+			ISO_LOCAL_TIME.formatTo( value, buffer );
+		}
+		else if ( value instanceof OffsetTime ) {
+			ISO_OFFSET_TIME.formatTo( value, buffer );
+		}
+		else {
+			buffer.append( value );
+		}
+	}
+
+	private void flush() throws SQLException {
+		final byte[] bytes = buffer.toString().getBytes( StandardCharsets.UTF_8 );
+		buffer.setLength( 0 );
+		invoke( WRITE_TO_COPY, copyIn, bytes, 0, bytes.length );
+	}
+
+	@Override
+	public long finish() throws SQLException {
+		if ( buffer.length() > 0 ) {
+			flush();
+		}
+		return (Long) invoke( END_COPY, copyIn );
+	}
+
+	@Override
+	public void abort() {
+		try {
+			invoke( CANCEL_COPY, copyIn );
+		}
+		catch (SQLException | RuntimeException e) {
+			LOG.debug( "Unable to cancel copy", e );
+		}
+	}
+
+	private static Object invoke(Method method, Object target, Object... args) throws SQLException {
+		try {
+			return method.invoke( target, args );
+		}
+		catch (InvocationTargetException e) {
+			final Throwable cause = e.getCause();
+			if ( cause instanceof SQLException ) {
+				throw (SQLException) cause;
+			}
+			if ( cause instanceof RuntimeException ) {
+				throw (RuntimeException) cause;
+			}
+			throw new HibernateException( "Unable to access the PostgreSQL JDBC driver copy API", cause );
+		}
+		catch (IllegalAccessException e) {
+			throw new HibernateException( "Unable to access the PostgreSQL JDBC driver copy API", e );
+		}
+	}
+}
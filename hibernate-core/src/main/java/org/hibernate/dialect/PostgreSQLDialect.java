@@ -7,6 +7,7 @@
 package org.hibernate.dialect;
 
 import java.sql.CallableStatement;
+import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -33,6 +34,7 @@ import org.hibernate.dialect.pagination.LimitHandler;
 import org.hibernate.dialect.pagination.OffsetFetchLimitHandler;
 import org.hibernate.dialect.sequence.PostgreSQLSequenceSupport;
 import org.hibernate.dialect.sequence.SequenceSupport;
+import org.hibernate.engine.jdbc.batch.spi.BulkLoadChannel;
 import org.hibernate.engine.jdbc.dialect.spi.DialectResolutionInfo;
 import org.hibernate.engine.jdbc.env.spi.IdentifierCaseStrategy;
 import org.hibernate.engine.jdbc.env.spi.IdentifierHelper;
@@ -655,6 +657,24 @@ public class PostgreSQLDialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
+	@Override
+	public BulkLoadChannel openBulkLoadChannel(Connection connection, String tableName, List<String> columnNames)
+			throws SQLException {
+		return driverKind == PostgreSQLDriverKind.PG_JDBC
+				? PostgreSQLCopyChannel.open( connection, tableName, columnNames )
+				: null;
+	}
+
+	@Override
+	public int getParameterCountLimit() {
+		return Short.MAX_VALUE;
+	}
+
 	@Override
 	public boolean supportsPartitionBy() {
 		return true;
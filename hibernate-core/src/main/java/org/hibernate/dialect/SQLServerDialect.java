@@ -552,6 +552,16 @@ public class SQLServerDialect extends AbstractTransactSQLDialect {
 		return PARAM_LIST_SIZE_LIMIT;
 	}
 
+	@Override
+	public int getParameterCountLimit() {
+		return PARAM_LIST_SIZE_LIMIT;
+	}
+
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
 	@Override
 	public IdentityColumnSupport getIdentityColumnSupport() {
 		return new SQLServerIdentityColumnSupport();
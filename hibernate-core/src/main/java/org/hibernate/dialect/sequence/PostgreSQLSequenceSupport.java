@@ -27,6 +27,16 @@ public class PostgreSQLSequenceSupport implements SequenceSupport {
 		return "currval('" + sequenceName + "')";
 	}
 
+	@Override
+	public boolean supportsSequenceNextValues() {
+		return true;
+	}
+
+	@Override
+	public String getSequenceNextValuesString(String sequenceName, int count) {
+		return "select " + getSelectSequenceNextValString( sequenceName ) + " from generate_series(1, " + count + ")";
+	}
+
 	@Override
 	public boolean sometimesNeedsStartingValue() {
 		return true;
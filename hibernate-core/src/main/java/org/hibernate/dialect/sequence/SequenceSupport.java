@@ -112,6 +112,31 @@ public interface SequenceSupport {
 		return getSequenceNextValString( sequenceName );
 	}
 
+	/**
+	 * Does this dialect support retrieving several values of a sequence with a
+	 * single select statement?
+	 *
+	 * @return True if {@link #getSequenceNextValuesString(String, int)} is supported
+	 */
+	default boolean supportsSequenceNextValues() {
+		return false;
+	}
+
+	/**
+	 * Generate the appropriate select statement to retrieve the next {@code count}
+	 * values of a sequence, one per row.
+	 * <p/>
+	 * This should be a stand alone select statement.
+	 *
+	 * @param sequenceName the name of the sequence
+	 * @param count the number of values to retrieve
+	 * @return String The select "next values" statement.
+	 * @throws MappingException If not {@linkplain #supportsSequenceNextValues() supported}.
+	 */
+	default String getSequenceNextValuesString(String sequenceName, int count) throws MappingException {
+		throw new MappingException( getClass().getName() + " does not support retrieving several sequence values at once" );
+	}
+
 	/**
 	 * An optional multi-line form for databases which {@link #supportsPooledSequences()}.
 	 *
@@ -15,6 +15,7 @@ import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.AssertionFailure;
+import org.hibernate.cache.internal.NaturalIdCacheKey;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.CachedNaturalIdValueSource;
@@ -88,8 +89,44 @@ public class NaturalIdResolutionsImpl implements NaturalIdResolutions, Serializa
 		// 'put' stats incrementing.
 		final boolean justAddedLocally = cacheResolution( id, naturalId, entityDescriptor );
 
-		if ( justAddedLocally && naturalIdMapping.getCacheAccess() != null ) {
-			manageSharedResolution( persister, id, naturalId, (Object) null, CachedNaturalIdValueSource.LOAD );
+		if ( justAddedLocally ) {
+			cacheFactoryResolution( id, naturalId, persister );
+			if ( naturalIdMapping.getCacheAccess() != null ) {
+				manageSharedResolution( persister, id, naturalId, (Object) null, CachedNaturalIdValueSource.LOAD );
+			}
+		}
+	}
+
+	/**
+	 * Keep the resolution in the {@linkplain NaturalIdMapping#getResolutionCache() resolution cache}
+	 * of the SessionFactory, if any, once the transaction which read it is committed, since the row
+	 * might not be visible to other transactions before
+	 */
+	private void cacheFactoryResolution(Object id, Object naturalId, EntityPersister persister) {
+		final Map<Object, Object> resolutionCache = persister.getNaturalIdMapping().getResolutionCache();
+		if ( resolutionCache != null ) {
+			final SharedSessionContractImplementor session = session();
+			final NaturalIdCacheKey cacheKey = new NaturalIdCacheKey( naturalId, persister, session );
+			if ( !session.isTransactionInProgress() ) {
+				resolutionCache.put( cacheKey, id );
+			}
+			else if ( session instanceof EventSource ) {
+				( (EventSource) session ).getActionQueue().registerProcess(
+						(success, s) -> {
+							if ( success ) {
+								resolutionCache.put( cacheKey, id );
+							}
+						}
+				);
+			}
+			// else a stateless session, which has no way to know when the transaction completes
+		}
+	}
+
+	private void removeFactoryResolution(Object naturalId, EntityPersister persister) {
+		final Map<Object, Object> resolutionCache = persister.getNaturalIdMapping().getResolutionCache();
+		if ( resolutionCache != null ) {
+			resolutionCache.remove( new NaturalIdCacheKey( naturalId, persister, session() ) );
 		}
 	}
 
@@ -129,6 +166,8 @@ public class NaturalIdResolutionsImpl implements NaturalIdResolutions, Serializa
 		final NaturalIdMapping naturalIdMapping = persister.getNaturalIdMapping();
 		validateNaturalId( persister, naturalId );
 
+		removeFactoryResolution( naturalId, persister );
+
 		final EntityResolutions entityNaturalIdResolutionCache = resolutionsByEntity.get( persister );
 		Object sessionCachedNaturalIdValues = null;
 		if ( entityNaturalIdResolutionCache != null ) {
@@ -389,6 +428,9 @@ public class NaturalIdResolutionsImpl implements NaturalIdResolutions, Serializa
 			return;
 		}
 
+		// the natural-id might be reused by another entity
+		removeFactoryResolution( naturalId, locatePersisterForKey( entityDescriptor.getEntityPersister() ) );
+
 		final NaturalIdDataAccess cacheAccess = naturalIdMapping.getCacheAccess();
 
 		if ( cacheAccess == null ) {
@@ -574,14 +616,34 @@ public class NaturalIdResolutionsImpl implements NaturalIdResolutions, Serializa
 			}
 		}
 
-		// Session cache miss, see if second-level caching is enabled
+		final SharedSessionContractImplementor session = session();
+
+		// Session cache miss, see if the SessionFactory keeps the resolution
+		final Map<Object, Object> resolutionCache = persister.getNaturalIdMapping().getResolutionCache();
+		if ( resolutionCache != null ) {
+			pk = resolutionCache.get( new NaturalIdCacheKey( naturalId, persister, session ) );
+			if ( pk != null ) {
+				if ( LOG.isTraceEnabled() ) {
+					LOG.tracef(
+							"Resolved natural key (%s) -> primary key (%s) resolution in SessionFactory cache for `%s`:",
+							naturalId,
+							pk,
+							entityDescriptor.getEntityName()
+					);
+				}
+
+				cacheResolutionFromSharedCache( persister, entityNaturalIdResolutionCache, pk, cachedNaturalId );
+				return pk;
+			}
+		}
+
+		// see if second-level caching is enabled
 		if ( !persister.hasNaturalIdCache() ) {
 			return null;
 		}
 
 		// Try resolution from second-level cache
 		final NaturalIdDataAccess naturalIdCacheAccessStrategy = persister.getNaturalIdCacheAccessStrategy();
-		final SharedSessionContractImplementor session = session();
 		final Object naturalIdCacheKey = naturalIdCacheAccessStrategy.generateCacheKey( naturalId, persister, session );
 
 		pk = CacheHelper.fromSharedCache( session, naturalIdCacheKey, naturalIdCacheAccessStrategy );
@@ -608,16 +670,8 @@ public class NaturalIdResolutionsImpl implements NaturalIdResolutions, Serializa
 				);
 			}
 
-			if ( entityNaturalIdResolutionCache == null ) {
-				entityNaturalIdResolutionCache = new EntityResolutions( persister, persistenceContext );
-				EntityResolutions existingCache = resolutionsByEntity.putIfAbsent( persister, entityNaturalIdResolutionCache );
-				if ( existingCache != null ) {
-					entityNaturalIdResolutionCache = existingCache;
-				}
-			}
-
-			entityNaturalIdResolutionCache.pkToNaturalIdMap.put( pk, cachedNaturalId );
-			entityNaturalIdResolutionCache.naturalIdToPkMap.put( cachedNaturalId, pk );
+			cacheResolutionFromSharedCache( persister, entityNaturalIdResolutionCache, pk, cachedNaturalId );
+			cacheFactoryResolution( pk, naturalId, persister );
 		}
 		else if ( statisticsEnabled ) {
 			statistics.naturalIdCacheMiss(
@@ -629,6 +683,26 @@ public class NaturalIdResolutionsImpl implements NaturalIdResolutions, Serializa
 		return pk;
 	}
 
+	/**
+	 * Store a resolution found in the SessionFactory or second-level cache in the session cache
+	 */
+	private void cacheResolutionFromSharedCache(
+			EntityPersister persister,
+			EntityResolutions entityNaturalIdResolutionCache,
+			Object pk,
+			Resolution cachedNaturalId) {
+		if ( entityNaturalIdResolutionCache == null ) {
+			entityNaturalIdResolutionCache = new EntityResolutions( persister, persistenceContext );
+			EntityResolutions existingCache = resolutionsByEntity.putIfAbsent( persister, entityNaturalIdResolutionCache );
+			if ( existingCache != null ) {
+				entityNaturalIdResolutionCache = existingCache;
+			}
+		}
+
+		entityNaturalIdResolutionCache.pkToNaturalIdMap.put( pk, cachedNaturalId );
+		entityNaturalIdResolutionCache.naturalIdToPkMap.put( cachedNaturalId, pk );
+	}
+
 	@Override
 	public Collection<?> getCachedPkResolutions(EntityMappingType entityDescriptor) {
 		final EntityPersister persister = locatePersisterForKey( entityDescriptor.getEntityPersister() );
@@ -0,0 +1,173 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BulkLoadChannel;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.resource.jdbc.spi.JdbcObserver;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A {@link MultiRowInsertBatch} which writes the rows queued for each table through the
+ * {@linkplain Dialect#openBulkLoadChannel bulk-load channel} of the dialect, when it has one.
+ * <p>
+ * Otherwise, or when the insert statement binds anything but plain parameters, or binds
+ * values which are not passed as such to the statement, like streams, the rows are inserted
+ * with multi-row insert statements if the dialect {@linkplain Dialect#supportsMultiRowInsert()
+ * supports them}, or else with a JDBC batch.
+ * <p>
+ * The table and columns of each statement are the ones the persister
+ * {@linkplain BulkLoadBatchKey#addTable registered} with the batch key.
+ * <p>
+ * Unlike for a {@link MultiRowInsertBatch}, the number of rows queued before the batch is
+ * executed is only bounded by the JDBC batch size.
+ *
+ * @see BulkLoadBatchKey
+ * @see org.hibernate.StatelessSession#bulkInsert
+ */
+public class BulkLoadBatch extends MultiRowInsertBatch {
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
+			CoreMessageLogger.class,
+			BulkLoadBatch.class.getName()
+	);
+
+	private final Dialect dialect;
+
+	/**
+	 * Constructs a BulkLoadBatch
+	 *
+	 * @param key The batch key
+	 * @param jdbcCoordinator The JDBC jdbcCoordinator
+	 * @param batchSize The maximum number of rows queued before the batch is executed.
+	 */
+	public BulkLoadBatch(BatchKey key, JdbcCoordinator jdbcCoordinator, int batchSize) {
+		super( key, jdbcCoordinator, batchSize, 0 );
+		this.dialect = jdbcServices( jdbcCoordinator ).getDialect();
+	}
+
+	@Override
+	protected void insert(String sql, List<RecordedRow> rows, int parameterCount) {
+		if ( load( sql, rows, parameterCount ) ) {
+			return;
+		}
+
+		if ( dialect.supportsMultiRowInsert() ) {
+			final int parameterCountLimit = dialect.getParameterCountLimit();
+			final int rowsPerStatement = parameterCountLimit > 0 && parameterCount > 0
+					? Math.max( 1, Math.min( MAX_ROWS_PER_STATEMENT, parameterCountLimit / parameterCount ) )
+					: MAX_ROWS_PER_STATEMENT;
+			for ( int i = 0; i < rows.size(); i += rowsPerStatement ) {
+				super.insert( sql, rows.subList( i, Math.min( i + rowsPerStatement, rows.size() ) ), parameterCount );
+			}
+		}
+		else {
+			insertBatched( sql, rows );
+		}
+	}
+
+	/**
+	 * Write the rows through the bulk-load channel of the dialect.
+	 *
+	 * @return {@code false} if the rows could not be written through a channel
+	 */
+	private boolean load(String sql, List<RecordedRow> rows, int parameterCount) {
+		final BulkLoadBatchKey.Table table = getKey() instanceof BulkLoadBatchKey
+				? ( (BulkLoadBatchKey) getKey() ).getTable( sql )
+				: null;
+		if ( table == null || table.getColumnNames().size() != parameterCount ) {
+			// a literal, or a custom write expression
+			return false;
+		}
+		final List<Object[]> values = new ArrayList<>( rows.size() );
+		for ( RecordedRow row : rows ) {
+			final Object[] rowValues = row.getValues( parameterCount );
+			if ( rowValues == null ) {
+				return false;
+			}
+			values.add( rowValues );
+		}
+
+		final String tableName = table.getTableName();
+		final BulkLoadChannel channel;
+		try {
+			channel = dialect.openBulkLoadChannel(
+					jdbcCoordinator.getLogicalConnection().getPhysicalConnection(),
+					tableName,
+					table.getColumnNames()
+			);
+		}
+		catch (SQLException e) {
+			throw sqlExceptionHelper.convert( e, "could not open bulk-load channel", tableName );
+		}
+		if ( channel == null ) {
+			return false;
+		}
+
+		LOG.debugf( "Executing bulk load of %s rows into %s", rows.size(), tableName );
+		try {
+			for ( Object[] rowValues : values ) {
+				channel.writeRow( rowValues );
+			}
+			checkRowCount( Math.toIntExact( channel.finish() ), rows.size() );
+		}
+		catch (SQLException e) {
+			channel.abort();
+			LOG.unableToExecuteBatch( e, sql );
+			throw sqlExceptionHelper.convert( e, "could not execute bulk load", sql );
+		}
+		catch (RuntimeException e) {
+			channel.abort();
+			LOG.unableToExecuteBatch( e, sql );
+			throw e;
+		}
+		return true;
+	}
+
+	private void insertBatched(String sql, List<RecordedRow> rows) {
+		LOG.debugf( "Executing batch size: %s", rows.size() );
+		final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver();
+		final PreparedStatement statement = jdbcCoordinator.getStatementPreparer().prepareStatement( sql, false );
+		try {
+			for ( RecordedRow row : rows ) {
+				row.bind( statement, 0 );
+				statement.addBatch();
+			}
+			final int[] rowCounts;
+			try {
+				observer.jdbcExecuteBatchStart();
+				rowCounts = statement.executeBatch();
+			}
+			finally {
+				observer.jdbcExecuteBatchEnd();
+			}
+			for ( int i = 0; i < rowCounts.length; i++ ) {
+				getKey().getExpectation().verifyOutcome( rowCounts[i], statement, i, sql );
+			}
+		}
+		catch (SQLException e) {
+			LOG.unableToExecuteBatch( e, sql );
+			throw sqlExceptionHelper.convert( e, "could not execute batch", sql );
+		}
+		catch (RuntimeException e) {
+			LOG.unableToExecuteBatch( e, sql );
+			throw e;
+		}
+		finally {
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+			jdbcCoordinator.afterStatementExecution();
+		}
+	}
+}
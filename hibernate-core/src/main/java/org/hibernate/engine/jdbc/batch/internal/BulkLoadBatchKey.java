@@ -0,0 +1,72 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.jdbc.Expectation;
+
+/**
+ * A {@link BasicBatchKey} for inserts which may be written through the
+ * {@linkplain org.hibernate.engine.jdbc.batch.spi.BulkLoadChannel bulk-load channel}
+ * of the dialect by a {@link BulkLoadBatch}.
+ * <p>
+ * Only to be used for generated, non-callable insert statements, with one
+ * statement string per table. The key knows the table and the columns of
+ * each statement which binds a plain parameter for each of its columns.
+ * It is immutable, so that it may be shared by the sessions once built.
+ */
+public class BulkLoadBatchKey extends BasicBatchKey {
+	private final Map<String, Table> tablesByInsertString;
+
+	/**
+	 * Constructs a BulkLoadBatchKey
+	 *
+	 * @param comparison A string used to compare batch keys.
+	 * @param expectation The expectation for the batch
+	 * @param tablesByInsertString The table and the columns of each insert statement
+	 * which binds a plain parameter for each of its columns
+	 */
+	public BulkLoadBatchKey(String comparison, Expectation expectation, Map<String, Table> tablesByInsertString) {
+		super( comparison, expectation );
+		this.tablesByInsertString = Map.copyOf( tablesByInsertString );
+	}
+
+	/**
+	 * The table of an insert statement, or {@code null} if the statement does not
+	 * bind a plain parameter for each of its columns.
+	 */
+	public Table getTable(String insertString) {
+		return tablesByInsertString.get( insertString );
+	}
+
+	/**
+	 * The table and the columns written by an insert statement.
+	 */
+	public static class Table {
+		private final String tableName;
+		private final List<String> columnNames;
+
+		/**
+		 * @param tableName The qualified and quoted name of the table
+		 * @param columnNames The quoted names of the columns, in the order of the parameters
+		 */
+		public Table(String tableName, List<String> columnNames) {
+			this.tableName = tableName;
+			this.columnNames = List.copyOf( columnNames );
+		}
+
+		public String getTableName() {
+			return tableName;
+		}
+
+		public List<String> getColumnNames() {
+			return columnNames;
+		}
+	}
+}
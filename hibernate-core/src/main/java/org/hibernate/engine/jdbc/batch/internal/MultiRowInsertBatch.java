@@ -0,0 +1,425 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.hibernate.HibernateException;
+import org.hibernate.StaleStateException;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.jdbc.Expectations;
+import org.hibernate.jdbc.TooManyRowsAffectedException;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A {@link Batch} which combines the rows queued for an insert statement into
+ * multi-row {@code insert ... values (...), (...)} statements, instead of
+ * relying on {@link PreparedStatement#addBatch()}, which some drivers still
+ * execute row by row on the server.
+ * <p>
+ * The {@linkplain RecordingPreparedStatement statements} handed out by
+ * {@link #getBatchStatement} only record the parameter values bound to them. The values are replayed, shifted by the
+ * number of parameters of a row, on the multi-row statement when the batch
+ * is executed.
+ * <p>
+ * The number of rows of a statement is bounded by the JDBC batch size, and by
+ * the {@linkplain org.hibernate.dialect.Dialect#getParameterCountLimit() limit}
+ * the database places on the number of parameters of a statement.
+ *
+ * @see MultiRowInsertBatchKey
+ * @see org.hibernate.cfg.AvailableSettings#BATCH_MULTI_ROW_INSERT
+ */
+public class MultiRowInsertBatch implements Batch {
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
+			CoreMessageLogger.class,
+			MultiRowInsertBatch.class.getName()
+	);
+
+	/**
+	 * SQL Server limits the row value expressions of a {@code values} clause to
+	 * 1000, and larger statements are not known to pay off on other databases.
+	 */
+	public static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+	private static final String VALUES = ") values (";
+
+	private final BatchKey key;
+	protected final JdbcCoordinator jdbcCoordinator;
+	protected final SqlExceptionHelper sqlExceptionHelper;
+	private final int batchSize;
+	private final int parameterCountLimit;
+
+	// keyed by the single-row insert statement, in table order
+	private final LinkedHashMap<String, PendingInserts> pendingInserts = new LinkedHashMap<>();
+	private final LinkedHashSet<BatchObserver> observers = new LinkedHashSet<>();
+
+	private PendingInserts currentInserts;
+
+	/**
+	 * Constructs a MultiRowInsertBatch
+	 *
+	 * @param key The batch key
+	 * @param jdbcCoordinator The JDBC jdbcCoordinator
+	 * @param batchSize The maximum number of rows of a statement.
+	 */
+	public MultiRowInsertBatch(BatchKey key, JdbcCoordinator jdbcCoordinator, int batchSize) {
+		this(
+				key,
+				jdbcCoordinator,
+				Math.min( batchSize, MAX_ROWS_PER_STATEMENT ),
+				jdbcServices( jdbcCoordinator ).getDialect().getParameterCountLimit()
+		);
+	}
+
+	/**
+	 * Constructs a MultiRowInsertBatch
+	 *
+	 * @param key The batch key
+	 * @param jdbcCoordinator The JDBC jdbcCoordinator
+	 * @param batchSize The maximum number of rows queued before the batch is executed.
+	 * @param parameterCountLimit The maximum number of parameters queued before the batch is
+	 * executed, or zero-or-less for no limit.
+	 */
+	protected MultiRowInsertBatch(
+			BatchKey key,
+			JdbcCoordinator jdbcCoordinator,
+			int batchSize,
+			int parameterCountLimit) {
+		if ( !key.getExpectation().canBeBatched() ) {
+			throw new HibernateException( "attempting to batch an operation which cannot be batched" );
+		}
+		this.key = key;
+		this.jdbcCoordinator = jdbcCoordinator;
+		this.batchSize = batchSize;
+		this.parameterCountLimit = parameterCountLimit;
+		this.sqlExceptionHelper = jdbcServices( jdbcCoordinator ).getSqlExceptionHelper();
+	}
+
+	protected static JdbcServices jdbcServices(JdbcCoordinator jdbcCoordinator) {
+		return jdbcCoordinator.getJdbcSessionOwner()
+				.getJdbcSessionContext()
+				.getServiceRegistry()
+				.getService( JdbcServices.class );
+	}
+
+	@Override
+	public BatchKey getKey() {
+		return key;
+	}
+
+	@Override
+	public void addObserver(BatchObserver observer) {
+		observers.add( observer );
+	}
+
+	@Override
+	public PreparedStatement getBatchStatement(String sql, boolean callable) {
+		if ( sql == null ) {
+			throw new IllegalArgumentException( "sql must be non-null." );
+		}
+		if ( callable ) {
+			throw new HibernateException( "Callable statements cannot be combined into a multi-row insert" );
+		}
+		currentInserts = pendingInserts.computeIfAbsent( sql, PendingInserts::new );
+		return currentInserts.recordingStatement;
+	}
+
+	@Override
+	public void addToBatch() {
+		if ( currentInserts.addRow( batchSize, parameterCountLimit ) ) {
+			for ( BatchObserver observer : observers ) {
+				observer.batchImplicitlyExecuted();
+			}
+			// write all tables, in order, so that the
+			// foreign keys of secondary tables are satisfied
+			performExecution();
+		}
+	}
+
+	@Override
+	public void execute() {
+		for ( BatchObserver observer : observers ) {
+			observer.batchExplicitlyExecuted();
+		}
+		performExecution();
+	}
+
+	private void performExecution() {
+		try {
+			for ( PendingInserts inserts : pendingInserts.values() ) {
+				if ( !inserts.rows.isEmpty() ) {
+					insert( inserts.sql, inserts.rows, inserts.parameterCount );
+				}
+			}
+		}
+		finally {
+			clearPendingInserts();
+		}
+	}
+
+	private void clearPendingInserts() {
+		for ( PendingInserts inserts : pendingInserts.values() ) {
+			inserts.recordingStatement.release();
+		}
+		pendingInserts.clear();
+		currentInserts = null;
+	}
+
+	/**
+	 * Insert the rows queued for a single-row insert statement
+	 */
+	protected void insert(String sql, List<RecordedRow> rows, int parameterCount) {
+		final String multiRowSql = rows.size() == 1 ? sql : multiRowInsertString( sql, rows.size() );
+		if ( multiRowSql == null ) {
+			// not a statement we know how to extend, insert the rows one by one
+			for ( RecordedRow row : rows ) {
+				executeInsert( sql, List.of( row ), parameterCount );
+			}
+		}
+		else {
+			executeInsert( multiRowSql, rows, parameterCount );
+		}
+	}
+
+	private void executeInsert(String multiRowSql, List<RecordedRow> rows, int parameterCount) {
+		LOG.debugf( "Executing multi-row insert of %s rows", rows.size() );
+		final PreparedStatement statement = jdbcCoordinator.getStatementPreparer().prepareStatement( multiRowSql, false );
+		try {
+			int offset = 0;
+			for ( RecordedRow row : rows ) {
+				row.bind( statement, offset );
+				offset += parameterCount;
+			}
+			final int rowCount = jdbcCoordinator.getResultSetReturn().executeUpdate( statement );
+			checkRowCount( rowCount, rows.size() );
+		}
+		catch (SQLException e) {
+			LOG.unableToExecuteBatch( e, multiRowSql );
+			throw sqlExceptionHelper.convert( e, "could not execute multi-row insert", multiRowSql );
+		}
+		catch (RuntimeException e) {
+			LOG.unableToExecuteBatch( e, multiRowSql );
+			throw e;
+		}
+		finally {
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+			jdbcCoordinator.afterStatementExecution();
+		}
+	}
+
+	protected void checkRowCount(int rowCount, int expectedRowCount) {
+		if ( key.getExpectation() == Expectations.NONE || rowCount == Statement.SUCCESS_NO_INFO ) {
+			return;
+		}
+		if ( rowCount < expectedRowCount ) {
+			throw new StaleStateException(
+					"Multi-row insert affected an unexpected row count; actual row count: "
+							+ rowCount + "; expected: " + expectedRowCount
+			);
+		}
+		if ( rowCount > expectedRowCount ) {
+			throw new TooManyRowsAffectedException(
+					"Multi-row insert affected an unexpected row count",
+					expectedRowCount,
+					rowCount
+			);
+		}
+	}
+
+	/**
+	 * Repeat the {@code values} tuple of a single-row insert statement, or
+	 * return {@code null} if the statement does not end with such a tuple.
+	 */
+	static String multiRowInsertString(String sql, int rows) {
+		final int valuesIndex = sql.lastIndexOf( VALUES );
+		if ( valuesIndex < 0 || sql.charAt( sql.length() - 1 ) != ')' ) {
+			return null;
+		}
+		final int tupleIndex = valuesIndex + VALUES.length() - 1;
+		final String tuple = sql.substring( tupleIndex );
+		final StringBuilder buffer = new StringBuilder( tupleIndex + rows * ( tuple.length() + 2 ) );
+		buffer.append( sql, 0, tupleIndex ).append( tuple );
+		for ( int i = 1; i < rows; i++ ) {
+			buffer.append( ", " ).append( tuple );
+		}
+		return buffer.toString();
+	}
+
+	@Override
+	public void release() {
+		if ( !pendingInserts.isEmpty() ) {
+			LOG.batchContainedStatementsOnRelease();
+		}
+		clearPendingInserts();
+		observers.clear();
+	}
+
+	/**
+	 * The rows queued for one single-row insert statement.
+	 */
+	private class PendingInserts {
+		private final String sql;
+		private final RecordingPreparedStatement recordingStatement;
+		private final List<RecordedRow> rows = new ArrayList<>();
+
+		private int parameterCount;
+		private int maxRows;
+
+		private PendingInserts(String sql) {
+			this.sql = sql;
+			this.recordingStatement = new RecordingPreparedStatement( sql, jdbcCoordinator );
+		}
+
+		/**
+		 * @return {@code true} if the statement cannot take another row
+		 */
+		private boolean addRow(int batchSize, int parameterCountLimit) {
+			final RecordedRow currentRow = recordingStatement.takeRow();
+			if ( rows.isEmpty() ) {
+				parameterCount = currentRow.maxParameterIndex;
+				maxRows = parameterCountLimit > 0 && parameterCount > 0
+						? Math.max( 1, Math.min( batchSize, parameterCountLimit / parameterCount ) )
+						: batchSize;
+			}
+			else if ( currentRow.maxParameterIndex != parameterCount ) {
+				throw new HibernateException( "Rows of a multi-row insert must bind the same number of parameters" );
+			}
+			rows.add( currentRow );
+			return rows.size() >= maxRows;
+		}
+	}
+
+	/**
+	 * Binds a recorded parameter value to a statement.
+	 */
+	@FunctionalInterface
+	interface ParameterBinder {
+		void bind(PreparedStatement statement, int position) throws SQLException;
+	}
+
+	/**
+	 * The parameter values bound for one row.
+	 */
+	protected static class RecordedRow {
+		private final List<String> methods = new ArrayList<>();
+		private final List<Object[]> arguments = new ArrayList<>();
+		private final List<ParameterBinder> binders = new ArrayList<>();
+		private int maxParameterIndex;
+
+		/**
+		 * @param method The name of the {@link PreparedStatement} method binding the value
+		 * @param args The arguments of the method, starting with the parameter index
+		 * @param binder Binds the value, at a given position, to the multi-row statement
+		 */
+		void record(String method, Object[] args, ParameterBinder binder) {
+			methods.add( method );
+			arguments.add( args );
+			binders.add( binder );
+			maxParameterIndex = Math.max( maxParameterIndex, (Integer) args[0] );
+		}
+
+		/**
+		 * The values bound for the row, by parameter position, or {@code null} if a value was
+		 * bound by a method which does not just take the value, like the ones binding streams.
+		 * <p>
+		 * The {@link java.sql.Timestamp}, {@link java.sql.Time} and {@link java.sql.Date}
+		 * values are returned as the {@link OffsetDateTime}, {@link LocalTime} and {@link LocalDate}
+		 * the driver would have written, that is, in the time zone of the {@link Calendar}
+		 * they were bound with, or else in the default time zone of the JVM.
+		 */
+		protected Object[] getValues(int parameterCount) {
+			final Object[] values = new Object[parameterCount];
+			for ( int i = 0; i < methods.size(); i++ ) {
+				final Object[] args = arguments.get( i );
+				final int position = (Integer) args[0] - 1;
+				switch ( methods.get( i ) ) {
+					case "setNull":
+						values[position] = null;
+						break;
+					case "setObject":
+						// the optional target SQL type does not change the value
+						values[position] = typedValue( args[1], ZoneId.systemDefault() );
+						break;
+					case "setString":
+					case "setBoolean":
+					case "setByte":
+					case "setShort":
+					case "setInt":
+					case "setLong":
+					case "setFloat":
+					case "setDouble":
+					case "setBigDecimal":
+					case "setBytes":
+						if ( args.length != 2 ) {
+							return null;
+						}
+						values[position] = args[1];
+						break;
+					case "setTimestamp":
+					case "setTime":
+					case "setDate":
+						values[position] = typedValue(
+								args[1],
+								args.length > 2 && args[2] != null
+										? ( (Calendar) args[2] ).getTimeZone().toZoneId()
+										: ZoneId.systemDefault()
+						);
+						break;
+					default:
+						return null;
+				}
+			}
+			return values;
+		}
+
+		/**
+		 * The value the driver would write for a JDBC temporal value bound in the given time zone
+		 */
+		private static Object typedValue(Object value, ZoneId zone) {
+			if ( value instanceof Timestamp ) {
+				return ( (Timestamp) value ).toInstant().atZone( zone ).toOffsetDateTime();
+			}
+			else if ( value instanceof Time ) {
+				return Instant.ofEpochMilli( ( (Time) value ).getTime() ).atZone( zone ).toLocalTime();
+			}
+			else if ( value instanceof Date ) {
+				return Instant.ofEpochMilli( ( (Date) value ).getTime() ).atZone( zone ).toLocalDate();
+			}
+			else {
+				return value;
+			}
+		}
+
+		protected void bind(PreparedStatement statement, int offset) throws SQLException {
+			for ( int i = 0; i < binders.size(); i++ ) {
+				binders.get( i ).bind( statement, (Integer) arguments.get( i )[0] + offset );
+			}
+		}
+	}
+}
@@ -0,0 +1,28 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import org.hibernate.jdbc.Expectation;
+
+/**
+ * A {@link BasicBatchKey} for inserts which may be combined into multi-row
+ * {@code insert ... values (...), (...)} statements by a {@link MultiRowInsertBatch}.
+ * <p>
+ * Only to be used for generated, non-callable insert statements, with one
+ * statement string per table.
+ */
+public class MultiRowInsertBatchKey extends BasicBatchKey {
+	/**
+	 * Constructs a MultiRowInsertBatchKey
+	 *
+	 * @param comparison A string used to compare batch keys.
+	 * @param expectation The expectation for the batch
+	 */
+	public MultiRowInsertBatchKey(String comparison, Expectation expectation) {
+		super( comparison, expectation );
+	}
+}
@@ -0,0 +1,797 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLType;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+
+/**
+ * The statement handed out by a {@link MultiRowInsertBatch} for a single-row insert
+ * statement. The parameter values bound to it are recorded into a
+ * {@link MultiRowInsertBatch.RecordedRow}, to be bound to the multi-row statement
+ * when the batch is executed.
+ * <p>
+ * The methods which only describe the statement are delegated to a statement prepared
+ * for the single-row insert statement, on first use. The methods which would configure or
+ * execute that statement, or give access to the statement of the driver, are rejected,
+ * since its rows are inserted by another statement, which the configuration and the values
+ * bound through a driver-specific API would not reach.
+ */
+class RecordingPreparedStatement implements PreparedStatement {
+	private final String sql;
+	private final JdbcCoordinator jdbcCoordinator;
+
+	private MultiRowInsertBatch.RecordedRow currentRow = new MultiRowInsertBatch.RecordedRow();
+	private PreparedStatement delegate;
+
+	RecordingPreparedStatement(String sql, JdbcCoordinator jdbcCoordinator) {
+		this.sql = sql;
+		this.jdbcCoordinator = jdbcCoordinator;
+	}
+
+	/**
+	 * @return The values bound since the previous call, which are then cleared
+	 */
+	MultiRowInsertBatch.RecordedRow takeRow() {
+		final MultiRowInsertBatch.RecordedRow row = currentRow;
+		currentRow = new MultiRowInsertBatch.RecordedRow();
+		return row;
+	}
+
+	/**
+	 * Release the statement the methods were delegated to, if any.
+	 */
+	void release() {
+		if ( delegate != null ) {
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( delegate );
+			jdbcCoordinator.afterStatementExecution();
+			delegate = null;
+		}
+	}
+
+	private PreparedStatement delegate() {
+		if ( delegate == null ) {
+			delegate = jdbcCoordinator.getStatementPreparer().prepareStatement( sql, false );
+		}
+		return delegate;
+	}
+
+	private SQLException executionNotSupported() {
+		return new SQLException( "The statements of a multi-row insert batch are executed by the batch: " + sql );
+	}
+
+	private SQLException notRecorded(String method) {
+		return new SQLFeatureNotSupportedException(
+				"The statements of a multi-row insert batch only record the parameter values bound through the "
+						+ "standard PreparedStatement methods, " + method + " is not supported: " + sql
+		);
+	}
+
+	private void record(String method, int parameterIndex, MultiRowInsertBatch.ParameterBinder binder, Object... values) {
+		final Object[] arguments = new Object[values.length + 1];
+		arguments[0] = parameterIndex;
+		System.arraycopy( values, 0, arguments, 1, values.length );
+		currentRow.record( method, arguments, binder );
+	}
+
+
+	// parameters ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	@Override
+	public void setNull(int parameterIndex, int sqlType) {
+		record( "setNull", parameterIndex, (statement, position) -> statement.setNull( position, sqlType ), sqlType );
+	}
+
+	@Override
+	public void setNull(int parameterIndex, int sqlType, String typeName) {
+		record(
+				"setNull",
+				parameterIndex,
+				(statement, position) -> statement.setNull( position, sqlType, typeName ),
+				sqlType,
+				typeName
+		);
+	}
+
+	@Override
+	public void setBoolean(int parameterIndex, boolean x) {
+		record( "setBoolean", parameterIndex, (statement, position) -> statement.setBoolean( position, x ), x );
+	}
+
+	@Override
+	public void setByte(int parameterIndex, byte x) {
+		record( "setByte", parameterIndex, (statement, position) -> statement.setByte( position, x ), x );
+	}
+
+	@Override
+	public void setShort(int parameterIndex, short x) {
+		record( "setShort", parameterIndex, (statement, position) -> statement.setShort( position, x ), x );
+	}
+
+	@Override
+	public void setInt(int parameterIndex, int x) {
+		record( "setInt", parameterIndex, (statement, position) -> statement.setInt( position, x ), x );
+	}
+
+	@Override
+	public void setLong(int parameterIndex, long x) {
+		record( "setLong", parameterIndex, (statement, position) -> statement.setLong( position, x ), x );
+	}
+
+	@Override
+	public void setFloat(int parameterIndex, float x) {
+		record( "setFloat", parameterIndex, (statement, position) -> statement.setFloat( position, x ), x );
+	}
+
+	@Override
+	public void setDouble(int parameterIndex, double x) {
+		record( "setDouble", parameterIndex, (statement, position) -> statement.setDouble( position, x ), x );
+	}
+
+	@Override
+	public void setBigDecimal(int parameterIndex, BigDecimal x) {
+		record( "setBigDecimal", parameterIndex, (statement, position) -> statement.setBigDecimal( position, x ), x );
+	}
+
+	@Override
+	public void setString(int parameterIndex, String x) {
+		record( "setString", parameterIndex, (statement, position) -> statement.setString( position, x ), x );
+	}
+
+	@Override
+	public void setNString(int parameterIndex, String value) {
+		record( "setNString", parameterIndex, (statement, position) -> statement.setNString( position, value ), value );
+	}
+
+	@Override
+	public void setBytes(int parameterIndex, byte[] x) {
+		record( "setBytes", parameterIndex, (statement, position) -> statement.setBytes( position, x ), x );
+	}
+
+	@Override
+	public void setDate(int parameterIndex, Date x) {
+		record( "setDate", parameterIndex, (statement, position) -> statement.setDate( position, x ), x );
+	}
+
+	@Override
+	public void setDate(int parameterIndex, Date x, Calendar cal) {
+		record( "setDate", parameterIndex, (statement, position) -> statement.setDate( position, x, cal ), x, cal );
+	}
+
+	@Override
+	public void setTime(int parameterIndex, Time x) {
+		record( "setTime", parameterIndex, (statement, position) -> statement.setTime( position, x ), x );
+	}
+
+	@Override
+	public void setTime(int parameterIndex, Time x, Calendar cal) {
+		record( "setTime", parameterIndex, (statement, position) -> statement.setTime( position, x, cal ), x, cal );
+	}
+
+	@Override
+	public void setTimestamp(int parameterIndex, Timestamp x) {
+		record( "setTimestamp", parameterIndex, (statement, position) -> statement.setTimestamp( position, x ), x );
+	}
+
+	@Override
+	public void setTimestamp(int parameterIndex, Timestamp x, Calendar cal) {
+		record(
+				"setTimestamp",
+				parameterIndex,
+				(statement, position) -> statement.setTimestamp( position, x, cal ),
+				x,
+				cal
+		);
+	}
+
+	@Override
+	public void setObject(int parameterIndex, Object x) {
+		record( "setObject", parameterIndex, (statement, position) -> statement.setObject( position, x ), x );
+	}
+
+	@Override
+	public void setObject(int parameterIndex, Object x, int targetSqlType) {
+		record(
+				"setObject",
+				parameterIndex,
+				(statement, position) -> statement.setObject( position, x, targetSqlType ),
+				x,
+				targetSqlType
+		);
+	}
+
+	@Override
+	public void setObject(int parameterIndex, Object x, int targetSqlType, int scaleOrLength) {
+		record(
+				"setObject",
+				parameterIndex,
+				(statement, position) -> statement.setObject( position, x, targetSqlType, scaleOrLength ),
+				x,
+				targetSqlType,
+				scaleOrLength
+		);
+	}
+
+	@Override
+	public void setObject(int parameterIndex, Object x, SQLType targetSqlType) {
+		record(
+				"setObject",
+				parameterIndex,
+				(statement, position) -> statement.setObject( position, x, targetSqlType ),
+				x,
+				targetSqlType
+		);
+	}
+
+	@Override
+	public void setObject(int parameterIndex, Object x, SQLType targetSqlType, int scaleOrLength) {
+		record(
+				"setObject",
+				parameterIndex,
+				(statement, position) -> statement.setObject( position, x, targetSqlType, scaleOrLength ),
+				x,
+				targetSqlType,
+				scaleOrLength
+		);
+	}
+
+	@Override
+	public void setAsciiStream(int parameterIndex, InputStream x) {
+		record( "setAsciiStream", parameterIndex, (statement, position) -> statement.setAsciiStream( position, x ), x );
+	}
+
+	@Override
+	public void setAsciiStream(int parameterIndex, InputStream x, int length) {
+		record(
+				"setAsciiStream",
+				parameterIndex,
+				(statement, position) -> statement.setAsciiStream( position, x, length ),
+				x,
+				length
+		);
+	}
+
+	@Override
+	public void setAsciiStream(int parameterIndex, InputStream x, long length) {
+		record(
+				"setAsciiStream",
+				parameterIndex,
+				(statement, position) -> statement.setAsciiStream( position, x, length ),
+				x,
+				length
+		);
+	}
+
+	@Override
+	@Deprecated
+	public void setUnicodeStream(int parameterIndex, InputStream x, int length) {
+		record(
+				"setUnicodeStream",
+				parameterIndex,
+				(statement, position) -> statement.setUnicodeStream( position, x, length ),
+				x,
+				length
+		);
+	}
+
+	@Override
+	public void setBinaryStream(int parameterIndex, InputStream x) {
+		record( "setBinaryStream", parameterIndex, (statement, position) -> statement.setBinaryStream( position, x ), x );
+	}
+
+	@Override
+	public void setBinaryStream(int parameterIndex, InputStream x, int length) {
+		record(
+				"setBinaryStream",
+				parameterIndex,
+				(statement, position) -> statement.setBinaryStream( position, x, length ),
+				x,
+				length
+		);
+	}
+
+	@Override
+	public void setBinaryStream(int parameterIndex, InputStream x, long length) {
+		record(
+				"setBinaryStream",
+				parameterIndex,
+				(statement, position) -> statement.setBinaryStream( position, x, length ),
+				x,
+				length
+		);
+	}
+
+	@Override
+	public void setCharacterStream(int parameterIndex, Reader reader) {
+		record(
+				"setCharacterStream",
+				parameterIndex,
+				(statement, position) -> statement.setCharacterStream( position, reader ),
+				reader
+		);
+	}
+
+	@Override
+	public void setCharacterStream(int parameterIndex, Reader reader, int length) {
+		record(
+				"setCharacterStream",
+				parameterIndex,
+				(statement, position) -> statement.setCharacterStream( position, reader, length ),
+				reader,
+				length
+		);
+	}
+
+	@Override
+	public void setCharacterStream(int parameterIndex, Reader reader, long length) {
+		record(
+				"setCharacterStream",
+				parameterIndex,
+				(statement, position) -> statement.setCharacterStream( position, reader, length ),
+				reader,
+				length
+		);
+	}
+
+	@Override
+	public void setNCharacterStream(int parameterIndex, Reader value) {
+		record(
+				"setNCharacterStream",
+				parameterIndex,
+				(statement, position) -> statement.setNCharacterStream( position, value ),
+				value
+		);
+	}
+
+	@Override
+	public void setNCharacterStream(int parameterIndex, Reader value, long length) {
+		record(
+				"setNCharacterStream",
+				parameterIndex,
+				(statement, position) -> statement.setNCharacterStream( position, value, length ),
+				value,
+				length
+		);
+	}
+
+	@Override
+	public void setRef(int parameterIndex, Ref x) {
+		record( "setRef", parameterIndex, (statement, position) -> statement.setRef( position, x ), x );
+	}
+
+	@Override
+	public void setBlob(int parameterIndex, Blob x) {
+		record( "setBlob", parameterIndex, (statement, position) -> statement.setBlob( position, x ), x );
+	}
+
+	@Override
+	public void setBlob(int parameterIndex, InputStream inputStream) {
+		record(
+				"setBlob",
+				parameterIndex,
+				(statement, position) -> statement.setBlob( position, inputStream ),
+				inputStream
+		);
+	}
+
+	@Override
+	public void setBlob(int parameterIndex, InputStream inputStream, long length) {
+		record(
+				"setBlob",
+				parameterIndex,
+				(statement, position) -> statement.setBlob( position, inputStream, length ),
+				inputStream,
+				length
+		);
+	}
+
+	@Override
+	public void setClob(int parameterIndex, Clob x) {
+		record( "setClob", parameterIndex, (statement, position) -> statement.setClob( position, x ), x );
+	}
+
+	@Override
+	public void setClob(int parameterIndex, Reader reader) {
+		record( "setClob", parameterIndex, (statement, position) -> statement.setClob( position, reader ), reader );
+	}
+
+	@Override
+	public void setClob(int parameterIndex, Reader reader, long length) {
+		record(
+				"setClob",
+				parameterIndex,
+				(statement, position) -> statement.setClob( position, reader, length ),
+				reader,
+				length
+		);
+	}
+
+	@Override
+	public void setNClob(int parameterIndex, NClob value) {
+		record( "setNClob", parameterIndex, (statement, position) -> statement.setNClob( position, value ), value );
+	}
+
+	@Override
+	public void setNClob(int parameterIndex, Reader reader) {
+		record( "setNClob", parameterIndex, (statement, position) -> statement.setNClob( position, reader ), reader );
+	}
+
+	@Override
+	public void setNClob(int parameterIndex, Reader reader, long length) {
+		record(
+				"setNClob",
+				parameterIndex,
+				(statement, position) -> statement.setNClob( position, reader, length ),
+				reader,
+				length
+		);
+	}
+
+	@Override
+	public void setArray(int parameterIndex, Array x) {
+		record( "setArray", parameterIndex, (statement, position) -> statement.setArray( position, x ), x );
+	}
+
+	@Override
+	public void setURL(int parameterIndex, URL x) {
+		record( "setURL", parameterIndex, (statement, position) -> statement.setURL( position, x ), x );
+	}
+
+	@Override
+	public void setRowId(int parameterIndex, RowId x) {
+		record( "setRowId", parameterIndex, (statement, position) -> statement.setRowId( position, x ), x );
+	}
+
+	@Override
+	public void setSQLXML(int parameterIndex, SQLXML xmlObject) {
+		record( "setSQLXML", parameterIndex, (statement, position) -> statement.setSQLXML( position, xmlObject ), xmlObject );
+	}
+
+	@Override
+	public void clearParameters() {
+		currentRow = new MultiRowInsertBatch.RecordedRow();
+	}
+
+	@Override
+	public ParameterMetaData getParameterMetaData() throws SQLException {
+		return delegate().getParameterMetaData();
+	}
+
+	@Override
+	public ResultSetMetaData getMetaData() throws SQLException {
+		return delegate().getMetaData();
+	}
+
+
+	// execution ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	@Override
+	public ResultSet executeQuery() throws SQLException {
+		throw executionNotSupported();
+	}
+
+	@Override
+	public int executeUpdate() throws SQLException {
+		throw executionNotSupported();
+	}
+
+	@Override
+	public long executeLargeUpdate() throws SQLException {
+		throw executionNotSupported();
+	}
+
+	@Override
+	public boolean execute() throws SQLException {
+		throw executionNotSupported();
+	}
+
+	@Override
+	public void addBatch() throws SQLException {
+		throw executionNotSupported();
+	}
+
+	@Override
+	public ResultSet executeQuery(String sql) throws SQLException {
+		throw executionNotSupported();
+	}
+
+	@Override
+	public int executeUpdate(String sql) throws SQLException {
+		throw executionNotSupported();
+	}
+
+	@Override
+	public int executeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+		throw executionNotSupported();
+	}
+
+	@Override
+	public int executeUpdate(String sql, int[] columnIndexes) throws SQLException {
+		throw executionNotSupported();
+	}
+
+	@Override
+	public int executeUpdate(String sql, String[] columnNames) throws SQLException {
+		throw executionNotSupported();
+	}
+
+	@Override
+	public long executeLargeUpdate(String sql) throws SQLException {
+		throw executionNotSupported();
+	}
+
+	@Override
+	public long executeLargeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+		throw executionNotSupported();
+	}
+
+	@Override
+	public long executeLargeUpdate(String sql, int[] columnIndexes) throws SQLException {
+		throw executionNotSupported();
+	}
+
+	@Override
+	public long executeLargeUpdate(String sql, String[] columnNames) throws SQLException {
+		throw executionNotSupported();
+	}
+
+	@Override
+	public boolean execute(String sql) throws SQLException {
+		throw executionNotSupported();
+	}
+
+	@Override
+	public boolean execute(String sql, int autoGeneratedKeys) throws SQLException {
+		throw executionNotSupported();
+	}
+
+	@Override
+	public boolean execute(String sql, int[] columnIndexes) throws SQLException {
+		throw executionNotSupported();
+	}
+
+	@Override
+	public boolean execute(String sql, String[] columnNames) throws SQLException {
+		throw executionNotSupported();
+	}
+
+	@Override
+	public void addBatch(String sql) throws SQLException {
+		throw executionNotSupported();
+	}
+
+	@Override
+	public void clearBatch() throws SQLException {
+		throw executionNotSupported();
+	}
+
+	@Override
+	public int[] executeBatch() throws SQLException {
+		throw executionNotSupported();
+	}
+
+	@Override
+	public long[] executeLargeBatch() throws SQLException {
+		throw executionNotSupported();
+	}
+
+	@Override
+	public void cancel() throws SQLException {
+		if ( delegate != null ) {
+			delegate.cancel();
+		}
+	}
+
+
+	// delegated or rejected ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	@Override
+	public Connection getConnection() {
+		// binders use it to create arrays and structs
+		return jdbcCoordinator.getLogicalConnection().getPhysicalConnection();
+	}
+
+	@Override
+	public void close() {
+		// the statement is released by the batch
+	}
+
+	@Override
+	public boolean isClosed() {
+		return false;
+	}
+
+	@Override
+	public int getMaxFieldSize() throws SQLException {
+		return delegate().getMaxFieldSize();
+	}
+
+	@Override
+	public void setMaxFieldSize(int max) throws SQLException {
+		throw notRecorded( "setMaxFieldSize" );
+	}
+
+	@Override
+	public int getMaxRows() throws SQLException {
+		return delegate().getMaxRows();
+	}
+
+	@Override
+	public void setMaxRows(int max) throws SQLException {
+		throw notRecorded( "setMaxRows" );
+	}
+
+	@Override
+	public long getLargeMaxRows() throws SQLException {
+		return delegate().getLargeMaxRows();
+	}
+
+	@Override
+	public void setLargeMaxRows(long max) throws SQLException {
+		throw notRecorded( "setLargeMaxRows" );
+	}
+
+	@Override
+	public void setEscapeProcessing(boolean enable) throws SQLException {
+		throw notRecorded( "setEscapeProcessing" );
+	}
+
+	@Override
+	public int getQueryTimeout() throws SQLException {
+		return delegate().getQueryTimeout();
+	}
+
+	@Override
+	public void setQueryTimeout(int seconds) throws SQLException {
+		throw notRecorded( "setQueryTimeout" );
+	}
+
+	@Override
+	public SQLWarning getWarnings() throws SQLException {
+		return delegate == null ? null : delegate.getWarnings();
+	}
+
+	@Override
+	public void clearWarnings() throws SQLException {
+		if ( delegate != null ) {
+			delegate.clearWarnings();
+		}
+	}
+
+	@Override
+	public void setCursorName(String name) throws SQLException {
+		throw notRecorded( "setCursorName" );
+	}
+
+	@Override
+	public ResultSet getResultSet() throws SQLException {
+		throw executionNotSupported();
+	}
+
+	@Override
+	public int getUpdateCount() throws SQLException {
+		throw executionNotSupported();
+	}
+
+	@Override
+	public long getLargeUpdateCount() throws SQLException {
+		throw executionNotSupported();
+	}
+
+	@Override
+	public boolean getMoreResults() throws SQLException {
+		throw executionNotSupported();
+	}
+
+	@Override
+	public boolean getMoreResults(int current) throws SQLException {
+		throw executionNotSupported();
+	}
+
+	@Override
+	public void setFetchDirection(int direction) throws SQLException {
+		throw notRecorded( "setFetchDirection" );
+	}
+
+	@Override
+	public int getFetchDirection() throws SQLException {
+		return delegate().getFetchDirection();
+	}
+
+	@Override
+	public void setFetchSize(int rows) throws SQLException {
+		throw notRecorded( "setFetchSize" );
+	}
+
+	@Override
+	public int getFetchSize() throws SQLException {
+		return delegate().getFetchSize();
+	}
+
+	@Override
+	public int getResultSetConcurrency() throws SQLException {
+		return delegate().getResultSetConcurrency();
+	}
+
+	@Override
+	public int getResultSetType() throws SQLException {
+		return delegate().getResultSetType();
+	}
+
+	@Override
+	public int getResultSetHoldability() throws SQLException {
+		return delegate().getResultSetHoldability();
+	}
+
+	@Override
+	public ResultSet getGeneratedKeys() throws SQLException {
+		throw executionNotSupported();
+	}
+
+	@Override
+	public void setPoolable(boolean poolable) throws SQLException {
+		throw notRecorded( "setPoolable" );
+	}
+
+	@Override
+	public boolean isPoolable() throws SQLException {
+		return delegate().isPoolable();
+	}
+
+	@Override
+	public void closeOnCompletion() throws SQLException {
+		throw notRecorded( "closeOnCompletion" );
+	}
+
+	@Override
+	public boolean isCloseOnCompletion() throws SQLException {
+		return delegate().isCloseOnCompletion();
+	}
+
+	@Override
+	public <T> T unwrap(Class<T> iface) throws SQLException {
+		if ( iface.isInstance( this ) ) {
+			return iface.cast( this );
+		}
+		// the values bound to the statement of the driver would not be recorded
+		throw notRecorded( "unwrap(" + iface.getName() + ")" );
+	}
+
+	@Override
+	public boolean isWrapperFor(Class<?> iface) {
+		return iface.isInstance( this );
+	}
+
+	@Override
+	public String toString() {
+		return "MultiRowInsertBatch statement [" + sql + "]";
+	}
+}
@@ -21,8 +21,14 @@ final class SharedBatchBuildingCode {
 		final int jdbcBatchSizeToUse = sessionJdbcBatchSize == null ?
 				defaultJdbcBatchSize :
 				sessionJdbcBatchSize;
-		return jdbcBatchSizeToUse > 1
-				? new BatchingBatch( key, jdbcCoordinator, jdbcBatchSizeToUse )
-				: new NonBatchingBatch( key, jdbcCoordinator );
+		if ( jdbcBatchSizeToUse <= 1 ) {
+			return new NonBatchingBatch( key, jdbcCoordinator );
+		}
+		if ( key instanceof BulkLoadBatchKey ) {
+			return new BulkLoadBatch( key, jdbcCoordinator, jdbcBatchSizeToUse );
+		}
+		return key instanceof MultiRowInsertBatchKey
+				? new MultiRowInsertBatch( key, jdbcCoordinator, jdbcBatchSizeToUse )
+				: new BatchingBatch( key, jdbcCoordinator, jdbcBatchSizeToUse );
 	}
 }
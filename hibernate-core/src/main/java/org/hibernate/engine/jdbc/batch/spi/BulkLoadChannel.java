@@ -0,0 +1,46 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.spi;
+
+import java.sql.SQLException;
+
+/**
+ * Writes rows into a table through a bulk-load facility of the database, or of
+ * its JDBC driver, instead of insert statements.
+ * <p>
+ * The values of a row are the ones the persisters would bind to the parameters of
+ * the insert statement, that is, they were already converted by the
+ * {@link org.hibernate.metamodel.mapping.JdbcMapping} of each column. Values which would
+ * be bound as {@link java.sql.Timestamp}, {@link java.sql.Time} or {@link java.sql.Date}
+ * are passed as the {@link java.time.OffsetDateTime}, {@link java.time.LocalTime} or
+ * {@link java.time.LocalDate} the JDBC driver would write, so that a channel does not
+ * depend on the time zone of the JVM, nor of the database session, to write them.
+ *
+ * @see org.hibernate.dialect.Dialect#openBulkLoadChannel
+ *
+ * @since 6.2
+ */
+public interface BulkLoadChannel {
+	/**
+	 * Write a row.
+	 *
+	 * @param values The values of the row, in the order of the columns the channel was opened for
+	 */
+	void writeRow(Object[] values) throws SQLException;
+
+	/**
+	 * Complete the load of the rows written so far.
+	 *
+	 * @return The number of rows loaded
+	 */
+	long finish() throws SQLException;
+
+	/**
+	 * Abandon the load, after a failure to write or finish it.
+	 */
+	void abort();
+}
@@ -12,14 +12,23 @@ import java.sql.Connection;
 import java.sql.Driver;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Enumeration;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -28,6 +37,7 @@ import org.hibernate.Internal;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.dialect.Database;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionPoolStatistics;
 import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
 import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.internal.util.securitymanager.SystemSecurityManager;
@@ -51,7 +61,8 @@ import static org.hibernate.internal.log.ConnectionPoolingLogger.CONNECTIONS_MES
  * @author Steve Ebersole
  */
 public class DriverManagerConnectionProviderImpl
-		implements ConnectionProvider, Configurable, Stoppable, ServiceRegistryAwareService, ConnectionValidator {
+		implements ConnectionProvider, Configurable, Stoppable, ServiceRegistryAwareService, ConnectionValidator,
+				ConnectionPoolStatistics {
 
 	//Thanks to Oleg Varaksin and his article on object pooling using the {@link java.util.concurrent}
 	//package, from which much of the pooling code here is derived.
@@ -61,6 +72,12 @@ public class DriverManagerConnectionProviderImpl
 	public static final String INITIAL_SIZE = "hibernate.connection.initial_pool_size";
 	// in TimeUnit.SECONDS
 	public static final String VALIDATION_INTERVAL = "hibernate.connection.pool_validation_interval";
+	// in TimeUnit.MILLISECONDS
+	public static final String ACQUISITION_TIMEOUT = "hibernate.connection.pool_acquisition_timeout";
+	// in TimeUnit.MILLISECONDS
+	public static final String IDLE_TIMEOUT = "hibernate.connection.pool_idle_timeout";
+	// in TimeUnit.MILLISECONDS, checked on each validation
+	public static final String LEAK_DETECTION_THRESHOLD = "hibernate.connection.pool_leak_detection_threshold";
 	public static final String INIT_SQL ="hibernate.connection.init_sql";
 	public static final String CONNECTION_CREATOR_FACTORY ="hibernate.connection.creator_factory_class";
 
@@ -101,6 +118,13 @@ public class DriverManagerConnectionProviderImpl
 		pooledConnectionBuilder.initialSize( initialSize );
 		pooledConnectionBuilder.minSize( minSize );
 		pooledConnectionBuilder.maxSize( maxSize );
+		pooledConnectionBuilder.acquisitionTimeout(
+				ConfigurationHelper.getLong( ACQUISITION_TIMEOUT, configurationValues, 30_000 )
+		);
+		pooledConnectionBuilder.idleTimeout( ConfigurationHelper.getLong( IDLE_TIMEOUT, configurationValues, 600_000 ) );
+		pooledConnectionBuilder.leakDetectionThreshold(
+				ConfigurationHelper.getLong( LEAK_DETECTION_THRESHOLD, configurationValues, 0 )
+		);
 		pooledConnectionBuilder.validator( this );
 		return pooledConnectionBuilder.build();
 	}
@@ -280,6 +304,7 @@ public class DriverManagerConnectionProviderImpl
 	@Override
 	public boolean isUnwrappableAs(Class<?> unwrapType) {
 		return ConnectionProvider.class.equals( unwrapType ) ||
+				ConnectionPoolStatistics.class.equals( unwrapType ) ||
 				DriverManagerConnectionProviderImpl.class.isAssignableFrom( unwrapType );
 	}
 
@@ -287,6 +312,7 @@ public class DriverManagerConnectionProviderImpl
 	@SuppressWarnings( {"unchecked"})
 	public <T> T unwrap(Class<T> unwrapType) {
 		if ( ConnectionProvider.class.equals( unwrapType ) ||
+				ConnectionPoolStatistics.class.equals( unwrapType ) ||
 				DriverManagerConnectionProviderImpl.class.isAssignableFrom( unwrapType ) ) {
 			return (T) this;
 		}
@@ -296,12 +322,46 @@ public class DriverManagerConnectionProviderImpl
 	}
 
 	protected void validateConnectionsReturned() {
-		int allocationCount = state.pool.allConnections.size() - state.pool.availableConnections.size();
+		int allocationCount = state.pool.getActiveCount();
 		if ( allocationCount != 0 ) {
 			CONNECTIONS_MESSAGE_LOGGER.error( "Connection leak detected: there are " + allocationCount + " unclosed connections");
 		}
 	}
 
+	// statistics ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	// read from the current pool, since it is replaced when the provider is reconfigured
+
+	@Override
+	public int getActiveCount() {
+		return state == null ? 0 : state.pool.getActiveCount();
+	}
+
+	@Override
+	public int getIdleCount() {
+		return state == null ? 0 : state.pool.getIdleCount();
+	}
+
+	@Override
+	public int getWaitingCount() {
+		return state == null ? 0 : state.pool.getWaitingCount();
+	}
+
+	@Override
+	public long getAcquisitionCount() {
+		return state == null ? 0 : state.pool.getAcquisitionCount();
+	}
+
+	@Override
+	public long getAcquisitionTotalTime() {
+		return state == null ? 0 : state.pool.getAcquisitionTotalTime();
+	}
+
+	@Override
+	public long getAcquisitionMaxTime() {
+		return state == null ? 0 : state.pool.getAcquisitionMaxTime();
+	}
+
 	// destroy the pool ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	@Override
@@ -340,16 +400,39 @@ public class DriverManagerConnectionProviderImpl
 		state.pool.releasePooledConnections();
 	}
 
-	public static class PooledConnections {
+	/**
+	 * The connections of the pool.
+	 * <p/>
+	 * A connection may be checked out only by a thread holding one of the {@code maxSize} permits of a
+	 * fair semaphore, so that threads waiting for a connection are served in arrival order, and give up
+	 * after the acquisition timeout. Idle connections are kept most recently used first, so that the
+	 * connections which stay idle at the tail of the queue are the ones evicted by {@link #validate()}.
+	 * <p/>
+	 * A connection is only created once a slot of the {@code maxSize} connections is reserved, since
+	 * the idle connections being validated are not available, but still count towards the maximum.
+	 */
+	public static class PooledConnections implements ConnectionPoolStatistics {
 
-		private final ConcurrentLinkedQueue<Connection> allConnections = new ConcurrentLinkedQueue<>();
-		private final ConcurrentLinkedQueue<Connection> availableConnections = new ConcurrentLinkedQueue<>();
+		private final Set<Connection> allConnections = ConcurrentHashMap.newKeySet();
+		// the connections of allConnections, and the ones being created
+		private final AtomicInteger connectionCount = new AtomicInteger();
+		private final ConcurrentLinkedDeque<IdleConnection> availableConnections = new ConcurrentLinkedDeque<>();
+		private final ConcurrentHashMap<Connection, CheckedOutConnection> checkedOutConnections = new ConcurrentHashMap<>();
+		private final Semaphore permits;
+
+		private final LongAdder acquisitionCount = new LongAdder();
+		// in TimeUnit.NANOSECONDS
+		private final LongAdder acquisitionTotalTime = new LongAdder();
+		private final AtomicLong acquisitionMaxTime = new AtomicLong();
 
 		private final ConnectionCreator connectionCreator;
 		private final ConnectionValidator connectionValidator;
 		private final boolean autoCommit;
 		private final int minSize;
 		private final int maxSize;
+		private final long acquisitionTimeout;
+		private final long idleTimeout;
+		private final long leakDetectionThreshold;
 
 		private volatile boolean primed;
 
@@ -363,11 +446,18 @@ public class DriverManagerConnectionProviderImpl
 			autoCommit = builder.autoCommit;
 			maxSize = builder.maxSize;
 			minSize = builder.minSize;
+			acquisitionTimeout = builder.acquisitionTimeout;
+			idleTimeout = builder.idleTimeout;
+			leakDetectionThreshold = builder.leakDetectionThreshold;
+			permits = new Semaphore( maxSize, true );
 			CONNECTIONS_MESSAGE_LOGGER.hibernateConnectionPoolSize( maxSize, minSize );
 			addConnections( builder.initialSize );
 		}
 
 		public void validate() {
+			validateIdleConnections();
+			detectLeaks();
+
 			final int size = size();
 
 			if ( !primed && size >= minSize ) {
@@ -378,9 +468,11 @@ public class DriverManagerConnectionProviderImpl
 			}
 
 			if ( size < minSize && primed ) {
-				int numberToBeAdded = minSize - size;
-				CONNECTIONS_LOGGER.debugf( "Adding %s Connections to the pool", numberToBeAdded );
-				addConnections( numberToBeAdded );
+				int numberToBeAdded = Math.min( minSize - size, maxSize - connectionCount.get() );
+				if ( numberToBeAdded > 0 ) {
+					CONNECTIONS_LOGGER.debugf( "Adding %s Connections to the pool", numberToBeAdded );
+					addConnections( numberToBeAdded );
+				}
 			}
 			else if ( size > maxSize ) {
 				int numberToBeRemoved = size - maxSize;
@@ -389,10 +481,77 @@ public class DriverManagerConnectionProviderImpl
 			}
 		}
 
+		/**
+		 * Closes the connections idle for longer than the idle timeout, as long as more than
+		 * {@code minSize} connections are idle, and validates the remaining ones.
+		 */
+		private void validateIdleConnections() {
+			final long now = System.nanoTime();
+			// the least recently used connections first, so that they are the ones closed
+			final List<IdleConnection> idleConnections = new ArrayList<>( availableConnections.size() );
+			availableConnections.descendingIterator().forEachRemaining( idleConnections::add );
+			for ( IdleConnection idleConnection : idleConnections ) {
+				// the connection is unavailable while validated, unless it was taken in the meantime
+				if ( !availableConnections.remove( idleConnection ) ) {
+					continue;
+				}
+				if ( idleTimeout > 0 && size() >= minSize
+						&& now - idleConnection.idleSince > TimeUnit.MILLISECONDS.toNanos( idleTimeout ) ) {
+					CONNECTIONS_LOGGER.debug( "Closing idle pooled connection" );
+					closeConnection( idleConnection.connection, null );
+				}
+				else if ( checkIdleConnection( idleConnection.connection ) ) {
+					availableConnections.offerLast( idleConnection );
+				}
+			}
+		}
+
+		private boolean checkIdleConnection(Connection conn) {
+			Exception t = null;
+			try {
+				if ( connectionValidator.isValid( conn ) ) {
+					return true;
+				}
+			}
+			catch (SQLException ex) {
+				t = ex;
+			}
+			closeConnection( conn, t );
+			CONNECTIONS_MESSAGE_LOGGER.debug( "Connection validation failed. Closing pooled connection", t );
+			return false;
+		}
+
+		private void detectLeaks() {
+			if ( leakDetectionThreshold <= 0 ) {
+				return;
+			}
+			final long now = System.nanoTime();
+			for ( CheckedOutConnection checkedOutConnection : checkedOutConnections.values() ) {
+				if ( !checkedOutConnection.leakReported
+						&& now - checkedOutConnection.checkedOutSince > TimeUnit.MILLISECONDS.toNanos( leakDetectionThreshold ) ) {
+					checkedOutConnection.leakReported = true;
+					CONNECTIONS_MESSAGE_LOGGER.connectionLeakDetected(
+							getUrl(),
+							leakDetectionThreshold,
+							checkedOutConnection.acquisitionTrace
+					);
+				}
+			}
+		}
+
 		public void add(Connection conn) throws SQLException {
-			final Connection connection = releaseConnection( conn );
-			if ( connection != null ) {
-				availableConnections.offer( connection );
+			final boolean checkedOut = checkedOutConnections.remove( conn ) != null;
+			try {
+				final Connection connection = releaseConnection( conn );
+				if ( connection != null ) {
+					availableConnections.offerFirst( new IdleConnection( connection ) );
+				}
+			}
+			finally {
+				if ( checkedOut ) {
+					// hands the connection off to the longest waiting thread, if any
+					permits.release();
+				}
 			}
 		}
 
@@ -414,22 +573,78 @@ public class DriverManagerConnectionProviderImpl
 		}
 
 		public Connection poll() throws SQLException {
-			Connection conn;
-			do {
-				conn = availableConnections.poll();
-				if ( conn == null ) {
-					synchronized (allConnections) {
-						if ( allConnections.size() < maxSize ) {
-							addConnections( 1 );
-							return poll();
-						}
-					}
+			final long start = System.nanoTime();
+			acquirePermit();
+			try {
+				Connection conn;
+				do {
+					conn = prepareConnection( takeConnection() );
+				} while ( conn == null );
+				checkedOutConnections.put( conn, new CheckedOutConnection( leakDetectionThreshold > 0 ) );
+				recordAcquisition( System.nanoTime() - start );
+				return conn;
+			}
+			catch (RuntimeException e) {
+				permits.release();
+				throw e;
+			}
+		}
+
+		/**
+		 * Takes an idle connection, or creates one if the pool has not reached its maximum size.
+		 * Otherwise, since this thread holds a permit, one of the connections which are not checked
+		 * out is being validated or closed, and is waited for.
+		 */
+		private Connection takeConnection() {
+			while ( true ) {
+				final IdleConnection idleConnection = availableConnections.pollFirst();
+				if ( idleConnection != null ) {
+					return idleConnection.connection;
+				}
+				if ( reserveConnection() ) {
+					return createConnection();
+				}
+				if ( Thread.currentThread().isInterrupted() ) {
+					throw new HibernateException( "Interrupted while waiting for a connection of the internal connection pool" );
+				}
+				LockSupport.parkNanos( TimeUnit.MILLISECONDS.toNanos( 1 ) );
+			}
+		}
+
+		/**
+		 * @return {@code true} if a connection may be created, without exceeding the maximum size
+		 */
+		private boolean reserveConnection() {
+			for ( int count = connectionCount.get(); count < maxSize; count = connectionCount.get() ) {
+				if ( connectionCount.compareAndSet( count, count + 1 ) ) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		private void acquirePermit() {
+			try {
+				if ( !permits.tryAcquire( acquisitionTimeout, TimeUnit.MILLISECONDS ) ) {
 					throw new HibernateException(
-							"The internal connection pool has reached its maximum size and no connection is currently available" );
+							"The internal connection pool has reached its maximum size and no connection became available within "
+									+ acquisitionTimeout + " ms" );
 				}
-				conn = prepareConnection( conn );
-			} while ( conn == null );
-			return conn;
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new HibernateException( "Interrupted while waiting for a connection of the internal connection pool", e );
+			}
+		}
+
+		private void recordAcquisition(long nanos) {
+			acquisitionCount.increment();
+			acquisitionTotalTime.add( nanos );
+			for ( long old = acquisitionMaxTime.get();
+					nanos > old && !acquisitionMaxTime.compareAndSet( old, nanos );
+					old = acquisitionMaxTime.get() ) {
+				//nothing to do here given the odd loop structure...
+			}
 		}
 
 		protected Connection prepareConnection(Connection conn) {
@@ -459,13 +674,19 @@ public class DriverManagerConnectionProviderImpl
 				}
 			}
 			finally {
-				allConnections.remove( conn );
+				removeConnection( conn );
+			}
+		}
+
+		private void removeConnection(Connection conn) {
+			if ( allConnections.remove( conn ) ) {
+				connectionCount.decrementAndGet();
 			}
 		}
 
 		public void close() throws SQLException {
 			try {
-				int allocationCount = allConnections.size() - availableConnections.size();
+				int allocationCount = getActiveCount();
 				if(allocationCount > 0) {
 					CONNECTIONS_LOGGER.error( "Connection leak detected: there are " + allocationCount + " unclosed connections upon shutting down pool " + getUrl());
 				}
@@ -483,27 +704,45 @@ public class DriverManagerConnectionProviderImpl
 
 		protected void removeConnections(int numberToBeRemoved) {
 			for ( int i = 0; i < numberToBeRemoved; i++ ) {
-				Connection connection = availableConnections.poll();
+				// the least recently used connections
+				IdleConnection idleConnection = availableConnections.pollLast();
+				if ( idleConnection == null ) {
+					return;
+				}
 				try {
-					if ( connection != null ) {
-						connection.close();
-					}
-					allConnections.remove( connection );
+					idleConnection.connection.close();
 				}
 				catch (SQLException e) {
 					CONNECTIONS_MESSAGE_LOGGER.unableToCloseConnection( e );
 				}
+				finally {
+					removeConnection( idleConnection.connection );
+				}
 			}
 		}
 
 		protected void addConnections(int numberOfConnections) {
-			for ( int i = 0; i < numberOfConnections; i++ ) {
-				Connection connection = connectionCreator.createConnection();
-				allConnections.add( connection );
-				availableConnections.add( connection );
+			for ( int i = 0; i < numberOfConnections && reserveConnection(); i++ ) {
+				availableConnections.offerLast( new IdleConnection( createConnection() ) );
 			}
 		}
 
+		/**
+		 * Creates a connection, once {@linkplain #reserveConnection() reserved}.
+		 */
+		private Connection createConnection() {
+			final Connection connection;
+			try {
+				connection = connectionCreator.createConnection();
+			}
+			catch (RuntimeException e) {
+				connectionCount.decrementAndGet();
+				throw e;
+			}
+			allConnections.add( connection );
+			return connection;
+		}
+
 		public String getUrl() {
 			return connectionCreator.getUrl();
 		}
@@ -515,6 +754,58 @@ public class DriverManagerConnectionProviderImpl
 			}
 		}
 
+		@Override
+		public int getActiveCount() {
+			return checkedOutConnections.size();
+		}
+
+		@Override
+		public int getIdleCount() {
+			return size();
+		}
+
+		@Override
+		public int getWaitingCount() {
+			return permits.getQueueLength();
+		}
+
+		@Override
+		public long getAcquisitionCount() {
+			return acquisitionCount.sum();
+		}
+
+		@Override
+		public long getAcquisitionTotalTime() {
+			return TimeUnit.NANOSECONDS.toMillis( acquisitionTotalTime.sum() );
+		}
+
+		@Override
+		public long getAcquisitionMaxTime() {
+			return TimeUnit.NANOSECONDS.toMillis( acquisitionMaxTime.get() );
+		}
+
+		private static class IdleConnection {
+			private final Connection connection;
+			private final long idleSince = System.nanoTime();
+
+			private IdleConnection(Connection connection) {
+				this.connection = connection;
+			}
+		}
+
+		private static class CheckedOutConnection {
+			private final long checkedOutSince = System.nanoTime();
+			// only captured when leak detection is enabled, since it is costly
+			private final Throwable acquisitionTrace;
+			private volatile boolean leakReported;
+
+			private CheckedOutConnection(boolean captureAcquisitionTrace) {
+				this.acquisitionTrace = captureAcquisitionTrace
+						? new Throwable( "Connection acquired here" )
+						: null;
+			}
+		}
+
 		public static class Builder {
 			private final ConnectionCreator connectionCreator;
 			private ConnectionValidator connectionValidator;
@@ -522,6 +813,9 @@ public class DriverManagerConnectionProviderImpl
 			private int initialSize = 1;
 			private int minSize = 1;
 			private int maxSize = 20;
+			private long acquisitionTimeout = 30_000;
+			private long idleTimeout = 600_000;
+			private long leakDetectionThreshold;
 
 			public Builder(ConnectionCreator connectionCreator, boolean autoCommit) {
 				this.connectionCreator = connectionCreator;
@@ -543,6 +837,33 @@ public class DriverManagerConnectionProviderImpl
 				return this;
 			}
 
+			/**
+			 * @param acquisitionTimeout the time, in milliseconds, to wait for a connection when
+			 * the pool has reached its maximum size
+			 */
+			public Builder acquisitionTimeout(long acquisitionTimeout) {
+				this.acquisitionTimeout = acquisitionTimeout;
+				return this;
+			}
+
+			/**
+			 * @param idleTimeout the time, in milliseconds, after which connections idle in excess
+			 * of the minimum size are closed, or {@code 0} to keep them
+			 */
+			public Builder idleTimeout(long idleTimeout) {
+				this.idleTimeout = idleTimeout;
+				return this;
+			}
+
+			/**
+			 * @param leakDetectionThreshold the time, in milliseconds, after which a connection not
+			 * returned to the pool is reported as a possible leak, or {@code 0} to disable the detection
+			 */
+			public Builder leakDetectionThreshold(long leakDetectionThreshold) {
+				this.leakDetectionThreshold = leakDetectionThreshold;
+				return this;
+			}
+
 			public Builder validator(ConnectionValidator connectionValidator) {
 				this.connectionValidator = connectionValidator;
 				return this;
@@ -0,0 +1,47 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.connections.spi;
+
+/**
+ * Statistics of a connection pool, exposed by a {@link ConnectionProvider} which
+ * {@linkplain ConnectionProvider#unwrap unwraps} to this contract, and reported by
+ * {@link org.hibernate.stat.Statistics}.
+ *
+ * @since 6.2
+ */
+public interface ConnectionPoolStatistics {
+	/**
+	 * The number of connections currently checked out of the pool.
+	 */
+	int getActiveCount();
+
+	/**
+	 * The number of connections currently idle in the pool.
+	 */
+	int getIdleCount();
+
+	/**
+	 * The number of threads currently waiting for a connection.
+	 */
+	int getWaitingCount();
+
+	/**
+	 * The number of connections acquired from the pool since it was started.
+	 */
+	long getAcquisitionCount();
+
+	/**
+	 * The total time, in milliseconds, spent acquiring connections from the pool,
+	 * including waiting for a connection to be released or created.
+	 */
+	long getAcquisitionTotalTime();
+
+	/**
+	 * The longest time, in milliseconds, spent acquiring a connection from the pool.
+	 */
+	long getAcquisitionMaxTime();
+}
@@ -24,13 +24,14 @@ import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.service.spi.Configurable;
 import org.hibernate.service.spi.ServiceRegistryAwareService;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.service.spi.Stoppable;
 
 /**
  * Standard implementation of the {@link JdbcServices} contract
  *
  * @author Steve Ebersole
  */
-public class JdbcServicesImpl implements JdbcServices, ServiceRegistryAwareService, Configurable {
+public class JdbcServicesImpl implements JdbcServices, ServiceRegistryAwareService, Configurable, Stoppable {
 	private ServiceRegistryImplementor serviceRegistry;
 	private JdbcEnvironment jdbcEnvironment;
 
@@ -54,8 +55,24 @@ public class JdbcServicesImpl implements JdbcServices, ServiceRegistryAwareServi
 		final boolean formatSQL = ConfigurationHelper.getBoolean( Environment.FORMAT_SQL, configValues, false );
 		final boolean highlightSQL = ConfigurationHelper.getBoolean( Environment.HIGHLIGHT_SQL, configValues, false );
 		final long logSlowQuery = ConfigurationHelper.getLong( Environment.LOG_SLOW_QUERY, configValues, 0 );
+		final int slowestQueryCount = ConfigurationHelper.getInt( Environment.LOG_SLOWEST_QUERIES, configValues, 0 );
+		final boolean logAsync = ConfigurationHelper.getBoolean( Environment.LOG_SQL_ASYNC, configValues, false );
+
+		this.sqlStatementLogger = new SqlStatementLogger(
+				showSQL,
+				formatSQL,
+				highlightSQL,
+				logSlowQuery,
+				slowestQueryCount,
+				logAsync
+		);
+	}
 
-		this.sqlStatementLogger = new SqlStatementLogger( showSQL, formatSQL, highlightSQL, logSlowQuery );
+	@Override
+	public void stop() {
+		if ( sqlStatementLogger != null ) {
+			sqlStatementLogger.stop();
+		}
 	}
 
 	@Override
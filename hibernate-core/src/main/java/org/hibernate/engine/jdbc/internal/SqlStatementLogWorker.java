@@ -0,0 +1,142 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.internal;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+import org.hibernate.internal.CoreLogging;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Performs the logging of SQL statements on a background thread, for
+ * {@value org.hibernate.cfg.AvailableSettings#LOG_SQL_ASYNC}.
+ * <p>
+ * The threads executing statements publish the logging events to a bounded ring buffer, reserving
+ * their slot with a single compare-and-set, and the background thread runs them in publication order.
+ * When the buffer is full, or once the worker is {@linkplain #stop() stopped}, {@link #offer} fails and
+ * the caller logs the statement itself, so that no statement is lost.
+ *
+ * @see org.hibernate.engine.jdbc.spi.SqlStatementLogger
+ */
+public class SqlStatementLogWorker implements Runnable {
+	private static final Logger LOG = CoreLogging.logger( SqlStatementLogWorker.class );
+
+	private static final int CAPACITY = 4096;
+	private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos( 10 );
+	// set on the tail once stopped, so that no slot can be reserved anymore
+	private static final long CLOSED = Long.MIN_VALUE;
+
+	private final AtomicReferenceArray<Runnable> events = new AtomicReferenceArray<>( CAPACITY );
+	// the next slot to publish to, reserved by the producers
+	private final AtomicLong tail = new AtomicLong();
+	// the next slot to consume, only advanced while holding the consumer lock
+	private final AtomicLong head = new AtomicLong();
+	private final Object consumerLock = new Object();
+
+	private final Thread thread;
+	private volatile boolean stopped;
+
+	public SqlStatementLogWorker() {
+		thread = new Thread( this, "Hibernate SQL Statement Logger" );
+		thread.setDaemon( true );
+		thread.start();
+	}
+
+	/**
+	 * Publishes a logging event.
+	 *
+	 * @return {@code false} if the buffer is full or the worker is stopped, in which case the
+	 * caller is expected to perform the logging itself
+	 */
+	public boolean offer(Runnable event) {
+		for ( ;; ) {
+			final long slot = tail.get();
+			if ( ( slot & CLOSED ) != 0 || slot - head.get() >= CAPACITY ) {
+				return false;
+			}
+			if ( tail.compareAndSet( slot, slot + 1 ) ) {
+				events.lazySet( index( slot ), event );
+				return true;
+			}
+		}
+	}
+
+	@Override
+	public void run() {
+		while ( !stopped ) {
+			if ( !drain() ) {
+				LockSupport.parkNanos( this, IDLE_PARK_NANOS );
+			}
+		}
+	}
+
+	/**
+	 * Runs the published events.
+	 *
+	 * @return {@code true} if any event was run
+	 */
+	private boolean drain() {
+		synchronized ( consumerLock ) {
+			return drainEvents();
+		}
+	}
+
+	private boolean drainEvents() {
+		boolean drained = false;
+		for ( ;; ) {
+			final long slot = head.get();
+			final int index = index( slot );
+			final Runnable event = events.get( index );
+			if ( event == null ) {
+				// nothing published yet, or the slot is reserved but not yet written
+				return drained;
+			}
+			events.lazySet( index, null );
+			head.lazySet( slot + 1 );
+			drained = true;
+			try {
+				event.run();
+			}
+			catch (RuntimeException e) {
+				LOG.warn( "Unable to log SQL statement", e );
+			}
+		}
+	}
+
+	/**
+	 * Stops the background thread, and runs the remaining events on the calling thread.
+	 * The events offered afterwards are rejected, to be logged by their caller.
+	 */
+	public void stop() {
+		// no slot can be reserved past this one anymore
+		final long end = tail.getAndUpdate( slot -> slot | CLOSED ) & ~CLOSED;
+		stopped = true;
+		LockSupport.unpark( thread );
+		try {
+			thread.join( TimeUnit.SECONDS.toMillis( 1 ) );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		// the consumer lock keeps a worker thread which did not stop in time from running
+		// the same events, and the slots reserved before the buffer was closed are waited for
+		drain();
+		while ( head.get() < end ) {
+			if ( !drain() ) {
+				Thread.onSpinWait();
+			}
+		}
+	}
+
+	private static int index(long slot) {
+		return (int) ( slot & ( CAPACITY - 1 ) );
+	}
+}
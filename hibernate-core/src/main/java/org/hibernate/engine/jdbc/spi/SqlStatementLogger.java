@@ -8,11 +8,18 @@ package org.hibernate.engine.jdbc.spi;
 
 import org.hibernate.engine.jdbc.internal.FormatStyle;
 import org.hibernate.engine.jdbc.internal.Formatter;
+import org.hibernate.engine.jdbc.internal.SqlStatementLogWorker;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.build.AllowSysOut;
 import org.jboss.logging.Logger;
 
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
@@ -34,6 +41,14 @@ public class SqlStatementLogger {
 	 */
 	private final long logSlowQuery;
 
+	/**
+	 * The number of distinct slow queries to aggregate. 0 - disabled.
+	 */
+	private final int slowestQueryCount;
+	private final Map<String, SlowQuery> slowestQueries;
+
+	private final SqlStatementLogWorker worker;
+
 	/**
 	 * Constructs a new {@code SqlStatementLogger} instance.
 	 */
@@ -71,10 +86,33 @@ public class SqlStatementLogger {
 	 * @param logSlowQuery Should we logs query which executed slower than specified milliseconds. 0 - disabled.
 	 */
 	public SqlStatementLogger(boolean logToStdout, boolean format, boolean highlight, long logSlowQuery) {
+		this( logToStdout, format, highlight, logSlowQuery, 0, false );
+	}
+
+	/**
+	 * Constructs a new {@code SqlStatementLogger} instance.
+	 *
+	 * @param logToStdout Should we log to STDOUT in addition to our internal logger.
+	 * @param format Should we format the statements in the console and log
+	 * @param highlight Should we highlight the statements in the console
+	 * @param logSlowQuery Should we logs query which executed slower than specified milliseconds. 0 - disabled.
+	 * @param slowestQueryCount The number of distinct slow queries to aggregate. 0 - disabled.
+	 * @param async Should we log from a background thread, which must then be {@linkplain #stop() stopped}
+	 */
+	public SqlStatementLogger(
+			boolean logToStdout,
+			boolean format,
+			boolean highlight,
+			long logSlowQuery,
+			int slowestQueryCount,
+			boolean async) {
 		this.logToStdout = logToStdout;
 		this.format = format;
 		this.highlight = highlight;
 		this.logSlowQuery = logSlowQuery;
+		this.slowestQueryCount = logSlowQuery > 0 ? slowestQueryCount : 0;
+		this.slowestQueries = this.slowestQueryCount > 0 ? new HashMap<>() : null;
+		this.worker = async ? new SqlStatementLogWorker() : null;
 	}
 
 	/**
@@ -110,8 +148,20 @@ public class SqlStatementLogger {
 	 * @param statement The SQL statement.
 	 * @param formatter The formatter to use.
 	 */
-	@AllowSysOut
 	public void logStatement(String statement, Formatter formatter) {
+		if ( worker != null ) {
+			if ( !logToStdout && !LOG.isDebugEnabled() ) {
+				return;
+			}
+			if ( worker.offer( () -> doLogStatement( statement, formatter ) ) ) {
+				return;
+			}
+		}
+		doLogStatement( statement, formatter );
+	}
+
+	@AllowSysOut
+	private void doLogStatement(String statement, Formatter formatter) {
 		if ( logToStdout || LOG.isDebugEnabled() ) {
 			try {
 				if ( format ) {
@@ -169,11 +219,130 @@ public class SqlStatementLogger {
 		long queryExecutionMillis = TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - startTimeNanos );
 
 		if ( queryExecutionMillis > logSlowQuery ) {
-			String logData = "SlowQuery: " + queryExecutionMillis + " milliseconds. SQL: '" + sqlSupplier.get() + "'";
+			// the statement may not be usable once executed, so the SQL is read right away
+			final String sql = sqlSupplier.get();
+			if ( worker == null || !worker.offer( () -> doLogSlowQuery( sql, queryExecutionMillis ) ) ) {
+				doLogSlowQuery( sql, queryExecutionMillis );
+			}
+		}
+	}
+
+	@AllowSysOut
+	private void doLogSlowQuery(String sql, long queryExecutionMillis) {
+		String logData = "SlowQuery: " + queryExecutionMillis + " milliseconds. SQL: '" + sql + "'";
+		LOG_SLOW.info( logData );
+		if ( logToStdout ) {
+			System.out.println( logData );
+		}
+		if ( slowestQueries != null ) {
+			recordSlowQuery( sql, queryExecutionMillis );
+		}
+	}
+
+	private synchronized void recordSlowQuery(String sql, long queryExecutionMillis) {
+		SlowQuery slowQuery = slowestQueries.get( sql );
+		if ( slowQuery == null ) {
+			if ( slowestQueries.size() >= slowestQueryCount ) {
+				// only keep the slowest queries
+				SlowQuery fastest = null;
+				for ( SlowQuery candidate : slowestQueries.values() ) {
+					if ( fastest == null || candidate.maxTime < fastest.maxTime ) {
+						fastest = candidate;
+					}
+				}
+				if ( fastest.maxTime >= queryExecutionMillis ) {
+					return;
+				}
+				slowestQueries.remove( fastest.sql );
+			}
+			slowQuery = new SlowQuery( sql );
+			slowestQueries.put( sql, slowQuery );
+		}
+		slowQuery.count++;
+		slowQuery.totalTime += queryExecutionMillis;
+		slowQuery.maxTime = Math.max( slowQuery.maxTime, queryExecutionMillis );
+	}
+
+	/**
+	 * The slowest of the slow queries, slowest first, if
+	 * {@value org.hibernate.cfg.AvailableSettings#LOG_SLOWEST_QUERIES} is enabled.
+	 */
+	public synchronized List<SlowQuery> getSlowestQueries() {
+		if ( slowestQueries == null ) {
+			return Collections.emptyList();
+		}
+		final List<SlowQuery> result = new ArrayList<>( slowestQueries.size() );
+		for ( SlowQuery slowQuery : slowestQueries.values() ) {
+			result.add( slowQuery.copy() );
+		}
+		result.sort( Comparator.comparingLong( SlowQuery::getMaxTime ).reversed() );
+		return result;
+	}
+
+	/**
+	 * Stops the background logging, if any, logging the pending statements, and
+	 * logs the slowest queries.
+	 */
+	@AllowSysOut
+	public void stop() {
+		if ( worker != null ) {
+			worker.stop();
+		}
+		for ( SlowQuery slowQuery : getSlowestQueries() ) {
+			String logData = "SlowestQuery: " + slowQuery.getMaxTime() + " milliseconds max, "
+					+ slowQuery.getTotalTime() + " milliseconds total in " + slowQuery.getCount()
+					+ " slow executions. SQL: '" + slowQuery.getSql() + "'";
 			LOG_SLOW.info( logData );
 			if ( logToStdout ) {
 				System.out.println( logData );
 			}
 		}
 	}
+
+	/**
+	 * The aggregated executions of a slow query.
+	 */
+	public static final class SlowQuery {
+		private final String sql;
+		private long count;
+		private long totalTime;
+		private long maxTime;
+
+		private SlowQuery(String sql) {
+			this.sql = sql;
+		}
+
+		private SlowQuery copy() {
+			final SlowQuery copy = new SlowQuery( sql );
+			copy.count = count;
+			copy.totalTime = totalTime;
+			copy.maxTime = maxTime;
+			return copy;
+		}
+
+		public String getSql() {
+			return sql;
+		}
+
+		/**
+		 * The number of executions slower than the slow query threshold.
+		 */
+		public long getCount() {
+			return count;
+		}
+
+		/**
+		 * The total time of the slow executions, in milliseconds.
+		 */
+		public long getTotalTime() {
+			return totalTime;
+		}
+
+		/**
+		 * The time of the slowest execution, in milliseconds.
+		 */
+		public long getMaxTime() {
+			return maxTime;
+		}
+	}
 }
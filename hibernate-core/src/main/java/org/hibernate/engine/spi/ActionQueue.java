@@ -48,6 +48,7 @@ import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.type.CollectionType;
@@ -610,22 +611,16 @@ public class ActionQueue {
 		//		1) we explicitly iterate list here to perform Executable#execute()
 		//		2) ExecutableList#getQuerySpaces also iterates the Executables to collect query spaces.
 		try {
-			for ( E e : list ) {
-				try {
-					e.execute();
-				}
-				finally {
-					if ( e.getBeforeTransactionCompletionProcess() != null ) {
-						if ( beforeTransactionProcesses == null ) {
-							beforeTransactionProcesses = new BeforeTransactionCompletionProcessQueue( session );
-						}
-						beforeTransactionProcesses.register( e.getBeforeTransactionCompletionProcess() );
+			if ( list == collectionUpdates && session.getConfiguredJdbcBatchSize() > 1 ) {
+				executeCollectionUpdatesByPersister();
+			}
+			else {
+				for ( E e : list ) {
+					try {
+						e.execute();
 					}
-					if ( e.getAfterTransactionCompletionProcess() != null ) {
-						if ( afterTransactionProcesses == null ) {
-							afterTransactionProcesses = new AfterTransactionCompletionProcessQueue( session );
-						}
-						afterTransactionProcesses.register( e.getAfterTransactionCompletionProcess() );
+					finally {
+						registerTransactionCompletionProcesses( e );
 					}
 				}
 			}
@@ -644,6 +639,45 @@ public class ActionQueue {
 		session.getJdbcCoordinator().executeBatch();
 	}
 
+	/**
+	 * Executes the collection updates grouped by collection persister, in the order in
+	 * which each persister first occurs, so that the row operations of all the updated
+	 * collections of a persister share the same JDBC batches.
+	 *
+	 * @see CollectionUpdateAction#execute(List)
+	 */
+	private void executeCollectionUpdatesByPersister() throws HibernateException {
+		final Map<CollectionPersister, List<CollectionUpdateAction>> actionsByPersister = new LinkedHashMap<>();
+		for ( CollectionUpdateAction action : collectionUpdates ) {
+			actionsByPersister.computeIfAbsent( action.getPersister(), persister -> new ArrayList<>() ).add( action );
+		}
+		for ( List<CollectionUpdateAction> actions : actionsByPersister.values() ) {
+			try {
+				CollectionUpdateAction.execute( actions );
+			}
+			finally {
+				for ( CollectionUpdateAction action : actions ) {
+					registerTransactionCompletionProcesses( action );
+				}
+			}
+		}
+	}
+
+	private void registerTransactionCompletionProcesses(Executable executable) {
+		if ( executable.getBeforeTransactionCompletionProcess() != null ) {
+			if ( beforeTransactionProcesses == null ) {
+				beforeTransactionProcesses = new BeforeTransactionCompletionProcessQueue( session );
+			}
+			beforeTransactionProcesses.register( executable.getBeforeTransactionCompletionProcess() );
+		}
+		if ( executable.getAfterTransactionCompletionProcess() != null ) {
+			if ( afterTransactionProcesses == null ) {
+				afterTransactionProcesses = new AfterTransactionCompletionProcessQueue( session );
+			}
+			afterTransactionProcesses.register( executable.getAfterTransactionCompletionProcess() );
+		}
+	}
+
 	private static String[] convertTimestampSpaces(Set<String> spaces) {
 		return spaces.toArray(StringHelper.EMPTY_STRINGS);
 	}
@@ -420,6 +420,19 @@ public interface SharedSessionContractImplementor
 	 */
 	boolean autoFlushIfRequired(Set<String> querySpaces) throws HibernateException;
 
+	/**
+	 * Are inserts currently written through the
+	 * {@linkplain org.hibernate.dialect.Dialect#openBulkLoadChannel bulk-load channel}
+	 * of the dialect, where possible?
+	 *
+	 * @see org.hibernate.StatelessSession#bulkInsert
+	 *
+	 * @since 6.2
+	 */
+	default boolean isBulkLoadInProgress() {
+		return false;
+	}
+
 	default boolean isEnforcingFetchGraph() {
 		return false;
 	}
@@ -22,6 +22,19 @@ public interface AccessCallback {
 	 */
 	IntegralDataTypeHolder getNextValue();
 
+	/**
+	 * Notify the underlying source of the number of values generated from the block of
+	 * values obtained by the last call to {@link #getNextValue()}, allowing it to fetch
+	 * the next value ahead of time.
+	 *
+	 * @param generated The number of values of the current block generated so far
+	 * @param blockSize The number of values of the current block
+	 *
+	 * @see DatabaseStructure#configurePrefetching(double, int)
+	 */
+	default void valuesGenerated(int generated, int blockSize) {
+	}
+
 	/**
 	 * Obtain the tenant identifier (multi-tenancy), if one, associated with this callback.
 	 *
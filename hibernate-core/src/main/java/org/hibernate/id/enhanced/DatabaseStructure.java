@@ -79,6 +79,23 @@ public interface DatabaseStructure extends ExportableProducer {
 		prepare( optimizer );
 	}
 
+	/**
+	 * Enables fetching the next values of this structure in the background, once the
+	 * given fraction of the block of values obtained from the structure was generated
+	 * by the optimizer.
+	 * <p>
+	 * Called just after {@link #configure(Optimizer)}, if prefetching is enabled for
+	 * the generator. By default, the values are always fetched on demand.
+	 *
+	 * @param threshold The fraction of a block of values, between 0 exclusive and 1 inclusive
+	 * @param fetchSize The number of values to fetch at once, if the structure is able to
+	 * fetch several values in a single round trip
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ID_OPTIMIZER_PREFETCH_THRESHOLD
+	 */
+	default void configurePrefetching(double threshold, int fetchSize) {
+	}
+
 	/**
 	 * Register database objects involved in this structure, e.g. sequences, tables, etc.
 	 * <p>
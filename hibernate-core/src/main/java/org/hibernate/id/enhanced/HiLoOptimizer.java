@@ -57,6 +57,8 @@ public class HiLoOptimizer extends AbstractOptimizer {
 		private IntegralDataTypeHolder lastSourceValue;
 		private IntegralDataTypeHolder upperLimit;
 		private IntegralDataTypeHolder value;
+		// the number of values generated from the current bucket
+		private int generated;
 	}
 
 
@@ -96,8 +98,11 @@ public class HiLoOptimizer extends AbstractOptimizer {
 			generationState.lastSourceValue = callback.getNextValue();
 			generationState.upperLimit = generationState.lastSourceValue.copy().multiplyBy( incrementSize ).increment();
 			generationState.value = generationState.upperLimit.copy().subtract( incrementSize );
+			generationState.generated = 0;
 		}
-		return generationState.value.makeValueThenIncrement();
+		final Serializable value = generationState.value.makeValueThenIncrement();
+		callback.valuesGenerated( ++generationState.generated, incrementSize );
+		return value;
 	}
 
 	private GenerationState noTenantState;
@@ -39,6 +39,8 @@ public final class NoopOptimizer extends AbstractOptimizer {
 		// so this is not a concern.
 		IntegralDataTypeHolder value = callback.getNextValue();
 		lastSourceValue = value;
+		// every value is a block of its own
+		callback.valuesGenerated( 1, 1 );
 		return value.makeValue();
 	}
 
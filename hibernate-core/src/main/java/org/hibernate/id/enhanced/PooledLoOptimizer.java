@@ -36,6 +36,8 @@ public class PooledLoOptimizer extends AbstractOptimizer {
 		private IntegralDataTypeHolder value;
 		// the value at which we'll hit the db again
 		private IntegralDataTypeHolder upperLimitValue;
+		// the number of values generated from the current block
+		private int generated;
 	}
 
 	/**
@@ -65,8 +67,11 @@ public class PooledLoOptimizer extends AbstractOptimizer {
 			while ( generationState.value.lt( 1 ) ) {
 				generationState.value.increment();
 			}
+			generationState.generated = 0;
 		}
-		return generationState.value.makeValueThenIncrement();
+		final Serializable value = generationState.value.makeValueThenIncrement();
+		callback.valuesGenerated( ++generationState.generated, incrementSize );
+		return value;
 	}
 
 	private GenerationState noTenantState;
@@ -40,6 +40,8 @@ public class PooledOptimizer extends AbstractOptimizer implements InitialValueAw
 	private static class GenerationState {
 		private IntegralDataTypeHolder hiValue;
 		private IntegralDataTypeHolder value;
+		// the number of values generated from the current block
+		private int generated;
 	}
 
 	private long initialValue = -1;
@@ -91,9 +93,12 @@ public class PooledOptimizer extends AbstractOptimizer implements InitialValueAw
 		else if ( generationState.value.gt( generationState.hiValue ) ) {
 			generationState.hiValue = callback.getNextValue();
 			generationState.value = generationState.hiValue.copy().subtract( incrementSize - 1 );
+			generationState.generated = 0;
 		}
 
-		return generationState.value.makeValueThenIncrement();
+		final Serializable value = generationState.value.makeValueThenIncrement();
+		callback.valuesGenerated( ++generationState.generated, incrementSize );
+		return value;
 	}
 
 	private GenerationState noTenantState;
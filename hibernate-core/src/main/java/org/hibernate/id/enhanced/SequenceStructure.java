@@ -6,9 +6,13 @@
  */
 package org.hibernate.id.enhanced;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.boot.model.relational.Database;
@@ -16,11 +20,16 @@ import org.hibernate.boot.model.relational.Namespace;
 import org.hibernate.boot.model.relational.QualifiedName;
 import org.hibernate.boot.model.relational.Sequence;
 import org.hibernate.boot.model.relational.SqlStringGenerationContext;
+import org.hibernate.dialect.sequence.SequenceSupport;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.id.IntegralDataTypeHolder;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.jdbc.AbstractReturningWork;
+import org.hibernate.resource.transaction.backend.jdbc.internal.JdbcIsolationDelegate;
 
 import org.jboss.logging.Logger;
 
@@ -42,8 +51,10 @@ public class SequenceStructure implements DatabaseStructure {
 	private final Class numberType;
 
 	private String sql;
+	private String prefetchSql;
 	private boolean applyIncrementSizeToSourceValues;
-	private int accessCounter;
+	private final AtomicInteger accessCounter = new AtomicInteger();
+	private ValuePrefetcher prefetcher;
 	protected QualifiedName physicalSequenceName;
 
 	public SequenceStructure(
@@ -73,7 +84,7 @@ public class SequenceStructure implements DatabaseStructure {
 
 	@Override
 	public int getTimesAccessed() {
-		return accessCounter;
+		return accessCounter.get();
 	}
 
 	@Override
@@ -95,7 +106,14 @@ public class SequenceStructure implements DatabaseStructure {
 		return new AccessCallback() {
 			@Override
 			public IntegralDataTypeHolder getNextValue() {
-				accessCounter++;
+				if ( prefetcher != null && session.getTenantIdentifier() == null ) {
+					final IntegralDataTypeHolder value = prefetcher.poll();
+					if ( value != null ) {
+						return value;
+					}
+				}
+
+				accessCounter.incrementAndGet();
 				try {
 					final PreparedStatement st = session.getJdbcCoordinator().getStatementPreparer().prepareStatement( sql );
 					try {
@@ -133,6 +151,14 @@ public class SequenceStructure implements DatabaseStructure {
 				}
 			}
 
+			@Override
+			public void valuesGenerated(int generated, int blockSize) {
+				// the values of a tenant are fetched using a connection of that tenant only
+				if ( prefetcher != null && session.getTenantIdentifier() == null ) {
+					prefetcher.valuesGenerated( generated, blockSize, session.getFactory() );
+				}
+			}
+
 			@Override
 			public String getTenantIdentifier() {
 				return session.getTenantIdentifier();
@@ -140,11 +166,50 @@ public class SequenceStructure implements DatabaseStructure {
 		};
 	}
 
+	/**
+	 * Fetch the next values of the sequence on a connection of its own, outside of any
+	 * transaction, several at once if the dialect supports it.
+	 */
+	private List<IntegralDataTypeHolder> fetchNextValues(SessionFactoryImplementor factory) {
+		final JdbcServices jdbcServices = factory.getJdbcServices();
+		return new JdbcIsolationDelegate(
+				jdbcServices.getBootstrapJdbcConnectionAccess(),
+				jdbcServices.getSqlExceptionHelper()
+		).delegateWork(
+				new AbstractReturningWork<List<IntegralDataTypeHolder>>() {
+					@Override
+					public List<IntegralDataTypeHolder> execute(Connection connection) throws SQLException {
+						jdbcServices.getSqlStatementLogger().logStatement( prefetchSql );
+						try ( PreparedStatement st = connection.prepareStatement( prefetchSql );
+								ResultSet rs = st.executeQuery() ) {
+							final List<IntegralDataTypeHolder> values = new ArrayList<>( prefetcher.getFetchSize() );
+							while ( rs.next() ) {
+								final IntegralDataTypeHolder value = IdentifierGeneratorHelper.getIntegralDataTypeHolder( numberType );
+								value.initialize( rs, 1 );
+								values.add( value );
+							}
+							accessCounter.incrementAndGet();
+							if ( LOG.isDebugEnabled() ) {
+								LOG.debugf( "Sequence values prefetched: %s", values.size() );
+							}
+							return values;
+						}
+					}
+				},
+				false
+		);
+	}
+
 	@Override
 	public void configure(Optimizer optimizer) {
 		applyIncrementSizeToSourceValues = optimizer.applyIncrementSizeToSourceValues();
 	}
 
+	@Override
+	public void configurePrefetching(double threshold, int fetchSize) {
+		prefetcher = new ValuePrefetcher( threshold, fetchSize, this::fetchNextValues );
+	}
+
 	@Override
 	public void registerExportables(Database database) {
 		buildSequence( database );
@@ -152,7 +217,13 @@ public class SequenceStructure implements DatabaseStructure {
 
 	@Override
 	public void initialize(SqlStringGenerationContext context) {
-		this.sql = context.getDialect().getSequenceSupport().getSequenceNextValString( context.format( physicalSequenceName ) );
+		final SequenceSupport sequenceSupport = context.getDialect().getSequenceSupport();
+		this.sql = sequenceSupport.getSequenceNextValString( context.format( physicalSequenceName ) );
+		if ( prefetcher != null ) {
+			this.prefetchSql = prefetcher.getFetchSize() > 1 && sequenceSupport.supportsSequenceNextValues()
+					? sequenceSupport.getSequenceNextValuesString( context.format( physicalSequenceName ), prefetcher.getFetchSize() )
+					: sql;
+		}
 	}
 
 	@Override
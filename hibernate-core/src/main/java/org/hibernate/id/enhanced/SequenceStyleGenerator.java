@@ -36,6 +36,8 @@ import org.hibernate.type.Type;
 import org.jboss.logging.Logger;
 
 import static org.hibernate.cfg.AvailableSettings.ID_DB_STRUCTURE_NAMING_STRATEGY;
+import static org.hibernate.cfg.AvailableSettings.ID_OPTIMIZER_PREFETCH_SIZE;
+import static org.hibernate.cfg.AvailableSettings.ID_OPTIMIZER_PREFETCH_THRESHOLD;
 import static org.hibernate.internal.log.IncubationLogger.INCUBATION_LOGGER;
 import static org.hibernate.internal.util.NullnessHelper.coalesceSuppliedValues;
 
@@ -256,6 +258,49 @@ public class SequenceStyleGenerator
 				ConfigurationHelper.getInt( INITIAL_PARAM, params, -1 )
 		);
 		this.databaseStructure.configure( optimizer );
+
+		final double prefetchThreshold = determinePrefetchThreshold( params, configurationService );
+		if ( prefetchThreshold > 0 ) {
+			this.databaseStructure.configurePrefetching(
+					prefetchThreshold,
+					ConfigurationHelper.getInt(
+							ID_OPTIMIZER_PREFETCH_SIZE,
+							params,
+							ConfigurationHelper.getInt( ID_OPTIMIZER_PREFETCH_SIZE, configurationService.getSettings(), 1 )
+					)
+			);
+		}
+	}
+
+	/**
+	 * Determine the fraction of a block of values after which the next value of the
+	 * database structure is fetched in the background, from the generator config,
+	 * or else from the global setting.
+	 *
+	 * @return The fraction, or 0 if the values are not prefetched
+	 *
+	 * @see AvailableSettings#ID_OPTIMIZER_PREFETCH_THRESHOLD
+	 */
+	protected double determinePrefetchThreshold(Properties params, ConfigurationService configurationService) {
+		final String threshold = ConfigurationHelper.getString(
+				ID_OPTIMIZER_PREFETCH_THRESHOLD,
+				params,
+				() -> ConfigurationHelper.getString( ID_OPTIMIZER_PREFETCH_THRESHOLD, configurationService.getSettings() )
+		);
+		if ( StringHelper.isEmpty( threshold ) ) {
+			return 0;
+		}
+		final double fraction = Double.parseDouble( threshold.trim() );
+		if ( fraction < 0 || fraction > 1 ) {
+			throw new MappingException(
+					String.format(
+							"The value of [%s] must be a fraction between 0 and 1, but was [%s]",
+							ID_OPTIMIZER_PREFETCH_THRESHOLD,
+							threshold
+					)
+			);
+		}
+		return fraction;
 	}
 
 	@Override
@@ -10,6 +10,9 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.LockMode;
@@ -21,11 +24,13 @@ import org.hibernate.boot.model.relational.Namespace;
 import org.hibernate.boot.model.relational.QualifiedName;
 import org.hibernate.boot.model.relational.SqlStringGenerationContext;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.internal.SessionEventListenerManagerImpl;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.internal.FormatStyle;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 import org.hibernate.engine.spi.SessionEventListenerManager;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.id.ExportableColumn;
 import org.hibernate.id.IdentifierGenerationException;
@@ -34,6 +39,7 @@ import org.hibernate.id.IntegralDataTypeHolder;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.jdbc.AbstractReturningWork;
 import org.hibernate.mapping.Table;
+import org.hibernate.resource.transaction.backend.jdbc.internal.JdbcIsolationDelegate;
 import org.hibernate.type.StandardBasicTypes;
 
 import org.jboss.logging.Logger;
@@ -64,7 +70,8 @@ public class TableStructure implements DatabaseStructure {
 	private String updateQuery;
 
 	private boolean applyIncrementSizeToSourceValues;
-	private int accessCounter;
+	private final AtomicInteger accessCounter = new AtomicInteger();
+	private ValuePrefetcher prefetcher;
 
 
 	public TableStructure(
@@ -101,7 +108,7 @@ public class TableStructure implements DatabaseStructure {
 
 	@Override
 	public int getTimesAccessed() {
-		return accessCounter;
+		return accessCounter.get();
 	}
 
 	@Override
@@ -114,6 +121,11 @@ public class TableStructure implements DatabaseStructure {
 		applyIncrementSizeToSourceValues = optimizer.applyIncrementSizeToSourceValues();
 	}
 
+	@Override
+	public void configurePrefetching(double threshold, int fetchSize) {
+		prefetcher = new ValuePrefetcher( threshold, fetchSize, this::fetchNextValues );
+	}
+
 	private IntegralDataTypeHolder makeValue() {
 		return IdentifierGeneratorHelper.getIntegralDataTypeHolder( numberType );
 	}
@@ -132,59 +144,25 @@ public class TableStructure implements DatabaseStructure {
 		return new AccessCallback() {
 			@Override
 			public IntegralDataTypeHolder getNextValue() {
+				if ( prefetcher != null && session.getTenantIdentifier() == null ) {
+					final IntegralDataTypeHolder value = prefetcher.poll();
+					if ( value != null ) {
+						return value;
+					}
+				}
+
 				return session.getTransactionCoordinator().createIsolationDelegate().delegateWork(
-						new AbstractReturningWork<IntegralDataTypeHolder>() {
-							@Override
-							public IntegralDataTypeHolder execute(Connection connection) throws SQLException {
-								final IntegralDataTypeHolder value = makeValue();
-								int rows;
-								do {
-									try (PreparedStatement selectStatement = prepareStatement(
-											connection,
-											selectQuery,
-											statementLogger,
-											statsCollector
-									)) {
-										final ResultSet selectRS = executeQuery( selectStatement, statsCollector );
-										if ( !selectRS.next() ) {
-											final String err = "could not read a hi value - you need to populate the table: " + physicalTableName;
-											LOG.error( err );
-											throw new IdentifierGenerationException( err );
-										}
-										value.initialize( selectRS, 1 );
-										selectRS.close();
-									}
-									catch (SQLException sqle) {
-										LOG.error( "could not read a hi value", sqle );
-										throw sqle;
-									}
-
-
-									try (PreparedStatement updatePS = prepareStatement(
-											connection,
-											updateQuery,
-											statementLogger,
-											statsCollector
-									)) {
-										final int increment = applyIncrementSizeToSourceValues ? incrementSize : 1;
-										final IntegralDataTypeHolder updateValue = value.copy().add( increment );
-										updateValue.bind( updatePS, 1 );
-										value.bind( updatePS, 2 );
-										rows = executeUpdate( updatePS, statsCollector );
-									}
-									catch (SQLException e) {
-										LOG.unableToUpdateQueryHiValue( physicalTableName.render(), e );
-										throw e;
-									}
-								} while ( rows == 0 );
-
-								accessCounter++;
-
-								return value;
-							}
-						},
+						nextValuesWork( 1, statementLogger, statsCollector ),
 						true
-				);
+				).get( 0 );
+			}
+
+			@Override
+			public void valuesGenerated(int generated, int blockSize) {
+				// the values of a tenant are fetched using a connection of that tenant only
+				if ( prefetcher != null && session.getTenantIdentifier() == null ) {
+					prefetcher.valuesGenerated( generated, blockSize, session.getFactory() );
+				}
 			}
 
 			@Override
@@ -194,6 +172,88 @@ public class TableStructure implements DatabaseStructure {
 		};
 	}
 
+	/**
+	 * Fetch the next values in a transaction of their own, on a connection of its own.
+	 */
+	private List<IntegralDataTypeHolder> fetchNextValues(SessionFactoryImplementor factory) {
+		final JdbcServices jdbcServices = factory.getJdbcServices();
+		return new JdbcIsolationDelegate(
+				jdbcServices.getBootstrapJdbcConnectionAccess(),
+				jdbcServices.getSqlExceptionHelper()
+		).delegateWork(
+				nextValuesWork(
+						prefetcher.getFetchSize(),
+						jdbcServices.getSqlStatementLogger(),
+						new SessionEventListenerManagerImpl()
+				),
+				true
+		);
+	}
+
+	/**
+	 * Reserves the next {@code count} values at once, by applying the increment as many times.
+	 */
+	private AbstractReturningWork<List<IntegralDataTypeHolder>> nextValuesWork(
+			int count,
+			SqlStatementLogger statementLogger,
+			SessionEventListenerManager statsCollector) {
+		return new AbstractReturningWork<List<IntegralDataTypeHolder>>() {
+			@Override
+			public List<IntegralDataTypeHolder> execute(Connection connection) throws SQLException {
+				final int increment = applyIncrementSizeToSourceValues ? incrementSize : 1;
+				final IntegralDataTypeHolder value = makeValue();
+				int rows;
+				do {
+					try (PreparedStatement selectStatement = prepareStatement(
+							connection,
+							selectQuery,
+							statementLogger,
+							statsCollector
+					)) {
+						final ResultSet selectRS = executeQuery( selectStatement, statsCollector );
+						if ( !selectRS.next() ) {
+							final String err = "could not read a hi value - you need to populate the table: " + physicalTableName;
+							LOG.error( err );
+							throw new IdentifierGenerationException( err );
+						}
+						value.initialize( selectRS, 1 );
+						selectRS.close();
+					}
+					catch (SQLException sqle) {
+						LOG.error( "could not read a hi value", sqle );
+						throw sqle;
+					}
+
+
+					try (PreparedStatement updatePS = prepareStatement(
+							connection,
+							updateQuery,
+							statementLogger,
+							statsCollector
+					)) {
+						final IntegralDataTypeHolder updateValue = value.copy().add( (long) increment * count );
+						updateValue.bind( updatePS, 1 );
+						value.bind( updatePS, 2 );
+						rows = executeUpdate( updatePS, statsCollector );
+					}
+					catch (SQLException e) {
+						LOG.unableToUpdateQueryHiValue( physicalTableName.render(), e );
+						throw e;
+					}
+				} while ( rows == 0 );
+
+				accessCounter.incrementAndGet();
+
+				final List<IntegralDataTypeHolder> values = new ArrayList<>( count );
+				values.add( value );
+				for ( int i = 1; i < count; i++ ) {
+					values.add( values.get( i - 1 ).copy().add( increment ) );
+				}
+				return values;
+			}
+		};
+	}
+
 	private PreparedStatement prepareStatement(
 			Connection connection,
 			String sql,
@@ -0,0 +1,55 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import org.hibernate.service.Service;
+import org.hibernate.service.spi.Stoppable;
+
+/**
+ * Runs the background fetches of the {@link ValuePrefetcher}s of the generators of a
+ * {@link org.hibernate.SessionFactory}. The daemon threads are started on demand, and
+ * stopped along with the {@code SessionFactory}.
+ */
+public final class ValuePrefetchExecutor implements Service, Stoppable {
+	private ExecutorService executor;
+	private boolean stopped;
+
+	/**
+	 * Start the given fetch in the background.
+	 *
+	 * @return The pending fetch, or {@code null} if the {@code SessionFactory} is closed
+	 */
+	synchronized <T> CompletableFuture<T> supplyAsync(Supplier<T> fetch) {
+		if ( stopped ) {
+			return null;
+		}
+		if ( executor == null ) {
+			executor = Executors.newCachedThreadPool(
+					runnable -> {
+						final Thread thread = new Thread( runnable, "Hibernate Identifier Prefetch Thread" );
+						thread.setDaemon( true );
+						return thread;
+					}
+			);
+		}
+		return CompletableFuture.supplyAsync( fetch, executor );
+	}
+
+	@Override
+	public synchronized void stop() {
+		stopped = true;
+		if ( executor != null ) {
+			executor.shutdownNow();
+			executor = null;
+		}
+	}
+}
@@ -0,0 +1,30 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import org.hibernate.service.spi.SessionFactoryServiceInitiator;
+import org.hibernate.service.spi.SessionFactoryServiceInitiatorContext;
+
+/**
+ * Initiates the {@link ValuePrefetchExecutor} of a {@link org.hibernate.SessionFactory}.
+ */
+public class ValuePrefetchExecutorInitiator implements SessionFactoryServiceInitiator<ValuePrefetchExecutor> {
+	/**
+	 * Singleton access
+	 */
+	public static final ValuePrefetchExecutorInitiator INSTANCE = new ValuePrefetchExecutorInitiator();
+
+	@Override
+	public ValuePrefetchExecutor initiateService(SessionFactoryServiceInitiatorContext context) {
+		return new ValuePrefetchExecutor();
+	}
+
+	@Override
+	public Class<ValuePrefetchExecutor> getServiceInitiated() {
+		return ValuePrefetchExecutor.class;
+	}
+}
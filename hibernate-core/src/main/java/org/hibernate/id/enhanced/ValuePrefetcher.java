@@ -0,0 +1,115 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.internal.CoreMessageLogger;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Keeps the next values of a {@link DatabaseStructure} ready, fetching them in the
+ * background once the {@link Optimizer} {@linkplain AccessCallback#valuesGenerated reports}
+ * that the configured fraction of the current block of values was generated.
+ * <p>
+ * The values are fetched by a daemon thread of the {@link ValuePrefetchExecutor} of the
+ * {@code SessionFactory}, on a connection of their own, so that the insert which exhausts
+ * the current block does not pay for the round trip to the database. When fetching them
+ * fails, the structure falls back to fetching the next value itself.
+ *
+ * @see DatabaseStructure#configurePrefetching(double, int)
+ */
+class ValuePrefetcher {
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
+			CoreMessageLogger.class,
+			ValuePrefetcher.class.getName()
+	);
+
+	private final double threshold;
+	private final int fetchSize;
+	private final Function<SessionFactoryImplementor, List<IntegralDataTypeHolder>> fetcher;
+
+	private final Deque<IntegralDataTypeHolder> values = new ArrayDeque<>();
+	private CompletableFuture<List<IntegralDataTypeHolder>> pendingFetch;
+
+	/**
+	 * @param threshold The fraction of a block of values which triggers the fetch of the next values
+	 * @param fetchSize The number of values to fetch at once
+	 * @param fetcher Fetches the next values, on a connection of its own
+	 */
+	ValuePrefetcher(
+			double threshold,
+			int fetchSize,
+			Function<SessionFactoryImplementor, List<IntegralDataTypeHolder>> fetcher) {
+		this.threshold = threshold;
+		this.fetchSize = fetchSize;
+		this.fetcher = fetcher;
+	}
+
+	int getFetchSize() {
+		return fetchSize;
+	}
+
+	/**
+	 * Start fetching the next values if the given usage of the current block reaches the
+	 * threshold, unless values were already fetched, or are being fetched.
+	 */
+	synchronized void valuesGenerated(int generated, int blockSize, SessionFactoryImplementor factory) {
+		if ( generated >= threshold * blockSize && values.isEmpty() && pendingFetch == null ) {
+			pendingFetch = factory.getServiceRegistry()
+					.getService( ValuePrefetchExecutor.class )
+					.supplyAsync( () -> fetcher.apply( factory ) );
+		}
+	}
+
+	/**
+	 * The next of the fetched values, waiting for the values being fetched if necessary.
+	 *
+	 * @return The value, or {@code null} if there was none ready
+	 */
+	IntegralDataTypeHolder poll() {
+		final CompletableFuture<List<IntegralDataTypeHolder>> fetch;
+		synchronized ( this ) {
+			if ( !values.isEmpty() || pendingFetch == null ) {
+				return values.poll();
+			}
+			fetch = pendingFetch;
+		}
+
+		// wait outside the lock, so that the other threads may still take the values fetched before
+		List<IntegralDataTypeHolder> fetched;
+		try {
+			fetched = fetch.join();
+		}
+		catch (CompletionException e) {
+			LOG.debugf( e.getCause(), "Unable to prefetch the next values" );
+			fetched = Collections.emptyList();
+		}
+		catch (CancellationException e) {
+			fetched = Collections.emptyList();
+		}
+
+		synchronized ( this ) {
+			// only the first of the threads waiting for the fetch takes its values
+			if ( pendingFetch == fetch ) {
+				values.addAll( fetched );
+				pendingFetch = null;
+			}
+			return values.poll();
+		}
+	}
+}
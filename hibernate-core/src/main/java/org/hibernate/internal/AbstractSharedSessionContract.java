@@ -158,6 +158,7 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 
 	// transient & non-final for Serialization purposes - ugh
 	private transient SessionEventListenerManagerImpl sessionEventsManager;
+	//Lazily initialized
 	private transient EntityNameResolver entityNameResolver;
 
 	private Integer jdbcBatchSize;
@@ -188,8 +189,6 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 			sessionEventsManager = new SessionEventListenerManagerImpl( customSessionEventListener.toArray( new SessionEventListener[0] ) );
 		}
 
-		this.entityNameResolver = new CoordinatingEntityNameResolver( factory, interceptor );
-
 		final StatementInspector statementInspector = interpret( options.getStatementInspector() );
 		if ( options instanceof SharedSessionCreationOptions && ( (SharedSessionCreationOptions) options ).isTransactionCoordinatorShared() ) {
 			if ( options.getConnection() != null ) {
@@ -306,6 +305,9 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 	}
 
 	public EntityNameResolver getEntityNameResolver() {
+		if ( entityNameResolver == null ) {
+			entityNameResolver = new CoordinatingEntityNameResolver( factory, interceptor );
+		}
 		return entityNameResolver;
 	}
 
@@ -1402,8 +1404,6 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 		transactionCoordinator = factory.getServiceRegistry()
 				.getService( TransactionCoordinatorBuilder.class )
 				.buildTransactionCoordinator( jdbcCoordinator, this );
-
-		entityNameResolver = new CoordinatingEntityNameResolver( factory, interceptor );
 	}
 
 }
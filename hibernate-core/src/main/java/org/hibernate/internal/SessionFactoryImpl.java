@@ -399,6 +399,9 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 			bootstrapContext.getReflectionManager().reset();
 
 			this.entityNameResolver = new CoordinatingEntityNameResolver( this, getInterceptor() );
+
+			// background population of the interpretation cache, if enabled
+			this.queryEngine.startWarmUp( this );
 		}
 		catch (Exception e) {
 			for ( Integrator integrator : serviceRegistry.getService( IntegratorService.class ).getIntegrators() ) {
@@ -194,6 +194,7 @@ public class SessionImpl
 	// as defined in FastSessionServices#defaultSessionProperties
 	private Map<String, Object> properties;
 
+	// created on first use, since many short-lived sessions never queue any action
 	private transient ActionQueue actionQueue;
 	private transient StatefulPersistenceContext persistenceContext;
 
@@ -214,7 +215,6 @@ public class SessionImpl
 		super( factory, options );
 
 		this.persistenceContext = createPersistenceContext();
-		this.actionQueue = createActionQueue();
 
 		this.autoClear = options.shouldAutoClear();
 		this.autoClose = options.shouldAutoClose();
@@ -224,7 +224,7 @@ public class SessionImpl
 			final ActionQueue.TransactionCompletionProcesses transactionCompletionProcesses
 					= sharedOptions.getTransactionCompletionProcesses();
 			if ( sharedOptions.isTransactionCoordinatorShared() && transactionCompletionProcesses != null ) {
-				actionQueue.setTransactionCompletionProcesses(
+				actionQueue().setTransactionCompletionProcesses(
 						transactionCompletionProcesses,
 						true
 				);
@@ -287,6 +287,13 @@ public class SessionImpl
 		return new ActionQueue( this );
 	}
 
+	private ActionQueue actionQueue() {
+		if ( actionQueue == null ) {
+			actionQueue = createActionQueue();
+		}
+		return actionQueue;
+	}
+
 	private LockOptions getLockOptionsForRead() {
 		return this.lockOptions == null ? fastSessionServices.defaultLockOptions : this.lockOptions;
 	}
@@ -365,7 +372,9 @@ public class SessionImpl
 
 	private void internalClear() {
 		persistenceContext.clear();
-		actionQueue.clear();
+		if ( actionQueue != null ) {
+			actionQueue.clear();
+		}
 
 		fastSessionServices.eventListenerGroup_CLEAR
 				.fireLazyEventOnEachListener( this::createClearEvent, ClearEventListener::onClear );
@@ -435,8 +444,8 @@ public class SessionImpl
 			return super.shouldCloseJdbcCoordinatorOnClose( isTransactionCoordinatorShared );
 		}
 
-		final ActionQueue actionQueue = getActionQueue();
-		if ( actionQueue.hasBeforeTransactionActions() || actionQueue.hasAfterTransactionActions() ) {
+		if ( actionQueue != null
+				&& ( actionQueue.hasBeforeTransactionActions() || actionQueue.hasAfterTransactionActions() ) ) {
 			log.warn(
 					"On close, shared Session had before/after transaction actions that have not yet been processed"
 			);
@@ -576,13 +585,14 @@ public class SessionImpl
 	}
 
 	protected void checkNoUnresolvedActionsBeforeOperation() {
-		if ( persistenceContext.getCascadeLevel() == 0 && actionQueue.hasUnresolvedEntityInsertActions() ) {
+		if ( persistenceContext.getCascadeLevel() == 0
+				&& actionQueue != null && actionQueue.hasUnresolvedEntityInsertActions() ) {
 			throw new IllegalStateException( "There are delayed insert actions before operation as cascade level 0." );
 		}
 	}
 
 	protected void checkNoUnresolvedActionsAfterOperation() {
-		if ( persistenceContext.getCascadeLevel() == 0 ) {
+		if ( persistenceContext.getCascadeLevel() == 0 && actionQueue != null ) {
 			actionQueue.checkNoUnresolvedActionsAfterOperation();
 		}
 		delayedAfterCompletion();
@@ -1371,7 +1381,7 @@ public class SessionImpl
 		checkOpen();
 		pulseTransactionCoordinator();
 		log.debug( "Checking session dirtiness" );
-		if ( actionQueue.areInsertionsOrDeletionsQueued() ) {
+		if ( actionQueue != null && actionQueue.areInsertionsOrDeletionsQueued() ) {
 			log.debug( "Session dirty (scheduled updates and insertions)" );
 			return true;
 		}
@@ -1785,7 +1795,7 @@ public class SessionImpl
 	public ActionQueue getActionQueue() {
 		checkOpenOrWaitingForAutoClose();
 //		checkTransactionSynchStatus();
-		return actionQueue;
+		return actionQueue();
 	}
 
 	@Override
@@ -1927,7 +1937,9 @@ public class SessionImpl
 	public void beforeTransactionCompletion() {
 		log.trace( "SessionImpl#beforeTransactionCompletion()" );
 		flushBeforeTransactionCompletion();
-		actionQueue.beforeTransactionCompletion();
+		if ( actionQueue != null ) {
+			actionQueue.beforeTransactionCompletion();
+		}
 		try {
 			getInterceptor().beforeTransactionCompletion( getTransactionIfAccessible() );
 		}
@@ -1950,7 +1962,9 @@ public class SessionImpl
 		}
 
 		persistenceContext.afterTransactionCompletion();
-		actionQueue.afterTransactionCompletion( successful );
+		if ( actionQueue != null ) {
+			actionQueue.afterTransactionCompletion( successful );
+		}
 
 		getEventListenerManager().transactionCompletion( successful );
 
@@ -2174,7 +2188,9 @@ public class SessionImpl
 				if ( isOpen() && getHibernateFlushMode() !=  FlushMode.MANUAL ) {
 					managedFlush();
 				}
-				actionQueue.beforeTransactionCompletion();
+				if ( actionQueue != null ) {
+					actionQueue.beforeTransactionCompletion();
+				}
 				try {
 					getInterceptor().beforeTransactionCompletion( getTransactionIfAccessible() );
 				}
@@ -2820,7 +2836,7 @@ public class SessionImpl
 		oos.defaultWriteObject();
 
 		persistenceContext.serialize( oos );
-		actionQueue.serialize( oos );
+		actionQueue().serialize( oos );
 
 		oos.writeObject( loadQueryInfluencers );
 	}
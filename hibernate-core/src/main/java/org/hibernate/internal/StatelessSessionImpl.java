@@ -6,17 +6,22 @@
  */
 package org.hibernate.internal;
 
+import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
 import org.hibernate.SessionException;
 import org.hibernate.StatelessSession;
 import org.hibernate.UnresolvableObjectException;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
 import org.hibernate.bytecode.spi.BytecodeEnhancementMetadata;
+import org.hibernate.cache.internal.NaturalIdCacheKey;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.internal.StatefulPersistenceContext;
@@ -28,6 +33,8 @@ import org.hibernate.engine.spi.PersistentAttributeInterceptor;
 import org.hibernate.engine.transaction.internal.jta.JtaStatusHelper;
 import org.hibernate.engine.transaction.jta.platform.spi.JtaPlatform;
 import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
+import org.hibernate.metamodel.mapping.NaturalIdMapping;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
@@ -56,6 +63,11 @@ import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttrib
 public class StatelessSessionImpl extends AbstractSharedSessionContract implements StatelessSession {
 	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( StatelessSessionImpl.class );
 
+	/**
+	 * The batch size of the batched operations when batching was not configured
+	 */
+	private static final int DEFAULT_BATCH_SIZE = 1000;
+
 	private static final LoadQueryInfluencers NO_INFLUENCERS = new LoadQueryInfluencers( null ) {
 		@Override
 		public String getInternalFetchProfile() {
@@ -70,6 +82,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	private final PersistenceContext temporaryPersistenceContext = new StatefulPersistenceContext( this );
 
 	private final boolean connectionProvided;
+	private boolean bulkLoadInProgress;
 
 	public StatelessSessionImpl(SessionFactoryImpl factory, SessionCreationOptions options) {
 		super( factory, options );
@@ -132,6 +145,13 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		Object id = persister.getIdentifier( entity, this );
 		Object version = persister.getVersion( entity );
 		persister.delete( id, version, entity, this );
+		final NaturalIdMapping naturalIdMapping = persister.getNaturalIdMapping();
+		if ( naturalIdMapping != null && naturalIdMapping.getResolutionCache() != null ) {
+			// the natural-id might be reused by another entity
+			naturalIdMapping.getResolutionCache().remove(
+					new NaturalIdCacheKey( naturalIdMapping.extractNaturalIdFromEntity( entity, this ), persister, this )
+			);
+		}
 	}
 
 
@@ -163,6 +183,77 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	}
 
 
+	// batched operations ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	@Override
+	public void insertMultiple(List<?> entities) {
+		checkOpen();
+		executeBatched( entities.stream(), unconfiguredBatchSize( entities ), entity -> insert( null, entity ) );
+	}
+
+	@Override
+	public void updateMultiple(List<?> entities) {
+		checkOpen();
+		executeBatched( entities.stream(), unconfiguredBatchSize( entities ), entity -> update( null, entity ) );
+	}
+
+	@Override
+	public void deleteMultiple(List<?> entities) {
+		checkOpen();
+		executeBatched( entities.stream(), unconfiguredBatchSize( entities ), entity -> delete( null, entity ) );
+	}
+
+	@Override
+	public void bulkInsert(Stream<?> entities) {
+		checkOpen();
+		bulkLoadInProgress = true;
+		try {
+			executeBatched( entities, DEFAULT_BATCH_SIZE, entity -> insert( null, entity ) );
+		}
+		finally {
+			bulkLoadInProgress = false;
+		}
+	}
+
+	@Override
+	public boolean isBulkLoadInProgress() {
+		return bulkLoadInProgress;
+	}
+
+	/**
+	 * When batching was not configured, batch the whole list, unless it is too
+	 * large to be held in a single JDBC batch.
+	 */
+	private static int unconfiguredBatchSize(List<?> entities) {
+		return Math.max( 1, Math.min( entities.size(), DEFAULT_BATCH_SIZE ) );
+	}
+
+	/**
+	 * Apply the operation to each entity, letting the persisters add their
+	 * statements to a JDBC batch, and then execute the batch, so that the
+	 * rows are written when this method returns, as for the single-row
+	 * operations.
+	 *
+	 * @param unconfiguredBatchSize the batch size to use if batching was not configured
+	 */
+	private void executeBatched(Stream<?> entities, int unconfiguredBatchSize, Consumer<Object> operation) {
+		final Integer jdbcBatchSize = getJdbcBatchSize();
+		if ( getConfiguredJdbcBatchSize() <= 1 ) {
+			setJdbcBatchSize( unconfiguredBatchSize );
+		}
+		try {
+			entities.forEachOrdered( operation );
+			getJdbcCoordinator().executeBatch();
+		}
+		catch (RuntimeException e) {
+			getJdbcCoordinator().abortBatch();
+			throw e;
+		}
+		finally {
+			setJdbcBatchSize( jdbcBatchSize );
+		}
+	}
+
 	// loading ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	@Override @SuppressWarnings("unchecked")
@@ -180,6 +271,21 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		return get( entityName, id, LockMode.NONE );
 	}
 
+	@Override @SuppressWarnings("unchecked")
+	public <T> List<T> getMultiple(Class<T> entityClass, List<?> ids) {
+		checkOpen();
+
+		final EntityPersister entityDescriptor = getFactory().getRuntimeMetamodels()
+				.getMappingMetamodel()
+				.getEntityDescriptor( entityClass );
+		final List<?> result = entityDescriptor.multiLoad( ids.toArray(), this, StatelessMultiIdLoadOptions.INSTANCE );
+
+		if ( temporaryPersistenceContext.isLoadFinished() ) {
+			temporaryPersistenceContext.clear();
+		}
+		return (List<T>) result;
+	}
+
 	@Override
 	public Object get(String entityName, Object id, LockMode lockMode) {
 		checkOpen();
@@ -719,4 +825,44 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	private LockMode getNullSafeLockMode(LockMode lockMode) {
 		return lockMode == null ? LockMode.NONE : lockMode;
 	}
+
+	/**
+	 * Multi-load options for a session without first-level cache, and which
+	 * does not interact with the second-level cache.
+	 */
+	private static class StatelessMultiIdLoadOptions implements MultiIdLoadOptions {
+		private static final StatelessMultiIdLoadOptions INSTANCE = new StatelessMultiIdLoadOptions();
+
+		@Override
+		public boolean isSessionCheckingEnabled() {
+			return false;
+		}
+
+		@Override
+		public boolean isSecondLevelCacheCheckingEnabled() {
+			return false;
+		}
+
+		@Override
+		public boolean isReturnOfDeletedEntitiesEnabled() {
+			// there is no notion of deleted entities in a stateless session
+			return true;
+		}
+
+		@Override
+		public boolean isOrderReturnEnabled() {
+			return true;
+		}
+
+		@Override
+		public LockOptions getLockOptions() {
+			return null;
+		}
+
+		@Override
+		public Integer getBatchSize() {
+			// let the Dialect decide
+			return null;
+		}
+	}
 }
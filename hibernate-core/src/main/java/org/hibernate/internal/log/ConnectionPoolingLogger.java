@@ -86,6 +86,10 @@ public interface ConnectionPoolingLogger extends BasicLogger {
 	@Message(value = "Problem closing pooled connection", id = 10001009)
 	void unableToClosePooledConnection(@Cause SQLException e);
 
+	@LogMessage(level = WARN)
+	@Message(value = "Connection leak detected: a connection of pool [%s] has been checked out for more than %s ms", id = 10001013)
+	void connectionLeakDetected(String url, long leakDetectionThreshold, @Cause Throwable acquisitionTrace);
+
 	@LogMessage(level = INFO)
 	@Message(value = "Connection pool size: %s (min=%s)", id = 10001115)
 	void hibernateConnectionPoolSize(int poolSize, int minSize);
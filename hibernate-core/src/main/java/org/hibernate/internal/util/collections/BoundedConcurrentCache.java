@@ -0,0 +1,528 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * A concurrent cache bounded by the total weight of its entries, using the
+ * W-TinyLFU eviction policy.
+ * <p>
+ * Lookups never block: they read from a {@link ConcurrentHashMap} and record
+ * the access in a lossy ring buffer, which is drained by whichever thread
+ * manages to acquire the eviction lock. Insertions and evictions are
+ * performed while holding the lock.
+ * <p>
+ * New entries are admitted into a small LRU "window". Entries leaving the
+ * window compete with the least recently used entry of the main space, and
+ * the one with the lower estimated access frequency, as recorded by a
+ * count-min sketch, is evicted. The main space is a segmented LRU with a
+ * "probation" and a "protected" segment.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ *
+ * @since 6.2
+ */
+public final class BoundedConcurrentCache<K, V> {
+	private static final int READ_BUFFER_SIZE = 128;
+	private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+	private static final int READ_BUFFER_DRAIN_THRESHOLD = 32;
+
+	private final ConcurrentHashMap<K, Node<K, V>> data;
+	private final ToIntBiFunction<K, V> weigher;
+	private final BiConsumer<K, V> evictionListener;
+
+	private final long maximumWeight;
+	private final long maximumWindowWeight;
+	private final long maximumProtectedWeight;
+
+	private final ReentrantLock evictionLock = new ReentrantLock();
+
+	// all guarded by evictionLock
+	private final AccessOrderDeque<K, V> window = new AccessOrderDeque<>();
+	private final AccessOrderDeque<K, V> probation = new AccessOrderDeque<>();
+	private final AccessOrderDeque<K, V> protectedSegment = new AccessOrderDeque<>();
+	private final FrequencySketch sketch;
+	private long windowWeight;
+	private long protectedWeight;
+
+	// written under evictionLock only
+	private volatile long weight;
+
+	private final AtomicReferenceArray<Node<K, V>> readBuffer = new AtomicReferenceArray<>( READ_BUFFER_SIZE );
+	private final AtomicLong readBufferWriteCount = new AtomicLong();
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+
+	/**
+	 * @param maximumWeight the maximum total weight of the entries
+	 * @param weigher computes the weight of an entry, which must be at least one
+	 * @param evictionListener notified of each entry evicted to respect the maximum weight
+	 */
+	public BoundedConcurrentCache(
+			long maximumWeight,
+			ToIntBiFunction<K, V> weigher,
+			BiConsumer<K, V> evictionListener) {
+		if ( maximumWeight <= 0 ) {
+			throw new IllegalArgumentException( "Maximum weight must be positive: " + maximumWeight );
+		}
+		this.maximumWeight = maximumWeight;
+		this.maximumWindowWeight = Math.max( 1L, maximumWeight / 100 );
+		this.maximumProtectedWeight = ( maximumWeight - maximumWindowWeight ) * 4 / 5;
+		this.weigher = weigher;
+		this.evictionListener = evictionListener;
+		this.data = new ConcurrentHashMap<>( (int) Math.min( maximumWeight, 1024 ) );
+		this.sketch = new FrequencySketch( maximumWeight );
+	}
+
+	/**
+	 * @param maximumSize the maximum number of entries
+	 */
+	public BoundedConcurrentCache(int maximumSize) {
+		this( maximumSize, (k, v) -> 1, null );
+	}
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Public API
+
+	public V get(K key) {
+		final Node<K, V> node = data.get( key );
+		if ( node == null ) {
+			missCount.increment();
+			return null;
+		}
+		hitCount.increment();
+		afterRead( node );
+		return node.value;
+	}
+
+	/**
+	 * Returns the cached value for the key, or computes and caches it. The
+	 * computation happens outside the eviction lock, so concurrent callers
+	 * might compute a value for the same key, but only the first one cached
+	 * is ever returned.
+	 */
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+		final V existing = get( key );
+		if ( existing != null ) {
+			return existing;
+		}
+		final V value = mappingFunction.apply( key );
+		if ( value == null ) {
+			return null;
+		}
+		final V previous = doPut( key, value, true );
+		return previous == null ? value : previous;
+	}
+
+	public V put(K key, V value) {
+		return doPut( key, value, false );
+	}
+
+	public V remove(K key) {
+		evictionLock.lock();
+		try {
+			final Node<K, V> node = data.remove( key );
+			if ( node == null ) {
+				return null;
+			}
+			unlink( node );
+			return node.value;
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	public void clear() {
+		evictionLock.lock();
+		try {
+			for ( int i = 0; i < READ_BUFFER_SIZE; i++ ) {
+				readBuffer.set( i, null );
+			}
+			data.clear();
+			window.clear();
+			probation.clear();
+			protectedSegment.clear();
+			windowWeight = 0;
+			protectedWeight = 0;
+			weight = 0;
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	public int size() {
+		return data.size();
+	}
+
+	public Iterable<K> keys() {
+		return data.keySet();
+	}
+
+	/**
+	 * The current total weight of the cached entries
+	 */
+	public long getWeight() {
+		return weight;
+	}
+
+	public long getMaximumWeight() {
+		return maximumWeight;
+	}
+
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	public long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Policy
+
+	private void afterRead(Node<K, V> node) {
+		final long writeCount = readBufferWriteCount.getAndIncrement();
+		// lossy: an access not yet drained may be overwritten
+		readBuffer.lazySet( (int) ( writeCount & READ_BUFFER_MASK ), node );
+		if ( ( writeCount & ( READ_BUFFER_DRAIN_THRESHOLD - 1 ) ) == 0 && evictionLock.tryLock() ) {
+			try {
+				drainReadBuffer();
+			}
+			finally {
+				evictionLock.unlock();
+			}
+		}
+	}
+
+	private V doPut(K key, V value, boolean onlyIfAbsent) {
+		final Node<K, V> node = new Node<>( key, value, Math.max( 1, weigher.applyAsInt( key, value ) ) );
+		evictionLock.lock();
+		try {
+			drainReadBuffer();
+
+			final Node<K, V> previous = onlyIfAbsent ? data.putIfAbsent( key, node ) : data.put( key, node );
+			if ( previous != null ) {
+				if ( onlyIfAbsent ) {
+					onAccess( previous );
+					return previous.value;
+				}
+				unlink( previous );
+			}
+
+			sketch.increment( key.hashCode() );
+			node.segment = Segment.WINDOW;
+			window.addLast( node );
+			windowWeight += node.weight;
+			weight += node.weight;
+
+			evict();
+			return previous == null ? null : previous.value;
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	private void drainReadBuffer() {
+		for ( int i = 0; i < READ_BUFFER_SIZE; i++ ) {
+			final Node<K, V> node = readBuffer.getAndSet( i, null );
+			if ( node != null ) {
+				onAccess( node );
+			}
+		}
+	}
+
+	private void onAccess(Node<K, V> node) {
+		if ( node.segment == null ) {
+			// already removed
+			return;
+		}
+		sketch.increment( node.key.hashCode() );
+		switch ( node.segment ) {
+			case WINDOW:
+				window.moveToBack( node );
+				break;
+			case PROBATION:
+				probation.remove( node );
+				node.segment = Segment.PROTECTED;
+				protectedSegment.addLast( node );
+				protectedWeight += node.weight;
+				demoteFromProtected();
+				break;
+			case PROTECTED:
+				protectedSegment.moveToBack( node );
+				break;
+		}
+	}
+
+	private void demoteFromProtected() {
+		while ( protectedWeight > maximumProtectedWeight ) {
+			final Node<K, V> demoted = protectedSegment.pollFirst();
+			if ( demoted == null ) {
+				return;
+			}
+			protectedWeight -= demoted.weight;
+			demoted.segment = Segment.PROBATION;
+			probation.addLast( demoted );
+		}
+	}
+
+	private void evict() {
+		// entries leaving the window become candidates for the main space
+		while ( windowWeight > maximumWindowWeight ) {
+			final Node<K, V> candidate = window.pollFirst();
+			if ( candidate == null ) {
+				break;
+			}
+			windowWeight -= candidate.weight;
+			candidate.segment = Segment.PROBATION;
+			probation.addLast( candidate );
+		}
+
+		while ( weight > maximumWeight ) {
+			final Node<K, V> victim = probation.peekFirst();
+			final Node<K, V> candidate = probation.peekLast();
+			if ( victim == null ) {
+				// the probation segment is empty, fall back to plain LRU
+				final Node<K, V> fallback = protectedSegment.peekFirst() != null
+						? protectedSegment.peekFirst()
+						: window.peekFirst();
+				if ( fallback == null ) {
+					return;
+				}
+				evictEntry( fallback );
+			}
+			else if ( victim == candidate ) {
+				evictEntry( victim );
+			}
+			else if ( sketch.frequency( candidate.key.hashCode() ) > sketch.frequency( victim.key.hashCode() ) ) {
+				evictEntry( victim );
+			}
+			else {
+				evictEntry( candidate );
+			}
+		}
+	}
+
+	private void evictEntry(Node<K, V> node) {
+		data.remove( node.key, node );
+		unlink( node );
+		evictionCount.increment();
+		if ( evictionListener != null ) {
+			evictionListener.accept( node.key, node.value );
+		}
+	}
+
+	private void unlink(Node<K, V> node) {
+		if ( node.segment == null ) {
+			return;
+		}
+		switch ( node.segment ) {
+			case WINDOW:
+				window.remove( node );
+				windowWeight -= node.weight;
+				break;
+			case PROBATION:
+				probation.remove( node );
+				break;
+			case PROTECTED:
+				protectedSegment.remove( node );
+				protectedWeight -= node.weight;
+				break;
+		}
+		node.segment = null;
+		weight -= node.weight;
+	}
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Internal structures
+
+	private enum Segment {
+		WINDOW,
+		PROBATION,
+		PROTECTED
+	}
+
+	private static final class Node<K, V> {
+		private final K key;
+		private final V value;
+		private final int weight;
+
+		// guarded by the eviction lock
+		private Segment segment;
+		private Node<K, V> previous;
+		private Node<K, V> next;
+
+		private Node(K key, V value, int weight) {
+			this.key = key;
+			this.value = value;
+			this.weight = weight;
+		}
+	}
+
+	/**
+	 * Intrusive doubly-linked list, ordered from the least to the most recently used node
+	 */
+	private static final class AccessOrderDeque<K, V> {
+		private Node<K, V> first;
+		private Node<K, V> last;
+
+		Node<K, V> peekFirst() {
+			return first;
+		}
+
+		Node<K, V> peekLast() {
+			return last;
+		}
+
+		void addLast(Node<K, V> node) {
+			node.previous = last;
+			node.next = null;
+			if ( last == null ) {
+				first = node;
+			}
+			else {
+				last.next = node;
+			}
+			last = node;
+		}
+
+		Node<K, V> pollFirst() {
+			final Node<K, V> node = first;
+			if ( node != null ) {
+				remove( node );
+			}
+			return node;
+		}
+
+		void remove(Node<K, V> node) {
+			if ( node.previous == null ) {
+				first = node.next;
+			}
+			else {
+				node.previous.next = node.next;
+			}
+			if ( node.next == null ) {
+				last = node.previous;
+			}
+			else {
+				node.next.previous = node.previous;
+			}
+			node.previous = null;
+			node.next = null;
+		}
+
+		void moveToBack(Node<K, V> node) {
+			if ( node != last ) {
+				remove( node );
+				addLast( node );
+			}
+		}
+
+		void clear() {
+			first = null;
+			last = null;
+		}
+	}
+
+	/**
+	 * A count-min sketch of 4-bit counters estimating the access frequency of
+	 * keys, periodically halved so that old accesses age out.
+	 */
+	private static final class FrequencySketch {
+		private static final long[] SEEDS = {
+				0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+		};
+		private static final long RESET_MASK = 0x7777777777777777L;
+		private static final long ONE_MASK = 0x1111111111111111L;
+
+		private final long[] table;
+		private final int tableMask;
+		private final int sampleSize;
+		private int size;
+
+		private FrequencySketch(long maximumSize) {
+			final int capacity = (int) Math.max( 1L, Math.min( maximumSize, 1 << 30 ) );
+			final int tableLength = capacity == 1 ? 1 : 1 << ( 32 - Integer.numberOfLeadingZeros( capacity - 1 ) );
+			this.table = new long[tableLength];
+			this.tableMask = tableLength - 1;
+			this.sampleSize = capacity > Integer.MAX_VALUE / 10 ? Integer.MAX_VALUE : 10 * capacity;
+		}
+
+		private int frequency(int keyHash) {
+			final int hash = spread( keyHash );
+			final int start = ( hash & 3 ) << 2;
+			int frequency = Integer.MAX_VALUE;
+			for ( int i = 0; i < 4; i++ ) {
+				final long counters = table[indexOf( hash, i )];
+				final int count = (int) ( ( counters >>> ( ( start + i ) << 2 ) ) & 0xfL );
+				frequency = Math.min( frequency, count );
+			}
+			return frequency;
+		}
+
+		private void increment(int keyHash) {
+			final int hash = spread( keyHash );
+			final int start = ( hash & 3 ) << 2;
+			boolean added = false;
+			for ( int i = 0; i < 4; i++ ) {
+				added |= incrementAt( indexOf( hash, i ), start + i );
+			}
+			if ( added && ++size == sampleSize ) {
+				reset();
+			}
+		}
+
+		private boolean incrementAt(int index, int counter) {
+			final int offset = counter << 2;
+			final long mask = 0xfL << offset;
+			if ( ( table[index] & mask ) != mask ) {
+				table[index] += 1L << offset;
+				return true;
+			}
+			return false;
+		}
+
+		private void reset() {
+			int oddCounters = 0;
+			for ( int i = 0; i < table.length; i++ ) {
+				oddCounters += Long.bitCount( table[i] & ONE_MASK );
+				table[i] = ( table[i] >>> 1 ) & RESET_MASK;
+			}
+			size = ( size - ( oddCounters >>> 2 ) ) >>> 1;
+		}
+
+		private int indexOf(int hash, int i) {
+			long index = ( hash + SEEDS[i] ) * SEEDS[i];
+			index += index >>> 32;
+			return ( (int) index ) & tableMask;
+		}
+
+		private static int spread(int hash) {
+			hash = ( ( hash >>> 16 ) ^ hash ) * 0x45d9f3b;
+			hash = ( ( hash >>> 16 ) ^ hash ) * 0x45d9f3b;
+			return ( hash >>> 16 ) ^ hash;
+		}
+	}
+}
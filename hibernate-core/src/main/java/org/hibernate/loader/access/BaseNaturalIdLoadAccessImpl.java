@@ -192,7 +192,18 @@ public abstract class BaseNaturalIdLoadAccessImpl<T> implements NaturalIdLoadOpt
 			final T loaded;
 
 			if ( cachedResolution != null ) {
-				loaded = (T) getIdentifierLoadAccess().load( cachedResolution );
+				final T loadedById = (T) getIdentifierLoadAccess().load( cachedResolution );
+				if ( loadedById == null && persistenceContext.getEntity(
+						session.generateEntityKey( cachedResolution, entityPersister() ) ) == null ) {
+					// the resolution is stale, the row was deleted, or its natural-id reused,
+					// by another transaction: forget it, and select by natural-id instead
+					persistenceContext.getNaturalIdResolutions()
+							.removeResolution( cachedResolution, normalizedNaturalIdValue, entityPersister() );
+					loaded = (T) entityPersister().getNaturalIdLoader().load( normalizedNaturalIdValue, this, session );
+				}
+				else {
+					loaded = loadedById;
+				}
 			}
 			else {
 				loaded = (T) entityPersister().getNaturalIdLoader().load( normalizedNaturalIdValue, this, session );
@@ -6,17 +6,25 @@
  */
 package org.hibernate.loader.ast.internal;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
-import org.hibernate.NotYetImplementedFor6Exception;
+import org.hibernate.engine.spi.NaturalIdResolutions;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
 import org.hibernate.loader.ast.spi.MultiNaturalIdLoadOptions;
 import org.hibernate.loader.ast.spi.MultiNaturalIdLoader;
 import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.metamodel.mapping.NaturalIdMapping;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.sql.results.LoadingLogger;
 
 /**
@@ -50,53 +58,178 @@ public class MultiNaturalIdLoaderStandard<E> implements MultiNaturalIdLoader<E>
 
 		final SessionFactoryImplementor sessionFactory = session.getFactory();
 
-		final int maxBatchSize;
-		if ( options.getBatchSize() != null && options.getBatchSize() > 0 ) {
-			maxBatchSize = options.getBatchSize();
+		final LockOptions lockOptions = (options.getLockOptions() == null)
+				? new LockOptions( LockMode.NONE )
+				: options.getLockOptions();
+
+		// resolve as many natural-ids as possible from the session and the caches, so
+		// that only the unresolved ones need to be restricted on in the batched select
+		final NaturalIdMapping naturalIdMapping = entityDescriptor.getNaturalIdMapping();
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final NaturalIdResolutions naturalIdResolutions = persistenceContext.getNaturalIdResolutions();
+		final Object[] normalizedNaturalIds = new Object[naturalIds.length];
+		final List<Integer> resolvedPositions = new ArrayList<>();
+		final List<Object> resolvedIds = new ArrayList<>();
+		final List<Integer> unresolvedPositions = new ArrayList<>();
+		for ( int i = 0; i < naturalIds.length; i++ ) {
+			final Object normalizedNaturalId = naturalIdMapping.normalizeInput( naturalIds[i], session );
+			normalizedNaturalIds[i] = normalizedNaturalId;
+			final Object id = normalizedNaturalId == null
+					? null
+					: naturalIdResolutions.findCachedIdByNaturalId( normalizedNaturalId, entityDescriptor );
+			if ( id == null || id == NaturalIdResolutions.INVALID_NATURAL_ID_REFERENCE ) {
+				unresolvedPositions.add( i );
+			}
+			else {
+				resolvedPositions.add( i );
+				resolvedIds.add( id );
+			}
 		}
-		else {
-			maxBatchSize = session.getJdbcServices().getJdbcEnvironment().getDialect().getDefaultBatchLoadSizingStrategy().determineOptimalBatchLoadSize(
-					entityDescriptor.getNaturalIdMapping().getJdbcTypeCount(),
-					naturalIds.length,
-					sessionFactory.getSessionFactoryOptions().inClauseParameterPaddingEnabled()
+
+		// the entities, at the position of their natural-id
+		final Object[] results = new Object[naturalIds.length];
+
+		if ( !resolvedIds.isEmpty() ) {
+			final EntityPersister persister = entityDescriptor.getEntityPersister();
+			final List<?> entities = persister.multiLoad(
+					resolvedIds.toArray(),
+					session,
+					new ResolvedIdLoadOptions( options, lockOptions )
 			);
+			for ( int i = 0; i < resolvedIds.size(); i++ ) {
+				final int position = resolvedPositions.get( i );
+				final Object entity = entities.get( i );
+				if ( entity != null ) {
+					results[position] = entity;
+				}
+				else {
+					final Object id = resolvedIds.get( i );
+					if ( persistenceContext.getEntity( session.generateEntityKey( id, persister ) ) == null ) {
+						// the resolution is stale, the row was deleted, or its natural-id reused,
+						// by another transaction: forget it, and select by natural-id instead
+						naturalIdResolutions.removeResolution( id, normalizedNaturalIds[position], entityDescriptor );
+						unresolvedPositions.add( position );
+					}
+					// else the entity was removed in this session
+				}
+			}
 		}
 
-		final int batchSize = Math.min( maxBatchSize, naturalIds.length );
-
-		final LockOptions lockOptions = (options.getLockOptions() == null)
-				? new LockOptions( LockMode.NONE )
-				: options.getLockOptions();
+		if ( !unresolvedPositions.isEmpty() ) {
+			final int maxBatchSize;
+			if ( options.getBatchSize() != null && options.getBatchSize() > 0 ) {
+				maxBatchSize = options.getBatchSize();
+			}
+			else {
+				maxBatchSize = session.getJdbcServices().getJdbcEnvironment().getDialect().getDefaultBatchLoadSizingStrategy().determineOptimalBatchLoadSize(
+						naturalIdMapping.getJdbcTypeCount(),
+						unresolvedPositions.size(),
+						sessionFactory.getSessionFactoryOptions().inClauseParameterPaddingEnabled()
+				);
+			}
+
+			final int batchSize = Math.min( maxBatchSize, unresolvedPositions.size() );
+
+			final MultiNaturalIdLoadingBatcher batcher = new MultiNaturalIdLoadingBatcher(
+					entityDescriptor,
+					naturalIdMapping,
+					batchSize,
+					// the natural-ids are already normalized
+					(naturalId, session1) -> naturalId,
+					session.getLoadQueryInfluencers(),
+					lockOptions,
+					sessionFactory
+			);
 
-		final MultiNaturalIdLoadingBatcher batcher = new MultiNaturalIdLoadingBatcher(
-				entityDescriptor,
-				entityDescriptor.getNaturalIdMapping(),
-				batchSize,
-				(naturalId, session1) -> {
-					// `naturalId` here is the one passed in by the API as part of the values array
-					// todo (6.0) : use this to help create the ordered results
-					return entityDescriptor.getNaturalIdMapping().normalizeInput( naturalId, session );
-				},
-				session.getLoadQueryInfluencers(),
-				lockOptions,
-				sessionFactory
-		);
-
-		final List<E> results = batcher.multiLoad( naturalIds, options, session );
-
-		if ( results.size() == 1 ) {
-			return results;
+			final Object[] unresolvedNaturalIds = new Object[unresolvedPositions.size()];
+			for ( int i = 0; i < unresolvedNaturalIds.length; i++ ) {
+				unresolvedNaturalIds[i] = normalizedNaturalIds[unresolvedPositions.get( i )];
+			}
+			final List<Object> entities = batcher.multiLoad( unresolvedNaturalIds, options, session );
+
+			// the select returns the entities in no particular order, place each at the
+			// position of its natural-id
+			final Map<Object, Object> entitiesByNaturalId = new HashMap<>( entities.size() );
+			for ( Object entity : entities ) {
+				entitiesByNaturalId.put(
+						naturalIdKey( naturalIdMapping.extractNaturalIdFromEntity( entity, session ) ),
+						entity
+				);
+			}
+			for ( int position : unresolvedPositions ) {
+				if ( normalizedNaturalIds[position] != null ) {
+					results[position] = entitiesByNaturalId.get( naturalIdKey( normalizedNaturalIds[position] ) );
+				}
+			}
 		}
 
-		if ( options.isOrderReturnEnabled() ) {
-			throw new NotYetImplementedFor6Exception( getClass() );
+		final List<E> orderedResults = new ArrayList<>( naturalIds.length );
+		for ( Object result : results ) {
+			// the unordered results simply omit the natural-ids which matched nothing
+			if ( result != null || options.isOrderReturnEnabled() ) {
+				//noinspection unchecked
+				orderedResults.add( (E) result );
+			}
 		}
+		return orderedResults;
+	}
 
-		return results;
+	/**
+	 * A key identifying a normalized natural-id value, compound natural-ids being arrays
+	 */
+	private static Object naturalIdKey(Object normalizedNaturalId) {
+		return normalizedNaturalId instanceof Object[]
+				? Arrays.asList( (Object[]) normalizedNaturalId )
+				: normalizedNaturalId;
 	}
 
 	@Override
 	public EntityMappingType getLoadable() {
 		return entityDescriptor;
 	}
+
+	/**
+	 * Options for loading the entities whose natural-ids were resolved to identifiers,
+	 * checking the session and the second-level cache first
+	 */
+	private static class ResolvedIdLoadOptions implements MultiIdLoadOptions {
+		private final MultiNaturalIdLoadOptions options;
+		private final LockOptions lockOptions;
+
+		private ResolvedIdLoadOptions(MultiNaturalIdLoadOptions options, LockOptions lockOptions) {
+			this.options = options;
+			this.lockOptions = lockOptions;
+		}
+
+		@Override
+		public boolean isSessionCheckingEnabled() {
+			return true;
+		}
+
+		@Override
+		public boolean isSecondLevelCacheCheckingEnabled() {
+			return true;
+		}
+
+		@Override
+		public boolean isReturnOfDeletedEntitiesEnabled() {
+			return options.isReturnOfDeletedEntitiesEnabled();
+		}
+
+		@Override
+		public boolean isOrderReturnEnabled() {
+			// keeps the entities at the position of their identifier
+			return true;
+		}
+
+		@Override
+		public LockOptions getLockOptions() {
+			return lockOptions;
+		}
+
+		@Override
+		public Integer getBatchSize() {
+			return options.getBatchSize();
+		}
+	}
 }
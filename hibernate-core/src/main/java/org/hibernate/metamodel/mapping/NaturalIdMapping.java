@@ -7,6 +7,7 @@
 package org.hibernate.metamodel.mapping;
 
 import java.util.List;
+import java.util.Map;
 
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -43,6 +44,17 @@ public interface NaturalIdMapping extends VirtualModelPart {
 	 */
 	NaturalIdDataAccess getCacheAccess();
 
+	/**
+	 * The resolutions of natural-id values to identifiers kept by the {@code SessionFactory},
+	 * keyed by {@link org.hibernate.cache.internal.NaturalIdCacheKey}. Returns null unless
+	 * the natural-id is immutable and such resolutions are configured.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#NATURAL_ID_RESOLUTION_CACHE_SIZE
+	 */
+	default Map<Object, Object> getResolutionCache() {
+		return null;
+	}
+
 	/**
 	 * Verify the natural-id value(s) we are about to flush to the database
 	 */
@@ -6,7 +6,10 @@
  */
 package org.hibernate.metamodel.mapping.internal;
 
+import java.util.Map;
+
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.metamodel.mapping.NaturalIdMapping;
 import org.hibernate.metamodel.model.domain.NavigableRole;
@@ -18,6 +21,7 @@ public abstract class AbstractNaturalIdMapping implements NaturalIdMapping {
 	private final EntityMappingType declaringType;
 	private final boolean mutable;
 	private final NaturalIdDataAccess cachesAccess;
+	private final Map<Object, Object> resolutionCache;
 
 	private final NavigableRole role;
 
@@ -27,6 +31,14 @@ public abstract class AbstractNaturalIdMapping implements NaturalIdMapping {
 
 		this.cachesAccess = declaringType.getEntityPersister().getNaturalIdCacheAccessStrategy();
 
+		final int resolutionCacheSize = declaringType.getEntityPersister().getFactory()
+				.getSessionFactoryOptions()
+				.getNaturalIdResolutionCacheSize();
+		// a mutable natural-id might be resolved to another identifier by a concurrent session
+		this.resolutionCache = !mutable && resolutionCacheSize > 0
+				? new BoundedConcurrentHashMap<>( resolutionCacheSize, 16 )
+				: null;
+
 		this.role = declaringType.getNavigableRole().append( PART_NAME );
 	}
 
@@ -49,6 +61,11 @@ public abstract class AbstractNaturalIdMapping implements NaturalIdMapping {
 		return cachesAccess;
 	}
 
+	@Override
+	public Map<Object, Object> getResolutionCache() {
+		return resolutionCache;
+	}
+
 	@Override
 	public EntityMappingType findContainingEntityMapping() {
 		return declaringType;
@@ -14,7 +14,11 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -81,6 +85,8 @@ import org.hibernate.type.descriptor.java.spi.JavaTypeRegistry;
 import org.hibernate.type.descriptor.jdbc.JdbcType;
 import org.hibernate.type.spi.TypeConfiguration;
 
+import static org.hibernate.cfg.AvailableSettings.PARALLEL_PERSISTER_INITIALIZATION;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
 import static org.hibernate.metamodel.internal.JpaMetaModelPopulationSetting.determineJpaMetaModelPopulationSetting;
 import static org.hibernate.metamodel.internal.JpaStaticMetaModelPopulationSetting.determineJpaStaticMetaModelPopulationSetting;
 
@@ -233,13 +239,19 @@ public class MappingMetamodelImpl implements MappingMetamodelImplementor, Metamo
 				runtimeModelCreationContext
 		);
 
+		// sequential unless explicitly enabled, custom persisters might not be thread safe
+		if ( getBoolean( PARALLEL_PERSISTER_INITIALIZATION, sessionFactory.getProperties(), false ) ) {
+			postInstantiateInParallel();
+		}
+		else {
+			entityPersisterMap.values().forEach( EntityPersister::postInstantiate );
+			collectionPersisterMap.values().forEach( CollectionPersister::postInstantiate );
+		}
+
 		for ( EntityPersister persister : entityPersisterMap.values() ) {
-			persister.postInstantiate();
 			registerEntityNameResolvers( persister, entityNameResolvers );
 		}
 
-		collectionPersisterMap.values().forEach( CollectionPersister::postInstantiate );
-
 		registerEmbeddableMappingType( bootModel );
 
 		( (JpaMetamodelImpl) this.jpaMetamodel ).processJpa(
@@ -253,6 +265,85 @@ public class MappingMetamodelImpl implements MappingMetamodelImplementor, Metamo
 		);
 	}
 
+	/**
+	 * Generate the static SQL and the loaders of the persisters concurrently.
+	 * At this point the mapping model is complete. Each persister writes only its
+	 * own static SQL and loaders, but building the loaders reads the mapping model
+	 * of the associated persisters, so the state which the persisters initialize
+	 * lazily is initialized up front, sequentially, by {@link #prepareSharedState()}.
+	 * Entity persisters are still all initialized before collection persisters,
+	 * as sequentially.
+	 */
+	private void postInstantiateInParallel() {
+		final long startTime = System.nanoTime();
+		prepareSharedState();
+		final ForkJoinPool pool = new ForkJoinPool();
+		try {
+			final List<Callable<Void>> entityTasks = new ArrayList<>( entityPersisterMap.size() );
+			for ( EntityPersister persister : entityPersisterMap.values() ) {
+				entityTasks.add( () -> {
+					persister.postInstantiate();
+					return null;
+				} );
+			}
+			awaitAll( pool.invokeAll( entityTasks ) );
+
+			final List<Callable<Void>> collectionTasks = new ArrayList<>( collectionPersisterMap.size() );
+			for ( CollectionPersister persister : collectionPersisterMap.values() ) {
+				collectionTasks.add( () -> {
+					persister.postInstantiate();
+					return null;
+				} );
+			}
+			awaitAll( pool.invokeAll( collectionTasks ) );
+		}
+		finally {
+			pool.shutdown();
+		}
+		log.debugf(
+				"Initialized %s entity and %s collection persisters in parallel in %s ms",
+				entityPersisterMap.size(),
+				collectionPersisterMap.size(),
+				( System.nanoTime() - startTime ) / 1_000_000
+		);
+	}
+
+	/**
+	 * Initialize the state of the entity persisters which is otherwise initialized
+	 * lazily on first access, and which the loaders of the other persisters access
+	 * while they are built, so that the parallel initialization only reads it.
+	 */
+	private void prepareSharedState() {
+		for ( EntityPersister persister : entityPersisterMap.values() ) {
+			persister.getAttributeMappings();
+			if ( persister instanceof Queryable ) {
+				( (Queryable) persister ).getTypeDiscriminatorMetadata();
+			}
+		}
+	}
+
+	private static void awaitAll(List<Future<Void>> futures) {
+		for ( Future<Void> future : futures ) {
+			try {
+				future.get();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new HibernateException( "Interrupted while initializing persisters", e );
+			}
+			catch (ExecutionException e) {
+				final Throwable cause = e.getCause();
+				if ( cause instanceof RuntimeException ) {
+					throw (RuntimeException) cause;
+				}
+				if ( cause instanceof Error ) {
+					throw (Error) cause;
+				}
+				throw new HibernateException( "Unable to initialize persister", cause );
+			}
+		}
+	}
+
 	private void registerEmbeddableMappingType(MetadataImplementor bootModel) {
 		bootModel.visitRegisteredComponents(
 				composite -> {
@@ -158,6 +158,7 @@ public abstract class AbstractCollectionPersister
 
 	protected final boolean indexContainsFormula;
 	protected final boolean elementIsPureFormula;
+	private final boolean bagDiffUpdatePossible;
 
 	// types
 	private final Type keyType;
@@ -382,6 +383,8 @@ public abstract class AbstractCollectionPersister
 		elementColumnIsInPrimaryKey = new boolean[elementSpan];
 		boolean isPureFormula = true;
 		boolean hasNotNullableColumns = false;
+		// whether a row can be located by the value of its element
+		boolean elementIsRowLocator = true;
 		boolean oneToMany = collectionBootDescriptor.isOneToMany();
 		boolean[] columnInsertability = null;
 		if ( !oneToMany ) {
@@ -398,6 +401,7 @@ public abstract class AbstractCollectionPersister
 						factory.getQueryEngine().getSqmFunctionRegistry()
 				);
 				elementFormulas[j] = form.getFormula();
+				elementIsRowLocator = false;
 			}
 			else {
 				Column col = (Column) selectable;
@@ -422,11 +426,18 @@ public abstract class AbstractCollectionPersister
 				if ( !col.isNullable() ) {
 					hasNotNullableColumns = true;
 				}
+				else if ( elementType.isComponentType() ) {
+					// the embeddable may have a null value in this column
+					elementIsRowLocator = false;
+				}
 				isPureFormula = false;
 			}
 			j++;
 		}
 		elementIsPureFormula = isPureFormula;
+		bagDiffUpdatePossible = elementIsRowLocator
+				&& !oneToMany
+				&& factory.getSessionFactoryOptions().isBagDiffUpdatesEnabled();
 
 		// workaround, for backward compatibility of sets with no
 		// not-null columns, assume all columns are used in the
@@ -1304,6 +1315,11 @@ public abstract class AbstractCollectionPersister
 		return hasIndex;
 	}
 
+	@Override
+	public boolean isBagDiffUpdatePossible() {
+		return bagDiffUpdatePossible && !hasIndex && !hasIdentifier;
+	}
+
 	@Override
 	public boolean isLazy() {
 		return isLazy;
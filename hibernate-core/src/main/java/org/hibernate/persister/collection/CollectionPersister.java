@@ -106,6 +106,19 @@ public interface CollectionPersister extends Restrictable {
 		return true;
 	}
 
+	/**
+	 * Whether the changes to a bag may be written by deleting and inserting
+	 * the rows of the elements whose number of occurrences changed, instead
+	 * of recreating the whole collection.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BAG_DIFF_UPDATES
+	 *
+	 * @since 6.2
+	 */
+	default boolean isBagDiffUpdatePossible() {
+		return false;
+	}
+
 	/**
 	 * Get the cache
 	 */
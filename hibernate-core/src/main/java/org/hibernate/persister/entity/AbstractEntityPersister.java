@@ -75,6 +75,8 @@ import org.hibernate.engine.internal.MutableEntityEntryFactory;
 import org.hibernate.engine.internal.StatefulPersistenceContext;
 import org.hibernate.engine.internal.Versioning;
 import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+import org.hibernate.engine.jdbc.batch.internal.BulkLoadBatchKey;
+import org.hibernate.engine.jdbc.batch.internal.MultiRowInsertBatchKey;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.CachedNaturalIdValueSource;
@@ -3031,7 +3033,10 @@ public abstract class AbstractEntityPersister
 	 * Generate the SQL that inserts a row
 	 */
 	public String generateInsertString(boolean[] includeProperty, int j) {
+		return buildInsert( includeProperty, j ).toStatementString();
+	}
 
+	private Insert buildInsert(boolean[] includeProperty, int j) {
 		final Insert insert = createInsert().setTableName( getTableName( j ) );
 
 		for ( int index = 0; index < attributeMappings.length; index++ ) {
@@ -3094,7 +3099,7 @@ public abstract class AbstractEntityPersister
 			}
 		}
 
-		return insert.toStatementString();
+		return insert;
 	}
 
 	/**
@@ -3334,6 +3339,60 @@ public abstract class AbstractEntityPersister
 	}
 
 	private BasicBatchKey insertBatchKey;
+	// immutable, and published to the other sessions through the volatile write
+	private volatile BulkLoadBatchKey bulkLoadBatchKey;
+
+	/**
+	 * Can batched inserts be combined into multi-row insert statements?
+	 */
+	private boolean isMultiRowInsertable() {
+		return getFactory().getSessionFactoryOptions().isJdbcBatchMultiRowInsert()
+				&& getFactory().getJdbcServices().getDialect().supportsMultiRowInsert()
+				&& hasGeneratedInsertStatements();
+	}
+
+	/**
+	 * Is there a single generated, non-callable, insert statement per table?
+	 */
+	private boolean hasGeneratedInsertStatements() {
+		if ( entityMetamodel.isDynamicInsert() ) {
+			return false;
+		}
+		for ( int j = 0; j < getTableSpan(); j++ ) {
+			if ( customSQLInsert[j] != null || insertCallable[j] ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private BasicBatchKey getInsertBatchKey(Expectation expectation, SharedSessionContractImplementor session) {
+		if ( session.isBulkLoadInProgress() && hasGeneratedInsertStatements() ) {
+			BulkLoadBatchKey key = bulkLoadBatchKey;
+			if ( key == null ) {
+				final Map<String, BulkLoadBatchKey.Table> tablesByInsertString = new HashMap<>();
+				for ( int j = 0; j < getTableSpan(); j++ ) {
+					final Insert insert = buildInsert( getPropertyInsertability(), j );
+					final List<String> columnNames = insert.getParameterColumnNames();
+					if ( columnNames != null ) {
+						tablesByInsertString.put(
+								insert.toStatementString(),
+								new BulkLoadBatchKey.Table( insert.getTableName(), columnNames )
+						);
+					}
+				}
+				key = new BulkLoadBatchKey( getEntityName() + "#INSERT", expectation, tablesByInsertString );
+				bulkLoadBatchKey = key;
+			}
+			return key;
+		}
+		if ( insertBatchKey == null ) {
+			insertBatchKey = isMultiRowInsertable()
+					? new MultiRowInsertBatchKey( getEntityName() + "#INSERT", expectation )
+					: new BasicBatchKey( getEntityName() + "#INSERT", expectation );
+		}
+		return insertBatchKey;
+	}
 
 	/**
 	 * Perform an SQL INSERT.
@@ -3372,12 +3431,7 @@ public abstract class AbstractEntityPersister
 		final boolean useBatch = expectation.canBeBatched()
 				&& session.getConfiguredJdbcBatchSize() > 1
 				&& getIdentifierGenerator().supportsJdbcBatchInserts();
-		if ( useBatch && insertBatchKey == null ) {
-			insertBatchKey = new BasicBatchKey(
-					getEntityName() + "#INSERT",
-					expectation
-			);
-		}
+		final BasicBatchKey batchKey = useBatch ? getInsertBatchKey( expectation, session ) : null;
 		final boolean callable = isInsertCallable( j );
 
 		try {
@@ -3386,7 +3440,7 @@ public abstract class AbstractEntityPersister
 			if ( useBatch ) {
 				insert = session
 						.getJdbcCoordinator()
-						.getBatch( insertBatchKey )
+						.getBatch( batchKey )
 						.getBatchStatement( sql, callable );
 			}
 			else {
@@ -3406,7 +3460,7 @@ public abstract class AbstractEntityPersister
 				dehydrate( id, fields, null, notNull, propertyColumnInsertable, j, insert, session, index, false );
 
 				if ( useBatch ) {
-					session.getJdbcCoordinator().getBatch( insertBatchKey ).addToBatch();
+					session.getJdbcCoordinator().getBatch( batchKey ).addToBatch();
 				}
 				else {
 					expectation.verifyOutcome(
@@ -10,13 +10,17 @@ import static org.hibernate.internal.CoreLogging.messageLogger;
 
 import java.io.Serializable;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Set;
 import java.util.function.Function;
 
+import jakarta.persistence.Entity;
+
 import org.hibernate.HibernateException;
 import org.hibernate.bytecode.internal.bytebuddy.ByteBuddyState;
 import org.hibernate.internal.CoreMessageLogger;
@@ -27,6 +31,8 @@ import org.hibernate.proxy.ProxyConfiguration;
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.NamingStrategy;
 import net.bytebuddy.TypeCache;
+import net.bytebuddy.description.modifier.FieldManifestation;
+import net.bytebuddy.description.modifier.Ownership;
 import net.bytebuddy.description.modifier.Visibility;
 import net.bytebuddy.description.type.TypeDefinition;
 import net.bytebuddy.description.type.TypeDescription;
@@ -40,6 +46,7 @@ public class ByteBuddyProxyHelper implements Serializable {
 
 	private static final CoreMessageLogger LOG = messageLogger( ByteBuddyProxyHelper.class );
 	private static final String PROXY_NAMING_SUFFIX = "HibernateProxy";
+	private static final String PREBUILT_PROXY_NAMING_SUFFIX = "Prebuilt";
 
 	private final ByteBuddyState byteBuddyState;
 
@@ -57,10 +64,72 @@ public class ByteBuddyProxyHelper implements Serializable {
 		}
 		Collections.addAll( key, interfaces );
 
-		return byteBuddyState.loadProxy( persistentClass, new TypeCache.SimpleKey( key ),
+		// only the proxies of entities without proxy interfaces are generated at build time
+		final String prebuiltProxyClassName = interfaces.length == 1 && interfaces[0] == HibernateProxy.class
+				? prebuiltProxyClassName( persistentClass.getName() )
+				: null;
+
+		return byteBuddyState.loadProxy( persistentClass, new TypeCache.SimpleKey( key ), prebuiltProxyClassName, interfaces,
 				proxyBuilder( TypeDescription.ForLoadedType.of( persistentClass ), new TypeList.Generic.ForLoadedTypes( interfaces ) ) );
 	}
 
+	/**
+	 * The name under which the proxy of the given entity class is generated at build time.
+	 */
+	public static String prebuiltProxyClassName(String persistentClassName) {
+		return persistentClassName + "$" + PROXY_NAMING_SUFFIX + "$" + PREBUILT_PROXY_NAMING_SUFFIX;
+	}
+
+	/**
+	 * Generates, at build time, the proxy of the given class if it is a proxyable entity, under the
+	 * {@linkplain #prebuiltProxyClassName name} looked up when the proxy factory is built at runtime.
+	 * The proxy records the {@linkplain ByteBuddyState#prebuiltMarker marker} of the classes it was
+	 * generated from, so that it is regenerated at runtime if they changed since.
+	 *
+	 * @param classLoader The class loader of the classes being built, and of their dependencies.
+	 * @param className The name of the class to proxy.
+	 * @return The bytecode of the proxy class, or {@code null} if the class isn't a proxyable entity,
+	 * or if the bytecode of one of its superclasses is not available.
+	 */
+	public byte[] buildPrebuiltProxy(ClassLoader classLoader, String className) {
+		final TypePool typePool = TypePool.Default.of( classLoader );
+		final TypeDescription persistentClass = typePool.describe( className ).resolve();
+		if ( persistentClass.isInterface()
+				|| persistentClass.isFinal()
+				|| !persistentClass.getDeclaredAnnotations().isAnnotationPresent( Entity.class ) ) {
+			return null;
+		}
+		final List<String> classNames = new ArrayList<>();
+		for ( TypeDefinition type = persistentClass; type != null && !type.represents( Object.class ); type = type.getSuperClass() ) {
+			classNames.add( type.asErasure().getName() );
+		}
+		final String marker = ByteBuddyState.prebuiltMarker(
+				classLoader,
+				classNames,
+				Collections.singletonList( HibernateProxy.class.getName() )
+		);
+		if ( marker == null ) {
+			return null;
+		}
+		final Function<ByteBuddy, DynamicType.Builder<?>> proxyBuilder = proxyBuilder(
+				persistentClass,
+				Collections.singletonList( TypeDescription.ForLoadedType.of( HibernateProxy.class ) )
+		);
+		return byteBuddyState.make(
+				typePool,
+				byteBuddy -> proxyBuilder.apply( byteBuddy )
+						.name( prebuiltProxyClassName( className ) )
+						.defineField(
+								ByteBuddyState.PREBUILT_MARKER_FIELD_NAME,
+								String.class,
+								Visibility.PUBLIC,
+								Ownership.STATIC,
+								FieldManifestation.FINAL
+						)
+						.value( marker )
+		).getBytes();
+	}
+
 	/**
 	 * @deprecated Use {@link #buildUnloadedProxy(TypePool, TypeDefinition, Collection)} instead.
 	 */
@@ -0,0 +1,151 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.event.internal.EvictVisitor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+
+/**
+ * A {@link ScrollableResultsIterator} which evicts the entities loaded by the rows it
+ * returned from the persistence context once it has moved a given number of rows past
+ * them. This includes the entities loaded along with the returned ones, for example by
+ * eager associations.
+ * <p>
+ * The entities are evicted one by one, without cascading to their associations, so that
+ * entities associated with the session before the results were read stay managed.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_STREAM_EVICTION_WINDOW
+ *
+ * @since 6.2
+ */
+@Incubating
+public class EvictingScrollableResultsIterator<T> extends ScrollableResultsIterator<T> {
+	private final EventSource session;
+	private final int window;
+
+	// the entities associated with the session before the results were read
+	private final Set<Object> preexistingEntities;
+	// the entities loaded or returned by each row of the window
+	private final Deque<List<Object>> rows = new ArrayDeque<>();
+	// the number of rows of the window loading or returning each entity
+	private final Map<Object, Integer> references = new IdentityHashMap<>();
+
+	public EvictingScrollableResultsIterator(
+			ScrollableResultsImplementor<T> scrollableResults,
+			EventSource session,
+			int window) {
+		super( scrollableResults );
+		this.session = session;
+		this.window = window;
+
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		if ( persistenceContext.getNumberOfManagedEntities() == 0 ) {
+			preexistingEntities = Collections.emptySet();
+		}
+		else {
+			preexistingEntities = Collections.newSetFromMap( new IdentityHashMap<>() );
+			for ( Map.Entry<Object, EntityEntry> entry : persistenceContext.reentrantSafeEntityEntries() ) {
+				preexistingEntities.add( entry.getKey() );
+			}
+		}
+	}
+
+	@Override
+	public T next() {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final int managedEntities = persistenceContext.getNumberOfManagedEntities();
+		final T result = super.next();
+		rows.addLast( entities( result, persistenceContext.getNumberOfManagedEntities() - managedEntities ) );
+		if ( rows.size() > window ) {
+			for ( Object entity : rows.removeFirst() ) {
+				release( entity );
+			}
+		}
+		return result;
+	}
+
+	private List<Object> entities(T result, int loadedEntities) {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final List<Object> entities = new ArrayList<>();
+
+		if ( loadedEntities > 0 ) {
+			// entries are kept in insertion order, so the entities loaded by the row come last
+			final Map.Entry<Object, EntityEntry>[] entries = persistenceContext.reentrantSafeEntityEntries();
+			for ( int i = entries.length - loadedEntities; i < entries.length; i++ ) {
+				reference( entries[i].getKey(), entities );
+			}
+		}
+
+		// returned entities may have been loaded by a previous row
+		final Object[] values = result instanceof Object[] ? (Object[]) result : new Object[] { result };
+		for ( Object value : values ) {
+			if ( value != null
+					&& !preexistingEntities.contains( value )
+					&& !entities.contains( value )
+					&& persistenceContext.getEntry( value ) != null ) {
+				reference( value, entities );
+			}
+		}
+		return entities;
+	}
+
+	private void reference(Object entity, List<Object> entities) {
+		entities.add( entity );
+		references.merge( entity, 1, Integer::sum );
+	}
+
+	private void release(Object entity) {
+		final int count = references.get( entity ) - 1;
+		if ( count > 0 ) {
+			// still loaded or returned by a row of the window
+			references.put( entity, count );
+		}
+		else {
+			references.remove( entity );
+			evict( entity );
+		}
+	}
+
+	/**
+	 * Evict the entity and its collections, like {@link org.hibernate.Session#evict(Object)},
+	 * but without cascading the eviction to its associations.
+	 */
+	private void evict(Object entity) {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final EntityEntry entry = persistenceContext.getEntry( entity );
+		if ( entry == null ) {
+			// already evicted by the application
+			return;
+		}
+
+		final EntityPersister persister = entry.getPersister();
+		final EntityKey key = entry.getEntityKey();
+		if ( persister.hasNaturalIdentifier() ) {
+			persistenceContext.getNaturalIdResolutions().handleEviction( entity, key.getIdentifier(), persister );
+		}
+		if ( persister.hasCollections() ) {
+			new EvictVisitor( session, entity ).process( entity, persister );
+		}
+		persistenceContext.removeEntity( key );
+		persistenceContext.removeEntry( entity );
+	}
+}
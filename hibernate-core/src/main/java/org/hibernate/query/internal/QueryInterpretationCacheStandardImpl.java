@@ -7,11 +7,12 @@
 package org.hibernate.query.internal;
 
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import jakarta.persistence.Tuple;
 
-import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.internal.util.collections.BoundedConcurrentCache;
 import org.hibernate.query.QueryLogging;
 import org.hibernate.query.spi.HqlInterpretation;
 import org.hibernate.query.spi.NonSelectQueryPlan;
@@ -28,31 +29,64 @@ import org.hibernate.stat.spi.StatisticsImplementor;
 import org.jboss.logging.Logger;
 
 /**
- * Standard QueryInterpretationCache implementation
+ * Standard QueryInterpretationCache implementation, backed by
+ * {@link BoundedConcurrentCache}s weighted by the length of the query string.
  *
  * @author Steve Ebersole
  */
 public class QueryInterpretationCacheStandardImpl implements QueryInterpretationCache {
 	private static final Logger log = QueryLogging.subLogger( "plan.cache" );
 
+	private static final String MULTI_PREFIX = "multi_";
+
+	/**
+	 * Query strings weigh one unit, plus one unit per this many characters,
+	 * as a cheap estimate of the size of the interpretation or plan
+	 */
+	private static final int WEIGHT_UNIT_LENGTH = 1024;
+
 	/**
 	 * the cache of the actual plans...
 	 */
-	private final BoundedConcurrentHashMap<Key, QueryPlan> queryPlanCache;
+	private final BoundedConcurrentCache<Key, QueryPlan> queryPlanCache;
 
-	private final BoundedConcurrentHashMap<String, HqlInterpretation> hqlInterpretationCache;
-	private final BoundedConcurrentHashMap<String, ParameterInterpretation> nativeQueryParamCache;
+	private final BoundedConcurrentCache<String, HqlInterpretation> hqlInterpretationCache;
+	private final BoundedConcurrentCache<String, ParameterInterpretation> nativeQueryParamCache;
 	private final Supplier<StatisticsImplementor> statisticsSupplier;
 
 	public QueryInterpretationCacheStandardImpl(int maxQueryPlanCount, Supplier<StatisticsImplementor> statisticsSupplier) {
 		log.debugf( "Starting QueryPlanCache(%s)", maxQueryPlanCount );
 
-		this.queryPlanCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		this.hqlInterpretationCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		this.nativeQueryParamCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+		this.queryPlanCache = new BoundedConcurrentCache<>(
+				maxQueryPlanCount,
+				(key, plan) -> weigh( key.getQueryString() ),
+				(key, plan) -> evicted( key.getQueryString() )
+		);
+		this.hqlInterpretationCache = new BoundedConcurrentCache<>(
+				maxQueryPlanCount,
+				(queryString, interpretation) -> weigh( queryString ),
+				(queryString, interpretation) -> evicted( queryString )
+		);
+		this.nativeQueryParamCache = new BoundedConcurrentCache<>(
+				maxQueryPlanCount,
+				(queryString, interpretation) -> weigh( queryString ),
+				(queryString, interpretation) -> evicted( queryString )
+		);
 		this.statisticsSupplier = statisticsSupplier;
 	}
 
+	private static int weigh(String queryString) {
+		return 1 + queryString.length() / WEIGHT_UNIT_LENGTH;
+	}
+
+	private void evicted(String queryString) {
+		log.tracef( "Evicted from query plan cache: %s", queryString );
+		final StatisticsImplementor statistics = statisticsSupplier.get();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.queryPlanCacheEviction( queryString );
+		}
+	}
+
 	@Override
 	public int getNumberOfCachedHqlInterpretations() {
 		return hqlInterpretationCache.size();
@@ -63,6 +97,11 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 		return queryPlanCache.size();
 	}
 
+	@Override
+	public long getCurrentWeight() {
+		return queryPlanCache.getWeight() + hqlInterpretationCache.getWeight() + nativeQueryParamCache.getWeight();
+	}
+
 	@Override
 	public <R> SelectQueryPlan<R> resolveSelectQueryPlan(
 			Key key,
@@ -109,7 +148,7 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 		final String cacheKey;
 		if ( expectedResultType != null
 				&& ( expectedResultType.isArray() || Tuple.class.isAssignableFrom( expectedResultType ) ) ) {
-			cacheKey = "multi_" + queryString;
+			cacheKey = MULTI_PREFIX + queryString;
 		}
 		else {
 			cacheKey = queryString;
@@ -180,6 +219,18 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 		return true;
 	}
 
+	@Override
+	public void visitCachedHqlQueries(BiConsumer<String, Class<?>> action) {
+		for ( String cacheKey : hqlInterpretationCache.keys() ) {
+			if ( cacheKey.startsWith( MULTI_PREFIX ) ) {
+				action.accept( cacheKey.substring( MULTI_PREFIX.length() ), Object[].class );
+			}
+			else {
+				action.accept( cacheKey, null );
+			}
+		}
+	}
+
 	@Override
 	public void close() {
 		// todo (6.0) : clear maps/caches and LOG
@@ -0,0 +1,273 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.HibernateException;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.metamodel.model.domain.JpaMetamodel;
+import org.hibernate.metamodel.model.domain.ManagedDomainType;
+import org.hibernate.query.QueryLogging;
+import org.hibernate.query.named.NamedObjectRepository;
+import org.hibernate.query.spi.QueryEngine;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.query.sql.internal.NativeQueryImpl;
+
+import org.jboss.logging.Logger;
+
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+
+/**
+ * Populates the {@link QueryInterpretationCache} from a background thread once the
+ * {@link org.hibernate.SessionFactory} has started, so that the first execution of
+ * a named query does not pay for parsing and semantic interpretation.
+ * <p>
+ * When a {@linkplain org.hibernate.cfg.AvailableSettings#QUERY_WARMUP_FILE file}
+ * is specified, the HQL queries held in the cache at shutdown are written to it,
+ * and interpreted again by the next warm-up. The file records a
+ * {@linkplain #fingerprint fingerprint} of the domain model and the dialect, and
+ * is ignored when it no longer matches, that is, after a mapping change. The
+ * fingerprint is only an invalidation check of the file, it is not computed when
+ * no file is specified.
+ * <p>
+ * Note that only query strings are remembered, not their interpretation: SQM
+ * trees reference the runtime metamodel and cannot be serialized, so queries
+ * are parsed again, just not on the request path.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_STARTUP_WARMUP
+ */
+public class QueryInterpretationCacheWarmer {
+	private static final Logger log = QueryLogging.subLogger( "plan.warmup" );
+
+	private static final String FILE_FORMAT = "hibernate-hot-queries-1";
+	private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+	private final QueryEngine queryEngine;
+	private final Path hotQueryFile;
+	private final String fingerprint;
+
+	private ExecutorService executorService;
+
+	/**
+	 * @param hotQueryFile The file remembering the cached queries, or {@code null}
+	 * @param fingerprint The {@linkplain #fingerprint fingerprint} guarding the file, or {@code null} if there is no file
+	 */
+	public QueryInterpretationCacheWarmer(QueryEngine queryEngine, Path hotQueryFile, String fingerprint) {
+		this.queryEngine = queryEngine;
+		this.hotQueryFile = hotQueryFile;
+		this.fingerprint = fingerprint;
+	}
+
+	/**
+	 * Computes a digest of the managed types and their attributes, along with the
+	 * dialect, which all influence the interpretation of HQL queries.
+	 */
+	public static String fingerprint(JpaMetamodel jpaMetamodel, Dialect dialect) {
+		final List<String> parts = new ArrayList<>();
+		for ( ManagedType<?> managedType : jpaMetamodel.getManagedTypes() ) {
+			final String typeName = ( (ManagedDomainType<?>) managedType ).getTypeName();
+			parts.add( typeName );
+			for ( Attribute<?, ?> attribute : managedType.getDeclaredAttributes() ) {
+				parts.add(
+						typeName + '.' + attribute.getName()
+								+ ':' + attribute.getPersistentAttributeType()
+								+ ':' + ( attribute.getJavaType() == null ? "" : attribute.getJavaType().getName() )
+				);
+			}
+		}
+		// the iteration order of the metamodel is not stable
+		Collections.sort( parts );
+		parts.add( dialect.getClass().getName() + ':' + dialect.getVersion() );
+
+		try {
+			final MessageDigest digest = MessageDigest.getInstance( "SHA-256" );
+			for ( String part : parts ) {
+				digest.update( part.getBytes( StandardCharsets.UTF_8 ) );
+				digest.update( (byte) '\n' );
+			}
+			final StringBuilder hex = new StringBuilder();
+			for ( byte b : digest.digest() ) {
+				hex.append( Character.forDigit( ( b >> 4 ) & 0xf, 16 ) ).append( Character.forDigit( b & 0xf, 16 ) );
+			}
+			return hex.toString();
+		}
+		catch (NoSuchAlgorithmException e) {
+			// SHA-256 is required of every Java platform
+			throw new IllegalStateException( e );
+		}
+	}
+
+	/**
+	 * Start interpreting the named queries, and the queries remembered from
+	 * the previous run, in the background.
+	 */
+	public void start() {
+		// collect the query strings up front, the repository is
+		// not safe for concurrent registration and iteration
+		final List<String> hqlStrings = new ArrayList<>();
+		final List<String> sqlStrings = new ArrayList<>();
+		final NamedObjectRepository namedObjectRepository = queryEngine.getNamedObjectRepository();
+		namedObjectRepository.visitSqmQueryMementos( memento -> hqlStrings.add( memento.getHqlString() ) );
+		namedObjectRepository.visitNativeQueryMementos( memento -> sqlStrings.add( memento.getSqlString() ) );
+
+		executorService = Executors.newSingleThreadExecutor( new WarmupThreadFactory() );
+		executorService.execute( () -> warmUp( hqlStrings, sqlStrings ) );
+	}
+
+	private void warmUp(List<String> hqlStrings, List<String> sqlStrings) {
+		final long startTime = System.nanoTime();
+		int count = 0;
+
+		for ( String hqlString : hqlStrings ) {
+			if ( Thread.currentThread().isInterrupted() ) {
+				return;
+			}
+			count += warmUpHql( hqlString, null );
+		}
+
+		final QueryInterpretationCache interpretationCache = queryEngine.getInterpretationCache();
+		for ( String sqlString : sqlStrings ) {
+			if ( Thread.currentThread().isInterrupted() ) {
+				return;
+			}
+			try {
+				interpretationCache.resolveNativeQueryParameters(
+						sqlString,
+						s -> NativeQueryImpl.interpretParameters( sqlString, queryEngine.getNativeQueryInterpreter() )
+				);
+				count++;
+			}
+			catch (RuntimeException e) {
+				log.debugf( e, "Unable to warm up native query: %s", sqlString );
+			}
+		}
+
+		if ( hotQueryFile != null && Files.exists( hotQueryFile ) ) {
+			try ( DataInputStream input = new DataInputStream(
+					new BufferedInputStream( Files.newInputStream( hotQueryFile ) ) ) ) {
+				if ( !FILE_FORMAT.equals( input.readUTF() ) || !fingerprint.equals( input.readUTF() ) ) {
+					log.debugf( "Ignoring remembered queries from %s, the domain model changed", hotQueryFile );
+					return;
+				}
+				while ( !Thread.currentThread().isInterrupted() ) {
+					final String hqlString = input.readUTF();
+					final boolean multiValued = input.readBoolean();
+					count += warmUpHql( hqlString, multiValued ? Object[].class : null );
+				}
+			}
+			catch (EOFException e) {
+				// end of the remembered queries
+			}
+			catch (IOException e) {
+				log.debugf( e, "Unable to read remembered queries from %s", hotQueryFile );
+			}
+		}
+
+		log.debugf(
+				"Warmed up %s query interpretations in %s ms",
+				count,
+				( System.nanoTime() - startTime ) / 1_000_000
+		);
+	}
+
+	private int warmUpHql(String hqlString, Class<?> expectedResultType) {
+		try {
+			queryEngine.getInterpretationCache().resolveHqlInterpretation(
+					hqlString,
+					expectedResultType,
+					s -> queryEngine.getHqlTranslator().translate( hqlString, expectedResultType )
+			);
+			return 1;
+		}
+		catch (RuntimeException e) {
+			// queries which are no longer valid are simply skipped,
+			// named ones are reported by the startup check instead
+			log.debugf( e, "Unable to warm up HQL query: %s", hqlString );
+			return 0;
+		}
+	}
+
+	/**
+	 * Stop any warm-up still in progress, and remember the currently cached
+	 * queries for the next warm-up.
+	 */
+	public void close() {
+		if ( executorService != null ) {
+			executorService.shutdownNow();
+			try {
+				// a query being interpreted does not check for interruption
+				if ( !executorService.awaitTermination( SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS ) ) {
+					log.debugf( "Query warm-up did not stop within %s seconds", SHUTDOWN_TIMEOUT_SECONDS );
+				}
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			executorService = null;
+		}
+
+		if ( hotQueryFile != null ) {
+			writeHotQueries();
+		}
+	}
+
+	private void writeHotQueries() {
+		try ( DataOutputStream output = new DataOutputStream(
+				new BufferedOutputStream( Files.newOutputStream( hotQueryFile ) ) ) ) {
+			output.writeUTF( FILE_FORMAT );
+			output.writeUTF( fingerprint );
+			queryEngine.getInterpretationCache().visitCachedHqlQueries(
+					(hqlString, expectedResultType) -> {
+						try {
+							// writeUTF() checks the encoded length before writing anything
+							output.writeUTF( hqlString );
+							output.writeBoolean( expectedResultType != null );
+						}
+						catch (UTFDataFormatException e) {
+							log.debugf( "Query too long to be remembered: %s", hqlString );
+						}
+						catch (IOException e) {
+							throw new HibernateException( "Unable to write remembered queries", e );
+						}
+					}
+			);
+		}
+		catch (IOException | HibernateException e) {
+			log.debugf( e, "Unable to write remembered queries to %s", hotQueryFile );
+		}
+	}
+
+	private static class WarmupThreadFactory implements ThreadFactory {
+		@Override
+		public Thread newThread(Runnable runnable) {
+			final Thread thread = new Thread( runnable );
+			thread.setDaemon( true );
+			thread.setName( "Hibernate Query Warm-up Thread" );
+			return thread;
+		}
+	}
+}
@@ -41,6 +41,7 @@ import org.hibernate.ScrollMode;
 import org.hibernate.TypeMismatchException;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventSource;
 import org.hibernate.graph.spi.AppliedGraph;
 import org.hibernate.jpa.internal.util.LockModeTypeHelper;
 import org.hibernate.metamodel.model.domain.BasicDomainType;
@@ -51,6 +52,7 @@ import org.hibernate.query.QueryParameter;
 import org.hibernate.query.QueryTypeMismatchException;
 import org.hibernate.query.SelectionQuery;
 import org.hibernate.query.criteria.JpaSelection;
+import org.hibernate.query.internal.EvictingScrollableResultsIterator;
 import org.hibernate.query.internal.ScrollableResultsIterator;
 import org.hibernate.query.named.NamedQueryMemento;
 import org.hibernate.query.sqm.SqmExpressible;
@@ -443,7 +445,10 @@ public abstract class AbstractSelectionQuery<R>
 	@Override
 	public Stream stream() {
 		final ScrollableResultsImplementor scrollableResults = scroll( ScrollMode.FORWARD_ONLY );
-		final ScrollableResultsIterator iterator = new ScrollableResultsIterator<>( scrollableResults );
+		final int evictionWindow = getSessionFactory().getSessionFactoryOptions().getQueryStreamEvictionWindow();
+		final ScrollableResultsIterator iterator = evictionWindow > 0 && getSession() instanceof EventSource
+				? new EvictingScrollableResultsIterator<>( scrollableResults, (EventSource) getSession(), evictionWindow )
+				: new ScrollableResultsIterator<>( scrollableResults );
 		final Spliterator spliterator = Spliterators.spliteratorUnknownSize( iterator, Spliterator.NONNULL );
 
 		final Stream stream = StreamSupport.stream( spliterator, false );
@@ -6,6 +6,7 @@
  */
 package org.hibernate.query.spi;
 
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
@@ -34,6 +35,7 @@ import org.hibernate.query.hql.internal.StandardHqlTranslator;
 import org.hibernate.query.hql.spi.SqmCreationOptions;
 import org.hibernate.query.internal.QueryInterpretationCacheDisabledImpl;
 import org.hibernate.query.internal.QueryInterpretationCacheStandardImpl;
+import org.hibernate.query.internal.QueryInterpretationCacheWarmer;
 import org.hibernate.query.named.NamedObjectRepository;
 import org.hibernate.query.sqm.NodeBuilder;
 import org.hibernate.query.sqm.function.SqmFunctionDescriptor;
@@ -64,6 +66,7 @@ public class QueryEngine {
 	public static final int DEFAULT_QUERY_PLAN_MAX_COUNT = 2048;
 
 	private static final Logger LOG_HQL_FUNCTIONS = CoreLogging.logger( "org.hibernate.HQL_FUNCTIONS" );
+	private static final Logger LOG_QUERY_WARMUP = CoreLogging.logger( QueryInterpretationCacheWarmer.class );
 
 	public static QueryEngine from(SessionFactoryImplementor sessionFactory, MetadataImplementor metadata) {
 		final QueryEngineOptions queryEngineOptions = sessionFactory.getSessionFactoryOptions();
@@ -122,6 +125,8 @@ public class QueryEngine {
 	private final TypeConfiguration typeConfiguration;
 	private final int preferredSqlTypeCodeForBoolean;
 
+	private QueryInterpretationCacheWarmer interpretationCacheWarmer;
+
 	public QueryEngine(
 			String uuid,
 			String name,
@@ -380,6 +385,41 @@ public class QueryEngine {
 		namedObjectRepository.prepare( sessionFactory, bootMetamodel, bootstrapContext );
 	}
 
+	/**
+	 * Start populating the interpretation cache with the named queries in the
+	 * background, if {@value AvailableSettings#QUERY_STARTUP_WARMUP} is enabled.
+	 * Meant to be called once the SessionFactory is otherwise fully initialized.
+	 */
+	public void startWarmUp(SessionFactoryImplementor sessionFactory) {
+		final Map<String, Object> properties = sessionFactory.getProperties();
+		if ( !ConfigurationHelper.getBoolean( AvailableSettings.QUERY_STARTUP_WARMUP, properties, false ) ) {
+			return;
+		}
+
+		if ( !interpretationCache.isEnabled() ) {
+			LOG_QUERY_WARMUP.debug( "Skipping query warm-up, the query plan cache is disabled" );
+			return;
+		}
+
+		final String hotQueryFileName = ConfigurationHelper.getString( AvailableSettings.QUERY_WARMUP_FILE, properties );
+		if ( hotQueryFileName == null ) {
+			interpretationCacheWarmer = new QueryInterpretationCacheWarmer( this, null, null );
+		}
+		else {
+			// the fingerprint only guards the remembered queries, there
+			// is no need to walk the whole metamodel without a file
+			interpretationCacheWarmer = new QueryInterpretationCacheWarmer(
+					this,
+					Paths.get( hotQueryFileName ),
+					QueryInterpretationCacheWarmer.fingerprint(
+							sessionFactory.getRuntimeMetamodels().getJpaMetamodel(),
+							sessionFactory.getJdbcServices().getDialect()
+					)
+			);
+		}
+		interpretationCacheWarmer.start();
+	}
+
 	public NamedObjectRepository getNamedObjectRepository() {
 		return namedObjectRepository;
 	}
@@ -413,6 +453,11 @@ public class QueryEngine {
 	}
 
 	public void close() {
+		if ( interpretationCacheWarmer != null ) {
+			// must happen before the interpretation cache is cleared
+			interpretationCacheWarmer.close();
+		}
+
 		if ( namedObjectRepository != null ) {
 			namedObjectRepository.close();
 		}
@@ -6,6 +6,7 @@
  */
 package org.hibernate.query.spi;
 
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -35,6 +36,16 @@ public interface QueryInterpretationCache {
 	int getNumberOfCachedHqlInterpretations();
 	int getNumberOfCachedQueryPlans();
 
+	/**
+	 * The current total weight of the cached interpretations and plans, when
+	 * the cache is bounded by weight rather than by number of entries.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_MAX_SIZE
+	 */
+	default long getCurrentWeight() {
+		return getNumberOfCachedHqlInterpretations() + getNumberOfCachedQueryPlans();
+	}
+
 	HqlInterpretation resolveHqlInterpretation(String queryString, Class<?> expectedResultType, Function<String, SqmStatement<?>> creator);
 
 	<R> SelectQueryPlan<R> resolveSelectQueryPlan(Key key, Supplier<SelectQueryPlan<R>> creator);
@@ -46,14 +57,25 @@ public interface QueryInterpretationCache {
 
 	boolean isEnabled();
 
+	/**
+	 * Visit the HQL query strings for which an interpretation is currently cached,
+	 * along with the expected result type to use when interpreting them again.
+	 * <p>
+	 * Used to remember the "hot" queries across restarts.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_WARMUP_FILE
+	 */
+	default void visitCachedHqlQueries(BiConsumer<String, Class<?>> action) {
+	}
+
 	/**
 	 * Close the cache when the SessionFactory is closed.
 	 * <p>
 	 * Note that depending on the cache strategy implementation chosen, clearing the cache might not reclaim all the
 	 * memory.
 	 * <p>
-	 * Typically, when using LIRS, clearing the cache only invalidates the entries but the outdated entries are kept in
-	 * memory until they are replaced by others. It is not considered a memory leak as the cache is bounded.
+	 * Typically, a cache with lock-free reads may still reference cleared entries from its access buffers until they
+	 * are drained. It is not considered a memory leak as the cache is bounded.
 	 */
 	void close();
 
@@ -347,18 +347,25 @@ public class NativeQueryImpl<R>
 
 		return interpretationCache.resolveNativeQueryParameters(
 					sqlString,
-					s -> {
-						final ParameterRecognizerImpl parameterRecognizer = new ParameterRecognizerImpl();
-
-						session.getFactory().getServiceRegistry()
-								.getService( NativeQueryInterpreter.class )
-								.recognizeParameters( sqlString, parameterRecognizer );
-
-						return new ParameterInterpretationImpl( parameterRecognizer );
-					}
+					s -> interpretParameters(
+							sqlString,
+							session.getFactory().getServiceRegistry().getService( NativeQueryInterpreter.class )
+					)
 			);
 	}
 
+	/**
+	 * Recognize the parameters of the given native SQL string, as cached by
+	 * {@link QueryInterpretationCache#resolveNativeQueryParameters}
+	 */
+	public static ParameterInterpretation interpretParameters(
+			String sqlString,
+			NativeQueryInterpreter nativeQueryInterpreter) {
+		final ParameterRecognizerImpl parameterRecognizer = new ParameterRecognizerImpl();
+		nativeQueryInterpreter.recognizeParameters( sqlString, parameterRecognizer );
+		return new ParameterInterpretationImpl( parameterRecognizer );
+	}
+
 	protected void applyOptions(NamedNativeQueryMemento memento) {
 		super.applyOptions( memento );
 
@@ -32,7 +32,7 @@ public class MultiTableDeleteQueryPlan implements NonSelectQueryPlan {
 
 	@Override
 	public int executeUpdate(DomainQueryExecutionContext executionContext) {
-		BulkOperationCleanupAction.schedule( executionContext.getSession(), sqmDelete );
+		BulkOperationCleanupAction.schedule( executionContext, sqmDelete, domainParameterXref );
 		return deleteStrategy.executeDelete( sqmDelete, domainParameterXref, executionContext );
 	}
 }
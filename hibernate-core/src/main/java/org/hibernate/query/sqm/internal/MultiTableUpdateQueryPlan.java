@@ -32,7 +32,7 @@ public class MultiTableUpdateQueryPlan implements NonSelectQueryPlan {
 
 	@Override
 	public int executeUpdate(DomainQueryExecutionContext executionContext) {
-		BulkOperationCleanupAction.schedule( executionContext.getSession(), sqmUpdate );
+		BulkOperationCleanupAction.schedule( executionContext, sqmUpdate, domainParameterXref );
 		return mutationStrategy.executeUpdate( sqmUpdate, domainParameterXref, executionContext );
 	}
 }
@@ -52,7 +52,7 @@ public class SimpleUpdateQueryPlan implements NonSelectQueryPlan {
 
 	@Override
 	public int executeUpdate(DomainQueryExecutionContext executionContext) {
-		BulkOperationCleanupAction.schedule( executionContext.getSession(), sqmUpdate );
+		BulkOperationCleanupAction.schedule( executionContext, sqmUpdate, domainParameterXref );
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		final SessionFactoryImplementor factory = session.getFactory();
 		final JdbcServices jdbcServices = factory.getJdbcServices();
@@ -0,0 +1,112 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.sqm.mutation.internal;
+
+import java.util.List;
+
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.mapping.internal.MappingModelCreationProcess;
+import org.hibernate.query.spi.DomainQueryExecutionContext;
+import org.hibernate.query.sqm.internal.DomainParameterXref;
+import org.hibernate.query.sqm.mutation.internal.inline.InlineMutationStrategy;
+import org.hibernate.query.sqm.mutation.spi.SqmMultiTableMutationStrategy;
+import org.hibernate.query.sqm.tree.delete.SqmDeleteStatement;
+import org.hibernate.query.sqm.tree.update.SqmUpdateStatement;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Support for multi-table SQM mutation operations which chooses the strategy per execution,
+ * based on the number of matching rows.  At most one more than the threshold number of
+ * matching ids are first selected:
+ *
+ * 		* if there are no more of them than the threshold, the mutations are restricted on
+ * 			those ids, as done by the {@link InlineMutationStrategy}
+ * 		* otherwise, the mutations are delegated to the strategy of the dialect, which
+ * 			uses CTEs or temporary tables and does not bring the ids into the VM
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_MULTI_TABLE_MUTATION_INLINE_THRESHOLD
+ */
+public class AdaptiveMutationStrategy implements SqmMultiTableMutationStrategy {
+	private static final Logger log = Logger.getLogger( AdaptiveMutationStrategy.class );
+
+	private final int inlineThreshold;
+	private final InlineMutationStrategy inlineStrategy;
+	private final SqmMultiTableMutationStrategy fallbackStrategy;
+
+	public AdaptiveMutationStrategy(
+			int inlineThreshold,
+			InlineMutationStrategy inlineStrategy,
+			SqmMultiTableMutationStrategy fallbackStrategy) {
+		this.inlineThreshold = inlineThreshold;
+		this.inlineStrategy = inlineStrategy;
+		this.fallbackStrategy = fallbackStrategy;
+	}
+
+	@Override
+	public void prepare(
+			MappingModelCreationProcess mappingModelCreationProcess,
+			JdbcConnectionAccess connectionAccess) {
+		fallbackStrategy.prepare( mappingModelCreationProcess, connectionAccess );
+	}
+
+	@Override
+	public void release(SessionFactoryImplementor sessionFactory, JdbcConnectionAccess connectionAccess) {
+		fallbackStrategy.release( sessionFactory, connectionAccess );
+	}
+
+	@Override
+	public int executeUpdate(
+			SqmUpdateStatement<?> sqmUpdate,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext context) {
+		final List<Object> ids = MatchingIdSelectionHelper.selectMatchingIds(
+				sqmUpdate,
+				domainParameterXref,
+				context,
+				inlineThreshold + 1
+		);
+		if ( ids.size() <= inlineThreshold ) {
+			return inlineStrategy.executeUpdate( sqmUpdate, domainParameterXref, context, ids );
+		}
+		log.tracef(
+				"More than %s rows match the update of %s, using %s",
+				inlineThreshold,
+				sqmUpdate.getTarget().getModel().getHibernateEntityName(),
+				fallbackStrategy.getClass().getSimpleName()
+		);
+		// the selection of the ids might have expanded parameters
+		domainParameterXref.clearExpansions();
+		return fallbackStrategy.executeUpdate( sqmUpdate, domainParameterXref, context );
+	}
+
+	@Override
+	public int executeDelete(
+			SqmDeleteStatement<?> sqmDelete,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext context) {
+		final List<Object> idsAndFks = MatchingIdSelectionHelper.selectMatchingIds(
+				sqmDelete,
+				domainParameterXref,
+				context,
+				inlineThreshold + 1
+		);
+		if ( idsAndFks.size() <= inlineThreshold ) {
+			return inlineStrategy.executeDelete( sqmDelete, domainParameterXref, context, idsAndFks );
+		}
+		log.tracef(
+				"More than %s rows match the delete of %s, using %s",
+				inlineThreshold,
+				sqmDelete.getTarget().getModel().getHibernateEntityName(),
+				fallbackStrategy.getClass().getSimpleName()
+		);
+		// the selection of the ids might have expanded parameters
+		domainParameterXref.clearExpansions();
+		return fallbackStrategy.executeDelete( sqmDelete, domainParameterXref, context );
+	}
+}
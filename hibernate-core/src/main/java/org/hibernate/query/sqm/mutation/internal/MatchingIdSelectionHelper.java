@@ -22,7 +22,10 @@ import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.metamodel.mapping.MappingModelExpressible;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.metamodel.model.domain.EntityDomainType;
+import org.hibernate.query.IllegalQueryOperationException;
+import org.hibernate.query.spi.DelegatingQueryOptions;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
+import org.hibernate.query.sqm.FetchClauseType;
 import org.hibernate.query.sqm.internal.DomainParameterXref;
 import org.hibernate.query.sqm.internal.SqmJdbcExecutionContextAdapter;
 import org.hibernate.query.sqm.internal.SqmUtil;
@@ -35,11 +38,13 @@ import org.hibernate.sql.ast.SqlAstJoinType;
 import org.hibernate.sql.ast.SqlAstTranslator;
 import org.hibernate.sql.ast.tree.expression.Expression;
 import org.hibernate.sql.ast.tree.expression.JdbcParameter;
+import org.hibernate.sql.ast.tree.expression.QueryLiteral;
 import org.hibernate.sql.ast.tree.from.TableGroup;
 import org.hibernate.sql.ast.tree.from.TableReference;
 import org.hibernate.sql.ast.tree.predicate.Predicate;
 import org.hibernate.sql.ast.tree.select.QuerySpec;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.spi.JdbcLockStrategy;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.exec.spi.JdbcSelect;
 import org.hibernate.sql.results.graph.DomainResult;
@@ -189,6 +194,43 @@ public class MatchingIdSelectionHelper {
 			SqmDeleteOrUpdateStatement<?> sqmMutationStatement,
 			DomainParameterXref domainParameterXref,
 			DomainQueryExecutionContext executionContext) {
+		return selectMatchingIds( sqmMutationStatement, domainParameterXref, executionContext, -1 );
+	}
+
+	/**
+	 * Selection of at most {@code maxResults} ids matching the restriction of the DELETE
+	 * or UPDATE SQM query, or of all of them if {@code maxResults} is not positive
+	 */
+	public static List<Object> selectMatchingIds(
+			SqmDeleteOrUpdateStatement<?> sqmMutationStatement,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext executionContext,
+			int maxResults) {
+		return selectMatchingIds( sqmMutationStatement, domainParameterXref, executionContext, maxResults, false );
+	}
+
+	/**
+	 * Selection of at most {@code maxResults} ids matching the restriction of the DELETE
+	 * or UPDATE SQM query, locking the matching rows with a {@code for update} clause of
+	 * the select itself, so that they can not be modified by another transaction before
+	 * the DELETE or UPDATE is executed.
+	 *
+	 * @return The ids, or {@code null} if the dialect is not able to lock the rows in the select
+	 */
+	public static List<Object> selectLockedMatchingIds(
+			SqmDeleteOrUpdateStatement<?> sqmMutationStatement,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext executionContext,
+			int maxResults) {
+		return selectMatchingIds( sqmMutationStatement, domainParameterXref, executionContext, maxResults, true );
+	}
+
+	private static List<Object> selectMatchingIds(
+			SqmDeleteOrUpdateStatement<?> sqmMutationStatement,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext executionContext,
+			int maxResults,
+			boolean lockRows) {
 		final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
 
 		final EntityMappingType entityDescriptor = factory.getRuntimeMetamodels().getEntityMappingType(
@@ -232,6 +274,16 @@ public class MatchingIdSelectionHelper {
 				factory
 		);
 
+		if ( maxResults > 0 ) {
+			matchingIdSelection.getQuerySpec().setFetchClauseExpression(
+					new QueryLiteral<>(
+							maxResults,
+							factory.getTypeConfiguration().getBasicTypeForJavaType( Integer.class )
+					),
+					FetchClauseType.ROWS_ONLY
+			);
+		}
+
 		if ( sqmMutationStatement instanceof SqmDeleteStatement<?> ) {
 			// For delete statements we also want to collect FK values to execute collection table cleanups
 
@@ -312,10 +364,39 @@ public class MatchingIdSelectionHelper {
 					}
 			);
 		}
-		final JdbcSelect idSelectJdbcOperation = sqlAstSelectTranslator.translate(
-				jdbcParameterBindings,
-				executionContext.getQueryOptions()
-		);
+		final JdbcSelect idSelectJdbcOperation;
+		if ( lockRows ) {
+			if ( jdbcEnvironment.getDialect().getForUpdateString().isEmpty() ) {
+				return null;
+			}
+			final LockOptions rowLockOptions = new LockOptions( LockMode.PESSIMISTIC_WRITE );
+			// the lock has to be acquired by the select itself, rather than by follow-on selects
+			rowLockOptions.setFollowOnLocking( false );
+			try {
+				idSelectJdbcOperation = sqlAstSelectTranslator.translate(
+						jdbcParameterBindings,
+						new DelegatingQueryOptions( executionContext.getQueryOptions() ) {
+							@Override
+							public LockOptions getLockOptions() {
+								return rowLockOptions;
+							}
+						}
+				);
+			}
+			catch (IllegalQueryOperationException | UnsupportedOperationException e) {
+				// the rows can not be locked by this select on this dialect
+				return null;
+			}
+			if ( idSelectJdbcOperation.getLockStrategy() == JdbcLockStrategy.FOLLOW_ON ) {
+				return null;
+			}
+		}
+		else {
+			idSelectJdbcOperation = sqlAstSelectTranslator.translate(
+					jdbcParameterBindings,
+					executionContext.getQueryOptions()
+			);
+		}
 		lockOptions.setLockMode( lockMode );
 
 		final RowTransformer<Object> rowTransformer;
@@ -10,6 +10,7 @@ import java.util.function.BiFunction;
 import java.util.function.Consumer;
 
 import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.mapping.RootClass;
@@ -18,6 +19,7 @@ import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.metamodel.mapping.internal.EmbeddedAttributeMapping;
 import org.hibernate.metamodel.mapping.internal.MappingModelCreationProcess;
 import org.hibernate.metamodel.spi.RuntimeModelCreationContext;
+import org.hibernate.query.sqm.mutation.internal.inline.InlineMutationStrategy;
 import org.hibernate.query.sqm.mutation.spi.SqmMultiTableInsertStrategy;
 import org.hibernate.query.sqm.mutation.spi.SqmMultiTableMutationStrategy;
 import org.hibernate.sql.ast.tree.delete.DeleteStatement;
@@ -58,10 +60,20 @@ public class SqmMutationStrategyHelper {
 
 		// todo (6.0) : add capability define strategy per-hierarchy
 
-		return sessionFactory.getServiceRegistry().getService( JdbcServices.class )
+		final Dialect dialect = sessionFactory.getServiceRegistry().getService( JdbcServices.class )
 				.getJdbcEnvironment()
-				.getDialect()
-				.getFallbackSqmMutationStrategy( rootEntityDescriptor, creationContext );
+				.getDialect();
+		final SqmMultiTableMutationStrategy fallbackStrategy =
+				dialect.getFallbackSqmMutationStrategy( rootEntityDescriptor, creationContext );
+		final int inlineThreshold = options.getMultiTableMutationInlineThreshold();
+		if ( inlineThreshold > 0 && !( fallbackStrategy instanceof InlineMutationStrategy ) ) {
+			return new AdaptiveMutationStrategy(
+					inlineThreshold,
+					new InlineMutationStrategy( dialect ),
+					fallbackStrategy
+			);
+		}
+		return fallbackStrategy;
 	}
 
 	/**
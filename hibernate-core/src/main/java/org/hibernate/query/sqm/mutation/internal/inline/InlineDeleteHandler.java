@@ -72,12 +72,17 @@ public class InlineDeleteHandler implements DeleteHandler {
 
 	@Override
 	public int execute(DomainQueryExecutionContext executionContext) {
-		final List<Object> idsAndFks = MatchingIdSelectionHelper.selectMatchingIds(
-				sqmDeleteStatement,
-				domainParameterXref,
-				executionContext
+		return execute(
+				executionContext,
+				MatchingIdSelectionHelper.selectMatchingIds( sqmDeleteStatement, domainParameterXref, executionContext )
 		);
+	}
 
+	/**
+	 * Execute the delete restricted on the given ids and foreign-key target values,
+	 * previously selected by {@link MatchingIdSelectionHelper#selectMatchingIds}
+	 */
+	public int execute(DomainQueryExecutionContext executionContext, List<Object> idsAndFks) {
 		if ( idsAndFks == null || idsAndFks.isEmpty() ) {
 			return 0;
 		}
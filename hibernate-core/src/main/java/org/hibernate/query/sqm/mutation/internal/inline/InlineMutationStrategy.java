@@ -6,6 +6,7 @@
  */
 package org.hibernate.query.sqm.mutation.internal.inline;
 
+import java.util.List;
 import java.util.function.Function;
 
 import org.hibernate.dialect.Dialect;
@@ -54,6 +55,26 @@ public class InlineMutationStrategy implements SqmMultiTableMutationStrategy {
 		return handler.execute( context );
 	}
 
+	/**
+	 * Execute the multi-table update restricted on the given ids, previously selected by
+	 * {@link org.hibernate.query.sqm.mutation.internal.MatchingIdSelectionHelper#selectMatchingIds}
+	 *
+	 * @return The number of rows affected
+	 */
+	public int executeUpdate(
+			SqmUpdateStatement<?> sqmUpdate,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext context,
+			List<Object> matchingIds) {
+		final InlineUpdateHandler handler = new InlineUpdateHandler(
+				matchingIdsStrategy.apply( sqmUpdate ),
+				sqmUpdate,
+				domainParameterXref,
+				context
+		);
+		return handler.execute( context, matchingIds );
+	}
+
 	@Override
 	public int executeDelete(
 			SqmDeleteStatement<?> sqmDelete,
@@ -68,4 +89,25 @@ public class InlineMutationStrategy implements SqmMultiTableMutationStrategy {
 
 		return deleteHandler.execute( context );
 	}
+
+	/**
+	 * Execute the multi-table delete restricted on the given ids, previously selected by
+	 * {@link org.hibernate.query.sqm.mutation.internal.MatchingIdSelectionHelper#selectMatchingIds}
+	 *
+	 * @return The number of rows affected
+	 */
+	public int executeDelete(
+			SqmDeleteStatement<?> sqmDelete,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext context,
+			List<Object> matchingIds) {
+		final InlineDeleteHandler deleteHandler = new InlineDeleteHandler(
+				matchingIdsStrategy.apply( sqmDelete ),
+				sqmDelete,
+				domainParameterXref,
+				context
+		);
+
+		return deleteHandler.execute( context, matchingIds );
+	}
 }
@@ -112,12 +112,17 @@ public class InlineUpdateHandler implements UpdateHandler {
 
 	@Override
 	public int execute(DomainQueryExecutionContext executionContext) {
-		final List<Object> ids = MatchingIdSelectionHelper.selectMatchingIds(
-				sqmUpdate,
-				domainParameterXref,
-				executionContext
+		return execute(
+				executionContext,
+				MatchingIdSelectionHelper.selectMatchingIds( sqmUpdate, domainParameterXref, executionContext )
 		);
+	}
 
+	/**
+	 * Execute the update restricted on the given ids, previously selected by
+	 * {@link MatchingIdSelectionHelper#selectMatchingIds}
+	 */
+	public int execute(DomainQueryExecutionContext executionContext, List<Object> ids) {
 		if ( ids == null || ids.isEmpty() ) {
 			return 0;
 		}
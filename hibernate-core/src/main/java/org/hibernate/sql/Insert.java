@@ -5,8 +5,10 @@
  * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
  */
 package org.hibernate.sql;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.hibernate.Internal;
@@ -88,6 +90,24 @@ public class Insert {
 		return this;
 	}
 
+	public String getTableName() {
+		return tableName;
+	}
+
+	/**
+	 * The names of the columns, in the order of the statement, if the value of each
+	 * column is a plain parameter, or {@code null} if the value of any column is a
+	 * literal or an expression
+	 */
+	public List<String> getParameterColumnNames() {
+		for ( String valueExpression : columns.values() ) {
+			if ( !"?".equals( valueExpression ) ) {
+				return null;
+			}
+		}
+		return new ArrayList<>( columns.keySet() );
+	}
+
 	public String toStatementString() {
 		StringBuilder buf = new StringBuilder( columns.size()*15 + tableName.length() + 10 );
 		if ( comment != null ) {
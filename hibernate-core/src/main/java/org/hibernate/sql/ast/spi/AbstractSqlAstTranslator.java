@@ -242,12 +242,23 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 					1 +
 					// zone offset
 					6;
+	/* The following are size estimates for the SQL buffer, so that it doesn't need to grow repeatedly */
+	private static final int SQL_LENGTH_ESTIMATE =
+					// "select ... from ... where ..." of a simple statement
+					128;
+	private static final int SELECTION_SQL_LENGTH_ESTIMATE =
+					// e.g. "b1_0.title,"
+					24;
+	private static final int TABLE_REFERENCE_SQL_LENGTH_ESTIMATE =
+					// e.g. " left join author a1_0 on a1_0.id=b1_0.author_id"
+					64;
+	private static final int MAX_SQL_LENGTH_ESTIMATE = 64 * 1024;
 
 	// pre-req state
 	private final SessionFactoryImplementor sessionFactory;
 
 	// In-flight state
-	private final StringBuilder sqlBuffer = new StringBuilder();
+	private final StringBuilder sqlBuffer;
 
 	private final List<JdbcParameterBinder> parameterBinders = new ArrayList<>();
 	private final JdbcParametersImpl jdbcParameters = new JdbcParametersImpl();
@@ -302,9 +313,53 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 	protected AbstractSqlAstTranslator(SessionFactoryImplementor sessionFactory, Statement statement) {
 		this.sessionFactory = sessionFactory;
 		this.dialect = sessionFactory.getJdbcServices().getDialect();
+		this.sqlBuffer = new StringBuilder( estimateSqlLength( statement ) );
 		this.statementStack.push( statement );
 	}
 
+	private static int estimateSqlLength(Statement statement) {
+		if ( statement instanceof SelectStatement ) {
+			return Math.min(
+					estimateSqlLength( ( (SelectStatement) statement ).getQueryPart() ),
+					MAX_SQL_LENGTH_ESTIMATE
+			);
+		}
+		return SQL_LENGTH_ESTIMATE;
+	}
+
+	private static int estimateSqlLength(QueryPart queryPart) {
+		if ( queryPart instanceof QueryGroup ) {
+			int length = 0;
+			for ( QueryPart part : ( (QueryGroup) queryPart ).getQueryParts() ) {
+				length += estimateSqlLength( part );
+			}
+			return length;
+		}
+		final QuerySpec querySpec = (QuerySpec) queryPart;
+		int tableReferenceCount = 0;
+		for ( TableGroup root : querySpec.getFromClause().getRoots() ) {
+			tableReferenceCount += countTableReferences( root );
+		}
+		return SQL_LENGTH_ESTIMATE
+				+ querySpec.getSelectClause().getSqlSelections().size() * SELECTION_SQL_LENGTH_ESTIMATE
+				+ tableReferenceCount * TABLE_REFERENCE_SQL_LENGTH_ESTIMATE;
+	}
+
+	private static int countTableReferences(TableGroup tableGroup) {
+		// don't trigger the initialization of lazy table groups, they might not be rendered
+		if ( !tableGroup.isInitialized() ) {
+			return 0;
+		}
+		int count = 1 + tableGroup.getTableReferenceJoins().size();
+		for ( TableGroupJoin tableGroupJoin : tableGroup.getTableGroupJoins() ) {
+			count += countTableReferences( tableGroupJoin.getJoinedGroup() );
+		}
+		for ( TableGroupJoin tableGroupJoin : tableGroup.getNestedTableGroupJoins() ) {
+			count += countTableReferences( tableGroupJoin.getJoinedGroup() );
+		}
+		return count;
+	}
+
 	@Override
 	public SessionFactoryImplementor getSessionFactory() {
 		return sessionFactory;
@@ -23,6 +23,7 @@ import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
 import org.hibernate.LockOptions;
 import org.hibernate.ScrollMode;
+import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.engine.spi.PersistenceContext;
@@ -199,6 +200,18 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 		);
 	}
 
+	private static Integer resolveScrollFetchSize(QueryOptions queryOptions, SharedSessionContractImplementor session) {
+		if ( queryOptions.getFetchSize() != null ) {
+			return queryOptions.getFetchSize();
+		}
+		final SessionFactoryOptions options = session.getFactory().getSessionFactoryOptions();
+		if ( options.getJdbcFetchSize() == null && options.getJdbcScrollFetchSize() > 0 ) {
+			// don't leave it up to the driver, which might read the whole result set
+			return options.getJdbcScrollFetchSize();
+		}
+		return null;
+	}
+
 	/*
 		When `Query#scroll()` is call the query is not executed immediately, a new ExecutionContext with the values of the `persistenceContext.isDefaultReadOnly()` and of the `queryOptions.isReadOnly()`
 		set at the moment of the Query#scroll() call is created in order to use it when the query will be executed.
@@ -224,7 +237,7 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 		final LockOptions lockOptions = queryOptions.getLockOptions();
 		final String comment = queryOptions.getComment();
 		final List<String> databaseHints = queryOptions.getDatabaseHints();
-		final Integer fetchSize = queryOptions.getFetchSize();
+		final Integer fetchSize = resolveScrollFetchSize( queryOptions, context.getSession() );
 		final Limit limit = queryOptions.getLimit();
 
 		return new ExecutionContext() {
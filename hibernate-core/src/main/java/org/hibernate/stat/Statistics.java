@@ -248,6 +248,71 @@ public interface Statistics {
 	 */
 	long getConnectCount();
 
+	/**
+	 * The number of connections currently checked out of the connection pool,
+	 * or {@code 0} if the connection provider does not expose
+	 * {@linkplain org.hibernate.engine.jdbc.connections.spi.ConnectionPoolStatistics
+	 * pool statistics}.
+	 *
+	 * @since 6.2
+	 */
+	default long getConnectionPoolActiveCount() {
+		return 0;
+	}
+
+	/**
+	 * The number of connections currently idle in the connection pool, or
+	 * {@code 0} if the connection provider does not expose pool statistics.
+	 *
+	 * @since 6.2
+	 */
+	default long getConnectionPoolIdleCount() {
+		return 0;
+	}
+
+	/**
+	 * The number of threads currently waiting for a connection of the connection
+	 * pool, or {@code 0} if the connection provider does not expose pool statistics.
+	 *
+	 * @since 6.2
+	 */
+	default long getConnectionPoolWaitingCount() {
+		return 0;
+	}
+
+	/**
+	 * The number of connections acquired from the connection pool since it was
+	 * started, or {@code 0} if the connection provider does not expose pool
+	 * statistics.
+	 *
+	 * @since 6.2
+	 */
+	default long getConnectionAcquisitionCount() {
+		return 0;
+	}
+
+	/**
+	 * The total time, in milliseconds, spent acquiring connections from the
+	 * connection pool since it was started, or {@code 0} if the connection
+	 * provider does not expose pool statistics.
+	 *
+	 * @since 6.2
+	 */
+	default long getConnectionAcquisitionTotalTime() {
+		return 0;
+	}
+
+	/**
+	 * The longest time, in milliseconds, spent acquiring a connection from the
+	 * connection pool since it was started, or {@code 0} if the connection
+	 * provider does not expose pool statistics.
+	 *
+	 * @since 6.2
+	 */
+	default long getConnectionAcquisitionMaxTime() {
+		return 0;
+	}
+
 	/**
      * The global number of cacheable entities and collections successfully
 	 * retrieved from the cache.
@@ -379,4 +444,26 @@ public interface Statistics {
 	 * The global number of query plans lookups <em>not</em> found in cache.
 	 */
 	long getQueryPlanCacheMissCount();
+
+	/**
+	 * The global number of query plans and interpretations evicted from
+	 * the cache to respect its maximum size.
+	 *
+	 * @since 6.2
+	 */
+	default long getQueryPlanCacheEvictionCount() {
+		return 0;
+	}
+
+	/**
+	 * The current total weight of the query plans and interpretations held
+	 * in cache, to be compared with the maximum size of the cache.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_MAX_SIZE
+	 *
+	 * @since 6.2
+	 */
+	default long getQueryPlanCacheWeight() {
+		return 0;
+	}
 }
@@ -18,11 +18,14 @@ import org.hibernate.cache.spi.CacheImplementor;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.cache.spi.QueryResultsRegion;
 import org.hibernate.cache.spi.Region;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionPoolStatistics;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.spi.QueryEngine;
 import org.hibernate.service.Service;
 import org.hibernate.stat.Statistics;
 import org.hibernate.stat.spi.StatisticsImplementor;
@@ -41,6 +44,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final MappingMetamodelImplementor metamodel;
 	private final CacheImplementor cache;
+	private final QueryEngine queryEngine;
+	private final ConnectionPoolStatistics connectionPoolStatistics;
 
 	private final String[] allEntityNames;
 	private final String[] allCollectionRoles;
@@ -91,6 +96,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final LongAdder queryPlanCacheHitCount = new LongAdder();
 	private final LongAdder queryPlanCacheMissCount = new LongAdder();
+	private final LongAdder queryPlanCacheEvictionCount = new LongAdder();
 
 	private final LongAdder updateTimestampsCacheHitCount = new LongAdder();
 	private final LongAdder updateTimestampsCacheMissCount = new LongAdder();
@@ -125,6 +131,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		resetStart();
 		metamodel = sessionFactory.getRuntimeMetamodels().getMappingMetamodel();
 		cache = sessionFactory.getCache();
+		queryEngine = sessionFactory.getQueryEngine();
+		connectionPoolStatistics = resolveConnectionPoolStatistics( sessionFactory );
 		secondLevelCacheEnabled = sessionFactoryOptions.isSecondLevelCacheEnabled();
 		queryCacheEnabled = sessionFactoryOptions.isQueryCacheEnabled();
 
@@ -137,6 +145,14 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		this.allCollectionRoles = collectionRoles.toArray( new String[0] );
 	}
 
+	private static ConnectionPoolStatistics resolveConnectionPoolStatistics(SessionFactoryImplementor sessionFactory) {
+		final ConnectionProvider connectionProvider = sessionFactory.getServiceRegistry()
+				.getService( ConnectionProvider.class );
+		return connectionProvider != null && connectionProvider.isUnwrappableAs( ConnectionPoolStatistics.class )
+				? connectionProvider.unwrap( ConnectionPoolStatistics.class )
+				: null;
+	}
+
 	/**
 	 * reset all statistics
 	 */
@@ -197,6 +213,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
+		queryPlanCacheEvictionCount.reset();
 
 		resetStart();
 	}
@@ -737,6 +754,16 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		return queryPlanCacheMissCount.sum();
 	}
 
+	@Override
+	public long getQueryPlanCacheEvictionCount() {
+		return queryPlanCacheEvictionCount.sum();
+	}
+
+	@Override
+	public long getQueryPlanCacheWeight() {
+		return queryEngine.getInterpretationCache().getCurrentWeight();
+	}
+
 	@Override
 	public void queryCompiled(String hql, long microseconds) {
 		queryPlanCacheMissCount.increment();
@@ -764,6 +791,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		}
 	}
 
+	@Override
+	public void queryPlanCacheEviction(String query) {
+		queryPlanCacheEvictionCount.increment();
+	}
+
 	private CacheRegionStatisticsImpl getQueryRegionStats(String regionName) {
 		return l2CacheStatsMap.getOrCompute(
 				regionName,
@@ -794,6 +826,36 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		return connectCount.sum();
 	}
 
+	@Override
+	public long getConnectionPoolActiveCount() {
+		return connectionPoolStatistics == null ? 0 : connectionPoolStatistics.getActiveCount();
+	}
+
+	@Override
+	public long getConnectionPoolIdleCount() {
+		return connectionPoolStatistics == null ? 0 : connectionPoolStatistics.getIdleCount();
+	}
+
+	@Override
+	public long getConnectionPoolWaitingCount() {
+		return connectionPoolStatistics == null ? 0 : connectionPoolStatistics.getWaitingCount();
+	}
+
+	@Override
+	public long getConnectionAcquisitionCount() {
+		return connectionPoolStatistics == null ? 0 : connectionPoolStatistics.getAcquisitionCount();
+	}
+
+	@Override
+	public long getConnectionAcquisitionTotalTime() {
+		return connectionPoolStatistics == null ? 0 : connectionPoolStatistics.getAcquisitionTotalTime();
+	}
+
+	@Override
+	public long getConnectionAcquisitionMaxTime() {
+		return connectionPoolStatistics == null ? 0 : connectionPoolStatistics.getAcquisitionMaxTime();
+	}
+
 	@Override
 	public long getSuccessfulTransactionCount() {
 		return committedTransactionCount.sum();
@@ -936,6 +998,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 				",max query time=" + queryExecutionMaxTime +
 				",query plan cache hits=" + queryPlanCacheHitCount +
 				",query plan cache misses=" + queryPlanCacheMissCount +
+				",query plan cache evictions=" + queryPlanCacheEvictionCount +
 				']';
 	}
 
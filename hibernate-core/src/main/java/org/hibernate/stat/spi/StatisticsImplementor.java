@@ -266,6 +266,15 @@ public interface StatisticsImplementor extends Statistics, Service {
 		//For backward compatibility
 	}
 
+	/**
+	 * Callback indicating an entry was evicted from the query plan cache.
+	 *
+	 * @param query The query
+	 */
+	default void queryPlanCacheEviction(String query) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback indicating compilation of a sql/hql query
 	 *
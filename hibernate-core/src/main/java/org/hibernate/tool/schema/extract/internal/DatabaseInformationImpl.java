@@ -7,15 +7,31 @@
 package org.hibernate.tool.schema.extract.internal;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.BiConsumer;
 
 import org.hibernate.boot.model.naming.Identifier;
 import org.hibernate.boot.model.relational.Namespace;
 import org.hibernate.boot.model.relational.QualifiedSequenceName;
 import org.hibernate.boot.model.relational.QualifiedTableName;
 import org.hibernate.boot.model.relational.SqlStringGenerationContext;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.resource.transaction.spi.DdlTransactionIsolator;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.tool.schema.extract.spi.DatabaseInformation;
@@ -24,6 +40,8 @@ import org.hibernate.tool.schema.extract.spi.InformationExtractor;
 import org.hibernate.tool.schema.extract.spi.NameSpaceTablesInformation;
 import org.hibernate.tool.schema.extract.spi.SequenceInformation;
 import org.hibernate.tool.schema.extract.spi.TableInformation;
+import org.hibernate.tool.schema.internal.exec.JdbcConnectionAccessProvidedConnectionImpl;
+import org.hibernate.tool.schema.spi.SchemaManagementException;
 import org.hibernate.tool.schema.spi.SchemaManagementTool;
 
 /**
@@ -31,12 +49,18 @@ import org.hibernate.tool.schema.spi.SchemaManagementTool;
  */
 public class DatabaseInformationImpl
 		implements DatabaseInformation, ExtractionContext.DatabaseObjectAccess {
+	private final ServiceRegistry serviceRegistry;
 	private final JdbcEnvironment jdbcEnvironment;
 	private final SqlStringGenerationContext sqlStringGenerationContext;
+	private final SchemaManagementTool tool;
 	private final ExtractionContext extractionContext;
 	private final InformationExtractor extractor;
+	private final JdbcConnectionAccess jdbcConnectionAccess;
+	private final int extractionThreads;
 
 	private final Map<QualifiedSequenceName, SequenceInformation> sequenceInformationMap = new HashMap<>();
+	// the tables which do not exist are preloaded as null
+	private final Map<QualifiedTableName, TableInformation> preloadedTables = Collections.synchronizedMap( new HashMap<>() );
 
 	public DatabaseInformationImpl(
 			ServiceRegistry serviceRegistry,
@@ -44,8 +68,10 @@ public class DatabaseInformationImpl
 			SqlStringGenerationContext sqlStringGenerationContext,
 			DdlTransactionIsolator ddlTransactionIsolator,
 			SchemaManagementTool tool) throws SQLException {
+		this.serviceRegistry = serviceRegistry;
 		this.jdbcEnvironment = jdbcEnvironment;
 		this.sqlStringGenerationContext = sqlStringGenerationContext;
+		this.tool = tool;
 		this.extractionContext = tool.getExtractionTool().createExtractionContext(
 				serviceRegistry,
 				jdbcEnvironment,
@@ -55,6 +81,19 @@ public class DatabaseInformationImpl
 		);
 
 		this.extractor = tool.getExtractionTool().createInformationExtractor( extractionContext );
+		this.jdbcConnectionAccess = ddlTransactionIsolator == null
+				? null
+				: ddlTransactionIsolator.getJdbcContext().getJdbcConnectionAccess();
+		// a connection provided to the tool cannot be shared by several threads, and is the
+		// only one the tool is allowed to use
+		this.extractionThreads = jdbcConnectionAccess == null
+				|| jdbcConnectionAccess instanceof JdbcConnectionAccessProvidedConnectionImpl
+				? 1
+				: ConfigurationHelper.getInt(
+						AvailableSettings.HBM2DDL_JDBC_METADATA_EXTRACTION_THREADS,
+						serviceRegistry.getService( ConfigurationService.class ).getSettings(),
+						1
+				);
 
 		// because we do not have defined a way to locate sequence info by name
 		initializeSequences();
@@ -110,11 +149,10 @@ public class DatabaseInformationImpl
 			throw new IllegalArgumentException( "Passed table name cannot be null" );
 		}
 
-		return extractor.getTable(
-				sqlStringGenerationContext.catalogWithDefault( tableName.getCatalogName() ),
-				sqlStringGenerationContext.schemaWithDefault( tableName.getSchemaName() ),
-				tableName.getTableName()
-		);
+		if ( preloadedTables.containsKey( tableName ) ) {
+			return preloadedTables.get( tableName );
+		}
+		return extractTable( extractor, tableName );
 	}
 
 	@Override
@@ -123,6 +161,97 @@ public class DatabaseInformationImpl
 				sqlStringGenerationContext.schemaWithDefault( namespace.getPhysicalName().getSchema() ) );
 	}
 
+	@Override
+	public void preloadTableDetails(Collection<TableInformation> tables) {
+		extractInParallel(
+				tables,
+				(workerExtractor, tableInformation) -> {
+					if ( tableInformation instanceof TableInformationImpl ) {
+						( (TableInformationImpl) tableInformation ).loadDetails( workerExtractor );
+					}
+				}
+		);
+	}
+
+	@Override
+	public void preloadTableInformation(Collection<QualifiedTableName> tableNames) {
+		extractInParallel(
+				tableNames,
+				(workerExtractor, tableName) -> {
+					TableInformation tableInformation = extractTable( workerExtractor, tableName );
+					if ( tableInformation instanceof TableInformationImpl ) {
+						// the extractor of the worker is cleaned up along with it
+						tableInformation = ( (TableInformationImpl) tableInformation ).copy( extractor );
+					}
+					preloadedTables.put( tableName, tableInformation );
+				}
+		);
+	}
+
+	private <T> void extractInParallel(Collection<T> items, BiConsumer<InformationExtractor, T> extraction) {
+		final int threads = Math.min( extractionThreads, items.size() );
+		if ( threads <= 1 ) {
+			// the metadata is extracted lazily by the main extractor
+			return;
+		}
+
+		final Queue<T> remaining = new ConcurrentLinkedQueue<>( items );
+		final ExecutorService executor = Executors.newFixedThreadPool( threads, new ExtractionThreadFactory() );
+		try {
+			final List<Future<?>> futures = new ArrayList<>( threads );
+			for ( int i = 0; i < threads; i++ ) {
+				futures.add( executor.submit( () -> extract( remaining, extraction ) ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get();
+			}
+		}
+		catch (ExecutionException e) {
+			if ( e.getCause() instanceof RuntimeException ) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new SchemaManagementException( "Unable to extract the metadata of the existing tables", e.getCause() );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SchemaManagementException( "Interrupted while extracting the metadata of the existing tables", e );
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private <T> void extract(Queue<T> remaining, BiConsumer<InformationExtractor, T> extraction) {
+		// each worker extracts from its own connection of the tool, and locates the
+		// tables referenced by foreign keys through its own extractor as well
+		final WorkerObjectAccess objectAccess = new WorkerObjectAccess();
+		final ExtractionContext workerContext = new ExtractionContextImpl(
+				serviceRegistry,
+				jdbcEnvironment,
+				sqlStringGenerationContext,
+				jdbcConnectionAccess,
+				objectAccess
+		);
+		try {
+			objectAccess.extractor = tool.getExtractionTool().createInformationExtractor( workerContext );
+			T item;
+			while ( ( item = remaining.poll() ) != null ) {
+				extraction.accept( objectAccess.extractor, item );
+			}
+		}
+		finally {
+			workerContext.cleanup();
+		}
+	}
+
+	private TableInformation extractTable(InformationExtractor extractor, QualifiedTableName tableName) {
+		return extractor.getTable(
+				sqlStringGenerationContext.catalogWithDefault( tableName.getCatalogName() ),
+				sqlStringGenerationContext.schemaWithDefault( tableName.getSchemaName() ),
+				tableName.getTableName()
+		);
+	}
+
 	@Override
 	public SequenceInformation getSequenceInformation(
 			Identifier catalogName,
@@ -160,4 +289,28 @@ public class DatabaseInformationImpl
 
 		return sequenceInformationMap.get( sequenceName );
 	}
+
+	private class WorkerObjectAccess implements ExtractionContext.DatabaseObjectAccess {
+		private InformationExtractor extractor;
+
+		@Override
+		public TableInformation locateTableInformation(QualifiedTableName tableName) {
+			return extractTable( extractor, tableName );
+		}
+
+		@Override
+		public SequenceInformation locateSequenceInformation(QualifiedSequenceName sequenceName) {
+			return DatabaseInformationImpl.this.locateSequenceInformation( sequenceName );
+		}
+	}
+
+	private static class ExtractionThreadFactory implements ThreadFactory {
+		@Override
+		public Thread newThread(Runnable runnable) {
+			final Thread thread = new Thread( runnable );
+			thread.setDaemon( true );
+			thread.setName( "Hibernate Schema Metadata Extraction Thread" );
+			return thread;
+		}
+	}
 }
@@ -80,12 +80,16 @@ public class TableInformationImpl implements TableInformation {
 	@Override
 	public PrimaryKeyInformation getPrimaryKey() {
 		if ( ! wasPrimaryKeyLoaded ) {
-			primaryKey = extractor.getPrimaryKey( this );
-			wasPrimaryKeyLoaded = true;
+			loadPrimaryKey( extractor );
 		}
 		return primaryKey;
 	}
 
+	private void loadPrimaryKey(InformationExtractor extractor) {
+		primaryKey = extractor.getPrimaryKey( this );
+		wasPrimaryKeyLoaded = true;
+	}
+
 	@Override
 	public Iterable<ForeignKeyInformation> getForeignKeys() {
 		return foreignKeys().values();
@@ -93,16 +97,20 @@ public class TableInformationImpl implements TableInformation {
 
 	protected Map<Identifier, ForeignKeyInformation> foreignKeys() {
 		if ( foreignKeys == null ) {
-			final Map<Identifier, ForeignKeyInformation> fkMap = new HashMap<>();
-			final Iterable<ForeignKeyInformation> fks = extractor.getForeignKeys( this );
-			for ( ForeignKeyInformation fk : fks ) {
-				fkMap.put( fk.getForeignKeyIdentifier(), fk );
-			}
-			this.foreignKeys = fkMap;
+			loadForeignKeys( extractor );
 		}
 		return foreignKeys;
 	}
 
+	private void loadForeignKeys(InformationExtractor extractor) {
+		final Map<Identifier, ForeignKeyInformation> fkMap = new HashMap<>();
+		final Iterable<ForeignKeyInformation> fks = extractor.getForeignKeys( this );
+		for ( ForeignKeyInformation fk : fks ) {
+			fkMap.put( fk.getForeignKeyIdentifier(), fk );
+		}
+		this.foreignKeys = fkMap;
+	}
+
 	@Override
 	public ForeignKeyInformation getForeignKey(Identifier fkIdentifier) {
 		return foreignKeys().get( new Identifier(
@@ -118,16 +126,56 @@ public class TableInformationImpl implements TableInformation {
 
 	protected Map<Identifier, IndexInformation> indexes() {
 		if ( indexes == null ) {
-			final Map<Identifier, IndexInformation> indexMap = new HashMap<>();
-			final Iterable<IndexInformation> indexes = extractor.getIndexes( this );
-			for ( IndexInformation index : indexes ) {
-				indexMap.put( index.getIndexIdentifier(), index );
-			}
-			this.indexes = indexMap;
+			loadIndexes( extractor );
 		}
 		return indexes;
 	}
 
+	private void loadIndexes(InformationExtractor extractor) {
+		final Map<Identifier, IndexInformation> indexMap = new HashMap<>();
+		final Iterable<IndexInformation> indexes = extractor.getIndexes( this );
+		for ( IndexInformation index : indexes ) {
+			indexMap.put( index.getIndexIdentifier(), index );
+		}
+		this.indexes = indexMap;
+	}
+
+	/**
+	 * Extract the primary key, foreign keys and indexes of this table using the given
+	 * extractor, rather than the one which extracted the table itself.
+	 *
+	 * @param extractor An extractor working on its own JDBC connection
+	 */
+	public void loadDetails(InformationExtractor extractor) {
+		if ( ! wasPrimaryKeyLoaded ) {
+			loadPrimaryKey( extractor );
+		}
+		if ( foreignKeys == null ) {
+			loadForeignKeys( extractor );
+		}
+		if ( indexes == null ) {
+			loadIndexes( extractor );
+		}
+	}
+
+	/**
+	 * Copy this table and its columns, leaving the primary key, foreign keys and indexes to be
+	 * extracted on first access by the given extractor.
+	 *
+	 * @param extractor The extractor of the copy
+	 */
+	public TableInformationImpl copy(InformationExtractor extractor) {
+		final TableInformationImpl copy = new TableInformationImpl(
+				extractor,
+				identifierHelper,
+				tableName,
+				physicalTable,
+				comment
+		);
+		copy.columns.putAll( columns );
+		return copy;
+	}
+
 	@Override
 	public void addColumn(ColumnInformation columnIdentifier) {
 		columns.put( columnIdentifier.getColumnIdentifier(), columnIdentifier );
@@ -6,6 +6,8 @@
  */
 package org.hibernate.tool.schema.extract.spi;
 
+import java.util.Collection;
+
 import org.hibernate.Incubating;
 import org.hibernate.boot.model.naming.Identifier;
 import org.hibernate.boot.model.relational.Namespace;
@@ -69,6 +71,33 @@ public interface DatabaseInformation {
 	 */
 	NameSpaceTablesInformation getTablesInformation(Namespace namespace);
 
+	/**
+	 * Extract the primary keys, foreign keys and indexes of the given tables up front,
+	 * rather than on first access.
+	 *
+	 * @param tables The {@link TableInformation}s whose details are about to be accessed
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#HBM2DDL_JDBC_METADATA_EXTRACTION_THREADS
+	 *
+	 * @since 6.2
+	 */
+	default void preloadTableDetails(Collection<TableInformation> tables) {
+	}
+
+	/**
+	 * Extract the given tables and their columns up front, rather than on first access through
+	 * {@link #getTableInformation(QualifiedTableName)}. Unlike {@link #preloadTableDetails},
+	 * the primary keys, foreign keys and indexes are not extracted.
+	 *
+	 * @param tableNames The names of the tables which are about to be accessed
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#HBM2DDL_JDBC_METADATA_EXTRACTION_THREADS
+	 *
+	 * @since 6.2
+	 */
+	default void preloadTableInformation(Collection<QualifiedTableName> tableNames) {
+	}
+
 	/**
 	 * Obtain reference to the named SequenceInformation
 	 *
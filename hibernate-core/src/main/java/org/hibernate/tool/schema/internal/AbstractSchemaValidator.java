@@ -64,6 +64,13 @@ public abstract class AbstractSchemaValidator implements SchemaValidator {
 		final JdbcContext jdbcContext = tool.resolveJdbcContext( options.getConfigurationValues() );
 
 		final DdlTransactionIsolator isolator = tool.getDdlTransactionIsolator( jdbcContext );
+		final SchemaValidationFingerprint fingerprint = SchemaValidationFingerprint.resolve(
+				metadata,
+				options,
+				contributableInclusionFilter,
+				sqlStringGenerationContext,
+				jdbcContext.getDialect()
+		);
 		final DatabaseInformation databaseInformation = Helper.buildDatabaseInformation(
 				tool.getServiceRegistry(),
 				isolator,
@@ -72,7 +79,14 @@ public abstract class AbstractSchemaValidator implements SchemaValidator {
 		);
 
 		try {
+			if ( fingerprint != null && fingerprint.isRecorded( isolator.getIsolatedConnection(), databaseInformation ) ) {
+				log.debug( "Skipping schema validation, the model was already validated against the database" );
+				return;
+			}
 			performValidation( metadata, databaseInformation, options, contributableInclusionFilter, jdbcContext.getDialect() );
+			if ( fingerprint != null && fingerprint.isRecordingEnabled() ) {
+				fingerprint.record( isolator.getIsolatedConnection(), databaseInformation, metadata, jdbcContext.getDialect() );
+			}
 		}
 		finally {
 			try {
@@ -6,6 +6,8 @@
  */
 package org.hibernate.tool.schema.internal;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import org.hibernate.boot.Metadata;
@@ -69,6 +71,7 @@ public class GroupedSchemaMigratorImpl extends AbstractSchemaMigrator {
 			);
 
 			final NameSpaceTablesInformation tables = existingDatabase.getTablesInformation( namespace );
+			final List<TableInformation> existingTables = new ArrayList<>();
 			for ( Table table : namespace.getTables() ) {
 				if ( options.getSchemaFilter().includeTable( table )
 						&& table.isPhysicalTable()
@@ -80,12 +83,16 @@ public class GroupedSchemaMigratorImpl extends AbstractSchemaMigrator {
 					}
 					else if ( tableInformation.isPhysicalTable() ) {
 						tablesInformation.addTableInformation( tableInformation );
+						existingTables.add( tableInformation );
 						migrateTable( table, tableInformation, dialect, metadata, formatter, options,
 								sqlStringGenerationContext, targets );
 					}
 				}
 			}
 
+			// the indexes, unique keys and foreign keys are applied from here on
+			existingDatabase.preloadTableDetails( existingTables );
+
 			for ( Table table : namespace.getTables() ) {
 				if ( options.getSchemaFilter().includeTable( table )
 						&& table.isPhysicalTable()
@@ -6,6 +6,8 @@
  */
 package org.hibernate.tool.schema.internal;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import org.hibernate.boot.Metadata;
@@ -67,6 +69,8 @@ public class IndividuallySchemaMigratorImpl extends AbstractSchemaMigrator {
 					namespace,
 					targets
 			);
+
+			final List<TableInformation> existingTables = new ArrayList<>();
 			for ( Table table : namespace.getTables() ) {
 				if ( options.getSchemaFilter().includeTable( table )
 						&& table.isPhysicalTable()
@@ -78,12 +82,16 @@ public class IndividuallySchemaMigratorImpl extends AbstractSchemaMigrator {
 					}
 					else if ( tableInformation.isPhysicalTable() ) {
 						tablesInformation.addTableInformation( tableInformation );
+						existingTables.add( tableInformation );
 						migrateTable( table, tableInformation, dialect, metadata, formatter, options,
 								sqlStringGenerationContext, targets );
 					}
 				}
 			}
 
+			// the indexes, unique keys and foreign keys are applied from here on
+			existingDatabase.preloadTableDetails( existingTables );
+
 			for ( Table table : namespace.getTables() ) {
 				if ( options.getSchemaFilter().includeTable( table )
 						&& table.isPhysicalTable()
@@ -6,8 +6,12 @@
  */
 package org.hibernate.tool.schema.internal;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.hibernate.boot.Metadata;
 import org.hibernate.boot.model.relational.Namespace;
+import org.hibernate.boot.model.relational.QualifiedTableName;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.mapping.Table;
 import org.hibernate.tool.schema.extract.spi.DatabaseInformation;
@@ -38,15 +42,24 @@ public class IndividuallySchemaValidatorImpl extends AbstractSchemaValidator {
 			ContributableMatcher contributableInclusionFilter,
 			Dialect dialect,
 			Namespace namespace) {
+		final List<Table> tables = new ArrayList<>();
+		final List<QualifiedTableName> tableNames = new ArrayList<>();
 		for ( Table table : namespace.getTables() ) {
 			if ( options.getSchemaFilter().includeTable( table )
 					&& table.isPhysicalTable()
 					&& contributableInclusionFilter.matches( table ) ) {
-				final TableInformation tableInformation = databaseInformation.getTableInformation(
-						table.getQualifiedTableName()
-				);
-				validateTable( table, tableInformation, metadata, options, dialect );
+				tables.add( table );
+				tableNames.add( table.getQualifiedTableName() );
 			}
 		}
+		// only the columns are validated, the other details of the tables are not needed
+		databaseInformation.preloadTableInformation( tableNames );
+
+		for ( Table table : tables ) {
+			final TableInformation tableInformation = databaseInformation.getTableInformation(
+					table.getQualifiedTableName()
+			);
+			validateTable( table, tableInformation, metadata, options, dialect );
+		}
 	}
 }
@@ -0,0 +1,218 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.tool.schema.internal;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.hibernate.HibernateException;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.model.relational.Namespace;
+import org.hibernate.boot.model.relational.QualifiedNameParser;
+import org.hibernate.boot.model.relational.QualifiedTableName;
+import org.hibernate.boot.model.relational.Sequence;
+import org.hibernate.boot.model.relational.SqlStringGenerationContext;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.Size;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.mapping.Column;
+import org.hibernate.mapping.Table;
+import org.hibernate.tool.schema.extract.spi.DatabaseInformation;
+import org.hibernate.tool.schema.spi.ContributableMatcher;
+import org.hibernate.tool.schema.spi.ExecutionOptions;
+import org.hibernate.type.SqlTypes;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A fingerprint of the part of the relational model checked by the schema validator,
+ * read from a table of the database so that the validation of a model which was already
+ * validated against the same database can be skipped. The fingerprint is only written to
+ * the table, which is created if needed, when recording is enabled.
+ *
+ * @see AvailableSettings#HBM2DDL_VALIDATION_FINGERPRINT_TABLE
+ * @see AvailableSettings#HBM2DDL_VALIDATION_FINGERPRINT_RECORD
+ */
+class SchemaValidationFingerprint {
+	private static final Logger log = Logger.getLogger( SchemaValidationFingerprint.class );
+
+	private static final String COLUMN_NAME = "fingerprint";
+
+	private final QualifiedTableName tableName;
+	private final String formattedTableName;
+	private final String fingerprint;
+	private final boolean recordingEnabled;
+
+	private SchemaValidationFingerprint(
+			QualifiedTableName tableName,
+			String formattedTableName,
+			String fingerprint,
+			boolean recordingEnabled) {
+		this.tableName = tableName;
+		this.formattedTableName = formattedTableName;
+		this.fingerprint = fingerprint;
+		this.recordingEnabled = recordingEnabled;
+	}
+
+	/**
+	 * @return The fingerprint of the validated model, or {@code null} if no fingerprint table is configured
+	 */
+	static SchemaValidationFingerprint resolve(
+			Metadata metadata,
+			ExecutionOptions options,
+			ContributableMatcher contributableInclusionFilter,
+			SqlStringGenerationContext sqlStringGenerationContext,
+			Dialect dialect) {
+		final String table = ConfigurationHelper.getString(
+				AvailableSettings.HBM2DDL_VALIDATION_FINGERPRINT_TABLE,
+				options.getConfigurationValues()
+		);
+		if ( table == null || table.isEmpty() ) {
+			return null;
+		}
+
+		final QualifiedNameParser.NameParts nameParts = QualifiedNameParser.INSTANCE.parse( table );
+		final QualifiedTableName tableName = new QualifiedTableName(
+				nameParts.getCatalogName(),
+				nameParts.getSchemaName(),
+				nameParts.getObjectName()
+		);
+		return new SchemaValidationFingerprint(
+				tableName,
+				sqlStringGenerationContext.format( tableName ),
+				compute( metadata, options, contributableInclusionFilter, sqlStringGenerationContext, dialect ),
+				ConfigurationHelper.getBoolean(
+						AvailableSettings.HBM2DDL_VALIDATION_FINGERPRINT_RECORD,
+						options.getConfigurationValues(),
+						false
+				)
+		);
+	}
+
+	private static String compute(
+			Metadata metadata,
+			ExecutionOptions options,
+			ContributableMatcher contributableInclusionFilter,
+			SqlStringGenerationContext sqlStringGenerationContext,
+			Dialect dialect) {
+		// the same objects, in the same order, as the ones checked by the validator
+		final StringBuilder model = new StringBuilder( dialect.getClass().getName() ).append( '\n' );
+		for ( Namespace namespace : metadata.getDatabase().getNamespaces() ) {
+			if ( options.getSchemaFilter().includeNamespace( namespace ) ) {
+				for ( Table table : namespace.getTables() ) {
+					if ( options.getSchemaFilter().includeTable( table )
+							&& table.isPhysicalTable()
+							&& contributableInclusionFilter.matches( table ) ) {
+						model.append( "table " )
+								.append( sqlStringGenerationContext.format( table.getQualifiedTableName() ) )
+								.append( '\n' );
+						for ( Column column : table.getColumns() ) {
+							model.append( "column " )
+									.append( column.getCanonicalName() )
+									.append( ' ' )
+									.append( column.getSqlType( metadata.getDatabase().getTypeConfiguration(), dialect, metadata ) )
+									.append( '\n' );
+						}
+					}
+				}
+				for ( Sequence sequence : namespace.getSequences() ) {
+					if ( options.getSchemaFilter().includeSequence( sequence )
+							&& contributableInclusionFilter.matches( sequence ) ) {
+						model.append( "sequence " )
+								.append( sqlStringGenerationContext.format( sequence.getName() ) )
+								.append( ' ' )
+								.append( sequence.getIncrementSize() )
+								.append( '\n' );
+					}
+				}
+			}
+		}
+
+		try {
+			final byte[] digest = MessageDigest.getInstance( "SHA-256" )
+					.digest( model.toString().getBytes( StandardCharsets.UTF_8 ) );
+			final StringBuilder hex = new StringBuilder( digest.length * 2 );
+			for ( byte b : digest ) {
+				hex.append( Character.forDigit( ( b >> 4 ) & 0xF, 16 ) )
+						.append( Character.forDigit( b & 0xF, 16 ) );
+			}
+			return hex.toString();
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new HibernateException( "Unable to compute the schema validation fingerprint", e );
+		}
+	}
+
+	/**
+	 * @return {@code true} if the fingerprint table exists and contains the fingerprint of the validated model
+	 */
+	boolean isRecorded(Connection connection, DatabaseInformation databaseInformation) {
+		// a failing select would abort the transaction of the connection on some databases
+		if ( databaseInformation.getTableInformation( tableName ) == null ) {
+			return false;
+		}
+		try ( Statement statement = connection.createStatement();
+				ResultSet resultSet = statement.executeQuery( "select " + COLUMN_NAME + " from " + formattedTableName ) ) {
+			while ( resultSet.next() ) {
+				if ( fingerprint.equals( resultSet.getString( 1 ) ) ) {
+					return true;
+				}
+			}
+			return false;
+		}
+		catch (SQLException e) {
+			log.debugf( "Unable to read the schema validation fingerprint from %s : %s", formattedTableName, e.getMessage() );
+			return false;
+		}
+	}
+
+	/**
+	 * @return {@code true} if the validator may create the fingerprint table and write the fingerprint to it
+	 */
+	boolean isRecordingEnabled() {
+		return recordingEnabled;
+	}
+
+	/**
+	 * Record the fingerprint of the validated model, creating the fingerprint table if needed.
+	 */
+	void record(Connection connection, DatabaseInformation databaseInformation, Metadata metadata, Dialect dialect) {
+		try ( Statement statement = connection.createStatement() ) {
+			if ( databaseInformation.getTableInformation( tableName ) == null ) {
+				final String type = metadata.getDatabase().getTypeConfiguration().getDdlTypeRegistry()
+						.getTypeName( SqlTypes.VARCHAR, Size.length( 64 ) );
+				statement.executeUpdate(
+						dialect.getCreateTableString() + " " + formattedTableName
+								+ " (" + COLUMN_NAME + " " + type + " not null)" + dialect.getTableTypeString()
+				);
+			}
+			else {
+				statement.executeUpdate( "delete from " + formattedTableName );
+			}
+		}
+		catch (SQLException e) {
+			log.warnf( "Unable to prepare the schema validation fingerprint table %s : %s", formattedTableName, e.getMessage() );
+			return;
+		}
+
+		try ( PreparedStatement statement = connection.prepareStatement(
+				"insert into " + formattedTableName + " (" + COLUMN_NAME + ") values (?)" ) ) {
+			statement.setString( 1, fingerprint );
+			statement.executeUpdate();
+		}
+		catch (SQLException e) {
+			log.warnf( "Unable to record the schema validation fingerprint in %s : %s", formattedTableName, e.getMessage() );
+		}
+	}
+}
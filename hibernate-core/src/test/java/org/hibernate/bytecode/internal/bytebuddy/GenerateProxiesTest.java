@@ -2,8 +2,13 @@ package org.hibernate.bytecode.internal.bytebuddy;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.InvocationTargetException;
 
 import org.hibernate.bytecode.enhance.internal.bytebuddy.EnhancerImpl;
@@ -12,9 +17,17 @@ import org.hibernate.bytecode.enhance.spi.EnhancementException;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.bytecode.spi.ByteCodeHelper;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
 import org.junit.Test;
 
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.modifier.FieldManifestation;
+import net.bytebuddy.description.modifier.Ownership;
+import net.bytebuddy.description.modifier.Visibility;
+
 public class GenerateProxiesTest {
 
 	@Test
@@ -33,6 +46,47 @@ public class GenerateProxiesTest {
 		assertNotNull( proxyClass.getConstructor().newInstance() );
 	}
 
+	@Test
+	public void generatePrebuiltProxy() throws IllegalAccessException {
+		ByteBuddyProxyHelper byteBuddyProxyHelper = new ByteBuddyProxyHelper( new ByteBuddyState() );
+		assertNull( byteBuddyProxyHelper.buildPrebuiltProxy( getClass().getClassLoader(), getClass().getName() ) );
+
+		byte[] proxyBytecode = byteBuddyProxyHelper.buildPrebuiltProxy( SimpleEntity.class.getClassLoader(),
+				SimpleEntity.class.getName() );
+		assertNotNull( proxyBytecode );
+		// simulates the proxy class being packaged with the entity
+		Class<?> prebuiltProxyClass = MethodHandles.privateLookupIn( SimpleEntity.class, MethodHandles.lookup() )
+				.defineClass( proxyBytecode );
+		assertEquals( ByteBuddyProxyHelper.prebuiltProxyClassName( SimpleEntity.class.getName() ),
+				prebuiltProxyClass.getName() );
+
+		Class<?> proxyClass = byteBuddyProxyHelper.buildProxy( SimpleEntity.class,
+				new Class<?>[]{ HibernateProxy.class } );
+		assertSame( prebuiltProxyClass, proxyClass );
+	}
+
+	@Test
+	public void regenerateStalePrebuiltProxy() throws IllegalAccessException {
+		// simulates a proxy class generated from another version of the entity
+		byte[] proxyBytecode = new ByteBuddy()
+				.subclass( StaleEntity.class )
+				.name( ByteBuddyProxyHelper.prebuiltProxyClassName( StaleEntity.class.getName() ) )
+				.implement( HibernateProxy.class )
+				.defineField( ByteBuddyState.PREBUILT_MARKER_FIELD_NAME, String.class, Visibility.PUBLIC,
+						Ownership.STATIC, FieldManifestation.FINAL )
+				.value( "stale" )
+				.make()
+				.getBytes();
+		Class<?> prebuiltProxyClass = MethodHandles.privateLookupIn( StaleEntity.class, MethodHandles.lookup() )
+				.defineClass( proxyBytecode );
+
+		ByteBuddyProxyHelper byteBuddyProxyHelper = new ByteBuddyProxyHelper( new ByteBuddyState() );
+		Class<?> proxyClass = byteBuddyProxyHelper.buildProxy( StaleEntity.class,
+				new Class<?>[]{ HibernateProxy.class } );
+		assertNotSame( prebuiltProxyClass, proxyClass );
+		assertTrue( StaleEntity.class.isAssignableFrom( proxyClass ) );
+	}
+
 	@Test
 	public void generateFastClassAndReflectionOptimizer() {
 		BytecodeProviderImpl bytecodeProvider = new BytecodeProviderImpl();
@@ -50,4 +104,10 @@ public class GenerateProxiesTest {
 				ByteCodeHelper.readByteCode( SimpleEntity.class.getClassLoader()
 						.getResourceAsStream( SimpleEntity.class.getName().replace( '.', '/' ) + ".class" ) ) );
 	}
+
+	@Entity(name = "StaleEntity")
+	public static class StaleEntity {
+		@Id
+		private Long id;
+	}
 }
@@ -1,15 +1,20 @@
 package org.hibernate.engine.jdbc.spi;
 
 import java.sql.Statement;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.hibernate.engine.jdbc.internal.SqlStatementLogWorker;
+
 import org.hibernate.testing.TestForIssue;
 import org.junit.jupiter.api.Test;
 
 import org.mockito.stubbing.Answer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -46,6 +51,67 @@ class SqlStatementLoggerTest {
 		assertEquals( 1, callCounterToString.get() );
 	}
 
+	@Test
+	public void testSlowestQueries() {
+		SqlStatementLogger sqlStatementLogger = new SqlStatementLogger( false, false, false, 10L, 2, false );
+
+		sqlStatementLogger.logSlowQuery( "select 1", millisAgo( 20 ) );
+		sqlStatementLogger.logSlowQuery( "select 2", millisAgo( 30 ) );
+		sqlStatementLogger.logSlowQuery( "select 1", millisAgo( 40 ) );
+		// not slower than the slowest queries kept
+		sqlStatementLogger.logSlowQuery( "select 3", millisAgo( 15 ) );
+		// not a slow query
+		sqlStatementLogger.logSlowQuery( "select 4", System.nanoTime() );
+
+		List<SqlStatementLogger.SlowQuery> slowestQueries = sqlStatementLogger.getSlowestQueries();
+		assertEquals( 2, slowestQueries.size() );
+		assertEquals( "select 1", slowestQueries.get( 0 ).getSql() );
+		assertEquals( 2, slowestQueries.get( 0 ).getCount() );
+		assertTrue( slowestQueries.get( 0 ).getMaxTime() >= 40 );
+		assertTrue( slowestQueries.get( 0 ).getTotalTime() >= 60 );
+		assertEquals( "select 2", slowestQueries.get( 1 ).getSql() );
+		assertEquals( 1, slowestQueries.get( 1 ).getCount() );
+	}
+
+	@Test
+	public void testAsyncLogging() {
+		SqlStatementLogger sqlStatementLogger = new SqlStatementLogger( false, false, false, 10L, 10, true );
+		for ( int i = 0; i < 100; i++ ) {
+			sqlStatementLogger.logStatement( "select " + i );
+			sqlStatementLogger.logSlowQuery( "select " + ( i % 5 ), millisAgo( 20 ) );
+		}
+		// logs the pending events
+		sqlStatementLogger.stop();
+
+		List<SqlStatementLogger.SlowQuery> slowestQueries = sqlStatementLogger.getSlowestQueries();
+		assertEquals( 5, slowestQueries.size() );
+		for ( SqlStatementLogger.SlowQuery slowQuery : slowestQueries ) {
+			assertEquals( 20, slowQuery.getCount() );
+		}
+	}
+
+	@Test
+	public void testAsyncLoggingWorkerStop() {
+		SqlStatementLogWorker worker = new SqlStatementLogWorker();
+		AtomicInteger logged = new AtomicInteger();
+		for ( int i = 0; i < 10_000; i++ ) {
+			if ( !worker.offer( logged::incrementAndGet ) ) {
+				// the buffer is full, the caller logs the statement
+				logged.incrementAndGet();
+			}
+		}
+		worker.stop();
+		assertEquals( 10_000, logged.get() );
+
+		// rejected once stopped, to be logged by the caller
+		assertFalse( worker.offer( logged::incrementAndGet ) );
+		assertEquals( 10_000, logged.get() );
+	}
+
+		private static long millisAgo(long millis) {
+		return System.nanoTime() - TimeUnit.MILLISECONDS.toNanos( millis );
+	}
+
 	private Statement mockStatementForCountingToString(AtomicInteger callCounter) {
 		Statement statement = mock( Statement.class );
 		when( statement.toString() ).then( (Answer<String>) invocation -> {
@@ -0,0 +1,118 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests that the row operations of the updated collections of a persister share
+ * the same JDBC batches.
+ */
+@DomainModel(
+		annotatedClasses = CollectionUpdateBatchTest.Owner.class
+)
+@ServiceRegistry(
+		settings = @Setting( name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10" )
+)
+@SessionFactory( useCollectingStatementInspector = true )
+public class CollectionUpdateBatchTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 0; i < 5; i++ ) {
+						final Owner owner = new Owner();
+						owner.id = i;
+						owner.tags.add( "a" );
+						owner.tags.add( "b" );
+						owner.aliases.add( "alias " + i );
+						session.persist( owner );
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.createQuery( "from TagOwner", Owner.class ).list().forEach( session::remove )
+		);
+	}
+
+	@Test
+	public void testRowOperationsAreBatchedAcrossCollections(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+
+		scope.inTransaction(
+				session -> {
+					for ( Owner owner : session.createQuery( "from TagOwner", Owner.class ).list() ) {
+						owner.tags.remove( "a" );
+						owner.tags.add( "c" );
+						owner.aliases.add( "other alias " + owner.id );
+					}
+					statementInspector.clear();
+				}
+		);
+
+		// a single batch for each kind of row operation of each collection table
+		assertEquals( 1, count( statementInspector, "delete from TagOwner_tags" ) );
+		assertEquals( 1, count( statementInspector, "insert into TagOwner_tags" ) );
+		assertEquals( 1, count( statementInspector, "insert into TagOwner_aliases" ) );
+
+		scope.inTransaction(
+				session -> {
+					for ( Owner owner : session.createQuery( "from TagOwner", Owner.class ).list() ) {
+						assertThat( owner.tags ).containsExactlyInAnyOrder( "b", "c" );
+						assertThat( owner.aliases ).containsExactlyInAnyOrder(
+								"alias " + owner.id,
+								"other alias " + owner.id
+						);
+					}
+				}
+		);
+	}
+
+	private static long count(SQLStatementInspector statementInspector, String prefix) {
+		return statementInspector.getSqlQueries().stream().filter( sql -> sql.startsWith( prefix ) ).count();
+	}
+
+	@Entity(name = "TagOwner")
+	@Table(name = "TagOwner")
+	public static class Owner {
+		@Id
+		public Integer id;
+		@ElementCollection
+		@CollectionTable(name = "TagOwner_tags")
+		public Set<String> tags = new HashSet<>();
+		@ElementCollection
+		@CollectionTable(name = "TagOwner_aliases")
+		public Set<String> aliases = new HashSet<>();
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DomainModel(
+		annotatedClasses = {
+				MultiRowInsertBatchTest.Event.class,
+				MultiRowInsertBatchTest.Vehicle.class,
+				MultiRowInsertBatchTest.Car.class
+		}
+)
+@ServiceRegistry(
+		settings = {
+				@Setting( name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10" ),
+				@Setting( name = AvailableSettings.BATCH_MULTI_ROW_INSERT, value = "true" ),
+				@Setting( name = AvailableSettings.ORDER_INSERTS, value = "true" )
+		}
+)
+@SessionFactory( useCollectingStatementInspector = true )
+@RequiresDialectFeature( feature = DialectFeatureChecks.SupportsMultiRowInsert.class )
+public class MultiRowInsertBatchTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createMutationQuery( "delete from Event" ).executeUpdate();
+					session.createMutationQuery( "delete from Vehicle" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testMultiRowInsert(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction(
+				session -> {
+					for ( int i = 0; i < 25; i++ ) {
+						session.persist( new Event( i, "event " + i ) );
+					}
+				}
+		);
+
+		final List<String> inserts = inserts( statementInspector );
+		// two full statements of 10 rows, and the 5 remaining rows
+		assertEquals( 3, inserts.size() );
+		assertEquals( 10, rows( inserts.get( 0 ) ) );
+		assertEquals( 10, rows( inserts.get( 1 ) ) );
+		assertEquals( 5, rows( inserts.get( 2 ) ) );
+
+		scope.inTransaction(
+				session -> {
+					assertEquals( 25L, session.createQuery( "select count(*) from Event", Long.class ).getSingleResult() );
+					assertEquals( "event 17", session.get( Event.class, 17 ).name );
+				}
+		);
+	}
+
+	@Test
+	public void testJoinedInheritanceWithSequence(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction(
+				session -> {
+					for ( int i = 0; i < 4; i++ ) {
+						session.persist( new Car( "car " + i, i + 2 ) );
+					}
+				}
+		);
+
+		final List<String> inserts = inserts( statementInspector );
+		// one statement for each table, the root table first
+		assertEquals( 2, inserts.size() );
+		assertEquals( 4, rows( inserts.get( 0 ) ) );
+		assertEquals( 4, rows( inserts.get( 1 ) ) );
+
+		scope.inTransaction(
+				session -> assertEquals(
+						14L,
+						session.createQuery( "select sum(c.doors) from Car c", Long.class ).getSingleResult()
+				)
+		);
+	}
+
+	private static List<String> inserts(SQLStatementInspector statementInspector) {
+		return statementInspector.getSqlQueries()
+				.stream()
+				.filter( sql -> sql.startsWith( "insert" ) )
+				.collect( Collectors.toList() );
+	}
+
+	private static int rows(String sql) {
+		return sql.split( "\\), \\(" ).length;
+	}
+
+	@Entity( name = "Event" )
+	public static class Event {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Event() {
+		}
+
+		public Event(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "Vehicle" )
+	@Inheritance( strategy = InheritanceType.JOINED )
+	public static class Vehicle {
+		@Id
+		@GeneratedValue( strategy = GenerationType.SEQUENCE )
+		private Long id;
+		private String name;
+
+		public Vehicle() {
+		}
+
+		public Vehicle(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "Car" )
+	public static class Car extends Vehicle {
+		private int doors;
+
+		public Car() {
+		}
+
+		public Car(String name, int doors) {
+			super( name );
+			this.doors = doors;
+		}
+	}
+}
@@ -0,0 +1,221 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.bootstrap.parallel;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+
+import org.hibernate.testing.transaction.TransactionUtil2;
+import org.junit.jupiter.api.Test;
+
+import org.jboss.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Tests for {@value AvailableSettings#PARALLEL_PERSISTER_INITIALIZATION}
+ */
+public class ParallelPersisterInitializationTest {
+	private static final Logger log = Logger.getLogger( ParallelPersisterInitializationTest.class );
+
+	private static final Class<?>[] ANNOTATED_CLASSES = {
+			Shelf.class,
+			Item.class,
+			Book.class,
+			Magazine.class
+	};
+
+	@Test
+	public void testSameStaticSqlAsSequential() {
+		final Map<String, List<String[]>> sequential = new HashMap<>();
+		final Map<String, List<String[]>> parallel = new HashMap<>();
+		withSessionFactory( false, sessionFactory -> collectStaticSql( sessionFactory, sequential ) );
+		withSessionFactory( true, sessionFactory -> collectStaticSql( sessionFactory, parallel ) );
+		assertSameStaticSql( sequential, parallel );
+	}
+
+	@Test
+	public void testUsable() {
+		withSessionFactory(
+				true,
+				sessionFactory -> {
+					TransactionUtil2.inTransaction(
+							sessionFactory,
+							session -> {
+								final Shelf shelf = new Shelf();
+								shelf.id = 1;
+								shelf.labels.add( "fiction" );
+								session.persist( shelf );
+								final Book book = new Book();
+								book.id = 1;
+								book.shelf = shelf;
+								book.isbn = "978-0";
+								session.persist( book );
+								final Magazine magazine = new Magazine();
+								magazine.id = 2;
+								magazine.shelf = shelf;
+								magazine.issue = 7;
+								session.persist( magazine );
+							}
+					);
+					TransactionUtil2.inTransaction(
+							sessionFactory,
+							session -> {
+								final Shelf shelf = session.get( Shelf.class, 1 );
+								assertNotNull( shelf );
+								assertEquals( 2, shelf.items.size() );
+								assertEquals( Set.of( "fiction" ), shelf.labels );
+							}
+					);
+				}
+		);
+	}
+
+	/**
+	 * Races between the persisters would only show up now and then, so build
+	 * several factories in parallel mode and compare each with the sequential one.
+	 */
+	@Test
+	public void testRepeatedParallelBuilds() {
+		final Map<String, List<String[]>> sequential = new HashMap<>();
+		withSessionFactory( false, sessionFactory -> collectStaticSql( sessionFactory, sequential ) );
+
+		for ( int round = 0; round < 5; round++ ) {
+			final Map<String, List<String[]>> parallel = new HashMap<>();
+			withSessionFactory( true, sessionFactory -> collectStaticSql( sessionFactory, parallel ) );
+			assertSameStaticSql( sequential, parallel );
+		}
+	}
+
+	/**
+	 * Not a precise benchmark, but reports the boot time of both modes so that
+	 * regressions are visible in the test output. The domain model of this test
+	 * is small, so the parallel mode is not expected to be faster here.
+	 */
+	@Test
+	public void testStartupTime() {
+		final int rounds = 5;
+		long sequentialNanos = 0;
+		long parallelNanos = 0;
+		for ( int i = 0; i < rounds; i++ ) {
+			sequentialNanos += timeSessionFactoryBuild( false );
+			parallelNanos += timeSessionFactoryBuild( true );
+		}
+		log.infof(
+				"Average SessionFactory build time, sequential: %s ms, parallel: %s ms",
+				sequentialNanos / rounds / 1_000_000,
+				parallelNanos / rounds / 1_000_000
+		);
+	}
+
+	private static long timeSessionFactoryBuild(boolean parallel) {
+		final long[] elapsed = new long[1];
+		final long startTime = System.nanoTime();
+		withSessionFactory( parallel, sessionFactory -> elapsed[0] = System.nanoTime() - startTime );
+		return elapsed[0];
+	}
+
+	private static void assertSameStaticSql(Map<String, List<String[]>> sequential, Map<String, List<String[]>> parallel) {
+		assertEquals( sequential.keySet(), parallel.keySet() );
+		sequential.forEach(
+				(entityName, sqlStrings) -> {
+					final List<String[]> parallelSqlStrings = parallel.get( entityName );
+					for ( int i = 0; i < sqlStrings.size(); i++ ) {
+						assertArrayEquals( sqlStrings.get( i ), parallelSqlStrings.get( i ), entityName );
+					}
+				}
+		);
+	}
+
+	private static void collectStaticSql(SessionFactoryImplementor sessionFactory, Map<String, List<String[]>> result) {
+		sessionFactory.getRuntimeMetamodels().getMappingMetamodel().forEachEntityDescriptor(
+				persister -> {
+					final AbstractEntityPersister entityPersister = (AbstractEntityPersister) persister;
+					final List<String[]> sqlStrings = new ArrayList<>();
+					sqlStrings.add( entityPersister.getSQLInsertStrings() );
+					sqlStrings.add( entityPersister.getSQLUpdateStrings() );
+					sqlStrings.add( entityPersister.getSQLDeleteStrings() );
+					result.put( entityPersister.getEntityName(), sqlStrings );
+				}
+		);
+	}
+
+	private static void withSessionFactory(boolean parallel, Consumer<SessionFactoryImplementor> action) {
+		final StandardServiceRegistry ssr = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.applySetting( AvailableSettings.PARALLEL_PERSISTER_INITIALIZATION, Boolean.toString( parallel ) )
+				.build();
+		try {
+			final MetadataSources metadataSources = new MetadataSources( ssr );
+			for ( Class<?> annotatedClass : ANNOTATED_CLASSES ) {
+				metadataSources.addAnnotatedClass( annotatedClass );
+			}
+			final SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) metadataSources
+					.buildMetadata()
+					.buildSessionFactory();
+			try {
+				action.accept( sessionFactory );
+			}
+			finally {
+				sessionFactory.close();
+			}
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( ssr );
+		}
+	}
+
+	@Entity( name = "Shelf" )
+	public static class Shelf {
+		@Id
+		private Integer id;
+		@OneToMany( mappedBy = "shelf" )
+		private Set<Item> items = new HashSet<>();
+		@ElementCollection
+		private Set<String> labels = new HashSet<>();
+	}
+
+	@Entity( name = "Item" )
+	@Inheritance( strategy = InheritanceType.JOINED )
+	public static class Item {
+		@Id
+		Integer id;
+		@ManyToOne
+		Shelf shelf;
+	}
+
+	@Entity( name = "Book" )
+	public static class Book extends Item {
+		private String isbn;
+	}
+
+	@Entity( name = "Magazine" )
+	public static class Magazine extends Item {
+		private int issue;
+	}
+}
@@ -0,0 +1,80 @@
+package org.hibernate.orm.test.bulkid;
+
+import java.util.Locale;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.dialect.temptable.TemporaryTable;
+import org.hibernate.query.sqm.mutation.internal.cte.CteMutationStrategy;
+import org.hibernate.query.sqm.mutation.spi.SqmMultiTableMutationStrategy;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * With a threshold of half the matching rows of some of the queries, so that both the
+ * inline restriction and the strategy of the dialect are used.
+ */
+public class AdaptiveMutationStrategyIdTest extends AbstractMutationStrategyIdTest {
+
+	private final SQLStatementInspector statementInspector = new SQLStatementInspector();
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty(
+				AvailableSettings.QUERY_MULTI_TABLE_MUTATION_INLINE_THRESHOLD,
+				Integer.toString( entityCount() / 2 )
+		);
+		configuration.getProperties().put( AvailableSettings.STATEMENT_INSPECTOR, statementInspector );
+	}
+
+	@Override
+	protected Class<? extends SqmMultiTableMutationStrategy> getMultiTableBulkIdStrategyClass() {
+		return null;
+	}
+
+	@Test
+	@Override
+	public void testUpdate() {
+		statementInspector.clear();
+		super.testUpdate();
+		// more rows than the threshold match
+		assertTrue( isDialectStrategyUsed() );
+	}
+
+	@Test
+	@Override
+	public void testDeleteFromPerson() {
+		statementInspector.clear();
+		super.testDeleteFromPerson();
+		// more rows than the threshold match
+		assertTrue( isDialectStrategyUsed() );
+	}
+
+	@Test
+	@Override
+	public void testDeleteFromEngineer() {
+		statementInspector.clear();
+		super.testDeleteFromEngineer();
+		// as many rows as the threshold match
+		assertFalse( isDialectStrategyUsed() );
+	}
+
+	/**
+	 * @return {@code true} if an executed statement uses the id table or the id CTE of the dialect strategy
+	 */
+	private boolean isDialectStrategyUsed() {
+		final String idTableName = ( TemporaryTable.ID_TABLE_PREFIX + "Person" ).toLowerCase( Locale.ROOT );
+		for ( String sql : statementInspector.getSqlQueries() ) {
+			final String statement = sql.toLowerCase( Locale.ROOT );
+			if ( statement.contains( idTableName ) || statement.contains( CteMutationStrategy.ID_TABLE_NAME ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
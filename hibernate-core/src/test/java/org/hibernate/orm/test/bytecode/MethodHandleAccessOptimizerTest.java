@@ -0,0 +1,81 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.bytecode;
+
+import org.hibernate.bytecode.internal.bytebuddy.AccessOptimizerMethodHandleImpl;
+import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.cfg.Environment;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests that the state of an entity mapping private fields is accessed through the method
+ * handle based access optimizer, as long as the reflection optimizer is enabled.
+ */
+@DomainModel(annotatedClasses = MethodHandleAccessOptimizerTest.PrivateFieldsEntity.class)
+@SessionFactory
+public class MethodHandleAccessOptimizerTest {
+
+	@Test
+	public void testOptimizerIsUsed(SessionFactoryScope scope) {
+		// a system-level setting, hibernate.bytecode.use_reflection_optimizer
+		assumeTrue( Environment.useReflectionOptimizer() );
+
+		final ReflectionOptimizer optimizer = scope.getSessionFactory()
+				.getMappingMetamodel()
+				.getEntityDescriptor( PrivateFieldsEntity.class )
+				.getRepresentationStrategy()
+				.getReflectionOptimizer();
+		assertNotNull( optimizer );
+		assertTrue( optimizer.getAccessOptimizer() instanceof AccessOptimizerMethodHandleImpl );
+
+		scope.inTransaction( session -> session.persist( new PrivateFieldsEntity( 1, "name", 2 ) ) );
+		scope.inTransaction( session -> {
+			final PrivateFieldsEntity entity = session.get( PrivateFieldsEntity.class, 1 );
+			assertEquals( "name", entity.name );
+			assertEquals( 2, entity.count );
+			entity.count = 3;
+		} );
+		scope.inTransaction(
+				session -> assertEquals( 3, session.get( PrivateFieldsEntity.class, 1 ).count )
+		);
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from PrivateFieldsEntity" ).executeUpdate() );
+	}
+
+	@Entity(name = "PrivateFieldsEntity")
+	public static class PrivateFieldsEntity {
+		@Id
+		private Integer id;
+		private String name;
+		private int count;
+
+		public PrivateFieldsEntity() {
+		}
+
+		public PrivateFieldsEntity(Integer id, String name, int count) {
+			this.id = id;
+			this.name = name;
+			this.count = count;
+		}
+	}
+}
@@ -8,10 +8,17 @@ package org.hibernate.orm.test.bytecode;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.bytecode.internal.bytebuddy.AccessOptimizerMethodHandleImpl;
 import org.hibernate.bytecode.spi.BytecodeProvider;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
 import org.hibernate.cfg.Environment;
+import org.hibernate.property.access.internal.PropertyAccessStrategyFieldImpl;
+import org.hibernate.property.access.spi.PropertyAccess;
 import org.hibernate.testing.TestForIssue;
 import org.hibernate.testing.junit4.BaseUnitTestCase;
 import org.junit.Test;
@@ -62,6 +69,23 @@ public class ReflectionOptimizerTest extends BaseUnitTestCase {
 		assertNotNull( reflectionOptimizer );
 	}
 
+	@Test
+	public void testPrivateFields() {
+		BytecodeProvider provider = Environment.getBytecodeProvider();
+		Map<String, PropertyAccess> propertyAccessMap = new LinkedHashMap<>();
+		propertyAccessMap.put( "id", PropertyAccessStrategyFieldImpl.INSTANCE.buildPropertyAccess( PrivateFields.class, "id", true ) );
+		propertyAccessMap.put( "name", PropertyAccessStrategyFieldImpl.INSTANCE.buildPropertyAccess( PrivateFields.class, "name", true ) );
+		ReflectionOptimizer optimizer = provider.getReflectionOptimizer( PrivateFields.class, propertyAccessMap );
+		assertNotNull( optimizer );
+		assertTrue( optimizer.getAccessOptimizer() instanceof AccessOptimizerMethodHandleImpl );
+
+		PrivateFields instance = new PrivateFields();
+		optimizer.getAccessOptimizer().setPropertyValues( instance, new Object[] { 1L, "name" } );
+		assertEquals( 1L, instance.id );
+		assertEquals( "name", instance.name );
+		assertEquivalent( optimizer.getAccessOptimizer().getPropertyValues( instance ), new Object[] { 1L, "name" } );
+	}
+
 	private void assertEquivalent(Object[] checkValues, Object[] values) {
 		assertEquals( "Different lengths", checkValues.length, values.length );
 		for ( int i = 0; i < checkValues.length; i++ ) {
@@ -88,4 +112,11 @@ public class ReflectionOptimizerTest extends BaseUnitTestCase {
 
 		void setProperty(String property);
 	}
+
+	public static class PrivateFields {
+
+		private long id;
+
+		private String name;
+	}
 }
@@ -0,0 +1,141 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.Cache;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the invalidation of the cache entries of the affected entities only, configured by
+ * {@value AvailableSettings#BULK_CACHE_INVALIDATION_THRESHOLD}.
+ */
+@DomainModel(
+		annotatedClasses = BulkOperationCacheInvalidationTest.Item.class
+)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+				@Setting(name = AvailableSettings.BULK_CACHE_INVALIDATION_THRESHOLD, value = "2")
+		}
+)
+@SessionFactory
+public class BulkOperationCacheInvalidationTest {
+
+	private static final String TAGS_ROLE = Item.class.getName() + ".tags";
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( long i = 1; i <= 3; i++ ) {
+						final Item item = new Item();
+						item.id = i;
+						item.name = "Item " + i;
+						item.tags.add( "tag " + i );
+						session.persist( item );
+					}
+				}
+		);
+		scope.getSessionFactory().getCache().evictAllRegions();
+		scope.inTransaction(
+				session -> {
+					for ( long i = 1; i <= 3; i++ ) {
+						Hibernate.initialize( session.get( Item.class, i ).tags );
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.createQuery( "from Item", Item.class ).list().forEach( session::remove )
+		);
+	}
+
+	@Test
+	public void testUpdateBelowThreshold(SessionFactoryScope scope) {
+		final Cache cache = scope.getSessionFactory().getCache();
+		assertTrue( cache.containsEntity( Item.class, 1L ) );
+		assertTrue( cache.containsCollection( TAGS_ROLE, 1L ) );
+
+		scope.inTransaction(
+				session -> session.createMutationQuery( "update Item set name = 'updated' where id = 1" )
+						.executeUpdate()
+		);
+
+		assertFalse( cache.containsEntity( Item.class, 1L ) );
+		assertFalse( cache.containsCollection( TAGS_ROLE, 1L ) );
+		assertTrue( cache.containsEntity( Item.class, 2L ) );
+		assertTrue( cache.containsEntity( Item.class, 3L ) );
+		assertTrue( cache.containsCollection( TAGS_ROLE, 2L ) );
+	}
+
+	@Test
+	public void testDeleteBelowThreshold(SessionFactoryScope scope) {
+		final Cache cache = scope.getSessionFactory().getCache();
+
+		scope.inTransaction(
+				session -> session.createMutationQuery( "delete Item where id = 1" ).executeUpdate()
+		);
+
+		assertFalse( cache.containsEntity( Item.class, 1L ) );
+		assertTrue( cache.containsEntity( Item.class, 2L ) );
+		assertTrue( cache.containsEntity( Item.class, 3L ) );
+	}
+
+	@Test
+	public void testUpdateAboveThreshold(SessionFactoryScope scope) {
+		final Cache cache = scope.getSessionFactory().getCache();
+
+		scope.inTransaction(
+				session -> session.createMutationQuery( "update Item set name = 'updated' where id > 0" )
+						.executeUpdate()
+		);
+
+		for ( long i = 1; i <= 3; i++ ) {
+			assertFalse( cache.containsEntity( Item.class, i ) );
+			assertFalse( cache.containsCollection( TAGS_ROLE, i ) );
+		}
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "Item")
+	@Cacheable
+	@org.hibernate.annotations.Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Item {
+		@Id
+		public Long id;
+		public String name;
+		@ElementCollection
+		@org.hibernate.annotations.Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+		public Set<String> tags = new HashSet<>();
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.collection.bag;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests the updates of bags configured by {@value AvailableSettings#BAG_DIFF_UPDATES}.
+ */
+@DomainModel(
+		annotatedClasses = BagDiffUpdateTest.Post.class
+)
+@ServiceRegistry(
+		settings = @Setting(name = AvailableSettings.BAG_DIFF_UPDATES, value = "true")
+)
+@SessionFactory(useCollectingStatementInspector = true)
+public class BagDiffUpdateTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Post post = new Post();
+					post.id = 1;
+					post.tags.add( "a" );
+					post.tags.add( "b" );
+					post.tags.add( "b" );
+					post.tags.add( "c" );
+					session.persist( post );
+				}
+		);
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.createQuery( "from Post", Post.class ).list().forEach( session::remove )
+		);
+	}
+
+	@Test
+	public void testAddElement(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+
+		scope.inTransaction(
+				session -> {
+					final Post post = session.get( Post.class, 1 );
+					post.tags.add( "d" );
+					post.tags.add( "b" );
+					statementInspector.clear();
+				}
+		);
+
+		assertEquals( 0, count( statementInspector, "delete" ) );
+		assertEquals( 2, count( statementInspector, "insert" ) );
+		assertTags( scope, "a", "b", "b", "b", "c", "d" );
+	}
+
+	@Test
+	public void testRemoveElement(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+
+		scope.inTransaction(
+				session -> {
+					final Post post = session.get( Post.class, 1 );
+					post.tags.remove( "a" );
+					statementInspector.clear();
+				}
+		);
+
+		assertEquals( 1, count( statementInspector, "delete" ) );
+		assertEquals( 0, count( statementInspector, "insert" ) );
+		assertTags( scope, "b", "b", "c" );
+	}
+
+	@Test
+	public void testRemoveDuplicateElement(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+
+		scope.inTransaction(
+				session -> {
+					final Post post = session.get( Post.class, 1 );
+					post.tags.remove( "b" );
+					statementInspector.clear();
+				}
+		);
+
+		// the bag is recreated
+		assertEquals( 3, count( statementInspector, "insert" ) );
+		assertTags( scope, "a", "b", "c" );
+	}
+
+	private static void assertTags(SessionFactoryScope scope, String... tags) {
+		scope.inTransaction(
+				session -> assertThat( session.get( Post.class, 1 ).tags ).containsExactlyInAnyOrder( tags )
+		);
+	}
+
+	private static long count(SQLStatementInspector statementInspector, String prefix) {
+		return statementInspector.getSqlQueries().stream().filter( sql -> sql.startsWith( prefix ) ).count();
+	}
+
+	@Entity(name = "Post")
+	@Table(name = "Post")
+	public static class Post {
+		@Id
+		public Integer id;
+		@ElementCollection
+		@CollectionTable(name = "Post_tags")
+		public Collection<String> tags = new ArrayList<>();
+	}
+}
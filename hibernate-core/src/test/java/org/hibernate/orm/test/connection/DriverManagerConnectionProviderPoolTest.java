@@ -0,0 +1,175 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.connection;
+
+import java.sql.Connection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.HibernateException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionPoolStatistics;
+import org.hibernate.internal.log.ConnectionPoolingLogger;
+import org.hibernate.internal.util.PropertiesHelper;
+
+import org.hibernate.testing.env.ConnectionProviderBuilder;
+import org.hibernate.testing.orm.junit.Logger;
+import org.hibernate.testing.orm.junit.MessageKeyInspection;
+import org.hibernate.testing.orm.junit.MessageKeyWatcher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the blocking acquisition, the eviction of idle connections, the leak detection and the
+ * statistics of the built-in connection pool.
+ */
+public class DriverManagerConnectionProviderPoolTest {
+
+	private DriverManagerConnectionProviderImpl connectionProvider;
+
+	@AfterEach
+	public void tearDown() {
+		if ( connectionProvider != null ) {
+			connectionProvider.stop();
+		}
+	}
+
+	@Test
+	public void testAcquisitionTimeout() throws Exception {
+		connectionProvider = buildConnectionProvider( 2, 100 );
+		final ConnectionPoolStatistics statistics = connectionProvider.unwrap( ConnectionPoolStatistics.class );
+
+		final Connection connection1 = connectionProvider.getConnection();
+		final Connection connection2 = connectionProvider.getConnection();
+		assertEquals( 2, statistics.getActiveCount() );
+		assertEquals( 0, statistics.getIdleCount() );
+
+		final long start = System.nanoTime();
+		assertThrows( HibernateException.class, connectionProvider::getConnection );
+		assertTrue( TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - start ) >= 50 );
+
+		connectionProvider.closeConnection( connection1 );
+		connectionProvider.closeConnection( connection2 );
+		assertEquals( 0, statistics.getActiveCount() );
+		assertEquals( 2, statistics.getIdleCount() );
+		assertEquals( 2, statistics.getAcquisitionCount() );
+	}
+
+	@Test
+	public void testHandOffToWaitingThread() throws Exception {
+		connectionProvider = buildConnectionProvider( 1, 10_000 );
+		final ConnectionPoolStatistics statistics = connectionProvider.unwrap( ConnectionPoolStatistics.class );
+
+		final Connection connection = connectionProvider.getConnection();
+		final CompletableFuture<Connection> waiting = CompletableFuture.supplyAsync( () -> {
+			try {
+				return connectionProvider.getConnection();
+			}
+			catch (Exception e) {
+				throw new RuntimeException( e );
+			}
+		} );
+
+		final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 5 );
+		while ( statistics.getWaitingCount() == 0 && System.nanoTime() < deadline ) {
+			Thread.sleep( 10 );
+		}
+		assertEquals( 1, statistics.getWaitingCount() );
+		assertFalse( waiting.isDone() );
+
+		connectionProvider.closeConnection( connection );
+		final Connection handedOff = waiting.get( 5, TimeUnit.SECONDS );
+		assertSame( connection, handedOff );
+		assertEquals( 0, statistics.getWaitingCount() );
+		assertEquals( 1, statistics.getActiveCount() );
+
+		connectionProvider.closeConnection( handedOff );
+	}
+
+	@Test
+	public void testIdleConnectionsEviction() throws Exception {
+		final Map<String, Object> settings = settings( 3, 10_000 );
+		settings.put( DriverManagerConnectionProviderImpl.MIN_SIZE, "1" );
+		settings.put( DriverManagerConnectionProviderImpl.IDLE_TIMEOUT, "1" );
+		settings.put( DriverManagerConnectionProviderImpl.VALIDATION_INTERVAL, "1" );
+		connectionProvider = buildConnectionProvider( settings );
+		final ConnectionPoolStatistics statistics = connectionProvider.unwrap( ConnectionPoolStatistics.class );
+
+		final Connection connection1 = connectionProvider.getConnection();
+		final Connection connection2 = connectionProvider.getConnection();
+		final Connection connection3 = connectionProvider.getConnection();
+		connectionProvider.closeConnection( connection1 );
+		connectionProvider.closeConnection( connection2 );
+		connectionProvider.closeConnection( connection3 );
+
+		// the connections idle in excess of the minimum size are closed by the validation
+		final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 5 );
+		while ( statistics.getIdleCount() > 1 && System.nanoTime() < deadline ) {
+			Thread.sleep( 50 );
+		}
+		assertEquals( 1, statistics.getIdleCount() );
+		assertTrue( connection1.isClosed() );
+		assertTrue( connection2.isClosed() );
+
+		// the remaining connection is the most recently used one
+		final Connection connection = connectionProvider.getConnection();
+		assertSame( connection3, connection );
+		assertFalse( connection.isClosed() );
+		connectionProvider.closeConnection( connection );
+	}
+
+	@Test
+	@MessageKeyInspection(
+			messageKey = "HHH10001013",
+			logger = @Logger(loggerName = ConnectionPoolingLogger.LOGGER_NAME)
+	)
+	public void testLeakDetection(MessageKeyWatcher watcher) throws Exception {
+		final Map<String, Object> settings = settings( 2, 10_000 );
+		settings.put( DriverManagerConnectionProviderImpl.LEAK_DETECTION_THRESHOLD, "1" );
+		settings.put( DriverManagerConnectionProviderImpl.VALIDATION_INTERVAL, "1" );
+		connectionProvider = buildConnectionProvider( settings );
+
+		final Connection connection = connectionProvider.getConnection();
+		assertFalse( watcher.wasTriggered() );
+
+		// the connection checked out for longer than the threshold is reported by the validation
+		final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 5 );
+		while ( !watcher.wasTriggered() && System.nanoTime() < deadline ) {
+			Thread.sleep( 50 );
+		}
+		assertTrue( watcher.wasTriggered() );
+
+		connectionProvider.closeConnection( connection );
+	}
+
+	private static DriverManagerConnectionProviderImpl buildConnectionProvider(int poolSize, long acquisitionTimeout) {
+		return buildConnectionProvider( settings( poolSize, acquisitionTimeout ) );
+	}
+
+	private static DriverManagerConnectionProviderImpl buildConnectionProvider(Map<String, Object> settings) {
+		final DriverManagerConnectionProviderImpl connectionProvider = new DriverManagerConnectionProviderImpl();
+		connectionProvider.configure( settings );
+		return connectionProvider;
+	}
+
+	private static Map<String, Object> settings(int poolSize, long acquisitionTimeout) {
+		final Map<String, Object> settings = PropertiesHelper.map(
+				ConnectionProviderBuilder.getConnectionProviderProperties( "pool" )
+		);
+		settings.put( AvailableSettings.POOL_SIZE, Integer.toString( poolSize ) );
+		settings.put( DriverManagerConnectionProviderImpl.ACQUISITION_TIMEOUT, Long.toString( acquisitionTimeout ) );
+		return settings;
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.idgen.enhanced;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DomainModel(annotatedClasses = {
+		PrefetchingDatabaseStructureTest.SequenceEntity.class,
+		PrefetchingDatabaseStructureTest.TableEntity.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.ID_OPTIMIZER_PREFETCH_THRESHOLD, value = "0.5"),
+		@Setting(name = AvailableSettings.ID_OPTIMIZER_PREFETCH_SIZE, value = "3")
+})
+@SessionFactory
+@RequiresDialect(H2Dialect.class)
+public class PrefetchingDatabaseStructureTest {
+	private static final int COUNT = 35;
+
+	@Test
+	public void testSequence(SessionFactoryScope scope) {
+		assertGenerated( scope, SequenceEntity.class, SequenceEntity::new, entity -> entity.id );
+	}
+
+	@Test
+	public void testTable(SessionFactoryScope scope) {
+		assertGenerated( scope, TableEntity.class, TableEntity::new, entity -> entity.id );
+	}
+
+	private <T> void assertGenerated(
+			SessionFactoryScope scope,
+			Class<T> entityClass,
+			Function<String, T> constructor,
+			Function<T, Long> id) {
+		final SequenceStyleGenerator generator = (SequenceStyleGenerator) scope.getSessionFactory()
+				.getMappingMetamodel()
+				.getEntityDescriptor( entityClass )
+				.getIdentifierGenerator();
+
+		final List<Long> ids = new ArrayList<>();
+		scope.inTransaction(
+				session -> {
+					for ( int i = 0; i < COUNT; i++ ) {
+						final T entity = constructor.apply( "entity " + i );
+						session.persist( entity );
+						ids.add( id.apply( entity ) );
+					}
+				}
+		);
+
+		final List<Long> expected = new ArrayList<>();
+		for ( long i = 1; i <= COUNT; i++ ) {
+			expected.add( i );
+		}
+		assertEquals( expected, ids );
+		// the first two values are fetched on demand, once half of the second block was
+		// generated, the values of the next three blocks are fetched at once
+		assertEquals( 3, generator.getDatabaseStructure().getTimesAccessed() );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createMutationQuery( "delete from SequenceEntity" ).executeUpdate();
+					session.createMutationQuery( "delete from TableEntity" ).executeUpdate();
+				}
+		);
+	}
+
+	@Entity(name = "SequenceEntity")
+	public static class SequenceEntity {
+		@Id
+		@GeneratedValue(generator = "prefetched_sequence")
+		@GenericGenerator(
+				name = "prefetched_sequence",
+				strategy = "enhanced-sequence",
+				parameters = {
+						@Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "prefetched_seq"),
+						@Parameter(name = SequenceStyleGenerator.INCREMENT_PARAM, value = "10"),
+						@Parameter(name = SequenceStyleGenerator.OPT_PARAM, value = "pooled")
+				}
+		)
+		private Long id;
+		private String name;
+
+		public SequenceEntity() {
+		}
+
+		public SequenceEntity(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "TableEntity")
+	public static class TableEntity {
+		@Id
+		@GeneratedValue(generator = "prefetched_table")
+		@GenericGenerator(
+				name = "prefetched_table",
+				strategy = "enhanced-sequence",
+				parameters = {
+						@Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "prefetched_tbl"),
+						@Parameter(name = SequenceStyleGenerator.FORCE_TBL_PARAM, value = "true"),
+						@Parameter(name = SequenceStyleGenerator.INCREMENT_PARAM, value = "10"),
+						@Parameter(name = SequenceStyleGenerator.OPT_PARAM, value = "pooled")
+				}
+		)
+		private Long id;
+		private String name;
+
+		public TableEntity() {
+		}
+
+		public TableEntity(String name) {
+			this.name = name;
+		}
+	}
+}
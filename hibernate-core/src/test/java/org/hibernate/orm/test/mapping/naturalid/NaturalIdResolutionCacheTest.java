@@ -0,0 +1,172 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.mapping.naturalid;
+
+import java.util.List;
+
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the resolution of immutable natural-ids kept by the SessionFactory, configured by
+ * {@value AvailableSettings#NATURAL_ID_RESOLUTION_CACHE_SIZE}.
+ */
+@DomainModel(
+		annotatedClasses = NaturalIdResolutionCacheTest.Country.class
+)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+				@Setting(name = AvailableSettings.NATURAL_ID_RESOLUTION_CACHE_SIZE, value = "10")
+		}
+)
+@SessionFactory(useCollectingStatementInspector = true)
+public class NaturalIdResolutionCacheTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.persist( new Country( 1, "FR", "France" ) );
+					session.persist( new Country( 2, "IT", "Italy" ) );
+					session.persist( new Country( 3, "ES", "Spain" ) );
+				}
+		);
+		// loading by id keeps the resolutions
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 3; i++ ) {
+						session.get( Country.class, i );
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.createQuery( "from Country", Country.class ).list().forEach( session::remove )
+		);
+	}
+
+	@Test
+	public void testMultiLoadResolvedWithoutQuery(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction(
+				session -> {
+					final List<Country> countries = session.byMultipleNaturalId( Country.class )
+							.enableOrderedReturn( false )
+							.multiLoad( "FR", "IT", "ES" );
+					assertThat( countries ).extracting( country -> country.name )
+							.containsExactlyInAnyOrder( "France", "Italy", "Spain" );
+				}
+		);
+
+		// the ids are resolved by the SessionFactory, and the entities found in the second-level cache
+		statementInspector.assertExecutedCount( 0 );
+	}
+
+	@Test
+	public void testDeletedResolutionIsRemoved(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.remove( session.get( Country.class, 1 ) )
+		);
+		scope.inTransaction(
+				session -> session.persist( new Country( 4, "FR", "French Republic" ) )
+		);
+
+		scope.inTransaction(
+				session -> {
+					final List<Country> countries = session.byMultipleNaturalId( Country.class )
+							.enableOrderedReturn( false )
+							.multiLoad( "FR" );
+					assertThat( countries ).extracting( country -> country.id ).containsExactly( 4 );
+				}
+		);
+	}
+
+	@Test
+	public void testOrderedMultiLoad(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final List<Country> countries = session.byMultipleNaturalId( Country.class )
+							.enableOrderedReturn( true )
+							.multiLoad( "ES", "DE", "FR" );
+					assertThat( countries ).hasSize( 3 );
+					assertThat( countries.get( 0 ).name ).isEqualTo( "Spain" );
+					assertThat( countries.get( 1 ) ).isNull();
+					assertThat( countries.get( 2 ).name ).isEqualTo( "France" );
+				}
+		);
+	}
+
+	@Test
+	public void testStaleResolutionIsReResolved(SessionFactoryScope scope) {
+		// reuse the natural-id behind the back of the SessionFactory
+		scope.inTransaction(
+				session -> {
+					session.createNativeMutationQuery( "delete from Country where id = 1" ).executeUpdate();
+					session.createNativeMutationQuery( "insert into Country (id, code, name) values (4, 'FR', 'French Republic')" )
+							.executeUpdate();
+				}
+		);
+		scope.getSessionFactory().getCache().evictAll();
+
+		scope.inTransaction(
+				session -> {
+					final List<Country> countries = session.byMultipleNaturalId( Country.class )
+							.enableOrderedReturn( true )
+							.multiLoad( "IT", "FR" );
+					assertThat( countries ).extracting( country -> country.id ).containsExactly( 2, 4 );
+				}
+		);
+		scope.inTransaction(
+				session -> assertThat( session.bySimpleNaturalId( Country.class ).load( "FR" ).id ).isEqualTo( 4 )
+		);
+	}
+
+	@Entity(name = "Country")
+	@Table(name = "Country")
+	@Cacheable
+	@org.hibernate.annotations.Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Country {
+		@Id
+		public Integer id;
+		@NaturalId
+		public String code;
+		public String name;
+
+		public Country() {
+		}
+
+		public Country(Integer id, String code, String name) {
+			this.id = id;
+			this.code = code;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,158 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query;
+
+import java.nio.file.Path;
+import java.util.function.Consumer;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.NamedNativeQuery;
+import jakarta.persistence.NamedQuery;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.internal.QueryInterpretationCacheWarmer;
+import org.hibernate.query.spi.QueryInterpretationCache;
+
+import org.hibernate.testing.transaction.TransactionUtil2;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Tests for {@value AvailableSettings#QUERY_STARTUP_WARMUP}
+ */
+public class QueryWarmupTest {
+	private static final String AD_HOC_QUERY = "select b.title from Book b where b.id > :id";
+
+	@Test
+	public void testNamedQueriesWarmedUp() {
+		withSessionFactory(
+				null,
+				sessionFactory -> {
+					final QueryInterpretationCache cache = sessionFactory.getQueryEngine().getInterpretationCache();
+					awaitCachedHqlInterpretations( cache, 2 );
+				}
+		);
+	}
+
+	@Test
+	public void testHotQueriesRemembered(@TempDir Path directory) {
+		final Path hotQueryFile = directory.resolve( "hot-queries.bin" );
+
+		withSessionFactory(
+				hotQueryFile,
+				sessionFactory -> {
+					awaitCachedHqlInterpretations( sessionFactory.getQueryEngine().getInterpretationCache(), 2 );
+					TransactionUtil2.inTransaction(
+							sessionFactory,
+							session -> session.createQuery( AD_HOC_QUERY, String.class ).setParameter( "id", 1 ).list()
+					);
+				}
+		);
+
+		withSessionFactory(
+				hotQueryFile,
+				sessionFactory -> {
+					// the two named queries plus the remembered ad-hoc one
+					awaitCachedHqlInterpretations( sessionFactory.getQueryEngine().getInterpretationCache(), 3 );
+				}
+		);
+	}
+
+	@Test
+	public void testFingerprintTracksDomainModel() {
+		final String[] fingerprints = new String[3];
+		withSessionFactory( null, sessionFactory -> fingerprints[0] = fingerprint( sessionFactory ) );
+		withSessionFactory( null, sessionFactory -> fingerprints[1] = fingerprint( sessionFactory ) );
+		withSessionFactory( null, sessionFactory -> fingerprints[2] = fingerprint( sessionFactory ), Author.class );
+
+		assertEquals( fingerprints[0], fingerprints[1] );
+		assertNotEquals( fingerprints[0], fingerprints[2] );
+	}
+
+	private static String fingerprint(SessionFactoryImplementor sessionFactory) {
+		return QueryInterpretationCacheWarmer.fingerprint(
+				sessionFactory.getRuntimeMetamodels().getJpaMetamodel(),
+				sessionFactory.getJdbcServices().getDialect()
+		);
+	}
+
+	private static void withSessionFactory(
+			Path hotQueryFile,
+			Consumer<SessionFactoryImplementor> action,
+			Class<?>... annotatedClasses) {
+		final StandardServiceRegistryBuilder registryBuilder = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				// so that the startup check does not populate the cache itself
+				.applySetting( AvailableSettings.QUERY_STARTUP_CHECKING, "false" )
+				.applySetting( AvailableSettings.QUERY_STARTUP_WARMUP, "true" );
+		if ( hotQueryFile != null ) {
+			registryBuilder.applySetting( AvailableSettings.QUERY_WARMUP_FILE, hotQueryFile.toString() );
+		}
+		final StandardServiceRegistry ssr = registryBuilder.build();
+
+		try {
+			final MetadataSources metadataSources = new MetadataSources( ssr ).addAnnotatedClass( Book.class );
+			for ( Class<?> annotatedClass : annotatedClasses ) {
+				metadataSources.addAnnotatedClass( annotatedClass );
+			}
+			final SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) metadataSources
+					.buildMetadata()
+					.buildSessionFactory();
+			try {
+				action.accept( sessionFactory );
+			}
+			finally {
+				sessionFactory.close();
+			}
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( ssr );
+		}
+	}
+
+	private static void awaitCachedHqlInterpretations(QueryInterpretationCache cache, int expected) {
+		final long deadline = System.currentTimeMillis() + 10_000;
+		while ( cache.getNumberOfCachedHqlInterpretations() < expected ) {
+			if ( System.currentTimeMillis() > deadline ) {
+				fail( "Query warm-up did not complete in time" );
+			}
+			try {
+				Thread.sleep( 10 );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				fail( "Interrupted" );
+			}
+		}
+		assertEquals( expected, cache.getNumberOfCachedHqlInterpretations() );
+	}
+
+	@Entity( name = "Book" )
+	@NamedQuery( name = "Book.all", query = "from Book" )
+	@NamedQuery( name = "Book.byTitle", query = "from Book b where b.title = :title" )
+	@NamedNativeQuery( name = "Book.native", query = "select * from Book where id = :id", resultClass = Book.class )
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+	}
+
+	@Entity( name = "Author" )
+	public static class Author {
+		@Id
+		private Integer id;
+		private String name;
+	}
+}
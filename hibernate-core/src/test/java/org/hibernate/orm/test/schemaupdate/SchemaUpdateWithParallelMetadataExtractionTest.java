@@ -0,0 +1,223 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.schemaupdate;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.EnumSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.model.naming.Identifier;
+import org.hibernate.boot.model.relational.SqlStringGenerationContext;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.boot.spi.MetadataImplementor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.resource.transaction.spi.DdlTransactionIsolator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.tool.hbm2ddl.SchemaExport;
+import org.hibernate.tool.hbm2ddl.SchemaUpdate;
+import org.hibernate.tool.hbm2ddl.SchemaValidator;
+import org.hibernate.tool.schema.JdbcMetadaAccessStrategy;
+import org.hibernate.tool.schema.TargetType;
+import org.hibernate.tool.schema.extract.internal.InformationExtractorJdbcDatabaseMetaDataImpl;
+import org.hibernate.tool.schema.extract.internal.TableInformationImpl;
+import org.hibernate.tool.schema.extract.spi.ExtractionContext;
+import org.hibernate.tool.schema.extract.spi.ForeignKeyInformation;
+import org.hibernate.tool.schema.extract.spi.IndexInformation;
+import org.hibernate.tool.schema.extract.spi.InformationExtractor;
+import org.hibernate.tool.schema.extract.spi.PrimaryKeyInformation;
+import org.hibernate.tool.schema.extract.spi.TableInformation;
+import org.hibernate.tool.schema.internal.HibernateSchemaManagementTool;
+import org.hibernate.tool.schema.spi.ExtractionTool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the schema update and validation with the metadata of the existing tables extracted in parallel, configured by
+ * {@value AvailableSettings#HBM2DDL_JDBC_METADATA_EXTRACTION_THREADS}.
+ */
+public class SchemaUpdateWithParallelMetadataExtractionTest {
+
+	private File updateOutputFile;
+	private StandardServiceRegistry ssr;
+	private MetadataImplementor metadata;
+	private final CountingSchemaManagementTool tool = new CountingSchemaManagementTool();
+
+	public void setUp(JdbcMetadaAccessStrategy strategy) throws IOException {
+		updateOutputFile = File.createTempFile( "update_script", ".sql" );
+		updateOutputFile.deleteOnExit();
+		ssr = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.HBM2DDL_JDBC_METADATA_EXTRACTOR_STRATEGY, strategy.toString() )
+				.applySetting( AvailableSettings.HBM2DDL_JDBC_METADATA_EXTRACTION_THREADS, "2" )
+				.applySetting( AvailableSettings.SCHEMA_MANAGEMENT_TOOL, tool )
+				.build();
+
+		final MetadataSources metadataSources = new MetadataSources( ssr );
+		metadataSources.addAnnotatedClass( Author.class );
+		metadataSources.addAnnotatedClass( Book.class );
+		metadataSources.addAnnotatedClass( Review.class );
+
+		metadata = (MetadataImplementor) metadataSources.buildMetadata();
+		metadata.validate();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		new SchemaExport().setHaltOnError( true )
+				.setFormat( false )
+				.drop( EnumSet.of( TargetType.DATABASE ), metadata );
+		StandardServiceRegistryBuilder.destroy( ssr );
+	}
+
+	@ParameterizedTest
+	@EnumSource(JdbcMetadaAccessStrategy.class)
+	public void testSchemaUpdateDoesNotRecreateExistingConstraints(JdbcMetadaAccessStrategy strategy)
+			throws Exception {
+		setUp( strategy );
+
+		new SchemaExport().setHaltOnError( true )
+				.setFormat( false )
+				.create( EnumSet.of( TargetType.DATABASE ), metadata );
+
+		new SchemaUpdate().setHaltOnError( true )
+				.setOutputFile( updateOutputFile.getAbsolutePath() )
+				.setFormat( false )
+				.execute( EnumSet.of( TargetType.DATABASE, TargetType.SCRIPT ), metadata );
+
+		assertEquals( "", new String( Files.readAllBytes( updateOutputFile.toPath() ) ) );
+		assertTrue( tool.detailExtractions.get() > 0 );
+	}
+
+	@ParameterizedTest
+	@EnumSource(JdbcMetadaAccessStrategy.class)
+	public void testSchemaValidation(JdbcMetadaAccessStrategy strategy) throws Exception {
+		setUp( strategy );
+
+		new SchemaExport().setHaltOnError( true )
+				.setFormat( false )
+				.create( EnumSet.of( TargetType.DATABASE ), metadata );
+
+		tool.tableExtractions.set( 0 );
+		tool.detailExtractions.set( 0 );
+		new SchemaValidator().validate( metadata );
+
+		// the validator only reads the columns, which are extracted along with the tables
+		assertEquals( 0, tool.detailExtractions.get() );
+		if ( strategy == JdbcMetadaAccessStrategy.INDIVIDUALLY ) {
+			// once per table, the preloaded tables are not extracted again
+			assertEquals( 3, tool.tableExtractions.get() );
+		}
+	}
+
+	private static class CountingSchemaManagementTool extends HibernateSchemaManagementTool {
+		private final AtomicInteger tableExtractions = new AtomicInteger();
+		private final AtomicInteger detailExtractions = new AtomicInteger();
+
+		@Override
+		public ExtractionTool getExtractionTool() {
+			final ExtractionTool extractionTool = super.getExtractionTool();
+			return new ExtractionTool() {
+				@Override
+				public ExtractionContext createExtractionContext(
+						ServiceRegistry serviceRegistry,
+						JdbcEnvironment jdbcEnvironment,
+						SqlStringGenerationContext sqlStringGenerationContext,
+						DdlTransactionIsolator ddlTransactionIsolator,
+						ExtractionContext.DatabaseObjectAccess databaseObjectAccess) {
+					return extractionTool.createExtractionContext(
+							serviceRegistry,
+							jdbcEnvironment,
+							sqlStringGenerationContext,
+							ddlTransactionIsolator,
+							databaseObjectAccess
+					);
+				}
+
+				@Override
+				public InformationExtractor createInformationExtractor(ExtractionContext extractionContext) {
+					return new CountingInformationExtractor( extractionContext );
+				}
+			};
+		}
+
+		private class CountingInformationExtractor extends InformationExtractorJdbcDatabaseMetaDataImpl {
+			private CountingInformationExtractor(ExtractionContext extractionContext) {
+				super( extractionContext );
+			}
+
+			@Override
+			public TableInformation getTable(Identifier catalog, Identifier schema, Identifier tableName) {
+				tableExtractions.incrementAndGet();
+				return super.getTable( catalog, schema, tableName );
+			}
+
+			@Override
+			public PrimaryKeyInformation getPrimaryKey(TableInformationImpl tableInformation) {
+				detailExtractions.incrementAndGet();
+				return super.getPrimaryKey( tableInformation );
+			}
+
+			@Override
+			public Iterable<ForeignKeyInformation> getForeignKeys(TableInformation tableInformation) {
+				detailExtractions.incrementAndGet();
+				return super.getForeignKeys( tableInformation );
+			}
+
+			@Override
+			public Iterable<IndexInformation> getIndexes(TableInformation tableInformation) {
+				detailExtractions.incrementAndGet();
+				return super.getIndexes( tableInformation );
+			}
+		}
+	}
+
+	@Entity(name = "Author")
+	@Table(name = "Author")
+	public static class Author {
+		@Id
+		private Long id;
+
+		private String name;
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "Book", indexes = @Index(name = "idx_book_title", columnList = "title"))
+	public static class Book {
+		@Id
+		private Long id;
+
+		private String title;
+
+		@ManyToOne
+		private Author author;
+	}
+
+	@Entity(name = "Review")
+	@Table(name = "Review")
+	public static class Review {
+		@Id
+		private Long id;
+
+		@ManyToOne
+		private Book book;
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.schemavalidation;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.EnumSet;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.boot.spi.MetadataImplementor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.tool.hbm2ddl.SchemaExport;
+import org.hibernate.tool.hbm2ddl.SchemaValidator;
+import org.hibernate.tool.schema.JdbcMetadaAccessStrategy;
+import org.hibernate.tool.schema.TargetType;
+import org.hibernate.tool.schema.spi.SchemaManagementException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests the schema validation skipped by the fingerprint recorded in the table configured by
+ * {@value AvailableSettings#HBM2DDL_VALIDATION_FINGERPRINT_TABLE}.
+ */
+public class ValidationFingerprintTest {
+	private static final String FINGERPRINT_TABLE = "schema_fingerprint";
+
+	private StandardServiceRegistry ssr;
+	private MetadataImplementor metadata;
+
+	public void setUp(JdbcMetadaAccessStrategy strategy, boolean record) {
+		ssr = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.HBM2DDL_JDBC_METADATA_EXTRACTOR_STRATEGY, strategy.toString() )
+				.applySetting( AvailableSettings.HBM2DDL_VALIDATION_FINGERPRINT_TABLE, FINGERPRINT_TABLE )
+				.applySetting( AvailableSettings.HBM2DDL_VALIDATION_FINGERPRINT_RECORD, record )
+				.build();
+
+		metadata = (MetadataImplementor) new MetadataSources( ssr )
+				.addAnnotatedClass( TestEntity.class )
+				.buildMetadata();
+		metadata.validate();
+	}
+
+	@AfterEach
+	public void tearDown() throws SQLException {
+		new SchemaExport().drop( EnumSet.of( TargetType.DATABASE ), metadata );
+		try {
+			execute( "drop table " + FINGERPRINT_TABLE );
+		}
+		catch (SQLException e) {
+			// the table is not created when the fingerprint is not recorded
+		}
+		StandardServiceRegistryBuilder.destroy( ssr );
+	}
+
+	@ParameterizedTest
+	@EnumSource(JdbcMetadaAccessStrategy.class)
+	public void testValidationIsSkippedWhenFingerprintMatches(JdbcMetadaAccessStrategy strategy) throws SQLException {
+		setUp( strategy, true );
+
+		new SchemaExport().setHaltOnError( true ).create( EnumSet.of( TargetType.DATABASE ), metadata );
+		// records the fingerprint
+		new SchemaValidator().validate( metadata );
+
+		// the schema changes without the fingerprint being removed, so it goes unnoticed
+		new SchemaExport().setHaltOnError( true ).drop( EnumSet.of( TargetType.DATABASE ), metadata );
+		new SchemaValidator().validate( metadata );
+
+		// once the fingerprint is removed, the schema is validated again
+		execute( "delete from " + FINGERPRINT_TABLE );
+		assertThrows( SchemaManagementException.class, () -> new SchemaValidator().validate( metadata ) );
+	}
+
+	@ParameterizedTest
+	@EnumSource(JdbcMetadaAccessStrategy.class)
+	public void testFingerprintIsNotRecordedByDefault(JdbcMetadaAccessStrategy strategy) {
+		setUp( strategy, false );
+
+		new SchemaExport().setHaltOnError( true ).create( EnumSet.of( TargetType.DATABASE ), metadata );
+		new SchemaValidator().validate( metadata );
+
+		// the validator did not create the fingerprint table
+		assertThrows( SQLException.class, () -> execute( "delete from " + FINGERPRINT_TABLE ) );
+
+		// so the schema is always validated
+		new SchemaExport().setHaltOnError( true ).drop( EnumSet.of( TargetType.DATABASE ), metadata );
+		assertThrows( SchemaManagementException.class, () -> new SchemaValidator().validate( metadata ) );
+	}
+
+	private void execute(String sql) throws SQLException {
+		final ConnectionProvider connectionProvider = ssr.getService( ConnectionProvider.class );
+		final Connection connection = connectionProvider.getConnection();
+		try ( Statement statement = connection.createStatement() ) {
+			statement.executeUpdate( sql );
+			if ( !connection.getAutoCommit() ) {
+				connection.commit();
+			}
+		}
+		finally {
+			connectionProvider.closeConnection( connection );
+		}
+	}
+
+	@Entity(name = "TestEntity")
+	@Table(name = "TestEntity")
+	public static class TestEntity {
+		@Id
+		private Integer id;
+
+		private String name;
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.sql.ast;
+
+import java.util.List;
+
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.query.hql.spi.SqmQueryImplementor;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.sqm.internal.QuerySqmImpl;
+import org.hibernate.query.sqm.sql.internal.StandardSqmTranslator;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.sql.ast.spi.StandardSqlAstTranslator;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.spi.JdbcSelect;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests that the SQL rendered into the buffer pre-sized from the shape of the statement is
+ * complete, that is, the same as the SQL executed for the query, for statements made of
+ * many joins, subqueries and query parts.
+ */
+@DomainModel(
+		annotatedClasses = {
+				SqlBufferPresizingTest.Parent.class,
+				SqlBufferPresizingTest.Child.class
+		}
+)
+@SessionFactory(useCollectingStatementInspector = true)
+public class SqlBufferPresizingTest {
+	@Test
+	public void testJoins(SessionFactoryScope scope) {
+		assertSameSql(
+				scope,
+				"select p.name, c.name from Parent p join p.children c left join c.parent p2 left join p2.children c2 where c2.name = 'x'"
+		);
+	}
+
+	@Test
+	public void testSubqueries(SessionFactoryScope scope) {
+		assertSameSql(
+				scope,
+				"select p.name from Parent p where exists (select 1 from Child c where c.parent = p) "
+						+ "and p.id in (select c.parent.id from Child c join c.parent cp where cp.name = 'x')"
+		);
+	}
+
+	@Test
+	public void testCte(SessionFactoryScope scope) {
+		assertSameSql(
+				scope,
+				"with counts as (select c.parent.id as pid, count(*) as cnt from Child c group by c.parent.id) "
+						+ "select p.name, counts.cnt from Parent p join counts on counts.pid = p.id"
+		);
+	}
+
+	@Test
+	public void testUnion(SessionFactoryScope scope) {
+		assertSameSql( scope, "select p.name from Parent p union all select c.name from Child c join c.parent p" );
+	}
+
+	private static void assertSameSql(SessionFactoryScope scope, String hql) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inSession(
+				session -> {
+					final String sql = render( session, hql );
+					statementInspector.clear();
+					session.createQuery( hql ).list();
+					statementInspector.assertExecutedCount( 1 );
+					assertEquals( sql, statementInspector.getSqlQueries().get( 0 ) );
+				}
+		);
+	}
+
+	private static String render(SessionImplementor session, String hql) {
+		final SqmQueryImplementor<?> query = (SqmQueryImplementor<?>) session.createQuery( hql );
+		final StandardSqmTranslator<SelectStatement> sqmConverter = new StandardSqmTranslator<>(
+				(SqmSelectStatement<?>) query.getSqmStatement(),
+				query.getQueryOptions(),
+				( (QuerySqmImpl<?>) query ).getDomainParameterXref(),
+				query.getParameterBindings(),
+				session.getLoadQueryInfluencers(),
+				session.getFactory(),
+				true
+		);
+		return new StandardSqlAstTranslator<JdbcSelect>( session.getFactory(), sqmConverter.translate().getSqlAst() )
+				.translate( null, QueryOptions.NONE )
+				.getSql();
+	}
+
+	@Entity(name = "Parent")
+	public static class Parent {
+		@Id
+		private Integer id;
+		private String name;
+		@OneToMany(mappedBy = "parent")
+		private List<Child> children;
+	}
+
+	@Entity(name = "Child")
+	public static class Child {
+		@Id
+		private Integer id;
+		private String name;
+		@ManyToOne
+		private Parent parent;
+	}
+}
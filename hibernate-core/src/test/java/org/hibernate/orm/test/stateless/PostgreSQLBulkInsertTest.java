@@ -0,0 +1,132 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.stream.IntStream;
+
+import org.hibernate.dialect.PostgreSQLDialect;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests {@link org.hibernate.StatelessSession#bulkInsert} through the {@code copy}
+ * channel of the PostgreSQL dialect.
+ */
+@DomainModel(annotatedClasses = PostgreSQLBulkInsertTest.Event.class)
+@SessionFactory(useCollectingStatementInspector = true)
+@RequiresDialect(PostgreSQLDialect.class)
+public class PostgreSQLBulkInsertTest {
+	private static final int COUNT = 1500;
+
+	private static final Instant INSTANT = Instant.parse( "2022-03-27T01:30:00.123456Z" );
+	private static final OffsetDateTime OFFSET_DATE_TIME = OffsetDateTime.of(
+			2022, 10, 30, 2, 30, 0, 0, ZoneOffset.ofHours( 2 )
+	);
+	private static final LocalDateTime LOCAL_DATE_TIME = LocalDateTime.of( 2022, 3, 27, 2, 30, 15 );
+	private static final LocalTime LOCAL_TIME = LocalTime.of( 23, 59, 58 );
+	private static final LocalDate LOCAL_DATE = LocalDate.of( 1969, 12, 31 );
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.createMutationQuery( "delete from Event" ).executeUpdate()
+		);
+	}
+
+	@Test
+	public void testBulkInsertThroughCopy(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		scope.inStatelessTransaction(
+				session -> session.bulkInsert( IntStream.range( 0, COUNT ).mapToObj( PostgreSQLBulkInsertTest::event ) )
+		);
+
+		// the rows were copied rather than inserted
+		statementInspector.assertExecutedCount( 0 );
+
+		scope.inStatelessTransaction(
+				session -> {
+					assertEquals(
+							COUNT,
+							session.createQuery( "select count(*) from Event", Long.class ).getSingleResult()
+					);
+
+					final Event event = session.get( Event.class, 43 );
+					assertEquals( "event\t43\\\n\r", event.name );
+					assertEquals( new BigDecimal( "0.43" ), event.amount );
+					assertEquals( false, event.active );
+					assertArrayEquals( new byte[] { 0, 43, (byte) 0xff }, event.payload );
+					assertEquals( INSTANT.plusSeconds( 43 ), event.instant );
+					assertEquals(
+							OFFSET_DATE_TIME.plusSeconds( 43 ).toInstant(),
+							event.offsetDateTime.toInstant()
+					);
+					assertEquals( LOCAL_DATE_TIME.plusSeconds( 43 ), event.localDateTime );
+					assertEquals( LOCAL_TIME.minusSeconds( 43 ), event.localTime );
+					assertEquals( LOCAL_DATE.plusDays( 43 ), event.localDate );
+
+					final Event nulls = session.get( Event.class, 7 );
+					assertNull( nulls.name );
+					assertNull( nulls.instant );
+					assertNull( nulls.localDate );
+				}
+		);
+	}
+
+	private static Event event(int i) {
+		final Event event = new Event();
+		event.id = i;
+		event.amount = BigDecimal.valueOf( i, 2 );
+		event.active = i % 2 == 0;
+		event.payload = new byte[] { 0, (byte) i, (byte) 0xff };
+		if ( i % 7 != 0 ) {
+			event.name = "event\t" + i + "\\\n\r";
+			event.instant = INSTANT.plusSeconds( i );
+			event.offsetDateTime = OFFSET_DATE_TIME.plusSeconds( i );
+			event.localDateTime = LOCAL_DATE_TIME.plusSeconds( i );
+			event.localTime = LOCAL_TIME.minusSeconds( i );
+			event.localDate = LOCAL_DATE.plusDays( i );
+		}
+		return event;
+	}
+
+	@Entity(name = "Event")
+	public static class Event {
+		@Id
+		private Integer id;
+		private String name;
+		private BigDecimal amount;
+		private boolean active;
+		private byte[] payload;
+		private Instant instant;
+		private OffsetDateTime offsetDateTime;
+		private LocalDateTime localDateTime;
+		private LocalTime localTime;
+		private LocalDate localDate;
+	}
+}
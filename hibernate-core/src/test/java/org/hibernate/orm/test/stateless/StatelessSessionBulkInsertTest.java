@@ -0,0 +1,230 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.hibernate.annotations.ColumnTransformer;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.DatabaseVersion;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.jdbc.batch.spi.BulkLoadChannel;
+import org.hibernate.engine.jdbc.dialect.spi.DialectResolutionInfo;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DomainModel(annotatedClasses = {
+		StatelessSessionBulkInsertTest.Product.class,
+		StatelessSessionBulkInsertTest.Tag.class
+})
+@ServiceRegistry(
+		settingProviders = @SettingProvider( provider = StatelessSessionBulkInsertTest.TestSettingProvider.class, settingName = AvailableSettings.DIALECT)
+)
+@SessionFactory
+@RequiresDialect( H2Dialect.class )
+public class StatelessSessionBulkInsertTest {
+	private static final int COUNT = 2500;
+
+	public static class TestSettingProvider implements SettingProvider.Provider<String> {
+
+		@Override
+		public String getSetting() {
+			return TestDialect.class.getName();
+		}
+	}
+
+	/**
+	 * Writes the rows of a bulk load with plain insert statements, keeping track of the channels.
+	 */
+	public static class TestDialect extends H2Dialect {
+		private static final AtomicInteger CHANNEL_COUNT = new AtomicInteger();
+		private static final AtomicInteger ROW_COUNT = new AtomicInteger();
+
+		public TestDialect(DialectResolutionInfo info) {
+			super( info );
+		}
+
+		public TestDialect() {
+		}
+
+		public TestDialect(DatabaseVersion version) {
+			super( version );
+		}
+
+		@Override
+		public BulkLoadChannel openBulkLoadChannel(Connection connection, String tableName, List<String> columnNames)
+				throws SQLException {
+			CHANNEL_COUNT.incrementAndGet();
+			final PreparedStatement statement = connection.prepareStatement(
+					"insert into " + tableName + " (" + String.join( ", ", columnNames ) + ") values ("
+							+ String.join( ", ", Collections.nCopies( columnNames.size(), "?" ) ) + ")"
+			);
+			return new BulkLoadChannel() {
+				private int rows;
+
+				@Override
+				public void writeRow(Object[] values) throws SQLException {
+					for ( int i = 0; i < values.length; i++ ) {
+						statement.setObject( i + 1, values[i] );
+					}
+					statement.addBatch();
+					rows++;
+				}
+
+				@Override
+				public long finish() throws SQLException {
+					try {
+						statement.executeBatch();
+					}
+					finally {
+						statement.close();
+					}
+					ROW_COUNT.addAndGet( rows );
+					return rows;
+				}
+
+				@Override
+				public void abort() {
+					try {
+						statement.close();
+					}
+					catch (SQLException ignore) {
+					}
+				}
+			};
+		}
+	}
+
+	@BeforeEach
+	public void setUp() {
+		TestDialect.CHANNEL_COUNT.set( 0 );
+		TestDialect.ROW_COUNT.set( 0 );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createMutationQuery( "delete from Product" ).executeUpdate();
+					session.createMutationQuery( "delete from Tag" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testBulkInsertThroughChannel(SessionFactoryScope scope) {
+		scope.inStatelessTransaction(
+				session -> session.bulkInsert(
+						IntStream.range( 0, COUNT ).mapToObj(
+								i -> new Product(
+										i,
+										"product\t" + i,
+										BigDecimal.valueOf( i, 2 ),
+										LocalDate.of( 2020, 1, 1 ).plusDays( i ),
+										i % 2 == 0
+								)
+						)
+				)
+		);
+
+		// one channel per chunk of 1000 rows
+		assertEquals( 3, TestDialect.CHANNEL_COUNT.get() );
+		assertEquals( COUNT, TestDialect.ROW_COUNT.get() );
+
+		scope.inStatelessTransaction(
+				session -> {
+					assertEquals(
+							COUNT,
+							session.createQuery( "select count(*) from Product", Long.class ).getSingleResult()
+					);
+					final Product product = session.get( Product.class, 1234 );
+					assertEquals( "product\t1234", product.name );
+					assertEquals( new BigDecimal( "12.34" ), product.price );
+					assertEquals( LocalDate.of( 2020, 1, 1 ).plusDays( 1234 ), product.releaseDate );
+					assertEquals( true, product.available );
+				}
+		);
+	}
+
+	@Test
+	public void testBulkInsertFallsBackToInserts(SessionFactoryScope scope) {
+		scope.inStatelessTransaction(
+				session -> session.bulkInsert( IntStream.range( 0, COUNT ).mapToObj( i -> new Tag( i, "tag " + i ) ) )
+		);
+
+		// the write expression of the name cannot be applied by the channel
+		assertEquals( 0, TestDialect.CHANNEL_COUNT.get() );
+
+		scope.inStatelessTransaction(
+				session -> {
+					assertEquals(
+							COUNT,
+							session.createQuery( "select count(*) from Tag", Long.class ).getSingleResult()
+					);
+					assertEquals( "TAG 42", session.get( Tag.class, 42 ).name );
+				}
+		);
+	}
+
+	@Entity( name = "Product" )
+	public static class Product {
+		@Id
+		private Integer id;
+		private String name;
+		private BigDecimal price;
+		private LocalDate releaseDate;
+		private boolean available;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String name, BigDecimal price, LocalDate releaseDate, boolean available) {
+			this.id = id;
+			this.name = name;
+			this.price = price;
+			this.releaseDate = releaseDate;
+			this.available = available;
+		}
+	}
+
+	@Entity( name = "Tag" )
+	public static class Tag {
+		@Id
+		private Integer id;
+		@ColumnTransformer( write = "upper(?)" )
+		private String name;
+
+		public Tag() {
+		}
+
+		public Tag(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
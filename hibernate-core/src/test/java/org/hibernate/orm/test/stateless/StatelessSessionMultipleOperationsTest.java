@@ -0,0 +1,101 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.util.ArrayList;
+import java.util.List;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@DomainModel( annotatedClasses = StatelessSessionMultipleOperationsTest.Product.class )
+@SessionFactory( generateStatistics = true )
+public class StatelessSessionMultipleOperationsTest {
+	private static final int COUNT = 20;
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Product" ).executeUpdate() );
+	}
+
+	@Test
+	public void testMultipleOperations(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		final List<Product> products = new ArrayList<>();
+		for ( int i = 0; i < COUNT; i++ ) {
+			products.add( new Product( i, "product " + i ) );
+		}
+
+		statistics.clear();
+		scope.inStatelessTransaction( session -> session.insertMultiple( products ) );
+		// a single batched statement
+		assertEquals( 1, statistics.getPrepareStatementCount() );
+
+		scope.inStatelessTransaction(
+				session -> {
+					final List<Object> ids = new ArrayList<>();
+					ids.add( 5 );
+					ids.add( COUNT + 1 );
+					ids.add( 3 );
+					final List<Product> loaded = session.getMultiple( Product.class, ids );
+					assertEquals( 3, loaded.size() );
+					assertEquals( "product 5", loaded.get( 0 ).name );
+					assertNull( loaded.get( 1 ) );
+					assertEquals( "product 3", loaded.get( 2 ).name );
+					// nothing retained by the temporary persistence context
+					assertEquals(
+							0,
+							( (SharedSessionContractImplementor) session ).getPersistenceContext()
+									.getNumberOfManagedEntities()
+					);
+				}
+		);
+
+		products.forEach( product -> product.name = product.name.toUpperCase() );
+		statistics.clear();
+		scope.inStatelessTransaction( session -> session.updateMultiple( products ) );
+		assertEquals( 1, statistics.getPrepareStatementCount() );
+
+		scope.inStatelessTransaction(
+				session -> assertEquals( "PRODUCT 7", session.get( Product.class, 7 ).name )
+		);
+
+		statistics.clear();
+		scope.inStatelessTransaction( session -> session.deleteMultiple( products ) );
+		assertEquals( 1, statistics.getPrepareStatementCount() );
+
+		scope.inStatelessTransaction(
+				session -> assertEquals( 0, session.createQuery( "from Product", Product.class ).list().size() )
+		);
+	}
+
+	@Entity( name = "Product" )
+	public static class Product {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
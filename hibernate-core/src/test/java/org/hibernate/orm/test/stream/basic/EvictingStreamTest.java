@@ -0,0 +1,160 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.stream.basic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the eviction of streamed entities configured by
+ * {@value AvailableSettings#QUERY_STREAM_EVICTION_WINDOW}.
+ */
+@DomainModel(
+		annotatedClasses = {
+				EvictingStreamTest.MyEntity.class,
+				EvictingStreamTest.Owner.class
+		}
+)
+@ServiceRegistry(
+		settings = @Setting(name = AvailableSettings.QUERY_STREAM_EVICTION_WINDOW, value = "2")
+)
+@SessionFactory
+public class EvictingStreamTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 10; i++ ) {
+						Owner owner = new Owner();
+						owner.id = i;
+						owner.name = "Owner " + i;
+						session.persist( owner );
+						MyEntity entity = new MyEntity();
+						entity.id = i;
+						entity.name = "Entity " + i;
+						entity.owner = owner;
+						session.persist( entity );
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createMutationQuery( "delete MyEntity" ).executeUpdate();
+					session.createMutationQuery( "delete Owner" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testStreamedEntitiesAreEvicted(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final List<MyEntity> streamed = new ArrayList<>();
+					try ( Stream<MyEntity> stream = session.createQuery( "from MyEntity order by id", MyEntity.class ).stream() ) {
+						stream.forEach( entity -> {
+							streamed.add( entity );
+							// the current row and the window before it stay managed, with their owners
+							assertTrue( session.getPersistenceContext().getNumberOfManagedEntities() <= 6 );
+						} );
+					}
+					assertEquals( 10, streamed.size() );
+					assertFalse( session.contains( streamed.get( 0 ) ) );
+					assertTrue( session.contains( streamed.get( 9 ) ) );
+				}
+		);
+	}
+
+	@Test
+	public void testPreexistingEntitiesAreNotEvicted(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final MyEntity first = session.find( MyEntity.class, 1 );
+					try ( Stream<MyEntity> stream = session.createQuery( "from MyEntity order by id", MyEntity.class ).stream() ) {
+						assertEquals( 10, stream.count() );
+					}
+					assertTrue( session.contains( first ) );
+				}
+		);
+	}
+
+	@Test
+	public void testEagerlyLoadedEntitiesAreEvicted(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final List<MyEntity> streamed = new ArrayList<>();
+					try ( Stream<MyEntity> stream = session.createQuery( "from MyEntity order by id", MyEntity.class ).stream() ) {
+						stream.forEach( streamed::add );
+					}
+					assertFalse( session.contains( streamed.get( 0 ).owner ) );
+					assertTrue( session.contains( streamed.get( 9 ).owner ) );
+					assertEquals( 6, session.getPersistenceContext().getNumberOfManagedEntities() );
+				}
+		);
+	}
+
+	@Test
+	public void testPreexistingAssociatedEntitiesAreNotEvicted(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Owner owner = session.find( Owner.class, 1 );
+					final List<MyEntity> streamed = new ArrayList<>();
+					try ( Stream<MyEntity> stream = session.createQuery( "from MyEntity order by id", MyEntity.class ).stream() ) {
+						stream.forEach( streamed::add );
+					}
+					assertFalse( session.contains( streamed.get( 0 ) ) );
+					// the eviction is not cascaded to the association
+					assertTrue( session.contains( owner ) );
+				}
+		);
+	}
+
+	@Entity(name = "MyEntity")
+	@Table(name = "MyEntity")
+	public static class MyEntity {
+		@Id
+		public Integer id;
+		public String name;
+		@ManyToOne(fetch = FetchType.EAGER, cascade = CascadeType.ALL)
+		public Owner owner;
+	}
+
+	@Entity(name = "Owner")
+	@Table(name = "StreamOwner")
+	public static class Owner {
+		@Id
+		public Integer id;
+		public String name;
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.internal.util.collections.BoundedConcurrentCache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BoundedConcurrentCacheTest {
+
+	@Test
+	public void testHitsAndMisses() {
+		final BoundedConcurrentCache<String, String> cache = new BoundedConcurrentCache<>( 10 );
+		assertNull( cache.get( "a" ) );
+		cache.put( "a", "A" );
+		assertEquals( "A", cache.get( "a" ) );
+		assertEquals( "A", cache.computeIfAbsent( "a", k -> "other" ) );
+		assertEquals( "B", cache.computeIfAbsent( "b", k -> "B" ) );
+
+		assertEquals( 2, cache.size() );
+		assertEquals( 2, cache.getWeight() );
+		assertEquals( 2, cache.getHitCount() );
+		assertEquals( 2, cache.getMissCount() );
+		assertEquals( 0, cache.getEvictionCount() );
+	}
+
+	@Test
+	public void testBoundedByWeight() {
+		final List<Integer> evicted = new ArrayList<>();
+		final BoundedConcurrentCache<Integer, String> cache = new BoundedConcurrentCache<>(
+				100,
+				(key, value) -> value.length(),
+				(key, value) -> evicted.add( key )
+		);
+		for ( int i = 0; i < 1000; i++ ) {
+			cache.put( i, i % 10 == 0 ? "xxxxx" : "x" );
+			assertTrue( cache.getWeight() <= 100 );
+		}
+		assertEquals( evicted.size(), cache.getEvictionCount() );
+		assertTrue( cache.getEvictionCount() > 0 );
+
+		cache.clear();
+		assertEquals( 0, cache.size() );
+		assertEquals( 0, cache.getWeight() );
+	}
+
+	@Test
+	public void testFrequentlyUsedEntriesRetained() {
+		final BoundedConcurrentCache<Integer, Integer> cache = new BoundedConcurrentCache<>( 100 );
+		for ( int i = 0; i < 50; i++ ) {
+			cache.put( i, i );
+		}
+		// make the first entries "hot"
+		for ( int round = 0; round < 20; round++ ) {
+			for ( int i = 0; i < 50; i++ ) {
+				cache.get( i );
+			}
+		}
+		// a scan of entries used only once
+		for ( int i = 1000; i < 11000; i++ ) {
+			cache.put( i, i );
+		}
+		int retained = 0;
+		for ( int i = 0; i < 50; i++ ) {
+			if ( cache.get( i ) != null ) {
+				retained++;
+			}
+		}
+		assertTrue( retained > 40, "Only " + retained + " hot entries retained" );
+		assertNotNull( cache.get( 10999 ) );
+	}
+}
@@ -13,6 +13,7 @@ import java.util.Map;
 import java.util.Set;
 
 import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
 import org.hibernate.envers.exception.AuditException;
 import org.hibernate.envers.exception.NotAuditedException;
 import org.hibernate.envers.exception.RevisionDoesNotExistException;
@@ -110,6 +111,26 @@ public interface AuditReader {
 			Number revision, boolean includeDeletions) throws IllegalArgumentException,
 			NotAuditedException, IllegalStateException;
 
+	/**
+	 * Find entities by primary key at the given revision, with as few queries as possible.
+	 *
+	 * @param cls Class of the entities.
+	 * @param primaryKeys Primary keys of the entities.
+	 * @param revision Revision in which to get the entities.
+	 * @param <T> The type of the entities to find
+	 *
+	 * @return The found entity instances at the given revision, in the order of the primary keys, with
+	 *         null for the ids of entities which didn't exist at that revision.
+	 *
+	 * @throws IllegalArgumentException If cls or primaryKeys is null or revision is less or equal to 0.
+	 * @throws NotAuditedException When entities of the given class are not audited.
+	 * @throws IllegalStateException If the associated entity manager is closed.
+	 *
+	 * @since 6.2
+	 */
+	<T> List<T> findMultiple(Class<T> cls, List<?> primaryKeys, Number revision) throws
+			IllegalArgumentException, NotAuditedException, IllegalStateException;
+
 	/**
 	 * Get a list of revision numbers, at which an entity was modified.
 	 *
@@ -314,4 +335,22 @@ public interface AuditReader {
 	 * </ul>
 	 */
 	CrossTypeRevisionChangesReader getCrossTypeRevisionChangesReader() throws AuditException;
+
+	/**
+	 * Materializes the audit data left in the outbox by
+	 * {@linkplain org.hibernate.envers.configuration.EnversSettings#DEFERRED_AUDIT_WRITING deferred audit writing}
+	 * into the audit tables, in the order in which the audited transactions committed. The outbox is
+	 * materialized in transactions of its own, independent of the transaction of the session of this reader.
+	 * <p>
+	 * This is how the outbox is materialized when the background worker is disabled, by setting
+	 * {@link org.hibernate.envers.configuration.EnversSettings#DEFERRED_AUDIT_WRITING_INTERVAL} to {@literal 0}.
+	 *
+	 * @return the number of audited transactions materialized.
+	 *
+	 * @throws AuditException If deferred audit writing is not enabled.
+	 *
+	 * @since 6.2
+	 */
+	@Incubating
+	int materializeDeferredAuditData() throws AuditException;
 }
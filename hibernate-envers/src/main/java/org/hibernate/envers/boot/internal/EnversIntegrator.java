@@ -20,6 +20,8 @@ import org.hibernate.envers.event.spi.EnversPostUpdateEventListenerImpl;
 import org.hibernate.envers.event.spi.EnversPreCollectionRemoveEventListenerImpl;
 import org.hibernate.envers.event.spi.EnversPreCollectionUpdateEventListenerImpl;
 import org.hibernate.envers.event.spi.EnversPreUpdateEventListenerImpl;
+import org.hibernate.envers.internal.synchronization.AuditOutbox;
+import org.hibernate.envers.internal.synchronization.AuditOutboxWorker;
 import org.hibernate.event.service.spi.EventListenerRegistry;
 import org.hibernate.event.spi.EventType;
 import org.hibernate.integrator.spi.Integrator;
@@ -115,6 +117,14 @@ public class EnversIntegrator implements Integrator {
 					new EnversPreCollectionUpdateEventListenerImpl( enversService )
 			);
 		}
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Start materializing the audit outbox, if audit writing is deferred
+		final AuditOutbox auditOutbox = enversService.getAuditProcessManager().getAuditOutbox();
+		final int interval = enversService.getConfig().getDeferredAuditWritingInterval();
+		if ( auditOutbox != null && interval > 0 ) {
+			sessionFactory.addObserver( new AuditOutboxWorker( auditOutbox, interval ) );
+		}
 	}
 
 	@Override
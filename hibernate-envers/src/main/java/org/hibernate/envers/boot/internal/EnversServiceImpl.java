@@ -22,6 +22,7 @@ import org.hibernate.envers.internal.entities.PropertyData;
 import org.hibernate.envers.internal.revisioninfo.ModifiedEntityNamesReader;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoNumberReader;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoQueryCreator;
+import org.hibernate.envers.internal.synchronization.AuditOutbox;
 import org.hibernate.envers.internal.synchronization.AuditProcessManager;
 import org.hibernate.envers.internal.tools.ReflectionTools;
 import org.hibernate.envers.strategy.AuditStrategy;
@@ -102,7 +103,11 @@ public class EnversServiceImpl implements EnversService, Configurable, Stoppable
 		properties.putAll( cfgService.getSettings() );
 
 		this.configuration = new Configuration( properties, this, metadata );
-		this.auditProcessManager = new AuditProcessManager( configuration.getRevisionInfo().getRevisionInfoGenerator() );
+		this.auditProcessManager = new AuditProcessManager(
+				configuration.getRevisionInfo().getRevisionInfoGenerator(),
+				configuration.getJdbcBatchSize(),
+				configuration.isDeferredAuditWriting() ? new AuditOutbox( this ) : null
+		);
 
 		final EnversMetadataBuildingContext metadataBuildingContext = new EnversMetadataBuildingContextImpl(
 				configuration,
@@ -25,6 +25,7 @@ public class Column extends Selection<JaxbHbmColumnType> implements Cloneable<Co
 	private final String read;
 	private final String write;
 	private String name;
+	private String index;
 
 	/**
 	 * Create a column with just a name.
@@ -107,6 +108,21 @@ public class Column extends Selection<JaxbHbmColumnType> implements Cloneable<Co
 		this.name = name;
 	}
 
+	public String getIndex() {
+		return index;
+	}
+
+	/**
+	 * Adds the column to an index. Columns added to the same index form a composite index, in
+	 * the order in which they are mapped. The index is not kept by {@link #deepCopy()}, since
+	 * its name is specific to a table.
+	 *
+	 * @param index the name of the index
+	 */
+	public void setIndex(String index) {
+		this.index = index;
+	}
+
 	@Override
 	public Column deepCopy() {
 		return new Column( this );
@@ -141,6 +157,10 @@ public class Column extends Selection<JaxbHbmColumnType> implements Cloneable<Co
 			column.setWrite( write );
 		}
 
+		if ( !StringTools.isEmpty( index ) ) {
+			column.setIndex( index );
+		}
+
 		return column;
 	}
 
@@ -92,6 +92,10 @@ public class Configuration {
 	private final boolean revisionEndTimestampNumeric;
 	private final boolean revisionEndTimestampUseLegacyPlacement;
 	private final boolean revisionSequenceNoCache;
+	private final boolean revisionRangeIndexEnabled;
+	private final Integer jdbcBatchSize;
+	private final boolean deferredAuditWriting;
+	private final int deferredAuditWritingInterval;
 
 	private final Map<String, String> customAuditTableNames = new HashMap<>();
 
@@ -180,6 +184,13 @@ public class Configuration {
 				EnversSettings.REVISION_SEQUENCE_NOCACHE,
 				false
 		);
+		revisionRangeIndexEnabled = configProps.getBoolean(
+				EnversSettings.AUDIT_STRATEGY_VALIDITY_REVISION_RANGE_INDEX,
+				false
+		);
+		jdbcBatchSize = configProps.getInteger( EnversSettings.JDBC_BATCH_SIZE );
+		deferredAuditWriting = configProps.getBoolean( EnversSettings.DEFERRED_AUDIT_WRITING, false );
+		deferredAuditWritingInterval = configProps.getInt( EnversSettings.DEFERRED_AUDIT_WRITING_INTERVAL, 1000 );
 
 		revisionPropertyBasePath = originalIdPropertyName + "." + revisionFieldName + ".";
 		revisionNumberPath = revisionPropertyBasePath + "id";
@@ -230,6 +241,22 @@ public class Configuration {
 		return allowIdentifierReuse;
 	}
 
+	public boolean isRevisionRangeIndexEnabled() {
+		return revisionRangeIndexEnabled;
+	}
+
+	public Integer getJdbcBatchSize() {
+		return jdbcBatchSize;
+	}
+
+	public boolean isDeferredAuditWriting() {
+		return deferredAuditWriting;
+	}
+
+	public int getDeferredAuditWritingInterval() {
+		return deferredAuditWritingInterval;
+	}
+
 	public boolean isFindByRevisionExactMatch() {
 		return findByRevisionExactMatch;
 	}
@@ -433,6 +460,14 @@ public class Configuration {
 			return ConfigurationHelper.getString( propertyName, properties, defaultValue );
 		}
 
+		Integer getInteger(String propertyName) {
+			return ConfigurationHelper.getInteger( propertyName, properties );
+		}
+
+		int getInt(String propertyName, int defaultValue) {
+			return ConfigurationHelper.getInt( propertyName, properties, defaultValue );
+		}
+
 		boolean getBoolean(String propertyName, boolean defaultValue) {
 			return ConfigurationHelper.getBoolean( propertyName, properties, defaultValue );
 		}
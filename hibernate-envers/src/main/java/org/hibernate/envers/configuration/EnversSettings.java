@@ -130,6 +130,16 @@ public interface EnversSettings {
 	 */
 	String AUDIT_STRATEGY_VALIDITY_REVEND_TIMESTAMP_LEGACY_PLACEMENT = "org.hibernate.envers.audit_strategy_validity_revend_timestamp_legacy_placement";
 
+	/**
+	 * Whether the schema of audit tables includes an index on the identifier, revision and end
+	 * revision columns, that is, the columns of the range predicate used by the
+	 * {@link org.hibernate.envers.strategy.internal.ValidityAuditStrategy} to find the state of
+	 * entities at a revision. Only applies to the validity audit strategy. Defaults to {@literal false}.
+	 *
+	 * @since 6.2
+	 */
+	String AUDIT_STRATEGY_VALIDITY_REVISION_RANGE_INDEX = "org.hibernate.envers.audit_strategy_validity_revision_range_index";
+
 	/**
 	 * Name of column used for storing ordinal of the change in sets of embeddable elements. Defaults to {@literal SETORDINAL}.
 	 */
@@ -186,6 +196,45 @@ public interface EnversSettings {
 	 */
 	String GLOBAL_RELATION_NOT_FOUND_LEGACY_FLAG = "org.hibernate.envers.global_relation_not_found_legacy_flag";
 
+	/**
+	 * The JDBC batch size used when writing audit data, that is, the inserts of audit rows and,
+	 * with the {@link org.hibernate.envers.strategy.internal.ValidityAuditStrategy}, the updates
+	 * of the end revision of the previous audit rows. Defaults to the batch size of the session.
+	 * <p>
+	 * Combined with {@code hibernate.order_inserts}, this allows audit rows for many entities to
+	 * be written with a few batched statements.
+	 *
+	 * @since 6.2
+	 */
+	String JDBC_BATCH_SIZE = "org.hibernate.envers.jdbc_batch_size";
+
+	/**
+	 * Whether the audit data of a transaction is written to an outbox table, within the audited
+	 * transaction, and only materialized into the audit tables afterwards, by a background worker.
+	 * This keeps the writing of the audit rows, and of the end revisions of the
+	 * {@link org.hibernate.envers.strategy.internal.ValidityAuditStrategy}, out of the audited
+	 * transaction, at the cost of audit queries only seeing a revision once it is materialized.
+	 * <p>
+	 * Changes of collections which require the current audit state are still written within the
+	 * audited transaction. An outbox entry which cannot be materialized stays in the outbox, with
+	 * the reason in its {@code FAILURE} column, and is retried once the column is cleared.
+	 * Defaults to {@literal false}.
+	 *
+	 * @since 6.2
+	 */
+	String DEFERRED_AUDIT_WRITING = "org.hibernate.envers.deferred_audit_writing";
+
+	/**
+	 * The interval, in milliseconds, at which the outbox of {@linkplain #DEFERRED_AUDIT_WRITING
+	 * deferred audit writing} is materialized into the audit tables. A value of {@literal 0}
+	 * disables the background worker, in which case the application is expected to materialize
+	 * the outbox itself, through {@link org.hibernate.envers.AuditReader#materializeDeferredAuditData()}.
+	 * Defaults to {@literal 1000}.
+	 *
+	 * @since 6.2
+	 */
+	String DEFERRED_AUDIT_WRITING_INTERVAL = "org.hibernate.envers.deferred_audit_writing_interval";
+
 	/**
 	 * Whether to apply a nocache configuration for the revision sequence.
 	 * This is mostly interesting for testing.
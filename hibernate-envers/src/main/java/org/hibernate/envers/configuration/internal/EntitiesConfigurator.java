@@ -20,6 +20,7 @@ import org.hibernate.envers.configuration.internal.metadata.EntityMappingData;
 import org.hibernate.envers.configuration.internal.metadata.reader.AnnotationsMetadataReader;
 import org.hibernate.envers.configuration.internal.metadata.reader.ClassAuditingData;
 import org.hibernate.envers.internal.entities.EntitiesConfigurations;
+import org.hibernate.envers.internal.synchronization.AuditOutbox;
 import org.hibernate.envers.internal.tools.StringTools;
 import org.hibernate.envers.internal.tools.graph.GraphTopologicalSort;
 import org.hibernate.mapping.PersistentClass;
@@ -104,6 +105,14 @@ public class EntitiesConfigurator {
 
 				metadataBuildingContext.getMappingCollector().addDocument( mappingData.getMapping() );
 			}
+
+			if ( configuration.isDeferredAuditWriting() ) {
+				final EntityMappingData mappingData = new EntityMappingData();
+				mappingData.addMapping( AuditOutbox.generateMapping( configuration ) );
+				mappingData.build();
+
+				metadataBuildingContext.getMappingCollector().addDocument( mappingData.getMapping() );
+			}
 		}
 
 		return new EntitiesConfigurations(
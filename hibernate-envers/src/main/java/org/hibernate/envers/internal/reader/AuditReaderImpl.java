@@ -7,9 +7,11 @@
 package org.hibernate.envers.internal.reader;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -22,9 +24,12 @@ import org.hibernate.Session;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.envers.CrossTypeRevisionChangesReader;
 import org.hibernate.envers.boot.internal.EnversService;
+import org.hibernate.envers.configuration.EnversSettings;
 import org.hibernate.envers.exception.AuditException;
 import org.hibernate.envers.exception.NotAuditedException;
 import org.hibernate.envers.exception.RevisionDoesNotExistException;
+import org.hibernate.envers.internal.entities.mapper.id.IdMapper;
+import org.hibernate.envers.internal.synchronization.AuditOutbox;
 import org.hibernate.envers.internal.synchronization.AuditProcess;
 import org.hibernate.envers.query.AuditEntity;
 import org.hibernate.envers.query.AuditQueryCreator;
@@ -43,6 +48,8 @@ import static org.hibernate.envers.internal.tools.EntityTools.getTargetClassIfPr
  * @author Chris Cranford
  */
 public class AuditReaderImpl implements AuditReaderImplementor {
+	private static final int MAX_IDS_PER_QUERY = 500;
+
 	private final EnversService enversService;
 	private final SessionImplementor sessionImplementor;
 	private final Session session;
@@ -131,6 +138,75 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 		return (T) result;
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> List<T> findMultiple(Class<T> cls, List<?> primaryKeys, Number revision)
+			throws IllegalArgumentException, NotAuditedException, IllegalStateException {
+		cls = getTargetClassIfProxied( cls );
+		checkNotNull( cls, "Entity class" );
+		checkNotNull( primaryKeys, "Primary keys" );
+		checkNotNull( revision, "Entity revision" );
+		checkPositive( revision, "Entity revision" );
+		checkSession();
+
+		final String entityName = cls.getName();
+		if ( !enversService.getEntitiesConfigurations().isVersioned( entityName ) ) {
+			throw new NotAuditedException( entityName, "Entity [" + entityName + "] is not versioned" );
+		}
+		final IdMapper idMapper = enversService.getEntitiesConfigurations().get( entityName ).getIdMapper();
+
+		// the entities by normalized primary key, so that a given key matches the identifier of the loaded entity
+		final Map<Object, Object> entities = new HashMap<>();
+		final Map<Object, Object> missingKeys = new LinkedHashMap<>();
+		final List<Object> normalizedKeys = new ArrayList<>( primaryKeys.size() );
+		for ( Object primaryKey : primaryKeys ) {
+			checkNotNull( primaryKey, "Primary key" );
+			final Object normalizedKey = normalizeId( idMapper, primaryKey );
+			normalizedKeys.add( normalizedKey );
+			if ( firstLevelCache.contains( entityName, revision, normalizedKey ) ) {
+				entities.put( normalizedKey, firstLevelCache.get( entityName, revision, normalizedKey ) );
+			}
+			else {
+				missingKeys.putIfAbsent( normalizedKey, primaryKey );
+			}
+		}
+
+		final List<Object> keysToLoad = new ArrayList<>( missingKeys.values() );
+		final int chunkSize = getMaxIdsPerQuery();
+		for ( int i = 0; i < keysToLoad.size(); i += chunkSize ) {
+			final List<Object> chunk = keysToLoad.subList( i, Math.min( i + chunkSize, keysToLoad.size() ) );
+			final List<Object> chunkResult = createQuery().forEntitiesAtRevision( cls, entityName, revision, false )
+					.add( AuditEntity.id().in( chunk ) )
+					.getResultList();
+			for ( Object entity : chunkResult ) {
+				final Object normalizedKey = normalizeId( idMapper, idMapper.mapToIdFromEntity( entity ) );
+				entities.put( normalizedKey, entity );
+				firstLevelCache.put( entityName, revision, normalizedKey, entity );
+			}
+		}
+
+		final List<T> result = new ArrayList<>( primaryKeys.size() );
+		for ( Object normalizedKey : normalizedKeys ) {
+			result.add( (T) entities.get( normalizedKey ) );
+		}
+		return result;
+	}
+
+	/**
+	 * Map the identifier to its audited representation and back, as the identifiers of the
+	 * entities read from the audit tables are, so that equal identifiers are equal objects.
+	 */
+	private Object normalizeId(IdMapper idMapper, Object primaryKey) {
+		final Map<String, Object> data = new HashMap<>();
+		idMapper.mapToMapFromId( session, data, primaryKey );
+		return idMapper.mapToIdFromMap( data );
+	}
+
+	private int getMaxIdsPerQuery() {
+		final int inExpressionCountLimit = sessionImplementor.getJdbcServices().getDialect().getInExpressionCountLimit();
+		return inExpressionCountLimit > 0 ? Math.min( inExpressionCountLimit, MAX_IDS_PER_QUERY ) : MAX_IDS_PER_QUERY;
+	}
+
 	@Override
 	public List<Number> getRevisions(Class<?> cls, Object primaryKey)
 			throws IllegalArgumentException, NotAuditedException, IllegalStateException {
@@ -294,6 +370,18 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 		return crossTypeRevisionChangesReader;
 	}
 
+	@Override
+	public int materializeDeferredAuditData() throws AuditException {
+		final AuditOutbox auditOutbox = enversService.getAuditProcessManager().getAuditOutbox();
+		if ( auditOutbox == null ) {
+			throw new AuditException(
+					"Deferred audit writing is not enabled, set '" + EnversSettings.DEFERRED_AUDIT_WRITING
+							+ "' to true."
+			);
+		}
+		return auditOutbox.materializeAll( sessionImplementor.getFactory() );
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public <T> T getCurrentRevision(Class<T> revisionEntityClass, boolean persist) {
@@ -0,0 +1,511 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.internal.synchronization;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.NotSerializableException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.boot.registry.classloading.spi.ClassLoadingException;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.envers.boot.internal.EnversService;
+import org.hibernate.envers.boot.model.BasicAttribute;
+import org.hibernate.envers.boot.model.Column;
+import org.hibernate.envers.boot.model.RootPersistentEntity;
+import org.hibernate.envers.boot.model.SimpleIdentifier;
+import org.hibernate.envers.configuration.Configuration;
+import org.hibernate.envers.configuration.internal.metadata.AuditTableData;
+import org.hibernate.envers.exception.AuditException;
+import org.hibernate.envers.internal.synchronization.work.AbstractAuditWorkUnit;
+import org.hibernate.envers.internal.synchronization.work.AuditWorkUnit;
+import org.hibernate.envers.internal.synchronization.work.PersistentCollectionChangeWorkUnit;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.type.StandardBasicTypes;
+
+import org.jboss.logging.Logger;
+
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.IdentifiableType;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.PluralAttribute;
+
+/**
+ * The outbox of {@linkplain org.hibernate.envers.configuration.EnversSettings#DEFERRED_AUDIT_WRITING
+ * deferred audit writing}.
+ * <p>
+ * Within the audited transaction, the data generated by the work units is serialized to
+ * the outbox table, with one row per transaction, instead of being saved to the audit tables.
+ * The revision entity itself is still saved. The outbox is later {@linkplain #materialize
+ * materialized} by passing the data to the {@link org.hibernate.envers.strategy.AuditStrategy},
+ * which writes the audit rows, and the end revisions of the validity strategy.
+ * <p>
+ * The rows are materialized in commit order rather than in revision order, since revision
+ * numbers are assigned when the revision entity is saved, and not when the transaction
+ * commits. The identifier of a row is drawn from a sequence which is not pooled, right
+ * before the commit, after the changes of the audited entities were flushed: a transaction
+ * changing the same entities as another one waits for the locks held by the other one, and
+ * so draws a greater identifier, even if it was assigned a lower revision number.
+ * <p>
+ * Work units which require the current audit state, that is, changes of collections, and work
+ * units whose data is not serializable, are still performed within the audited transaction.
+ * <p>
+ * Only the types of the domain model, and the value types of the JDK, are deserialized from
+ * the outbox. An entry which cannot be materialized is left in the outbox, with the reason in
+ * its {@code FAILURE} column, so that it does not block the entries which follow it. It is
+ * retried once the column is cleared.
+ *
+ * @see AuditOutboxWorker
+ */
+public class AuditOutbox {
+	private static final Logger log = Logger.getLogger( AuditOutbox.class );
+
+	public static final String ENTITY_NAME = "EnversAuditOutbox";
+
+	private static final String TABLE_NAME = "REVOUTBOX";
+	private static final String SEQUENCE_NAME = "REVOUTBOX_SEQ";
+
+	private static final int MAX_ENTRIES_PER_TRANSACTION = 500;
+	private static final int MAX_FAILURE_LENGTH = 255;
+
+	private final EnversService enversService;
+	private final SessionCacheCleaner sessionCacheCleaner = new SessionCacheCleaner();
+	private volatile ObjectInputFilter inputFilter;
+
+	public AuditOutbox(EnversService enversService) {
+		this.enversService = enversService;
+	}
+
+	/**
+	 * Generates the mapping of the outbox table.
+	 */
+	public static RootPersistentEntity generateMapping(Configuration configuration) {
+		final RootPersistentEntity mapping = new RootPersistentEntity(
+				new AuditTableData(
+						ENTITY_NAME,
+						TABLE_NAME,
+						configuration.getDefaultSchemaName(),
+						configuration.getDefaultCatalogName()
+				),
+				(PersistentClass) null
+		);
+
+		// a sequence which is not pooled, so that the identifiers follow the commit order
+		final SimpleIdentifier identifier = new SimpleIdentifier( "id", StandardBasicTypes.LONG.getName() );
+		identifier.setGeneratorClass( SequenceStyleGenerator.class.getName() );
+		identifier.setParameter( SequenceStyleGenerator.SEQUENCE_PARAM, SEQUENCE_NAME );
+		identifier.setParameter( SequenceStyleGenerator.INCREMENT_PARAM, "1" );
+		identifier.addColumn( new Column( "ID" ) );
+		mapping.setIdentifier( identifier );
+
+		mapping.addAttribute(
+				basicAttribute( "revision", configuration.getRevisionInfo().getRevisionInfoPropertyType(), "REV" )
+		);
+		mapping.addAttribute( basicAttribute( "payload", StandardBasicTypes.MATERIALIZED_BLOB.getName(), "PAYLOAD" ) );
+		// the reason an entry could not be materialized, updated outside the audited transaction
+		mapping.addAttribute( basicAttribute( "failure", StandardBasicTypes.STRING.getName(), "FAILURE", true ) );
+
+		return mapping;
+	}
+
+	private static BasicAttribute basicAttribute(String name, String type, String columnName) {
+		return basicAttribute( name, type, columnName, false );
+	}
+
+	private static BasicAttribute basicAttribute(String name, String type, String columnName, boolean updatable) {
+		final BasicAttribute attribute = new BasicAttribute( name, type, true, updatable, false );
+		attribute.addColumn( new Column( columnName ) );
+		return attribute;
+	}
+
+	/**
+	 * Starts the outbox entry of an audited transaction.
+	 */
+	public Entry createEntry() {
+		return new Entry();
+	}
+
+	/**
+	 * Materializes the whole outbox into the audit tables, in transactions of their own.
+	 *
+	 * @param sessionFactory the session factory
+	 *
+	 * @return the number of entries materialized
+	 */
+	public int materializeAll(SessionFactoryImplementor sessionFactory) {
+		int total = 0;
+		Progress progress;
+		do {
+			progress = materializeEntries( sessionFactory, MAX_ENTRIES_PER_TRANSACTION );
+			log.tracef( "Materialized %s audit outbox entries", progress.materialized );
+			total += progress.materialized;
+		}
+		while ( progress.selected == MAX_ENTRIES_PER_TRANSACTION && !Thread.currentThread().isInterrupted() );
+		return total;
+	}
+
+	/**
+	 * Materializes the oldest entries of the outbox into the audit tables, in commit order, in
+	 * a transaction of its own. If an entry cannot be materialized, the entries are materialized
+	 * one by one instead, and the failing ones are marked as such and skipped from then on.
+	 *
+	 * @param sessionFactory the session factory
+	 * @param maxEntries the maximum number of entries to materialize
+	 *
+	 * @return the number of entries materialized
+	 */
+	public int materialize(SessionFactoryImplementor sessionFactory, int maxEntries) {
+		return materializeEntries( sessionFactory, maxEntries ).materialized;
+	}
+
+	private Progress materializeEntries(SessionFactoryImplementor sessionFactory, int maxEntries) {
+		List<Object[]> entries = null;
+		try ( Session session = openSession( sessionFactory ) ) {
+			final Transaction transaction = session.beginTransaction();
+			try {
+				entries = session.createQuery(
+						"select e.id, e.revision, e.payload from " + ENTITY_NAME + " e where e.failure is null order by e.id",
+						Object[].class
+				).setMaxResults( maxEntries ).list();
+				if ( entries.isEmpty() ) {
+					transaction.commit();
+					return new Progress( 0, 0 );
+				}
+
+				final Object[] ids = new Object[entries.size()];
+				for ( int i = 0; i < ids.length; i++ ) {
+					ids[i] = entries.get( i )[0];
+				}
+				// claim the entries, the outbox may be shared by several workers
+				final int claimed = session.createMutationQuery( "delete from " + ENTITY_NAME + " e where e.id in (:ids)" )
+						.setParameterList( "ids", ids )
+						.executeUpdate();
+				if ( claimed != entries.size() ) {
+					log.debug( "Audit outbox entries concurrently materialized, retrying later" );
+					transaction.rollback();
+					return new Progress( 0, 0 );
+				}
+
+				for ( Object[] entry : entries ) {
+					perform( session, entry[1], (byte[]) entry[2] );
+				}
+				transaction.commit();
+				return new Progress( entries.size(), entries.size() );
+			}
+			catch (RuntimeException e) {
+				if ( transaction.isActive() ) {
+					transaction.rollback();
+				}
+				if ( entries == null ) {
+					throw e;
+				}
+				log.debugf( e, "Unable to materialize %s audit outbox entries at once", entries.size() );
+			}
+		}
+
+		// isolate the failing entries, so that they do not hold back the ones which follow them
+		int materialized = 0;
+		for ( Object[] entry : entries ) {
+			if ( materializeEntry( sessionFactory, entry ) ) {
+				materialized++;
+			}
+		}
+		return new Progress( entries.size(), materialized );
+	}
+
+	private boolean materializeEntry(SessionFactoryImplementor sessionFactory, Object[] entry) {
+		try ( Session session = openSession( sessionFactory ) ) {
+			final Transaction transaction = session.beginTransaction();
+			try {
+				final int claimed = session.createMutationQuery(
+						"delete from " + ENTITY_NAME + " e where e.id = :id and e.failure is null"
+				).setParameter( "id", entry[0] ).executeUpdate();
+				if ( claimed == 0 ) {
+					transaction.rollback();
+					return false;
+				}
+
+				perform( session, entry[1], (byte[]) entry[2] );
+				transaction.commit();
+				return true;
+			}
+			catch (RuntimeException e) {
+				if ( transaction.isActive() ) {
+					transaction.rollback();
+				}
+				markFailed( sessionFactory, entry[0], e );
+				return false;
+			}
+		}
+	}
+
+	private void markFailed(SessionFactoryImplementor sessionFactory, Object id, RuntimeException failure) {
+		log.warnf( failure, "Unable to materialize audit outbox entry %s, it is skipped until its failure is cleared", id );
+		String reason = failure.toString();
+		if ( reason.length() > MAX_FAILURE_LENGTH ) {
+			reason = reason.substring( 0, MAX_FAILURE_LENGTH );
+		}
+		try ( Session session = sessionFactory.openSession() ) {
+			final Transaction transaction = session.beginTransaction();
+			try {
+				session.createMutationQuery( "update " + ENTITY_NAME + " e set e.failure = :failure where e.id = :id" )
+						.setParameter( "failure", reason )
+						.setParameter( "id", id )
+						.executeUpdate();
+				transaction.commit();
+			}
+			catch (RuntimeException e) {
+				if ( transaction.isActive() ) {
+					transaction.rollback();
+				}
+				throw e;
+			}
+		}
+	}
+
+	private Session openSession(SessionFactoryImplementor sessionFactory) {
+		final Session session = sessionFactory.openSession();
+		final Integer jdbcBatchSize = enversService.getConfig().getJdbcBatchSize();
+		if ( jdbcBatchSize != null ) {
+			session.setJdbcBatchSize( jdbcBatchSize );
+		}
+		return session;
+	}
+
+	private void perform(Session session, Object revisionNumber, byte[] payload) {
+		final Configuration configuration = enversService.getConfig();
+		final SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) session.getSessionFactory();
+		// the audit strategy reads the revision timestamp from the revision entity, so not a proxy
+		final Object revision = session.get(
+				configuration.getRevisionInfo().getRevisionInfoEntityName(),
+				revisionNumber
+		);
+		if ( revision == null ) {
+			throw new AuditException( "Revision " + revisionNumber + " of the audit outbox does not exist" );
+		}
+
+		@SuppressWarnings("unchecked")
+		final List<byte[]> workUnits = (List<byte[]>) deserialize( sessionFactory, payload );
+		for ( byte[] workUnit : workUnits ) {
+			final Object[] workUnitData = (Object[]) deserialize( sessionFactory, workUnit );
+			final String entityName = (String) workUnitData[0];
+			@SuppressWarnings("unchecked")
+			final Map<String, Object> data = (Map<String, Object>) workUnitData[2];
+			getOriginalId( configuration, data ).put( configuration.getRevisionFieldName(), revision );
+
+			enversService.getAuditStrategy().perform( session, entityName, configuration, workUnitData[1], data, revision );
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, Object> getOriginalId(Configuration configuration, Map<String, Object> data) {
+		return (Map<String, Object>) data.get( configuration.getOriginalIdPropertyName() );
+	}
+
+	private static byte[] serialize(Object value) throws NotSerializableException {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try ( ObjectOutputStream output = new ObjectOutputStream( bytes ) ) {
+			output.writeObject( value );
+		}
+		catch (NotSerializableException e) {
+			throw e;
+		}
+		catch (IOException e) {
+			throw new AuditException( "Unable to serialize audit data", e );
+		}
+		return bytes.toByteArray();
+	}
+
+	private Object deserialize(SessionFactoryImplementor sessionFactory, byte[] payload) {
+		try ( ObjectInputStream input = new ClassLoaderServiceObjectInputStream(
+				new ByteArrayInputStream( payload ),
+				enversService.getClassLoaderService()
+		) ) {
+			input.setObjectInputFilter( getInputFilter( sessionFactory ) );
+			return input.readObject();
+		}
+		catch (IOException | ClassNotFoundException e) {
+			throw new AuditException( "Unable to deserialize audit data", e );
+		}
+	}
+
+	private ObjectInputFilter getInputFilter(SessionFactoryImplementor sessionFactory) {
+		ObjectInputFilter filter = inputFilter;
+		if ( filter == null ) {
+			// the metamodel is only complete once the session factory is built
+			filter = new AuditDataInputFilter( sessionFactory );
+			inputFilter = filter;
+		}
+		return filter;
+	}
+
+	private static class Progress {
+		private final int selected;
+		private final int materialized;
+
+		private Progress(int selected, int materialized) {
+			this.selected = selected;
+			this.materialized = materialized;
+		}
+	}
+
+	/**
+	 * The outbox entry of an audited transaction, collecting the data of its work units.
+	 */
+	public class Entry {
+		private final List<byte[]> workUnits = new ArrayList<>();
+
+		private Entry() {
+		}
+
+		/**
+		 * Adds the data of a work unit to the entry.
+		 *
+		 * @return {@code false} if the work unit cannot be deferred, and is to be performed instead
+		 */
+		public boolean add(AuditWorkUnit workUnit, Object revisionData) {
+			if ( !( workUnit instanceof AbstractAuditWorkUnit ) || workUnit instanceof PersistentCollectionChangeWorkUnit ) {
+				return false;
+			}
+
+			final Configuration configuration = enversService.getConfig();
+			final Map<String, Object> data = workUnit.generateData( revisionData );
+
+			// the revision entity is referenced by number, and set again when materializing
+			final Map<String, Object> originalId = getOriginalId( configuration, data );
+			originalId.remove( configuration.getRevisionFieldName() );
+
+			try {
+				workUnits.add( serialize( new Object[] { workUnit.getEntityName(), workUnit.getEntityId(), data } ) );
+			}
+			catch (NotSerializableException e) {
+				log.debugf( "Writing audit data of %s synchronously, it is not serializable", workUnit.getEntityName() );
+				return false;
+			}
+			return true;
+		}
+
+		/**
+		 * Writes the entry to the outbox, if any work unit was added to it. To be called once all
+		 * the changes of the transaction were flushed.
+		 */
+		public void write(Session session, Object revisionData) {
+			if ( workUnits.isEmpty() ) {
+				return;
+			}
+
+			final byte[] payload;
+			try {
+				payload = serialize( workUnits );
+			}
+			catch (NotSerializableException e) {
+				throw new AuditException( "Unable to serialize audit data", e );
+			}
+
+			final Map<String, Object> entry = new HashMap<>();
+			entry.put( "revision", enversService.getRevisionInfoNumberReader().getRevisionNumber( revisionData ) );
+			entry.put( "payload", payload );
+			session.save( ENTITY_NAME, entry );
+			sessionCacheCleaner.scheduleAuditDataRemoval( session, entry );
+		}
+	}
+
+	/**
+	 * Only accepts the types which may be found in the audit data: the types of the domain model,
+	 * and the value types of the JDK, which is what the data of a work unit is made of.
+	 */
+	private static class AuditDataInputFilter implements ObjectInputFilter {
+		private static final Set<String> JDK_PACKAGES = Set.of(
+				"java.lang",
+				"java.math",
+				"java.sql",
+				"java.time",
+				"java.util",
+				// the time zone of a Calendar
+				"sun.util.calendar"
+		);
+
+		private final Set<Class<?>> modelTypes = new HashSet<>();
+
+		private AuditDataInputFilter(SessionFactoryImplementor sessionFactory) {
+			for ( ManagedType<?> managedType : sessionFactory.getJpaMetamodel().getManagedTypes() ) {
+				modelTypes.add( managedType.getJavaType() );
+				for ( Attribute<?, ?> attribute : managedType.getAttributes() ) {
+					modelTypes.add( attribute.getJavaType() );
+					if ( attribute instanceof PluralAttribute ) {
+						modelTypes.add( ( (PluralAttribute<?, ?, ?>) attribute ).getElementType().getJavaType() );
+					}
+				}
+				if ( managedType instanceof IdentifiableType && ( (IdentifiableType<?>) managedType ).getIdType() != null ) {
+					modelTypes.add( ( (IdentifiableType<?>) managedType ).getIdType().getJavaType() );
+				}
+			}
+			modelTypes.remove( Object.class );
+			modelTypes.remove( null );
+		}
+
+		@Override
+		public Status checkInput(FilterInfo filterInfo) {
+			Class<?> type = filterInfo.serialClass();
+			if ( type == null ) {
+				return Status.UNDECIDED;
+			}
+			while ( type.isArray() ) {
+				type = type.getComponentType();
+			}
+			if ( type.isPrimitive() || Enum.class.isAssignableFrom( type )
+					|| JDK_PACKAGES.contains( type.getPackageName() ) ) {
+				return Status.ALLOWED;
+			}
+			for ( Class<?> superType = type; superType != null && superType != Object.class; superType = superType.getSuperclass() ) {
+				if ( modelTypes.contains( superType ) ) {
+					return Status.ALLOWED;
+				}
+			}
+			return Status.REJECTED;
+		}
+	}
+
+	/**
+	 * Resolves the classes of the audit data with the {@link ClassLoaderService}, since
+	 * they are application classes.
+	 */
+	private static class ClassLoaderServiceObjectInputStream extends ObjectInputStream {
+		private final ClassLoaderService classLoaderService;
+
+		private ClassLoaderServiceObjectInputStream(InputStream input, ClassLoaderService classLoaderService)
+				throws IOException {
+			super( input );
+			this.classLoaderService = classLoaderService;
+		}
+
+		@Override
+		protected Class<?> resolveClass(ObjectStreamClass description) throws IOException, ClassNotFoundException {
+			try {
+				return classLoaderService.classForName( description.getName() );
+			}
+			catch (ClassLoadingException e) {
+				return super.resolveClass( description );
+			}
+		}
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.internal.synchronization;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Periodically materializes the {@link AuditOutbox} into the audit tables, from a background
+ * thread started once the {@link SessionFactory} is created, and stopped when it is closed.
+ * Entries left in the outbox at shutdown are materialized after the next start.
+ */
+public class AuditOutboxWorker implements SessionFactoryObserver {
+	private static final Logger log = Logger.getLogger( AuditOutboxWorker.class );
+
+	private final AuditOutbox auditOutbox;
+	private final long interval;
+
+	private ScheduledExecutorService executorService;
+
+	public AuditOutboxWorker(AuditOutbox auditOutbox, long interval) {
+		this.auditOutbox = auditOutbox;
+		this.interval = interval;
+	}
+
+	@Override
+	public void sessionFactoryCreated(SessionFactory factory) {
+		final SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) factory;
+		executorService = Executors.newSingleThreadScheduledExecutor(
+				runnable -> {
+					final Thread thread = new Thread( runnable, "Hibernate Envers Audit Outbox Worker" );
+					thread.setDaemon( true );
+					return thread;
+				}
+		);
+		executorService.scheduleWithFixedDelay( () -> drain( sessionFactory ), interval, interval, TimeUnit.MILLISECONDS );
+	}
+
+	private void drain(SessionFactoryImplementor sessionFactory) {
+		try {
+			auditOutbox.materializeAll( sessionFactory );
+		}
+		catch (RuntimeException e) {
+			// the entries stay in the outbox, and are retried on the next run
+			log.warn( "Unable to materialize the audit outbox", e );
+		}
+	}
+
+	@Override
+	public void sessionFactoryClosing(SessionFactory factory) {
+		if ( executorService != null ) {
+			executorService.shutdownNow();
+			try {
+				executorService.awaitTermination( interval, TimeUnit.MILLISECONDS );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			executorService = null;
+		}
+	}
+}
@@ -10,6 +10,7 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Queue;
+import java.util.function.Supplier;
 
 import org.hibernate.FlushMode;
 import org.hibernate.Session;
@@ -31,6 +32,8 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 
 	private final RevisionInfoGenerator revisionInfoGenerator;
 	private final SessionImplementor session;
+	private final Integer jdbcBatchSize;
+	private final AuditOutbox auditOutbox;
 
 	private final LinkedList<AuditWorkUnit> workUnits;
 	private final Queue<AuditWorkUnit> undoQueue;
@@ -38,10 +41,21 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 	private final Map<Pair<String, Object>, Object[]> entityStateCache;
 	private final EntityChangeNotifier entityChangeNotifier;
 	private Object revisionData;
+	private Object auditStrategyState;
 
 	public AuditProcess(RevisionInfoGenerator revisionInfoGenerator, SessionImplementor session) {
+		this( revisionInfoGenerator, session, null, null );
+	}
+
+	public AuditProcess(
+			RevisionInfoGenerator revisionInfoGenerator,
+			SessionImplementor session,
+			Integer jdbcBatchSize,
+			AuditOutbox auditOutbox) {
 		this.revisionInfoGenerator = revisionInfoGenerator;
 		this.session = session;
+		this.jdbcBatchSize = jdbcBatchSize;
+		this.auditOutbox = auditOutbox;
 
 		workUnits = new LinkedList<>();
 		undoQueue = new LinkedList<>();
@@ -121,10 +135,34 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 			vwu.undo( session );
 		}
 
+		final AuditOutbox.Entry outboxEntry = auditOutbox == null ? null : auditOutbox.createEntry();
 		while ( (vwu = workUnits.poll()) != null ) {
-			vwu.perform( session, revisionData );
+			if ( outboxEntry == null || !outboxEntry.add( vwu, revisionData ) ) {
+				vwu.perform( session, revisionData );
+			}
 			entityChangeNotifier.entityChanged( session, currentRevisionData, vwu );
 		}
+		if ( outboxEntry != null ) {
+			outboxEntry.write( session, revisionData );
+		}
+	}
+
+	/**
+	 * Returns the state kept by the audit strategy for the transaction of this process,
+	 * for example the work it defers to the completion of the transaction.
+	 *
+	 * @param stateSupplier creates the state on first access, or once it was removed
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T getAuditStrategyState(Supplier<T> stateSupplier) {
+		if ( auditStrategyState == null ) {
+			auditStrategyState = stateSupplier.get();
+		}
+		return (T) auditStrategyState;
+	}
+
+	public void removeAuditStrategyState() {
+		auditStrategyState = null;
 	}
 
 	public Object getCurrentRevisionData(Session session, boolean persist) {
@@ -162,8 +200,7 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 						.connectionHandlingMode( PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION )
 						.noInterceptor()
 						.openSession();
-				executeInSession( temporarySession );
-				temporarySession.flush();
+				executeAndFlush( temporarySession );
 			}
 			finally {
 				if ( temporarySession != null ) {
@@ -172,10 +209,23 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 			}
 		}
 		else {
-			executeInSession( session );
-
 			// Explicitly flushing the session, as the auto-flush may have already happened.
+			executeAndFlush( session );
+		}
+	}
+
+	private void executeAndFlush(Session session) {
+		final Integer sessionJdbcBatchSize = session.getJdbcBatchSize();
+		if ( jdbcBatchSize != null ) {
+			// so that the audit rows are inserted in batches
+			session.setJdbcBatchSize( jdbcBatchSize );
+		}
+		try {
+			executeInSession( session );
 			session.flush();
 		}
+		finally {
+			session.setJdbcBatchSize( sessionJdbcBatchSize );
+		}
 	}
 }
@@ -23,11 +23,35 @@ import org.hibernate.event.spi.EventSource;
 public class AuditProcessManager {
 	private final Map<Transaction, AuditProcess> auditProcesses;
 	private final RevisionInfoGenerator revisionInfoGenerator;
+	private final Integer jdbcBatchSize;
+	private final AuditOutbox auditOutbox;
 
 	public AuditProcessManager(RevisionInfoGenerator revisionInfoGenerator) {
+		this( revisionInfoGenerator, null, null );
+	}
+
+	/**
+	 * @param jdbcBatchSize the JDBC batch size used when writing audit data,
+	 * or {@code null} to use the batch size of the session
+	 * @param auditOutbox the outbox the audit data is written to,
+	 * or {@code null} to write the audit data within the audited transaction
+	 */
+	public AuditProcessManager(
+			RevisionInfoGenerator revisionInfoGenerator,
+			Integer jdbcBatchSize,
+			AuditOutbox auditOutbox) {
 		auditProcesses = new ConcurrentHashMap<>();
 
 		this.revisionInfoGenerator = revisionInfoGenerator;
+		this.jdbcBatchSize = jdbcBatchSize;
+		this.auditOutbox = auditOutbox;
+	}
+
+	/**
+	 * @return the outbox of deferred audit writing, or {@code null} if not enabled
+	 */
+	public AuditOutbox getAuditOutbox() {
+		return auditOutbox;
 	}
 
 	public AuditProcess get(EventSource session) {
@@ -36,7 +60,7 @@ public class AuditProcessManager {
 		AuditProcess auditProcess = auditProcesses.get( transaction );
 		if ( auditProcess == null ) {
 			// No worries about registering a transaction twice - a transaction is single thread
-			auditProcess = new AuditProcess( revisionInfoGenerator, session );
+			auditProcess = new AuditProcess( revisionInfoGenerator, session, jdbcBatchSize, auditOutbox );
 			auditProcesses.put( transaction, auditProcess );
 
 			session.getActionQueue().registerProcess(
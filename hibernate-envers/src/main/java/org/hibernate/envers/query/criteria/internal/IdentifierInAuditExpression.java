@@ -0,0 +1,63 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.query.criteria.internal;
+
+import java.util.List;
+
+import org.hibernate.envers.boot.internal.EnversService;
+import org.hibernate.envers.internal.entities.mapper.id.IdMapper;
+import org.hibernate.envers.internal.entities.mapper.id.QueryParameterData;
+import org.hibernate.envers.internal.reader.AuditReaderImplementor;
+import org.hibernate.envers.internal.tools.query.Parameters;
+import org.hibernate.envers.internal.tools.query.QueryBuilder;
+
+/**
+ * A criterion that expresses that the id of an entity is one of the specified values.
+ * Single column ids are restricted with an {@code in} predicate, composite ids with a
+ * disjunction of the id equalities.
+ */
+public class IdentifierInAuditExpression extends AbstractAtomicExpression {
+	private final Object[] ids;
+
+	public IdentifierInAuditExpression(String alias, Object[] ids) {
+		super( alias );
+		this.ids = ids;
+	}
+
+	@Override
+	protected void addToQuery(
+			EnversService enversService,
+			AuditReaderImplementor versionsReader,
+			String entityName,
+			String alias,
+			String componentPrefix,
+			QueryBuilder qb,
+			Parameters parameters) {
+		if ( ids.length == 0 ) {
+			parameters.addWhere( "1", false, "=", "0", false );
+			return;
+		}
+
+		final String prefix = enversService.getConfig().getOriginalIdPropertyName();
+		final IdMapper idMapper = enversService.getEntitiesConfigurations().get( entityName ).getIdMapper();
+
+		final List<QueryParameterData> first = idMapper.mapToQueryParametersFromId( ids[0] );
+		if ( first.size() == 1 ) {
+			final Object[] values = new Object[ids.length];
+			for ( int i = 0; i < ids.length; i++ ) {
+				values[i] = idMapper.mapToQueryParametersFromId( ids[i] ).get( 0 ).getValue();
+			}
+			parameters.addWhereWithParams( alias, first.get( 0 ).getProperty( prefix ), "in (", values, ")" );
+		}
+		else {
+			final Parameters disjunction = parameters.addSubParameters( Parameters.OR );
+			for ( Object id : ids ) {
+				idMapper.addIdEqualsToQuery( disjunction.addSubParameters( Parameters.AND ), id, alias, prefix, true );
+			}
+		}
+	}
+}
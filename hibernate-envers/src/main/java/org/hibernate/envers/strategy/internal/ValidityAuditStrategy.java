@@ -11,23 +11,33 @@ import static org.hibernate.envers.internal.entities.mapper.relation.query.Query
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
 import org.hibernate.LockOptions;
 import org.hibernate.Session;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.envers.RevisionType;
+import org.hibernate.envers.boot.model.Attribute;
 import org.hibernate.envers.boot.model.BasicAttribute;
 import org.hibernate.envers.boot.model.Column;
+import org.hibernate.envers.boot.model.Identifier;
 import org.hibernate.envers.boot.model.ManyToOneAttribute;
+import org.hibernate.envers.boot.model.PersistentEntity;
+import org.hibernate.envers.boot.model.RootPersistentEntity;
 import org.hibernate.envers.configuration.Configuration;
 import org.hibernate.envers.configuration.internal.metadata.RevisionInfoHelper;
 import org.hibernate.envers.exception.AuditException;
@@ -35,6 +45,7 @@ import org.hibernate.envers.internal.entities.mapper.PersistentCollectionChangeD
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleComponentData;
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleIdData;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoNumberReader;
+import org.hibernate.envers.internal.synchronization.AuditProcess;
 import org.hibernate.envers.internal.synchronization.SessionCacheCleaner;
 import org.hibernate.envers.internal.tools.query.Parameters;
 import org.hibernate.envers.internal.tools.query.QueryBuilder;
@@ -42,6 +53,9 @@ import org.hibernate.envers.strategy.AuditStrategy;
 import org.hibernate.envers.strategy.spi.AuditStrategyContext;
 import org.hibernate.envers.strategy.spi.MappingContext;
 import org.hibernate.event.spi.EventSource;
+import org.hibernate.jdbc.Expectation;
+import org.hibernate.mapping.Constraint;
+import org.hibernate.mapping.Table;
 import org.hibernate.persister.entity.JoinedSubclassEntityPersister;
 import org.hibernate.persister.entity.Queryable;
 import org.hibernate.persister.entity.UnionSubclassEntityPersister;
@@ -112,6 +126,10 @@ public class ValidityAuditStrategy implements AuditStrategy {
 			);
 
 			mappingContext.getEntityMapping().addAttribute( revEndMapping );
+
+			if ( mappingContext.getConfiguration().isRevisionRangeIndexEnabled() ) {
+				addRevisionRangeIndex( mappingContext.getEntityMapping(), revEndMapping );
+			}
 		}
 
 		if ( mappingContext.getConfiguration().isRevisionEndTimestampEnabled() ) {
@@ -148,6 +166,41 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		}
 	}
 
+	/**
+	 * Adds an index on the identifier, which ends with the revision, and the end revision,
+	 * matching the range predicate of {@link #addEntityAtRevisionRestriction}.
+	 */
+	private void addRevisionRangeIndex(PersistentEntity entityMapping, ManyToOneAttribute revEndMapping) {
+		if ( !( entityMapping instanceof RootPersistentEntity ) ) {
+			return;
+		}
+		final Identifier identifier = ( (RootPersistentEntity) entityMapping ).getIdentifier();
+		if ( identifier == null ) {
+			return;
+		}
+
+		final String tableName = entityMapping.getAuditTableData().getAuditTableName();
+		if ( tableName == null ) {
+			return;
+		}
+
+		final List<Column> columns = new ArrayList<>();
+		for ( Attribute attribute : identifier.getAttributes() ) {
+			columns.addAll( attribute.getColumns() );
+		}
+		columns.addAll( revEndMapping.getColumns() );
+
+		// named like the implicit index names of the core mappings
+		final List<org.hibernate.mapping.Column> indexColumns = new ArrayList<>( columns.size() );
+		for ( Column column : columns ) {
+			indexColumns.add( new org.hibernate.mapping.Column( column.getName() ) );
+		}
+		final String indexName = Constraint.generateName( "IDX", new Table( "envers", tableName ), indexColumns );
+		for ( Column column : columns ) {
+			column.setIndex( indexName );
+		}
+	}
+
 	@Override
 	public void perform(
 			final Session session,
@@ -169,48 +222,17 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		// reused, this guarantees correct strategy behavior: exactly one row with
 		// null end date exists for each identifier.
 		final boolean reuseEntityIdentifier = configuration.isAllowIdentifierReuse();
-		if ( reuseEntityIdentifier || getRevisionType( configuration, data ) != RevisionType.ADD ) {
-			// Register transaction completion process to guarantee execution of UPDATE statement after INSERT.
-			( (EventSource) session ).getActionQueue().registerProcess( sessionImplementor -> {
-				// Construct the update contexts
-				final List<UpdateContext> contexts = getUpdateContexts(
-						entityName,
-						auditedEntityName,
-						sessionImplementor,
-						configuration,
-						id,
-						revision
-				);
-
-				if ( contexts.isEmpty() ) {
-					throw new AuditException(
-							String.format(
-									Locale.ENGLISH,
-									"Failed to build update contexts for entity %s and id %s",
-									auditedEntityName,
-									id
-							)
-					);
-				}
-
-				for ( UpdateContext context : contexts ) {
-					final int rows = executeUpdate( sessionImplementor, context );
-					if ( rows != 1 ) {
-						final RevisionType revisionType = getRevisionType( configuration, data );
-						if ( !reuseEntityIdentifier || revisionType != RevisionType.ADD ) {
-							throw new AuditException(
-									String.format(
-											Locale.ENGLISH,
-											"Cannot update previous revision for entity %s and id %s (%s rows modified).",
-											auditedEntityName,
-											id,
-											rows
-									)
-							);
-						}
-					}
-				}
-			} );
+		final RevisionType revisionType = getRevisionType( configuration, data );
+		if ( reuseEntityIdentifier || revisionType != RevisionType.ADD ) {
+			// The UPDATE statements are executed by a transaction completion process, to guarantee
+			// execution after the INSERT, and are collected per transaction so that they are batched.
+			getEndRevisionUpdates( (EventSource) session, configuration ).add(
+					entityName,
+					auditedEntityName,
+					id,
+					revision,
+					reuseEntityIdentifier && revisionType == RevisionType.ADD
+			);
 		}
 		sessionCacheCleaner.scheduleAuditDataRemoval( session, data );
 	}
@@ -455,34 +477,66 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		return false;
 	}
 
+	private EndRevisionUpdates getEndRevisionUpdates(EventSource session, Configuration configuration) {
+		// the audit process of the transaction is shared with the temporary session of a manual flush
+		final AuditProcess auditProcess = configuration.getEnversService().getAuditProcessManager().get( session );
+		return auditProcess.getAuditStrategyState(
+				() -> {
+					final EndRevisionUpdates updates = new EndRevisionUpdates( auditProcess, configuration );
+					session.getActionQueue().registerProcess( updates );
+					return updates;
+				}
+		);
+	}
+
 	/**
-	 * Executes the {@link UpdateContext} within the scope of the specified session.
+	 * Executes the {@link UpdateContext}s within the scope of the specified session, using a JDBC
+	 * batch per distinct statement.
 	 *
 	 * @param session the session
-	 * @param context the update context to be executed
-	 * @return the number of rows affected by the operation
+	 * @param batches the update contexts to be executed, by batch key
+	 * @param jdbcBatchSize the JDBC batch size to use, or {@code null} to use the one of the session
 	 */
-	private int executeUpdate(SessionImplementor session, UpdateContext context) {
-		final String sql = context.toStatementString();
+	private void executeUpdates(
+			SessionImplementor session,
+			Map<BatchKey, List<UpdateContext>> batches,
+			Integer jdbcBatchSize) {
 		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
-
-		final PreparedStatement statement = jdbcCoordinator.getStatementPreparer().prepareStatement( sql );
-		return session.doReturningWork(
-				connection -> {
-					try {
-						int index = 1;
-						for ( QueryParameterBinding binding : context.getBindings() ) {
-							index += binding.bind( index, statement, session );
-						}
-						int result = jdbcCoordinator.getResultSetReturn().executeUpdate( statement );
-						return result;
-					}
-					finally {
-						jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
-						jdbcCoordinator.afterStatementExecution();
+		final Integer sessionJdbcBatchSize = session.getJdbcBatchSize();
+		if ( jdbcBatchSize != null ) {
+			session.setJdbcBatchSize( jdbcBatchSize );
+		}
+		String sql = null;
+		try {
+			for ( Map.Entry<BatchKey, List<UpdateContext>> entry : batches.entrySet() ) {
+				for ( UpdateContext context : entry.getValue() ) {
+					sql = context.toStatementString();
+					final Batch batch = jdbcCoordinator.getBatch( entry.getKey() );
+					final PreparedStatement statement = batch.getBatchStatement( sql, false );
+					int index = 1;
+					for ( QueryParameterBinding binding : context.getBindings() ) {
+						index += binding.bind( index, statement, session );
 					}
+					batch.addToBatch();
 				}
-		);
+			}
+			jdbcCoordinator.executeBatch();
+		}
+		catch (SQLException e) {
+			jdbcCoordinator.abortBatch();
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					e,
+					"could not update end revision",
+					sql
+			);
+		}
+		catch (RuntimeException e) {
+			jdbcCoordinator.abortBatch();
+			throw e;
+		}
+		finally {
+			session.setJdbcBatchSize( sessionJdbcBatchSize );
+		}
 	}
 
 	private List<UpdateContext> getUpdateContexts(
@@ -654,6 +708,121 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		return rootAuditEntity.getTableName();
 	}
 
+	/**
+	 * The end revision updates of a transaction, executed in batches before transaction completion.
+	 */
+	private class EndRevisionUpdates implements BeforeTransactionCompletionProcess {
+		private final AuditProcess auditProcess;
+		private final Configuration configuration;
+		private final List<EndRevisionUpdate> updates = new ArrayList<>();
+
+		private EndRevisionUpdates(AuditProcess auditProcess, Configuration configuration) {
+			this.auditProcess = auditProcess;
+			this.configuration = configuration;
+		}
+
+		private void add(String entityName, String auditedEntityName, Object id, Object revision, boolean allowNoRow) {
+			updates.add( new EndRevisionUpdate( entityName, auditedEntityName, id, revision, allowNoRow ) );
+		}
+
+		@Override
+		public void doBeforeTransactionCompletion(SessionImplementor sessionImplementor) {
+			// updates registered from now on belong to a new process
+			auditProcess.removeAuditStrategyState();
+
+			// Construct the update contexts, grouped by statement so that each group is one JDBC batch
+			final Map<BatchKey, List<UpdateContext>> batches = new LinkedHashMap<>();
+			for ( EndRevisionUpdate update : updates ) {
+				final List<UpdateContext> contexts = getUpdateContexts(
+						update.entityName,
+						update.auditedEntityName,
+						sessionImplementor,
+						configuration,
+						update.id,
+						update.revision
+				);
+
+				if ( contexts.isEmpty() ) {
+					throw new AuditException(
+							String.format(
+									Locale.ENGLISH,
+									"Failed to build update contexts for entity %s and id %s",
+									update.auditedEntityName,
+									update.id
+							)
+					);
+				}
+
+				for ( UpdateContext context : contexts ) {
+					final String sql = context.toStatementString();
+					final BatchKey batchKey = new BasicBatchKey(
+							"envers#" + update.allowNoRow + "#" + sql,
+							new EndRevisionExpectation( update.auditedEntityName, update.allowNoRow )
+					);
+					batches.computeIfAbsent( batchKey, key -> new ArrayList<>() ).add( context );
+				}
+			}
+
+			executeUpdates( sessionImplementor, batches, configuration.getJdbcBatchSize() );
+		}
+	}
+
+	private static class EndRevisionUpdate {
+		private final String entityName;
+		private final String auditedEntityName;
+		private final Object id;
+		private final Object revision;
+		private final boolean allowNoRow;
+
+		private EndRevisionUpdate(String entityName, String auditedEntityName, Object id, Object revision, boolean allowNoRow) {
+			this.entityName = entityName;
+			this.auditedEntityName = auditedEntityName;
+			this.id = id;
+			this.revision = revision;
+			this.allowNoRow = allowNoRow;
+		}
+	}
+
+	/**
+	 * Exactly one previous audit row must be updated, unless identifiers are reused, in which
+	 * case there is no previous row when an entity is inserted for the first time.
+	 */
+	private static class EndRevisionExpectation implements Expectation {
+		private final String auditedEntityName;
+		private final boolean allowNoRow;
+
+		private EndRevisionExpectation(String auditedEntityName, boolean allowNoRow) {
+			this.auditedEntityName = auditedEntityName;
+			this.allowNoRow = allowNoRow;
+		}
+
+		@Override
+		public void verifyOutcome(int rowCount, PreparedStatement statement, int batchPosition, String statementSQL) {
+			if ( rowCount == Statement.SUCCESS_NO_INFO || rowCount == 1 || ( allowNoRow && rowCount == 0 ) ) {
+				return;
+			}
+			throw new AuditException(
+					String.format(
+							Locale.ENGLISH,
+							"Cannot update previous revision for entity %s (%s rows modified by update [%s] of the batch).",
+							auditedEntityName,
+							rowCount,
+							batchPosition
+					)
+			);
+		}
+
+		@Override
+		public int prepare(PreparedStatement statement) {
+			return 0;
+		}
+
+		@Override
+		public boolean canBeBatched() {
+			return true;
+		}
+	}
+
 	/**
 	 * An {@link Update} that can also track parameter bindings.
 	 */
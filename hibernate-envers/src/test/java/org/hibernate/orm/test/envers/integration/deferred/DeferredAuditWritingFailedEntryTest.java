@@ -0,0 +1,120 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.deferred;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.internal.synchronization.AuditOutbox;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+
+import org.hibernate.testing.transaction.TransactionUtil;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that an outbox entry which cannot be materialized, here because its payload holds a type
+ * which is not part of the domain model, is marked as failed and does not block the entries
+ * which follow it.
+ */
+public class DeferredAuditWritingFailedEntryTest extends BaseEnversJPAFunctionalTestCase {
+	private Integer id1;
+	private Integer id2;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.DEFERRED_AUDIT_WRITING, "true" );
+		options.put( EnversSettings.DEFERRED_AUDIT_WRITING_INTERVAL, "0" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() throws IOException {
+		// Revision 1
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			final StrTestEntity entity = new StrTestEntity( "x" );
+			entityManager.persist( entity );
+			id1 = entity.getId();
+		} );
+
+		// replace the data of revision 1 with data the outbox refuses to deserialize
+		final Map<String, Object> data = new HashMap<>();
+		data.put( "str", new NotAuditData() );
+		final List<byte[]> workUnits = new ArrayList<>();
+		workUnits.add( serialize( new Object[] { StrTestEntity.class.getName(), id1, data } ) );
+		final byte[] payload = serialize( workUnits );
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			assertEquals(
+					1,
+					entityManager.createQuery( "update " + AuditOutbox.ENTITY_NAME + " e set e.payload = :payload" )
+							.setParameter( "payload", payload )
+							.executeUpdate()
+			);
+		} );
+
+		// Revision 2
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			final StrTestEntity entity = new StrTestEntity( "y" );
+			entityManager.persist( entity );
+			id2 = entity.getId();
+		} );
+
+		assertEquals( 1, getAuditReader().materializeDeferredAuditData() );
+		// the failed entry is not retried until its failure is cleared
+		assertEquals( 0, getAuditReader().materializeDeferredAuditData() );
+	}
+
+	@Test
+	public void testFollowingEntryIsMaterialized() {
+		assertEquals( Collections.singletonList( 2 ), getAuditReader().getRevisions( StrTestEntity.class, id2 ) );
+		assertEquals( new StrTestEntity( "y", id2 ), getAuditReader().find( StrTestEntity.class, id2, 2 ) );
+	}
+
+	@Test
+	public void testFailedEntryIsKept() {
+		assertEquals( Collections.emptyList(), getAuditReader().getRevisions( StrTestEntity.class, id1 ) );
+		assertEquals( 1L, countOutboxEntries( "e.failure is not null" ) );
+		assertEquals( 0L, countOutboxEntries( "e.failure is null" ) );
+	}
+
+	private long countOutboxEntries(String restriction) {
+		return TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			return entityManager.createQuery(
+					"select count(e) from " + AuditOutbox.ENTITY_NAME + " e where " + restriction,
+					Long.class
+			).getSingleResult();
+		} );
+	}
+
+	private static byte[] serialize(Object value) throws IOException {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try ( ObjectOutputStream output = new ObjectOutputStream( bytes ) ) {
+			output.writeObject( value );
+		}
+		return bytes.toByteArray();
+	}
+
+	public static class NotAuditData implements Serializable {
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.deferred;
+
+import java.util.List;
+import java.util.Map;
+
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.enhanced.SequenceIdRevisionEntity;
+import org.hibernate.envers.strategy.ValidityAuditStrategy;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+
+import org.hibernate.testing.transaction.TransactionUtil;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that with {@value EnversSettings#DEFERRED_AUDIT_WRITING}, the outbox is materialized in
+ * commit order, so that the end revisions of the {@link ValidityAuditStrategy} follow the order
+ * in which interleaved transactions committed, and not the order of their revision numbers.
+ */
+public class DeferredAuditWritingInterleavedTest extends BaseEnversJPAFunctionalTestCase {
+	private Integer id;
+	private int firstRevision;
+	private int earlyRevision;
+	private int lateRevision;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class };
+	}
+
+	@Override
+	public String getAuditStrategy() {
+		return ValidityAuditStrategy.class.getName();
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.DEFERRED_AUDIT_WRITING, "true" );
+		options.put( EnversSettings.DEFERRED_AUDIT_WRITING_INTERVAL, "0" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			final StrTestEntity entity = new StrTestEntity( "x" );
+			entityManager.persist( entity );
+			id = entity.getId();
+			firstRevision = currentRevision( entityManager );
+		} );
+
+		// the revision of the first transaction is assigned before the second one starts,
+		// but the first transaction only changes the entity once the second one committed
+		final EntityManager early = createIsolatedEntityManager();
+		try {
+			early.getTransaction().begin();
+			earlyRevision = currentRevision( early );
+
+			TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+				entityManager.find( StrTestEntity.class, id ).setStr( "y" );
+				lateRevision = currentRevision( entityManager );
+			} );
+
+			early.find( StrTestEntity.class, id ).setStr( "z" );
+			early.getTransaction().commit();
+		}
+		finally {
+			early.close();
+		}
+
+		assertTrue( earlyRevision < lateRevision );
+		assertEquals( 3, getAuditReader().materializeDeferredAuditData() );
+	}
+
+	@Test
+	public void testEndRevisionsFollowCommitOrder() {
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			final List<Object[]> rows = entityManager.createNativeQuery(
+					"select REV, REVEND from STR_TEST_AUD where id = :id order by REV"
+			).setParameter( "id", id ).getResultList();
+			assertEquals( 3, rows.size() );
+
+			assertEquals( firstRevision, ( (Number) rows.get( 0 )[0] ).intValue() );
+			assertEquals( lateRevision, ( (Number) rows.get( 0 )[1] ).intValue() );
+			// the change of the transaction which committed last is the current one
+			assertEquals( earlyRevision, ( (Number) rows.get( 1 )[0] ).intValue() );
+			assertNull( rows.get( 1 )[1] );
+			assertEquals( lateRevision, ( (Number) rows.get( 2 )[0] ).intValue() );
+			assertEquals( earlyRevision, ( (Number) rows.get( 2 )[1] ).intValue() );
+		} );
+	}
+
+	private static int currentRevision(EntityManager entityManager) {
+		return AuditReaderFactory.get( entityManager )
+				.getCurrentRevision( SequenceIdRevisionEntity.class, true )
+				.getId();
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.deferred;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.envers.boot.internal.EnversService;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.internal.synchronization.AuditOutbox;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+
+import org.hibernate.testing.transaction.TransactionUtil;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that with {@value EnversSettings#DEFERRED_AUDIT_WRITING}, the audit data is written to
+ * the outbox, and only appears in the audit tables once materialized.
+ */
+public class DeferredAuditWritingTest extends BaseEnversJPAFunctionalTestCase {
+	private Integer id1;
+	private Integer id2;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.DEFERRED_AUDIT_WRITING, "true" );
+		// no background worker, the test materializes the outbox itself
+		options.put( EnversSettings.DEFERRED_AUDIT_WRITING_INTERVAL, "0" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		// Revision 1
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			final StrTestEntity entity1 = new StrTestEntity( "x" );
+			final StrTestEntity entity2 = new StrTestEntity( "y" );
+			entityManager.persist( entity1 );
+			entityManager.persist( entity2 );
+			id1 = entity1.getId();
+			id2 = entity2.getId();
+		} );
+
+		// Revision 2
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			entityManager.find( StrTestEntity.class, id1 ).setStr( "z" );
+		} );
+
+		// Revision 3
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			entityManager.find( StrTestEntity.class, id2 ).setStr( "w" );
+		} );
+
+		// one entry per transaction
+		assertEquals( 3L, countOutboxEntries() );
+		assertEquals( Collections.emptyList(), getAuditReader().getRevisions( StrTestEntity.class, id1 ) );
+
+		final SessionFactoryImplementor sessionFactory = entityManagerFactory().unwrap( SessionFactoryImplementor.class );
+		final AuditOutbox auditOutbox = sessionFactory.getServiceRegistry()
+				.getService( EnversService.class )
+				.getAuditProcessManager()
+				.getAuditOutbox();
+		assertEquals( 1, auditOutbox.materialize( sessionFactory, 1 ) );
+		assertEquals( 1L, getAuditReader().getRevisions( StrTestEntity.class, id1 ).size() );
+
+		// the rest through the public API
+		assertEquals( 2, getAuditReader().materializeDeferredAuditData() );
+		assertEquals( 0, getAuditReader().materializeDeferredAuditData() );
+
+		assertEquals( 0L, countOutboxEntries() );
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		assertEquals( Arrays.asList( 1, 2 ), getAuditReader().getRevisions( StrTestEntity.class, id1 ) );
+		assertEquals( Arrays.asList( 1, 3 ), getAuditReader().getRevisions( StrTestEntity.class, id2 ) );
+	}
+
+	@Test
+	public void testHistory() {
+		assertEquals( new StrTestEntity( "x", id1 ), getAuditReader().find( StrTestEntity.class, id1, 1 ) );
+		assertEquals( new StrTestEntity( "z", id1 ), getAuditReader().find( StrTestEntity.class, id1, 2 ) );
+		assertEquals( new StrTestEntity( "y", id2 ), getAuditReader().find( StrTestEntity.class, id2, 2 ) );
+		assertEquals( new StrTestEntity( "w", id2 ), getAuditReader().find( StrTestEntity.class, id2, 3 ) );
+	}
+
+	private long countOutboxEntries() {
+		return TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			return entityManager.createQuery( "select count(e) from " + AuditOutbox.ENTITY_NAME + " e", Long.class )
+					.getSingleResult();
+		} );
+	}
+}
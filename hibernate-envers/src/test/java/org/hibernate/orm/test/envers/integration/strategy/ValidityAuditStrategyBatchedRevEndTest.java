@@ -0,0 +1,125 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.strategy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.strategy.internal.ValidityAuditStrategy;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+
+import org.hibernate.testing.envers.RequiresAuditStrategy;
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.transaction.TransactionUtil;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests that the {@code REVEND} updates of many entities are executed in JDBC batches, and
+ * that they are applied to the right audit rows.
+ */
+@RequiresAuditStrategy(ValidityAuditStrategy.class)
+public class ValidityAuditStrategyBatchedRevEndTest extends BaseEnversJPAFunctionalTestCase {
+	private static final int COUNT = 25;
+
+	private final SQLStatementInspector statementInspector = new SQLStatementInspector();
+	private final List<Integer> ids = new ArrayList<>();
+	private int auditInsertStatements;
+	private int endRevisionUpdateStatements;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.JDBC_BATCH_SIZE, "10" );
+		options.put( AvailableSettings.STATEMENT_INSPECTOR, statementInspector );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		// Revision 1
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			for ( int i = 0; i < COUNT; i++ ) {
+				final StrTestEntity entity = new StrTestEntity( "x" + i );
+				entityManager.persist( entity );
+				ids.add( entity.getId() );
+			}
+		} );
+
+		// Revision 2
+		statementInspector.clear();
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			for ( Integer id : ids ) {
+				entityManager.find( StrTestEntity.class, id ).setStr( "y" );
+			}
+		} );
+		for ( String sql : statementInspector.getSqlQueries() ) {
+			final String statement = sql.toLowerCase( Locale.ROOT );
+			if ( statement.startsWith( "insert into str_test_aud" ) ) {
+				auditInsertStatements++;
+			}
+			else if ( statement.startsWith( "update str_test_aud" ) && statement.contains( "revend" ) ) {
+				endRevisionUpdateStatements++;
+			}
+		}
+
+		// Revision 3
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			for ( Integer id : ids.subList( 0, COUNT / 2 ) ) {
+				entityManager.remove( entityManager.find( StrTestEntity.class, id ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testStatementsAreBatched() {
+		// a batched statement is prepared once, and reused for every row of the batch
+		assertEquals( 1, auditInsertStatements );
+		assertEquals( 1, endRevisionUpdateStatements );
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( StrTestEntity.class, ids.get( 0 ) ) );
+		assertEquals( Arrays.asList( 1, 2 ), getAuditReader().getRevisions( StrTestEntity.class, ids.get( COUNT - 1 ) ) );
+	}
+
+	@Test
+	public void testEntitiesAtRevision() {
+		// the validity strategy relies on the end revision of the previous rows
+		assertEquals( COUNT, entitiesAtRevision( 1 ).size() );
+		assertEquals( COUNT, entitiesAtRevision( 2 ).size() );
+		assertEquals( COUNT - COUNT / 2, entitiesAtRevision( 3 ).size() );
+
+		for ( StrTestEntity entity : entitiesAtRevision( 2 ) ) {
+			assertEquals( "y", entity.getStr() );
+		}
+		assertEquals( "x0", getAuditReader().find( StrTestEntity.class, ids.get( 0 ), 1 ).getStr() );
+		assertNull( getAuditReader().find( StrTestEntity.class, ids.get( 0 ), 3 ) );
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<StrTestEntity> entitiesAtRevision(int revision) {
+		return getAuditReader().createQuery()
+				.forEntitiesAtRevision( StrTestEntity.class, revision )
+				.getResultList();
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.strategy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.strategy.internal.ValidityAuditStrategy;
+import org.hibernate.mapping.Index;
+import org.hibernate.mapping.Table;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+
+import org.hibernate.testing.envers.RequiresAuditStrategy;
+import org.hibernate.testing.transaction.TransactionUtil;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests the index on the revision range of the validity audit strategy, and finding many
+ * entities at a revision.
+ */
+@RequiresAuditStrategy(ValidityAuditStrategy.class)
+public class ValidityAuditStrategyRevisionRangeIndexTest extends BaseEnversJPAFunctionalTestCase {
+	private Integer id1;
+	private Integer id2;
+	private Integer id3;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.AUDIT_STRATEGY_VALIDITY_REVISION_RANGE_INDEX, "true" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		// Revision 1
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			final StrTestEntity entity1 = new StrTestEntity( "x" );
+			final StrTestEntity entity2 = new StrTestEntity( "y" );
+			entityManager.persist( entity1 );
+			entityManager.persist( entity2 );
+			id1 = entity1.getId();
+			id2 = entity2.getId();
+		} );
+
+		// Revision 2
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			entityManager.find( StrTestEntity.class, id1 ).setStr( "z" );
+			final StrTestEntity entity3 = new StrTestEntity( "w" );
+			entityManager.persist( entity3 );
+			id3 = entity3.getId();
+		} );
+
+		// Revision 3
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			entityManager.remove( entityManager.find( StrTestEntity.class, id2 ) );
+		} );
+	}
+
+	@Test
+	public void testRevisionRangeIndex() {
+		final Table table = metadata().getEntityBinding( StrTestEntity.class.getName() + "_AUD" ).getTable();
+		final List<String> columnNames = new ArrayList<>();
+		for ( Index index : table.getIndexes().values() ) {
+			if ( index.getName().startsWith( "IDX" ) ) {
+				index.getColumns().forEach( column -> columnNames.add( column.getName() ) );
+			}
+		}
+		assertEquals( Arrays.asList( "id", "REV", "REVEND" ), columnNames );
+	}
+
+	@Test
+	public void testFindMultiple() {
+		assertEquals(
+				Arrays.asList( new StrTestEntity( "y", id2 ), null, new StrTestEntity( "x", id1 ) ),
+				getAuditReader().findMultiple( StrTestEntity.class, Arrays.asList( id2, id3, id1 ), 1 )
+		);
+		assertEquals(
+				Arrays.asList( new StrTestEntity( "z", id1 ), new StrTestEntity( "y", id2 ), new StrTestEntity( "w", id3 ) ),
+				getAuditReader().findMultiple( StrTestEntity.class, Arrays.asList( id1, id2, id3 ), 2 )
+		);
+		final List<StrTestEntity> atRevision3 = getAuditReader().findMultiple(
+				StrTestEntity.class,
+				Arrays.asList( id1, id2, id3 ),
+				3
+		);
+		assertEquals( new StrTestEntity( "z", id1 ), atRevision3.get( 0 ) );
+		assertNull( atRevision3.get( 1 ) );
+		assertEquals( new StrTestEntity( "w", id3 ), atRevision3.get( 2 ) );
+
+		assertEquals(
+				Collections.emptyList(),
+				getAuditReader().findMultiple( StrTestEntity.class, Collections.emptyList(), 3 )
+		);
+	}
+
+	@Test
+	public void testFindMultipleUsesFirstLevelCache() {
+		final List<StrTestEntity> entities = getAuditReader().findMultiple(
+				StrTestEntity.class,
+				Arrays.asList( id3, id1, id3 ),
+				2
+		);
+		assertEquals( 3, entities.size() );
+		assertSame( entities.get( 0 ), entities.get( 2 ) );
+		assertSame( entities.get( 0 ), getAuditReader().find( StrTestEntity.class, id3, 2 ) );
+		assertSame( entities.get( 1 ), getAuditReader().find( StrTestEntity.class, id1, 2 ) );
+		assertSame(
+				entities.get( 1 ),
+				getAuditReader().findMultiple( StrTestEntity.class, Arrays.asList( id1, id2 ), 2 ).get( 0 )
+		);
+	}
+}
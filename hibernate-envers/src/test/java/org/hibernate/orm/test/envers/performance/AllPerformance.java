@@ -14,5 +14,6 @@ public class AllPerformance {
 		new ComplexInsertPerformance().test( 10 );
 		new UpdatesPerformance().test( 10 );
 		new InsertsOneTransactionPerformance().test( 10 );
+		new ValidityAuditStrategyUpdatesPerformance().test( 10 );
 	}
 }
@@ -0,0 +1,88 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.performance;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.strategy.internal.ValidityAuditStrategy;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+
+import org.junit.Ignore;
+
+/**
+ * Measures the audit throughput of transactions updating many entities with the
+ * {@link ValidityAuditStrategy}, whose audit rows and end revision updates are written
+ * in JDBC batches of {@value #BATCH_SIZE}.
+ */
+@Ignore
+public class ValidityAuditStrategyUpdatesPerformance extends AbstractPerformanceTest {
+	private final static int NUMBER_ENTITIES = 5000;
+	private final static int NUMBER_UPDATES = 5;
+	private final static int BATCH_SIZE = 50;
+
+	private final List<Integer> ids = new ArrayList<>();
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] {StrTestEntity.class};
+	}
+
+	@Override
+	public String getAuditStrategy() {
+		return ValidityAuditStrategy.class.getName();
+	}
+
+	@Override
+	public void addConfigurationProperties(Properties configuration) {
+		configuration.setProperty( AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf( BATCH_SIZE ) );
+		configuration.setProperty( EnversSettings.JDBC_BATCH_SIZE, String.valueOf( BATCH_SIZE ) );
+	}
+
+	private void setup() {
+		EntityManager entityManager = getEntityManager();
+		entityManager.getTransaction().begin();
+
+		for ( int i = 0; i < NUMBER_ENTITIES; i++ ) {
+			StrTestEntity testEntity = new StrTestEntity( "x" + i );
+			entityManager.persist( testEntity );
+			ids.add( testEntity.getId() );
+			if ( i % BATCH_SIZE == 0 ) {
+				entityManager.flush();
+				entityManager.clear();
+			}
+		}
+		entityManager.getTransaction().commit();
+	}
+
+	protected void doTest() {
+		setup();
+
+		for ( int i = 0; i < NUMBER_UPDATES; i++ ) {
+			newEntityManager();
+			EntityManager entityManager = getEntityManager();
+
+			entityManager.getTransaction().begin();
+			start();
+			for ( Integer id : ids ) {
+				entityManager.find( StrTestEntity.class, id ).setStr( "z" + i );
+			}
+			entityManager.getTransaction().commit();
+			stop();
+		}
+	}
+
+	public static void main(String[] args) throws IOException {
+		ValidityAuditStrategyUpdatesPerformance updatesPerformance = new ValidityAuditStrategyUpdatesPerformance();
+		updatesPerformance.test( 3 );
+	}
+}
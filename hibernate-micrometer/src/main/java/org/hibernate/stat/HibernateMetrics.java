@@ -7,6 +7,7 @@
 package org.hibernate.stat;
 
 import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
@@ -335,6 +336,54 @@ public class HibernateMetrics implements MeterBinder {
 		counter(registry, "hibernate.cache.query.plan", "The global number of query plans lookups not found in cache",
 				Statistics::getQueryPlanCacheMissCount, "result", "miss"
 		);
+		counter(registry,
+				"hibernate.cache.query.plan.evictions",
+				"The global number of query plans and interpretations evicted from cache",
+				Statistics::getQueryPlanCacheEvictionCount
+		);
+		Gauge.builder( "hibernate.cache.query.plan.weight", statistics, Statistics::getQueryPlanCacheWeight )
+				.description( "The current total weight of the query plans and interpretations held in cache" )
+				.tags( tags )
+				.register( registry );
+
+		// Connection pool
+		Gauge.builder( "hibernate.connections.pool", statistics, Statistics::getConnectionPoolActiveCount )
+				.description( "The number of connections currently checked out of the connection pool" )
+				.tags( tags )
+				.tags( "state", "active" )
+				.register( registry );
+		Gauge.builder( "hibernate.connections.pool", statistics, Statistics::getConnectionPoolIdleCount )
+				.description( "The number of connections currently idle in the connection pool" )
+				.tags( tags )
+				.tags( "state", "idle" )
+				.register( registry );
+		Gauge.builder( "hibernate.connections.pool.waiting", statistics, Statistics::getConnectionPoolWaitingCount )
+				.description( "The number of threads currently waiting for a connection of the connection pool" )
+				.tags( tags )
+				.register( registry );
+		counter(registry,
+				"hibernate.connections.acquisitions",
+				"The number of connections acquired from the connection pool",
+				Statistics::getConnectionAcquisitionCount
+		);
+		FunctionCounter.builder(
+				"hibernate.connections.acquisitions.time",
+				statistics,
+				Statistics::getConnectionAcquisitionTotalTime
+		)
+				.baseUnit( "milliseconds" )
+				.description( "The total time spent acquiring connections from the connection pool" )
+				.tags( tags )
+				.register( registry );
+		TimeGauge.builder(
+				"hibernate.connections.acquisitions.max",
+				statistics,
+				TimeUnit.MILLISECONDS,
+				Statistics::getConnectionAcquisitionMaxTime
+		)
+				.description( "The longest time spent acquiring a connection from the connection pool" )
+				.tags( tags )
+				.register( registry );
 	}
 
 	private boolean hasDomainDataRegionStatistics(String regionName) {
@@ -110,6 +110,14 @@ public class MicrometerStatisticsTest extends BaseCoreFunctionalTestCase {
 		Assert.assertNotNull(registry.get("hibernate.cache.query.puts").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.cache.query.plan").tags("result", "hit").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.cache.query.plan").tags("result", "miss").functionCounter());
+		Assert.assertNotNull(registry.get("hibernate.cache.query.plan.evictions").functionCounter());
+		Assert.assertNotNull(registry.get("hibernate.cache.query.plan.weight").gauge());
+		Assert.assertNotNull(registry.get("hibernate.connections.pool").tags("state", "active").gauge());
+		Assert.assertNotNull(registry.get("hibernate.connections.pool").tags("state", "idle").gauge());
+		Assert.assertNotNull(registry.get("hibernate.connections.pool.waiting").gauge());
+		Assert.assertNotNull(registry.get("hibernate.connections.acquisitions").functionCounter());
+		Assert.assertNotNull(registry.get("hibernate.connections.acquisitions.time").functionCounter());
+		Assert.assertNotNull(registry.get("hibernate.connections.acquisitions.max").timeGauge());
 
 		// prepare some test data...
 		Session session = openSession();
@@ -313,6 +313,12 @@ abstract public class DialectFeatureChecks {
 		}
 	}
 
+	public static class SupportsMultiRowInsert implements DialectFeatureCheck {
+		public boolean apply(Dialect dialect) {
+			return dialect.supportsMultiRowInsert();
+		}
+	}
+
 	public static class SupportsFormat implements DialectFeatureCheck {
 		public boolean apply(Dialect dialect) {
 			try {
@@ -38,12 +38,15 @@ import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.bytecode.enhance.spi.UnloadedClass;
 import org.hibernate.bytecode.enhance.spi.UnloadedField;
+import org.hibernate.bytecode.internal.bytebuddy.BytecodeProviderImpl;
 import org.hibernate.cfg.Environment;
+import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
 
 import org.sonatype.plexus.build.incremental.BuildContext;
 
 /**
- * This plugin will enhance Entity objects.
+ * This plugin will enhance Entity objects, and optionally generate their proxies so that they
+ * don't need to be generated when the {@code SessionFactory} is built.
  *
  * @author Jeremy Whiting
  * @author Luis Barreiro
@@ -80,6 +83,9 @@ public class MavenEnhancePlugin extends AbstractMojo {
 	@Parameter(property = "enableExtendedEnhancement", defaultValue = "false")
 	private boolean enableExtendedEnhancement;
 
+	@Parameter(property = "generateProxies", defaultValue = "false")
+	private boolean generateProxies;
+
 	private boolean shouldApply() {
 		return enableLazyInitialization || enableDirtyTracking || enableAssociationManagement || enableExtendedEnhancement;
 	}
@@ -168,6 +174,69 @@ public class MavenEnhancePlugin extends AbstractMojo {
 				log.debug( "Successfully enhanced class [" + file + "]" );
 			}
 		}
+
+		if ( generateProxies ) {
+			log.info( "Generating Hibernate proxies for classes on " + dir );
+			final ByteBuddyProxyHelper proxyHelper = new BytecodeProviderImpl().getByteBuddyProxyHelper();
+			for ( File file : sourceSet ) {
+				generateProxy( file, proxyHelper, classLoader );
+			}
+		}
+	}
+
+	private void generateProxy(File javaClassFile, ByteBuddyProxyHelper proxyHelper, ClassLoader classLoader)
+			throws MojoExecutionException {
+		final String className = determineClassName( javaClassFile );
+		final byte[] proxyBytecode;
+		try {
+			proxyBytecode = proxyHelper.buildPrebuiltProxy( classLoader, className );
+		}
+		catch (Exception e) {
+			String msg = "Unable to generate proxy for class: " + javaClassFile.getName();
+			if ( failOnError ) {
+				throw new MojoExecutionException( msg, e );
+			}
+			buildContext.addMessage( javaClassFile, 0, 0, msg, BuildContext.SEVERITY_WARNING, e );
+			return;
+		}
+		if ( proxyBytecode == null ) {
+			return;
+		}
+
+		final String proxyClassName = ByteBuddyProxyHelper.prebuiltProxyClassName( className );
+		final File proxyFile = new File( base, proxyClassName.replace( '.', File.separatorChar ) + ".class" );
+		OutputStream outputStream = null;
+		try {
+			outputStream = buildContext.newFileOutputStream( proxyFile );
+			outputStream.write( proxyBytecode );
+			outputStream.flush();
+		}
+		catch (IOException e) {
+			String msg = String.format( "Error writing proxy class [%s] to file [%s]", proxyClassName, proxyFile.getAbsolutePath() );
+			if ( failOnError ) {
+				throw new MojoExecutionException( msg, e );
+			}
+			buildContext.addMessage( javaClassFile, 0, 0, msg, BuildContext.SEVERITY_WARNING, e );
+		}
+		finally {
+			try {
+				if ( outputStream != null ) {
+					outputStream.close();
+				}
+			}
+			catch (IOException ignore) {
+			}
+		}
+		if ( getLog().isDebugEnabled() ) {
+			getLog().debug( "Successfully generated proxy [" + proxyClassName + "]" );
+		}
+	}
+
+	private String determineClassName(File javaClassFile) {
+		return javaClassFile.getAbsolutePath().substring(
+				base.length() + 1,
+				javaClassFile.getAbsolutePath().length() - ".class".length()
+		).replace( File.separatorChar, '.' );
 	}
 
 	private ClassLoader toClassLoader(List<File> runtimeClasspath) throws MojoExecutionException {
@@ -215,10 +284,7 @@ public class MavenEnhancePlugin extends AbstractMojo {
 
 	private byte[] doEnhancement(File javaClassFile, Enhancer enhancer) throws MojoExecutionException {
 		try {
-			String className = javaClassFile.getAbsolutePath().substring(
-					base.length() + 1,
-					javaClassFile.getAbsolutePath().length() - ".class".length()
-			).replace( File.separatorChar, '.' );
+			String className = determineClassName( javaClassFile );
 			ByteArrayOutputStream originalBytes = new ByteArrayOutputStream();
 			FileInputStream fileInputStream = new FileInputStream( javaClassFile );
 			try {
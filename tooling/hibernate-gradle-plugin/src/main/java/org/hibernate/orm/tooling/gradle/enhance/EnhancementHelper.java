@@ -22,8 +22,10 @@ import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.bytecode.enhance.spi.UnloadedClass;
 import org.hibernate.bytecode.enhance.spi.UnloadedField;
+import org.hibernate.bytecode.internal.bytebuddy.BytecodeProviderImpl;
 import org.hibernate.cfg.Environment;
 import org.hibernate.orm.tooling.gradle.HibernateOrmSpec;
+import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
 
 import static org.hibernate.orm.tooling.gradle.Helper.determineClassName;
 
@@ -49,6 +51,45 @@ public class EnhancementHelper {
 		final Enhancer enhancer = generateEnhancer( classLoader, ormDsl );
 
 		walk( classesDir, classesDir, enhancer, project );
+
+		if ( enhancementDsl.getGenerateProxies().get() ) {
+			final ByteBuddyProxyHelper proxyHelper = new BytecodeProviderImpl().getByteBuddyProxyHelper();
+			generateProxies( classesDir, classesDir, proxyHelper, classLoader, project );
+		}
+	}
+
+	private static void generateProxies(
+			File classesDir,
+			File dir,
+			ByteBuddyProxyHelper proxyHelper,
+			ClassLoader classLoader,
+			Project project) {
+		for ( File subLocation : dir.listFiles() ) {
+			if ( subLocation.isDirectory() ) {
+				generateProxies( classesDir, subLocation, proxyHelper, classLoader, project );
+			}
+			else if ( subLocation.isFile() && subLocation.getName().endsWith( ".class" ) ) {
+				final String className = determineClassName( classesDir, subLocation );
+				final byte[] proxyBytecode;
+				try {
+					proxyBytecode = proxyHelper.buildPrebuiltProxy( classLoader, className );
+				}
+				catch (Exception e) {
+					throw new GradleException( "Unable to generate proxy for class : " + className, e );
+				}
+				if ( proxyBytecode != null ) {
+					final String proxyClassName = ByteBuddyProxyHelper.prebuiltProxyClassName( className );
+					final File proxyFile = new File( classesDir, proxyClassName.replace( '.', File.separatorChar ) + ".class" );
+					try {
+						Files.write( proxyFile.toPath(), proxyBytecode );
+					}
+					catch (IOException e) {
+						throw new GradleException( "Error writing proxy class to file [" + proxyFile.getAbsolutePath() + "]", e );
+					}
+					project.getLogger().info( "Successfully generated proxy : " + proxyClassName );
+				}
+			}
+		}
 	}
 
 	private static void walk(File classesDir, File dir, Enhancer enhancer, Project project) {
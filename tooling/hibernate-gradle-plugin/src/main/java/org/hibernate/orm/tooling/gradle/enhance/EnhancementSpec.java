@@ -28,6 +28,7 @@ public class EnhancementSpec {
 	private final Property<Boolean> enableDirtyTracking;
 	private final Property<Boolean> enableAssociationManagement;
 	private final Property<Boolean> enableExtendedEnhancement;
+	private final Property<Boolean> generateProxies;
 
 
 	@Inject
@@ -38,6 +39,7 @@ public class EnhancementSpec {
 		enableDirtyTracking = makeProperty( project ).convention( true );
 		enableAssociationManagement = makeProperty( project );
 		enableExtendedEnhancement = makeProperty( project );
+		generateProxies = makeProperty( project );
 	}
 
 	public boolean hasAnythingToDo() {
@@ -132,6 +134,19 @@ public class EnhancementSpec {
 		setEnableExtendedEnhancement( enable );
 	}
 
+
+	public Property<Boolean> getGenerateProxies() {
+		return generateProxies;
+	}
+
+	public void setGenerateProxies(boolean enable) {
+		generateProxies.set( enable );
+	}
+
+	public void generateProxies(boolean enable) {
+		setGenerateProxies( enable );
+	}
+
 	@SuppressWarnings( "UnstableApiUsage" )
 	public static Property<Boolean> makeProperty(Project project) {
 		final Property<Boolean> createdProperty = project.getObjects().property( Boolean.class );